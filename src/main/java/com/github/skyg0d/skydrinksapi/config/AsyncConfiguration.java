@@ -0,0 +1,114 @@
+package com.github.skyg0d.skydrinksapi.config;
+
+import com.github.skyg0d.skydrinksapi.property.EventProperties;
+import com.github.skyg0d.skydrinksapi.property.SseProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+@RequiredArgsConstructor
+public class AsyncConfiguration {
+
+    public static final String DOMAIN_EVENT_EXECUTOR = "domainEventExecutor";
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+    public static final String RETENTION_EXECUTOR = "retentionExecutor";
+    public static final String ARCHIVE_EXECUTOR = "archiveExecutor";
+    public static final String SSE_EXECUTOR = "sseExecutor";
+
+    private final EventProperties eventProperties;
+    private final SseProperties sseProperties;
+
+    /**
+     * Executa os listeners dos eventos de domínio fora da thread da requisição. Com uma única thread os eventos são
+     * tratados na ordem em que foram confirmados; se a fila encher, a própria requisição executa o listener.
+     */
+    @Bean(name = DOMAIN_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor domainEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(eventProperties.getThreads());
+        executor.setMaxPoolSize(eventProperties.getThreads());
+        executor.setQueueCapacity(eventProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("domain-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+
+        return executor;
+    }
+
+    /**
+     * Envia os emails da fila sem ocupar a thread do agendador, que é compartilhada com as outras tarefas. Uma única
+     * thread basta porque os envios são em lote; se um envio ainda estiver rodando, a próxima verificação é descartada.
+     */
+    @Bean(name = MAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("mail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+
+        return executor;
+    }
+
+    /**
+     * Executa a limpeza de dados vencidos, que pausa entre os lotes e pode levar até {@code my.retention.max-run-time},
+     * sem prender a thread do agendador nem a da requisição. Sem fila: se a limpeza já estiver rodando, o novo pedido
+     * é descartado.
+     */
+    @Bean(name = RETENTION_EXECUTOR)
+    public ThreadPoolTaskExecutor retentionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("retention-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+
+        return executor;
+    }
+
+    /**
+     * Move os pedidos antigos para o arquivo, o que na primeira execução pode levar vários minutos, sem prender a
+     * thread do agendador nem a da requisição. Sem fila: se o arquivamento já estiver rodando, o novo pedido é
+     * descartado.
+     */
+    @Bean(name = ARCHIVE_EXECUTOR)
+    public ThreadPoolTaskExecutor archiveExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("archive-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+
+        return executor;
+    }
+
+    /**
+     * Envia as mensagens dos streams SSE fora da thread que publica o evento e da thread do agendador. Cada stream
+     * ocupa no máximo uma thread por vez; se a fila encher, o stream que não conseguiu enfileirar é encerrado.
+     */
+    @Bean(name = SSE_EXECUTOR)
+    public ThreadPoolTaskExecutor sseExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(sseProperties.getSenderThreads());
+        executor.setMaxPoolSize(sseProperties.getSenderThreads());
+        executor.setQueueCapacity(sseProperties.getSenderQueueCapacity());
+        executor.setThreadNamePrefix("sse-");
+
+        return executor;
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.github.skyg0d.skydrinksapi.config;
+
+import com.github.skyg0d.skydrinksapi.datasource.ReplicationRoutingDataSource;
+import com.github.skyg0d.skydrinksapi.property.DataSourceRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "my.datasource", name = "routing-enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Log4j2
+public class DataSourceRoutingConfiguration {
+
+    private final DataSourceRoutingProperties dataSourceRoutingProperties;
+
+    @Bean
+    public ReplicationRoutingDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+
+        primary.setPoolName("primary");
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<DataSourceRoutingProperties.Replica> replicaProperties = dataSourceRoutingProperties.getReplicas();
+
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            DataSourceRoutingProperties.Replica replica = replicaProperties.get(i);
+            String name = replica.getName() == null ? "replica-" + i : replica.getName();
+
+            HikariDataSource dataSource = DataSourceBuilder
+                    .create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(replica.getDriverClassName() == null ? dataSourceProperties.determineDriverClassName() : replica.getDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername() == null ? dataSourceProperties.determineUsername() : replica.getUsername())
+                    .password(replica.getPassword() == null ? dataSourceProperties.determinePassword() : replica.getPassword())
+                    .build();
+
+            dataSource.setPoolName(name);
+            dataSource.setReadOnly(true);
+
+            replicas.put(name, dataSource);
+        }
+
+        log.info("Roteando leituras para {} réplica(s): {}", replicas.size(), replicas.keySet());
+
+        return new ReplicationRoutingDataSource(primary, replicas, dataSourceRoutingProperties);
+    }
+
+}
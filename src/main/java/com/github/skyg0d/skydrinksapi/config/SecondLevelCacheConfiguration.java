@@ -0,0 +1,84 @@
+package com.github.skyg0d.skydrinksapi.config;
+
+import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
+import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.domain.Table;
+import com.github.skyg0d.skydrinksapi.property.SecondLevelCacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Cache de segundo nível do Hibernate para bebidas, mesas e usuários, com regiões de tamanho limitado.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "my.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Log4j2
+public class SecondLevelCacheConfiguration {
+
+    private final SecondLevelCacheProperties secondLevelCacheProperties;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        Duration timeToLive = Duration.ofMinutes(secondLevelCacheProperties.getTimeToLiveMinutes());
+
+        org.ehcache.config.Configuration configuration = ConfigurationBuilder
+                .newConfigurationBuilder()
+                .withCache(Drink.CACHE_REGION, region(secondLevelCacheProperties.getDrinksSize(), timeToLive))
+                .withCache(Table.CACHE_REGION, region(secondLevelCacheProperties.getTablesSize(), timeToLive))
+                .withCache(ApplicationUser.CACHE_REGION, region(secondLevelCacheProperties.getUsersSize(), timeToLive))
+                .withCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(secondLevelCacheProperties.getQueriesSize(), timeToLive))
+                // Os timestamps precisam viver mais que os resultados em cache, senão uma consulta pode ser servida desatualizada.
+                .withCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, region(secondLevelCacheProperties.getQueriesSize(), null))
+                .build();
+
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+
+        log.info("Iniciando cache de segundo nível com as configurações \"{}\"", secondLevelCacheProperties);
+
+        // Uma URI por contexto, para que contextos diferentes (como nos testes) não compartilhem as mesmas regiões.
+        return provider.getCacheManager(URI.create("urn:sky-drinks:hibernate:" + UUID.randomUUID()), configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return (hibernateProperties) -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private CacheConfiguration<Object, Object> region(long size, Duration timeToLive) {
+        CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(size));
+
+        if (timeToLive != null) {
+            builder = builder.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive));
+        }
+
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.github.skyg0d.skydrinksapi.config;
+
+import com.github.skyg0d.skydrinksapi.property.UuidStorageProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.MetadataBuilderContributor;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Table;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.PostgresUUIDType;
+import org.hibernate.type.Type;
+import org.hibernate.type.UUIDBinaryType;
+import org.hibernate.type.UUIDCharType;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Define como todos os UUIDs (chaves primárias, estrangeiras, tabelas de junção e parâmetros de consultas nativas)
+ * são gravados no banco de dados.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Log4j2
+public class UuidStorageConfiguration {
+
+    private final UuidStorageProperties uuidStorageProperties;
+
+    @Bean
+    public HibernatePropertiesCustomizer uuidStorageCustomizer() {
+        BasicType uuidType = getUuidType();
+
+        log.info("Gravando UUIDs no formato \"{}\"", uuidStorageProperties.getStorage());
+
+        MetadataBuilderContributor contributor = (metadataBuilder) -> metadataBuilder.applyBasicType(uuidType, UUID.class.getName());
+        IntegratorProvider integratorProvider = () -> List.of(new UuidColumnLengthIntegrator(getUuidLength()));
+
+        return (hibernateProperties) -> {
+            hibernateProperties.put(EntityManagerFactoryBuilderImpl.METADATA_BUILDER_CONTRIBUTOR, contributor);
+            hibernateProperties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, integratorProvider);
+        };
+    }
+
+    private BasicType getUuidType() {
+        switch (uuidStorageProperties.getStorage()) {
+            case CHAR:
+                return UUIDCharType.INSTANCE;
+            case NATIVE:
+                return PostgresUUIDType.INSTANCE;
+            default:
+                return UUIDBinaryType.INSTANCE;
+        }
+    }
+
+    /**
+     * Tamanho das colunas de UUID: 36 caracteres em texto e 16 bytes em binário. O tipo nativo não usa tamanho.
+     */
+    private Integer getUuidLength() {
+        switch (uuidStorageProperties.getStorage()) {
+            case CHAR:
+                return 36;
+            case BINARY:
+                return 16;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Ajusta o tamanho de todas as colunas de UUID, inclusive chaves estrangeiras e tabelas de junção, antes que o
+     * Hibernate crie ou atualize o schema. O tamanho não pode ficar fixo nas entidades porque depende do formato.
+     */
+    @RequiredArgsConstructor
+    static class UuidColumnLengthIntegrator implements Integrator {
+
+        private final Integer length;
+
+        @Override
+        public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+            if (length == null) {
+                return;
+            }
+
+            MetadataImplementor mapping = (MetadataImplementor) metadata;
+
+            for (Table table : metadata.collectTableMappings()) {
+                Iterator<Column> columns = table.getColumnIterator();
+
+                while (columns.hasNext()) {
+                    Column column = columns.next();
+
+                    if (isUuid(column, mapping)) {
+                        column.setLength(length);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+
+        private boolean isUuid(Column column, MetadataImplementor mapping) {
+            if (column.getValue() == null || column.getValue().getColumnSpan() != 1) {
+                return false;
+            }
+
+            Type type = column.getValue().getType();
+
+            if (type instanceof EntityType) {
+                type = ((EntityType) type).getIdentifierOrUniqueKeyType(mapping);
+            }
+
+            return UUID.class.equals(type.getReturnedClass());
+        }
+
+    }
+
+}
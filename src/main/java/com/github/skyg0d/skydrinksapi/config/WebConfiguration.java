@@ -1,19 +1,28 @@
 package com.github.skyg0d.skydrinksapi.config;
 
+import com.github.skyg0d.skydrinksapi.datasource.DataSourceRoutingInterceptor;
+import com.github.skyg0d.skydrinksapi.datasource.DataSourceRoutingTaskDecorator;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfiguration implements WebMvcConfigurer {
 
+    private final DataSourceRoutingInterceptor dataSourceRoutingInterceptor;
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         PageableHandlerMethodArgumentResolver pageResolver = new PageableHandlerMethodArgumentResolver();
@@ -22,4 +31,21 @@ public class WebConfiguration implements WebMvcConfigurer {
         resolvers.add(pageResolver);
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(dataSourceRoutingInterceptor);
+    }
+
+    /**
+     * Mantém o executor padrão das respostas assíncronas, mas repassa para cada tarefa se a requisição pode ler de
+     * uma réplica.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-async-");
+        executor.setTaskDecorator(new DataSourceRoutingTaskDecorator());
+
+        configurer.setTaskExecutor(executor);
+    }
+
 }
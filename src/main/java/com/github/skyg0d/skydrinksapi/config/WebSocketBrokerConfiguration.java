@@ -0,0 +1,60 @@
+package com.github.skyg0d.skydrinksapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.skyg0d.skydrinksapi.property.BrokerProperties;
+import com.github.skyg0d.skydrinksapi.property.WebSocketProperties;
+import com.github.skyg0d.skydrinksapi.repository.broker.BroadcastMessageRepository;
+import com.github.skyg0d.skydrinksapi.repository.broker.ClientRequestEventCounterRepository;
+import com.github.skyg0d.skydrinksapi.repository.broker.ClientRequestEventRecordRepository;
+import com.github.skyg0d.skydrinksapi.socket.broker.ClientRequestEventStore;
+import com.github.skyg0d.skydrinksapi.socket.broker.DatabaseClientRequestEventStore;
+import com.github.skyg0d.skydrinksapi.socket.broker.DatabaseMessageBroadcaster;
+import com.github.skyg0d.skydrinksapi.socket.broker.InMemoryClientRequestEventStore;
+import com.github.skyg0d.skydrinksapi.socket.broker.LocalMessageBroadcaster;
+import com.github.skyg0d.skydrinksapi.socket.broker.MessageBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class WebSocketBrokerConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "my.websocket.broker", name = "mode", havingValue = "database")
+    public DatabaseMessageBroadcaster databaseMessageBroadcaster(SimpMessagingTemplate template, BroadcastMessageRepository broadcastMessageRepository, ObjectMapper objectMapper, BrokerProperties brokerProperties) {
+        return new DatabaseMessageBroadcaster(template, broadcastMessageRepository, objectMapper, brokerProperties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(MessageBroadcaster.class)
+    public LocalMessageBroadcaster localMessageBroadcaster(SimpMessagingTemplate template) {
+        return new LocalMessageBroadcaster(template);
+    }
+
+    /**
+     * Com mais de uma instância (relay ou database) a sequência dos eventos dos pedidos precisa ser a mesma em todos
+     * os nós, então ela vem do banco.
+     */
+    @Bean
+    @ConditionalOnExpression("!'${my.websocket.broker.mode:simple}'.equalsIgnoreCase('simple')")
+    public DatabaseClientRequestEventStore databaseClientRequestEventStore(
+            ClientRequestEventRecordRepository clientRequestEventRecordRepository,
+            ClientRequestEventCounterRepository clientRequestEventCounterRepository,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            BrokerProperties brokerProperties
+    ) {
+        return new DatabaseClientRequestEventStore(clientRequestEventRecordRepository, clientRequestEventCounterRepository, objectMapper, transactionTemplate, brokerProperties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ClientRequestEventStore.class)
+    public InMemoryClientRequestEventStore inMemoryClientRequestEventStore(WebSocketProperties webSocketProperties) {
+        return new InMemoryClientRequestEventStore(webSocketProperties);
+    }
+
+}
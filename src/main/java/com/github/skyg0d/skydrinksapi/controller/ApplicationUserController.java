@@ -1,6 +1,7 @@
 package com.github.skyg0d.skydrinksapi.controller;
 
 import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
+import com.github.skyg0d.skydrinksapi.domain.Job;
 import com.github.skyg0d.skydrinksapi.domain.TotalUsers;
 import com.github.skyg0d.skydrinksapi.exception.BadRequestException;
 import com.github.skyg0d.skydrinksapi.parameters.ApplicationUserParameters;
@@ -147,20 +148,21 @@ public class ApplicationUserController {
     }
 
     @PatchMapping("/admin/toggle-lock-requests/{uuid}")
-    @Operation(summary = "Alterna se um usuário pode ou não realizar pedidos", tags = "Users")
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"), @ApiResponse(responseCode = "400", description = "Quando o usuário não existe no banco de dados"), @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"), @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")})
+    @Operation(summary = "Alterna se um usuário pode ou não realizar pedidos, bloqueando por durationMinutes minutos ou pelo prazo padrão", tags = "Users")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"), @ApiResponse(responseCode = "400", description = "Quando o usuário não existe no banco de dados ou a duração não é positiva"), @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"), @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")})
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<ApplicationUser> toggleLockRequests(@PathVariable UUID uuid) {
-        return ResponseEntity.ok(applicationUserService.toggleLockRequests(uuid));
+    public ResponseEntity<ApplicationUser> toggleLockRequests(@PathVariable UUID uuid, @RequestParam(required = false) Integer durationMinutes) {
+        return ResponseEntity.ok(applicationUserService.toggleLockRequests(uuid, durationMinutes));
     }
 
     @DeleteMapping("/user/{uuid}")
     @Operation(summary = "Deleta um usuário", tags = "Users")
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"), @ApiResponse(responseCode = "400", description = "Quando o usuário não existe no banco de dados"), @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"), @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"), @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")})
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"), @ApiResponse(responseCode = "202", description = "Quando o usuário tem muitos pedidos e será removido em segundo plano"), @ApiResponse(responseCode = "400", description = "Quando o usuário não existe no banco de dados"), @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"), @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"), @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")})
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<Void> delete(@PathVariable UUID uuid, Principal principal) {
-        applicationUserService.delete(uuid, authUtil.getUser(principal));
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    public ResponseEntity<Job> delete(@PathVariable UUID uuid, Principal principal) {
+        return applicationUserService.delete(uuid, authUtil.getUser(principal))
+                .map((job) -> new ResponseEntity<>(job, HttpStatus.ACCEPTED))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
     }
 
 }
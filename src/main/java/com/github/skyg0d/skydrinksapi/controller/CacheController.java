@@ -0,0 +1,54 @@
+package com.github.skyg0d.skydrinksapi.controller;
+
+import com.github.skyg0d.skydrinksapi.domain.CacheRegionStatistics;
+import com.github.skyg0d.skydrinksapi.service.CacheStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/cache")
+public class CacheController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping("/admin/statistics")
+    @Operation(summary = "Retorna os acertos e falhas de cada região do cache de segundo nível", tags = "Cache")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<List<CacheRegionStatistics>> getRegionStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getRegionStatistics());
+    }
+
+    @DeleteMapping("/admin")
+    @Operation(summary = "Limpa todas as regiões do cache de segundo nível", tags = "Cache")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<Void> evictAll() {
+        cacheStatisticsService.evictAll();
+
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+}
@@ -1,16 +1,22 @@
 package com.github.skyg0d.skydrinksapi.controller;
 
+import com.github.skyg0d.skydrinksapi.datasource.UsePrimaryDataSource;
 import com.github.skyg0d.skydrinksapi.domain.*;
-import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import com.github.skyg0d.skydrinksapi.enums.ExportFormat;
 import com.github.skyg0d.skydrinksapi.enums.Roles;
+import com.github.skyg0d.skydrinksapi.enums.TrendingWindow;
+import com.github.skyg0d.skydrinksapi.parameters.ClientRequestDateParameters;
 import com.github.skyg0d.skydrinksapi.parameters.ClientRequestParameters;
-import com.github.skyg0d.skydrinksapi.property.WebSocketProperties;
 import com.github.skyg0d.skydrinksapi.requests.ClientRequestPostRequestBody;
 import com.github.skyg0d.skydrinksapi.requests.ClientRequestPutRequestBody;
-import com.github.skyg0d.skydrinksapi.service.ApplicationUserService;
+import com.github.skyg0d.skydrinksapi.service.ClientRequestArchiveService;
+import com.github.skyg0d.skydrinksapi.service.ClientRequestExportService;
 import com.github.skyg0d.skydrinksapi.service.ClientRequestService;
-import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestStatusChanged;
-import com.github.skyg0d.skydrinksapi.socket.domain.SocketMessage;
+import com.github.skyg0d.skydrinksapi.service.TrendingDrinksService;
+import com.github.skyg0d.skydrinksapi.service.UserStatisticsService;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEventsResync;
+import com.github.skyg0d.skydrinksapi.socket.notification.ClientRequestEventLog;
+import com.github.skyg0d.skydrinksapi.socket.notification.ClientRequestStatusStream;
 import com.github.skyg0d.skydrinksapi.util.AuthUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -21,17 +27,22 @@ import lombok.extern.log4j.Log4j2;
 import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.OutputStream;
 import java.security.Principal;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RequiredArgsConstructor
 @RestController
@@ -40,12 +51,13 @@ import java.util.UUID;
 public class ClientRequestController {
 
     private final ClientRequestService clientRequestService;
-    private final ApplicationUserService applicationUserService;
+    private final TrendingDrinksService trendingDrinksService;
+    private final UserStatisticsService userStatisticsService;
+    private final ClientRequestExportService clientRequestExportService;
+    private final ClientRequestArchiveService clientRequestArchiveService;
     private final AuthUtil authUtil;
-    private final SimpMessagingTemplate template;
-    private final WebSocketProperties webSocketProperties;
-
-    private boolean sendNotificationScheduled;
+    private final ClientRequestEventLog clientRequestEventLog;
+    private final ClientRequestStatusStream clientRequestStatusStream;
 
     @GetMapping("/staff")
     @Operation(summary = "Retorna todos os pedidos com paginação", tags = "Requests")
@@ -73,7 +85,34 @@ public class ClientRequestController {
         return ResponseEntity.ok(clientRequestService.search(parameters, pageable));
     }
 
+    @GetMapping("/staff/events")
+    @Operation(summary = "Retorna os eventos de pedidos publicados depois da sequência informada, para recuperar eventos perdidos do websocket", tags = "Requests")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<ClientRequestEventsResync> findEventsAfter(@RequestParam(defaultValue = "0") long after) {
+        return ResponseEntity.ok(clientRequestEventLog.findAfter(after));
+    }
+
+    @GetMapping("/staff/changes")
+    @Operation(summary = "Aguarda até existir uma alteração nos pedidos depois da versão informada, para clientes que não conseguem manter o websocket", tags = "Requests")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public DeferredResult<ClientRequestEventsResync> waitForChanges(@RequestParam(defaultValue = "0") long since) {
+        return clientRequestEventLog.waitAfter(since);
+    }
+
     @GetMapping("/user/top-five-drinks")
+    @UsePrimaryDataSource
     @Operation(summary = "Retorna as cinco bebidas que mais aparecem nos seus pedidos", tags = "Requests")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
@@ -86,6 +125,7 @@ public class ClientRequestController {
     }
 
     @GetMapping("/admin/top-five-drinks/{uuid}")
+    @UsePrimaryDataSource
     @Operation(summary = "Retorna as cinco bebidas que mais aparecem de um determinado usuário", tags = "Requests")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
@@ -109,6 +149,19 @@ public class ClientRequestController {
         return ResponseEntity.ok(clientRequestService.getTopDrinksInRequests(pageable));
     }
 
+    @GetMapping("/trending-drinks")
+    @Operation(summary = "Retorna as bebidas em alta na janela de tempo informada, com contagens aproximadas", tags = "Requests")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Quando a janela de tempo é inválida"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<List<ClientRequestDrinkCount>> getTrendingDrinks(@RequestParam(defaultValue = "LAST_HOUR") TrendingWindow window, @ParameterObject Pageable pageable) {
+        return ResponseEntity.ok(trendingDrinksService.getTrendingDrinks(window, pageable.getPageSize()));
+    }
+
     @GetMapping("/admin/most-canceled")
     @Operation(summary = "Retorna as bebidas que mais foram canceladas nos pedidos", tags = "Requests")
     @ApiResponses(value = {
@@ -121,20 +174,72 @@ public class ClientRequestController {
         return ResponseEntity.ok(clientRequestService.mostCanceledDrinks(pageable));
     }
 
+    @GetMapping("/admin/export")
+    @Operation(summary = "Exporta os pedidos encontrados em CSV ou NDJSON, sem paginação", tags = "Requests")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<StreamingResponseBody> export(
+            @ParameterObject ClientRequestParameters parameters,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        String fileName = format.equals(ExportFormat.CSV) ? "requests.csv" : "requests.ndjson";
+
+        HttpHeaders headers = new HttpHeaders();
+
+        if (gzip) {
+            headers.setContentType(MediaType.parseMediaType("application/gzip"));
+            fileName += ".gz";
+        } else {
+            headers.setContentType(MediaType.parseMediaType(format.equals(ExportFormat.CSV) ? "text/csv;charset=UTF-8" : "application/x-ndjson"));
+        }
+
+        headers.setContentDisposition(ContentDisposition.attachment().filename(fileName).build());
+
+        StreamingResponseBody body = (outputStream) -> {
+            OutputStream exportStream = gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+
+            clientRequestExportService.export(parameters, format, exportStream);
+        };
+
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    @GetMapping("/admin/statistics/{uuid}/check")
+    @UsePrimaryDataSource
+    @Operation(summary = "Compara as estatísticas em cache de um usuário com as calculadas no banco de dados", tags = "Requests")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<UserStatisticsCheck> checkUserStatistics(@PathVariable UUID uuid) {
+        return ResponseEntity.ok(userStatisticsService.checkConsistency(uuid));
+    }
+
     @GetMapping("/admin/all-dates")
-    @Operation(summary = "Retorna as datas que foram realizados pedidos", tags = "Requests")
+    @Operation(summary = "Retorna as datas que foram realizados pedidos, com o total de pedidos e faturamento de cada dia", tags = "Requests")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Quando alguma das datas informadas é inválida"),
             @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
             @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
             @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
     })
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<List<ClientRequestDate>> getAllDatesInRequests() {
-        return ResponseEntity.ok(clientRequestService.getAllDatesInRequests());
+    public ResponseEntity<List<ClientRequestDate>> getAllDatesInRequests(@ParameterObject ClientRequestDateParameters parameters) {
+        return ResponseEntity.ok(clientRequestService.getAllDatesInRequests(parameters));
     }
 
     @GetMapping("/user/total-of-drinks-alcoholic")
+    @UsePrimaryDataSource
     @Operation(summary = "Retorna as todas as bebidas dos seus pedidos", tags = "Requests")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
@@ -159,6 +264,18 @@ public class ClientRequestController {
         return ResponseEntity.ok(clientRequestService.searchMyRequests(parameters, pageable, authUtil.getUser(principal)));
     }
 
+    @GetMapping(value = "/user/my-requests/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Envia por Server-Sent Events as mudanças de status dos seus pedidos, retomando a partir do cabeçalho Last-Event-ID", tags = "Requests")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public SseEmitter streamMyRequests(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId, Principal principal) {
+        return clientRequestStatusStream.subscribe(authUtil.getUser(principal), lastEventId);
+    }
+
     @GetMapping("/{uuid}")
     @Operation(summary = "Retorna o pedido especificado", tags = "Requests")
     @ApiResponses(value = {
@@ -200,8 +317,6 @@ public class ClientRequestController {
 
         ClientRequest clientRequestSaved = clientRequestService.save(clientRequestPostRequestBody, user);
 
-        requestsChanged();
-
         return new ResponseEntity<>(clientRequestSaved, HttpStatus.CREATED);
     }
 
@@ -217,7 +332,6 @@ public class ClientRequestController {
     @SecurityRequirement(name = "bearerAuth")
     public ResponseEntity<Void> replace(@RequestBody @Valid ClientRequestPutRequestBody clientRequestPutRequestBody, Principal principal) {
         clientRequestService.replace(clientRequestPutRequestBody, authUtil.getUser(principal));
-        requestsChanged();
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
@@ -234,8 +348,6 @@ public class ClientRequestController {
     public ResponseEntity<ClientRequest> startRequest(@PathVariable UUID uuid) {
         ClientRequest clientRequestFinished = clientRequestService.startRequest(uuid);
 
-        sendToUserRequestChanged(uuid, ClientRequestStatus.STARTED.toString());
-
         return ResponseEntity.ok(clientRequestFinished);
     }
 
@@ -252,8 +364,6 @@ public class ClientRequestController {
     public ResponseEntity<ClientRequest> finishRequest(@PathVariable UUID uuid) {
         ClientRequest clientRequestFinished = clientRequestService.finishRequest(uuid);
 
-        sendToUserRequestChanged(uuid, ClientRequestStatus.FINISHED.toString());
-
         return ResponseEntity.ok(clientRequestFinished);
     }
 
@@ -270,8 +380,6 @@ public class ClientRequestController {
     public ResponseEntity<ClientRequest> cancelRequest(@PathVariable UUID uuid, Principal principal) {
         ClientRequest clientRequestFinished = clientRequestService.cancelRequest(uuid, authUtil.getUser(principal));
 
-        sendToUserRequestChanged(uuid, ClientRequestStatus.CANCELED.toString());
-
         return ResponseEntity.ok(clientRequestFinished);
     }
 
@@ -287,8 +395,6 @@ public class ClientRequestController {
     public ResponseEntity<ClientRequest> deliverRequest(@PathVariable UUID uuid) {
         ClientRequest clientRequestFinished = clientRequestService.deliverRequest(uuid);
 
-        sendToUserRequestChanged(uuid, "DELIVERED");
-
         return ResponseEntity.ok(clientRequestFinished);
     }
 
@@ -305,11 +411,24 @@ public class ClientRequestController {
     public ResponseEntity<Void> delete(@PathVariable UUID uuid, Principal principal) {
         clientRequestService.delete(uuid, authUtil.getUser(principal));
 
-        requestsChanged();
-
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    @PostMapping("/admin/archive")
+    @Operation(summary = "Inicia em segundo plano o arquivamento dos pedidos finalizados ou cancelados mais antigos que a idade configurada", tags = "Requests")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "O arquivamento foi iniciado ou já estava em execução"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<Void> archiveOldRequests() {
+        clientRequestArchiveService.archiveOldRequestsInBackground();
+
+        return ResponseEntity.accepted().build();
+    }
+
     @PatchMapping("/admin/toggle-all-blocked")
     @Operation(summary = "Inverte se todos os usuários estão bloqueados ou não", tags = "Requests")
     @ApiResponses(value = {
@@ -322,33 +441,4 @@ public class ClientRequestController {
         return ResponseEntity.ok(clientRequestService.toggleBlockAllRequests());
     }
 
-    private void requestsChanged() {
-        if (!sendNotificationScheduled) {
-            new Timer().schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    applicationUserService
-                            .getStaffUsers()
-                            .forEach((user) -> template.convertAndSend("/topic/updated/" + user.getEmail(), new SocketMessage("requests-changed")));
-
-                    sendNotificationScheduled = false;
-                }
-            }, webSocketProperties.getSendClientRequestUpdateDelay());
-
-            sendNotificationScheduled = true;
-        }
-    }
-
-    private void sendToUserRequestChanged(UUID uuid, String message) {
-        String email = clientRequestService.findByIdOrElseThrowBadRequestException(uuid).getUser().getEmail();
-
-        ClientRequestStatusChanged clientRequestStatusChanged = ClientRequestStatusChanged
-                .builder()
-                .uuid(uuid)
-                .message(message)
-                .build();
-
-        template.convertAndSend("/topic/request-changed/" + email, clientRequestStatusChanged);
-    }
-
 }
@@ -1,6 +1,7 @@
 package com.github.skyg0d.skydrinksapi.controller;
 
 import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.domain.Job;
 import com.github.skyg0d.skydrinksapi.parameters.DrinkParameters;
 import com.github.skyg0d.skydrinksapi.requests.DrinkPostRequestBody;
 import com.github.skyg0d.skydrinksapi.requests.DrinkPutRequestBody;
@@ -103,15 +104,17 @@ public class DrinkController {
     @Operation(summary = "Remove um drink", tags = "Drinks")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "202", description = "Quando o drink está em muitos pedidos e será removido em segundo plano"),
             @ApiResponse(responseCode = "400", description = "Quando o drink não existe no banco de dados"),
             @ApiResponse(responseCode = "401", description = "Quando o drink não está autenticado"),
             @ApiResponse(responseCode = "403", description = "Quando o drink não possuí permissão"),
             @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
     })
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<Void> delete(@PathVariable UUID uuid) {
-        drinkService.delete(uuid);
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    public ResponseEntity<Job> delete(@PathVariable UUID uuid) {
+        return drinkService.delete(uuid)
+                .map((job) -> new ResponseEntity<>(job, HttpStatus.ACCEPTED))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
     }
 
 }
@@ -0,0 +1,58 @@
+package com.github.skyg0d.skydrinksapi.controller;
+
+import com.github.skyg0d.skydrinksapi.datasource.UsePrimaryDataSource;
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.service.JobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.api.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/jobs")
+public class JobController {
+
+    private final JobService jobService;
+
+    @GetMapping("/admin")
+    @UsePrimaryDataSource
+    @Operation(summary = "Retorna todos os jobs com paginação", tags = "Jobs")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<Page<Job>> listAll(@ParameterObject Pageable pageable) {
+        return ResponseEntity.ok(jobService.listAll(pageable));
+    }
+
+    @GetMapping("/staff/{uuid}")
+    @UsePrimaryDataSource
+    @Operation(summary = "Retorna o status e o progresso do job especificado", tags = "Jobs")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Quando o job não existe no banco de dados"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<Job> findById(@PathVariable UUID uuid) {
+        return ResponseEntity.ok(jobService.findByIdOrElseThrowBadRequestException(uuid));
+    }
+
+}
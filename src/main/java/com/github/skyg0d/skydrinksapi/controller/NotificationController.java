@@ -0,0 +1,51 @@
+package com.github.skyg0d.skydrinksapi.controller;
+
+import com.github.skyg0d.skydrinksapi.socket.domain.NotificationStatistics;
+import com.github.skyg0d.skydrinksapi.socket.domain.WebSocketStatistics;
+import com.github.skyg0d.skydrinksapi.socket.notification.NotificationDispatcher;
+import com.github.skyg0d.skydrinksapi.socket.notification.WebSocketMonitor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/notifications")
+public class NotificationController {
+
+    private final NotificationDispatcher notificationDispatcher;
+    private final WebSocketMonitor webSocketMonitor;
+
+    @GetMapping("/admin/statistics")
+    @Operation(summary = "Retorna quantas notificações foram solicitadas, agrupadas e enviadas pelo websocket", tags = "Notifications")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<NotificationStatistics> getStatistics() {
+        return ResponseEntity.ok(notificationDispatcher.getStatistics());
+    }
+
+    @GetMapping("/admin/websocket")
+    @Operation(summary = "Retorna as sessões, as filas dos pools de threads e as mensagens descartadas do websocket neste nó", tags = "Notifications")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<WebSocketStatistics> getWebSocketStatistics() {
+        return ResponseEntity.ok(webSocketMonitor.getStatistics());
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.github.skyg0d.skydrinksapi.controller;
+
+import com.github.skyg0d.skydrinksapi.domain.RetentionReport;
+import com.github.skyg0d.skydrinksapi.service.RetentionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/retention")
+public class RetentionController {
+
+    private final RetentionService retentionService;
+
+    @GetMapping("/admin/reports")
+    @Operation(summary = "Retorna o resultado da última execução de cada regra de retenção", tags = "Retention")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<List<RetentionReport>> getReports() {
+        return ResponseEntity.ok(retentionService.getReports());
+    }
+
+    @PostMapping("/admin/run")
+    @Operation(summary = "Inicia em segundo plano todas as regras de retenção, removendo os dados vencidos", tags = "Retention")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "A limpeza foi iniciada ou já estava em execução"),
+            @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
+            @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
+            @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<List<RetentionReport>> purgeAll() {
+        retentionService.purgeAllInBackground();
+
+        return ResponseEntity.accepted().body(retentionService.getReports());
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.github.skyg0d.skydrinksapi.controller;
 
+import com.github.skyg0d.skydrinksapi.domain.Job;
 import com.github.skyg0d.skydrinksapi.domain.Table;
 import com.github.skyg0d.skydrinksapi.parameters.TableParameters;
 import com.github.skyg0d.skydrinksapi.requests.TablePostRequestBody;
@@ -127,15 +128,17 @@ public class TableController {
     @Operation(summary = "Deleta uma mesa", tags = "Tables")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Operação foi realizada com sucesso"),
+            @ApiResponse(responseCode = "202", description = "Quando a mesa está em muitos pedidos e será removida em segundo plano"),
             @ApiResponse(responseCode = "400", description = "Quando a mesa não existe no banco de dados"),
             @ApiResponse(responseCode = "401", description = "Quando o usuário não está autenticado"),
             @ApiResponse(responseCode = "403", description = "Quando o usuário não possuí permissão"),
             @ApiResponse(responseCode = "500", description = "Quando acontece um erro no servidor")
     })
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<Void> delete(@PathVariable UUID uuid) {
-        tableService.delete(uuid);
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    public ResponseEntity<Job> delete(@PathVariable UUID uuid) {
+        return tableService.delete(uuid)
+                .map((job) -> new ResponseEntity<>(job, HttpStatus.ACCEPTED))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
     }
 
 }
@@ -0,0 +1,68 @@
+package com.github.skyg0d.skydrinksapi.datasource;
+
+import com.github.skyg0d.skydrinksapi.property.DataSourceRoutingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Guarda, por thread, se a requisição atual pode ler de uma réplica, e por usuário o momento da última escrita,
+ * para que as leituras logo depois de uma escrita do próprio usuário continuem no banco principal.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+
+    private final Map<String, Instant> lastWrites = new ConcurrentHashMap<>();
+    private final DataSourceRoutingProperties dataSourceRoutingProperties;
+
+    public static boolean isReadOnly() {
+        return Boolean.TRUE.equals(READ_ONLY.get());
+    }
+
+    public static void setReadOnly(boolean readOnly) {
+        READ_ONLY.set(readOnly);
+    }
+
+    public static void clear() {
+        READ_ONLY.remove();
+    }
+
+    public void recordWrite(String username) {
+        lastWrites.put(username, Instant.now());
+    }
+
+    public boolean recentlyWrote(String username) {
+        Instant lastWrite = lastWrites.get(username);
+
+        if (lastWrite == null) {
+            return false;
+        }
+
+        if (lastWrite.plus(Duration.ofSeconds(dataSourceRoutingProperties.getStickinessSeconds())).isAfter(Instant.now())) {
+            return true;
+        }
+
+        lastWrites.remove(username, lastWrite);
+
+        return false;
+    }
+
+    /**
+     * Esquece as escritas que já passaram do prazo, inclusive as dos usuários que não fizeram mais nenhuma leitura.
+     */
+    @Scheduled(fixedRateString = "#{T(java.lang.Math).max(@dataSourceRoutingProperties.stickinessSeconds, 1) * 1000}")
+    public void removeExpiredWrites() {
+        Instant expiredBefore = Instant.now().minusSeconds(dataSourceRoutingProperties.getStickinessSeconds());
+
+        lastWrites.values().removeIf((lastWrite) -> !lastWrite.isAfter(expiredBefore));
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.github.skyg0d.skydrinksapi.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.security.Principal;
+
+/**
+ * Libera as requisições GET para lerem de uma réplica, exceto quando o endpoint exige o banco principal ou o
+ * usuário escreveu há pouco tempo. As demais requisições registram a escrita do usuário.
+ * <p>
+ * Nos endpoints assíncronos a thread do Tomcat é liberada antes do {@code afterCompletion}, então a decisão é
+ * desfeita assim que o processamento assíncrono começa; a tarefa recebe a decisão pelo
+ * {@link DataSourceRoutingTaskDecorator}.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataSourceRoutingInterceptor implements AsyncHandlerInterceptor {
+
+    private final DataSourceRoutingContext dataSourceRoutingContext;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        DataSourceRoutingContext.setReadOnly(canReadFromReplica(request, handler));
+
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        DataSourceRoutingContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        DataSourceRoutingContext.clear();
+
+        Principal principal = request.getUserPrincipal();
+
+        if (principal != null && !isReadMethod(request)) {
+            dataSourceRoutingContext.recordWrite(principal.getName());
+        }
+    }
+
+    private boolean canReadFromReplica(HttpServletRequest request, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return false;
+        }
+
+        if (handler instanceof HandlerMethod && ((HandlerMethod) handler).hasMethodAnnotation(UsePrimaryDataSource.class)) {
+            return false;
+        }
+
+        Principal principal = request.getUserPrincipal();
+
+        return principal == null || !dataSourceRoutingContext.recentlyWrote(principal.getName());
+    }
+
+    private boolean isReadMethod(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod())
+                || HttpMethod.HEAD.matches(request.getMethod())
+                || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+}
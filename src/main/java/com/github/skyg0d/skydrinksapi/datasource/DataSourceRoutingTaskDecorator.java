@@ -0,0 +1,26 @@
+package com.github.skyg0d.skydrinksapi.datasource;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Leva para a thread da tarefa assíncrona a decisão de leitura da requisição que a criou, como nas exportações, que
+ * escrevem a resposta fora da thread do Tomcat.
+ */
+public class DataSourceRoutingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        boolean readOnly = DataSourceRoutingContext.isReadOnly();
+
+        return () -> {
+            DataSourceRoutingContext.setReadOnly(readOnly);
+
+            try {
+                runnable.run();
+            } finally {
+                DataSourceRoutingContext.clear();
+            }
+        };
+    }
+
+}
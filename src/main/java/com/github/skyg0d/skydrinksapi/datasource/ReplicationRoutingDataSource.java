@@ -0,0 +1,171 @@
+package com.github.skyg0d.skydrinksapi.datasource;
+
+import com.github.skyg0d.skydrinksapi.property.DataSourceRoutingProperties;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Envia as conexões das requisições somente leitura para uma das réplicas saudáveis, em rodízio, e todo o resto
+ * para o banco principal. Uma réplica fora do ar ou com atraso acima do tolerado deixa de receber leituras até a
+ * próxima verificação bem sucedida.
+ */
+@Log4j2
+public class ReplicationRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final DataSourceRoutingProperties dataSourceRoutingProperties;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, DataSourceRoutingProperties dataSourceRoutingProperties) {
+        this.primary = primary;
+        this.replicas = replicas
+                .entrySet()
+                .stream()
+                .map((replica) -> new Replica(replica.getKey(), replica.getValue()))
+                .collect(Collectors.toList());
+        this.dataSourceRoutingProperties = dataSourceRoutingProperties;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect((dataSource) -> dataSource.getConnection(username, password));
+    }
+
+    // Lido das propriedades já vinculadas, para que o intervalo e o padrão venham de DataSourceRoutingProperties.
+    @Scheduled(fixedRateString = "#{@dataSourceRoutingProperties.healthCheckRate}")
+    public void checkReplicas() {
+        replicas.forEach(this::checkReplica);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource dataSource : getAllDataSources()) {
+            if (dataSource instanceof Closeable) {
+                ((Closeable) dataSource).close();
+            }
+        }
+    }
+
+    private Connection connect(ConnectionFactory factory) throws SQLException {
+        Replica replica = DataSourceRoutingContext.isReadOnly() ? nextHealthyReplica() : null;
+
+        if (replica == null) {
+            return factory.connect(primary);
+        }
+
+        try {
+            return factory.connect(replica.getDataSource());
+        } catch (SQLException ex) {
+            log.warn("Réplica \"{}\" indisponível, usando o banco principal: {}", replica.getName(), ex.getMessage());
+
+            replica.healthy = false;
+
+            return factory.connect(primary);
+        }
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+
+        return null;
+    }
+
+    private void checkReplica(Replica replica) {
+        boolean wasHealthy = replica.healthy;
+
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            long lag = measureLag(connection);
+
+            replica.healthy = lag <= dataSourceRoutingProperties.getMaxLagSeconds();
+
+            if (!replica.healthy && wasHealthy) {
+                log.warn("Réplica \"{}\" está {} segundos atrasada, usando o banco principal", replica.getName(), lag);
+            }
+        } catch (SQLException ex) {
+            replica.healthy = false;
+
+            if (wasHealthy) {
+                log.warn("Réplica \"{}\" indisponível: {}", replica.getName(), ex.getMessage());
+            }
+        }
+
+        if (replica.healthy && !wasHealthy) {
+            log.info("Réplica \"{}\" voltou a receber leituras", replica.getName());
+        }
+    }
+
+    private long measureLag(Connection connection) throws SQLException {
+        String lagQuery = dataSourceRoutingProperties.getLagQuery();
+
+        if (lagQuery == null || lagQuery.isEmpty()) {
+            return 0;
+        }
+
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return Long.MAX_VALUE;
+            }
+
+            long lag = resultSet.getLong(1);
+
+            return resultSet.wasNull() ? Long.MAX_VALUE : lag;
+        }
+    }
+
+    private List<DataSource> getAllDataSources() {
+        List<DataSource> dataSources = replicas.stream().map(Replica::getDataSource).collect(Collectors.toCollection(ArrayList::new));
+
+        dataSources.add(primary);
+
+        return dataSources;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionFactory {
+
+        Connection connect(DataSource dataSource) throws SQLException;
+
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+    }
+
+}
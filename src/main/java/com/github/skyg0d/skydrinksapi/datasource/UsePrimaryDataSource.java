@@ -0,0 +1,14 @@
+package com.github.skyg0d.skydrinksapi.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca um endpoint GET que deve sempre ler do banco principal, mesmo com réplicas disponíveis.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UsePrimaryDataSource {
+}
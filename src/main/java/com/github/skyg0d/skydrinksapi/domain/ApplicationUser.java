@@ -7,6 +7,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.validator.constraints.br.CPF;
 
 import javax.persistence.*;
@@ -25,10 +27,20 @@ import java.util.Set;
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "application_users")
+@Table(
+        name = "application_users",
+        indexes = {
+                @Index(name = "idx_application_users_lock_requests_timestamp", columnList = "lockRequestsTimestamp"),
+                @Index(name = "idx_application_users_lock_requests_until", columnList = "lockRequestsUntil")
+        }
+)
 @Entity
+@javax.persistence.Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ApplicationUser.CACHE_REGION)
 public class ApplicationUser extends BaseEntity {
 
+    public static final String CACHE_REGION = "users";
+
     @Size(min = 3, max = 250, message = "O nome do usuário deve ter entre 3 e 250 caracteres.")
     @NotBlank(message = "O nome do usuário não pode ficar vazio.")
     @Schema(description = "Nome do usuário", example = "Roger")
@@ -72,6 +84,9 @@ public class ApplicationUser extends BaseEntity {
     @Schema(description = "Data em que o usuário foi impedido de realizar pedidos", example = "2004-04-09")
     private LocalDateTime lockRequestsTimestamp;
 
+    @Schema(description = "Data em que os pedidos do usuário serão desbloqueados automaticamente")
+    private LocalDateTime lockRequestsUntil;
+
     public ApplicationUser(@NotNull ApplicationUser applicationUser) {
         this.password = applicationUser.getPassword();
         this.name = applicationUser.getName();
@@ -82,6 +97,7 @@ public class ApplicationUser extends BaseEntity {
         this.requests = applicationUser.getRequests();
         this.lockRequests = applicationUser.isLockRequests();
         this.lockRequestsTimestamp = applicationUser.getLockRequestsTimestamp();
+        this.lockRequestsUntil = applicationUser.getLockRequestsUntil();
     }
 
 }
@@ -0,0 +1,81 @@
+package com.github.skyg0d.skydrinksapi.domain;
+
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pedido finalizado ou cancelado movido para as tabelas de arquivo, escrito somente pelo arquivamento em lote.
+ */
+@Getter
+@Setter
+@ToString(callSuper = true)
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@javax.persistence.Table(
+        name = "client_requests_archive",
+        indexes = {
+                @Index(name = "idx_client_requests_archive_created_date", columnList = "created_date"),
+                @Index(name = "idx_client_requests_archive_user_uuid", columnList = "user_uuid")
+        }
+)
+@Entity
+@Immutable
+public class ArchivedClientRequest extends BaseEntity {
+
+    @ToString.Exclude
+    @ManyToMany
+    @JoinTable(
+            name = "request_drink_archive",
+            joinColumns = @JoinColumn(name = "request_id"),
+            inverseJoinColumns = @JoinColumn(name = "drink_id")
+    )
+    private List<Drink> drinks;
+
+    @ManyToOne
+    @JoinColumn(name = "user_uuid")
+    private ApplicationUser user;
+
+    @ManyToOne
+    @JoinColumn(name = "table_uuid")
+    private Table table;
+
+    @Enumerated(EnumType.STRING)
+    private ClientRequestStatus status;
+
+    private double totalPrice;
+
+    private boolean delivered;
+
+    @Column(name = "created_date")
+    private LocalDate createdDate;
+
+    @Schema(description = "Data em que o pedido foi arquivado")
+    private LocalDateTime archivedAt;
+
+    public ClientRequest toClientRequest() {
+        return ClientRequest
+                .builder()
+                .uuid(getUuid())
+                .createdAt(getCreatedAt())
+                .updatedAt(getUpdatedAt())
+                .drinks(drinks == null ? new ArrayList<>() : new ArrayList<>(drinks))
+                .user(user)
+                .table(table)
+                .status(status)
+                .totalPrice(totalPrice)
+                .delivered(delivered)
+                .createdDate(createdDate)
+                .build();
+    }
+
+}
@@ -5,8 +5,10 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.Hibernate;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.Type;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.UUIDGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -23,8 +25,12 @@ import java.util.UUID;
 public class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
-    @Type(type="uuid-char")
+    @GeneratedValue(generator = "time-ordered-uuid")
+    @GenericGenerator(
+            name = "time-ordered-uuid",
+            strategy = "uuid2",
+            parameters = @Parameter(name = UUIDGenerator.UUID_GEN_STRATEGY_CLASS, value = "com.github.skyg0d.skydrinksapi.util.TimeOrderedUuidStrategy")
+    )
     @Schema(description = "Identificador único da entidade", example = "9ce40cbc-4a14-40c7-a016-a46c9964ebcf")
     private UUID uuid;
 
@@ -0,0 +1,41 @@
+package com.github.skyg0d.skydrinksapi.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Mensagem do websocket gravada para que os outros nós a entreguem aos seus clientes. Usa um id numérico em vez do
+ * {@link BaseEntity}, porque os nós leem a tabela em ordem crescente de id.
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@javax.persistence.Table(
+        name = "broadcast_messages",
+        indexes = @Index(name = "idx_broadcast_messages_created_at", columnList = "created_at")
+)
+@Entity
+public class BroadcastMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String destination;
+
+    @Column(nullable = false, length = 10000)
+    private String payload;
+
+    @Column(nullable = false, length = 36)
+    private String node;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+}
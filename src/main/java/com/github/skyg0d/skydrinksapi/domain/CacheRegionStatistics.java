@@ -0,0 +1,33 @@
+package com.github.skyg0d.skydrinksapi.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CacheRegionStatistics {
+
+    @Schema(description = "Nome da região do cache", example = "drinks")
+    private String region;
+
+    @Schema(description = "Quantidade de leituras encontradas no cache", example = "120")
+    private long hitCount;
+
+    @Schema(description = "Quantidade de leituras que precisaram ir ao banco de dados", example = "8")
+    private long missCount;
+
+    @Schema(description = "Quantidade de entradas colocadas no cache", example = "8")
+    private long putCount;
+
+    @Schema(description = "Quantidade de entradas na memória, negativo quando desconhecida", example = "8")
+    private long elementCountInMemory;
+
+    @Schema(description = "Proporção de leituras encontradas no cache", example = "0.9375")
+    private double hitRatio;
+
+}
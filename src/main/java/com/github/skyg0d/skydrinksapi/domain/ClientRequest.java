@@ -1,5 +1,6 @@
 package com.github.skyg0d.skydrinksapi.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -10,6 +11,8 @@ import org.hibernate.annotations.OnDeleteAction;
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.PositiveOrZero;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
@@ -18,7 +21,13 @@ import java.util.List;
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
-@javax.persistence.Table(name = "client_requests")
+@javax.persistence.Table(
+        name = "client_requests",
+        indexes = {
+                @Index(name = "idx_client_requests_created_date", columnList = "created_date"),
+                @Index(name = "idx_client_requests_status_delivered", columnList = "status, delivered")
+        }
+)
 @Entity
 public class ClientRequest extends BaseEntity {
 
@@ -57,4 +66,35 @@ public class ClientRequest extends BaseEntity {
     @Schema(description = "Informa se o pedido foi entregue", example = "false")
     private boolean delivered;
 
+    @Column(name = "created_date", updatable = false)
+    @Schema(description = "Dia em que o pedido foi criado", example = "2021-11-07")
+    private LocalDate createdDate;
+
+    @Schema(description = "Data em que o pedido entrou no status atual")
+    private LocalDateTime statusChangedAt;
+
+    @PrePersist
+    protected void fillCreatedDate() {
+        if (createdDate == null) {
+            createdDate = getCreatedAt() != null ? getCreatedAt().toLocalDate() : LocalDate.now();
+        }
+
+        if (statusChangedAt == null) {
+            statusChangedAt = getCreatedAt() != null ? getCreatedAt() : LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Início da etapa atual. Pedidos criados antes de existir {@code statusChangedAt} usam a última atualização, que
+     * nesses pedidos costuma ser a última troca de status.
+     */
+    @JsonIgnore
+    public LocalDateTime getStageStartedAt() {
+        if (statusChangedAt != null) {
+            return statusChangedAt;
+        }
+
+        return getUpdatedAt() != null ? getUpdatedAt() : getCreatedAt();
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.github.skyg0d.skydrinksapi.domain;
 
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,6 +14,13 @@ import java.time.LocalDate;
 @Builder
 public class ClientRequestDate {
 
+    @Schema(description = "Dia em que foram realizados pedidos", example = "2021-11-07")
     private LocalDate date;
 
+    @Schema(description = "Total de pedidos realizados no dia", example = "42")
+    private long total;
+
+    @Schema(description = "Faturamento do dia, desconsiderando pedidos cancelados", example = "853.25")
+    private double revenue;
+
 }
@@ -0,0 +1,27 @@
+package com.github.skyg0d.skydrinksapi.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * Última sequência usada pelos eventos dos pedidos. A linha fica bloqueada da numeração até o commit do evento, então
+ * os eventos ficam visíveis para os outros nós na mesma ordem da sequência.
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@javax.persistence.Table(name = "client_request_event_counter")
+@Entity
+public class ClientRequestEventCounter {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_sequence", nullable = false)
+    private long lastSequence;
+
+}
@@ -0,0 +1,34 @@
+package com.github.skyg0d.skydrinksapi.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Evento de pedido gravado para que todos os nós montem o mesmo histórico para a staff. A sequência é a chave, vem de
+ * {@link ClientRequestEventCounter} e não tem buracos.
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@javax.persistence.Table(
+        name = "client_request_events",
+        indexes = @Index(name = "idx_client_request_events_created_at", columnList = "created_at")
+)
+@Entity
+public class ClientRequestEventRecord {
+
+    @Id
+    private Long sequence;
+
+    @Column(nullable = false, length = 10000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+}
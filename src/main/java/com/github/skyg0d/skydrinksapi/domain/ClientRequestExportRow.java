@@ -0,0 +1,82 @@
+package com.github.skyg0d.skydrinksapi.domain;
+
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ClientRequestExportRow {
+
+    private UUID uuid;
+    private LocalDateTime createdAt;
+    private ClientRequestStatus status;
+    private boolean delivered;
+    private double totalPrice;
+    private UUID userUUID;
+    private String userName;
+    private String userEmail;
+    private UUID tableUUID;
+    private Integer tableNumber;
+
+    @Builder.Default
+    private List<UUID> drinkUUIDs = new ArrayList<>();
+
+    @Builder.Default
+    private List<String> drinkNames = new ArrayList<>();
+
+    public static ClientRequestExportRow of(ClientRequest request) {
+        ApplicationUser user = request.getUser();
+        Table table = request.getTable();
+
+        return ClientRequestExportRow
+                .builder()
+                .uuid(request.getUuid())
+                .createdAt(request.getCreatedAt())
+                .status(request.getStatus())
+                .delivered(request.isDelivered())
+                .totalPrice(request.getTotalPrice())
+                .userUUID(user == null ? null : user.getUuid())
+                .userName(user == null ? null : user.getName())
+                .userEmail(user == null ? null : user.getEmail())
+                .tableUUID(table == null ? null : table.getUuid())
+                .tableNumber(table == null ? null : table.getNumber())
+                .build();
+    }
+
+    public static ClientRequestExportRow of(ArchivedClientRequest request) {
+        ApplicationUser user = request.getUser();
+        Table table = request.getTable();
+
+        return ClientRequestExportRow
+                .builder()
+                .uuid(request.getUuid())
+                .createdAt(request.getCreatedAt())
+                .status(request.getStatus())
+                .delivered(request.isDelivered())
+                .totalPrice(request.getTotalPrice())
+                .userUUID(user == null ? null : user.getUuid())
+                .userName(user == null ? null : user.getName())
+                .userEmail(user == null ? null : user.getEmail())
+                .tableUUID(table == null ? null : table.getUuid())
+                .tableNumber(table == null ? null : table.getNumber())
+                .build();
+    }
+
+    public void addDrink(Drink drink) {
+        if (drink != null) {
+            drinkUUIDs.add(drink.getUuid());
+            drinkNames.add(drink.getName());
+        }
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.github.skyg0d.skydrinksapi.domain;
+
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClientRequestStatusCount {
+
+    @Schema(description = "Status do pedido", example = "PROCESSING")
+    private ClientRequestStatus status;
+
+    @Schema(description = "Total de pedidos nesse status", example = "7")
+    private long total;
+
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -25,9 +27,12 @@ import java.util.Set;
 @AllArgsConstructor
 @Table(name = "drinks")
 @Entity
+@javax.persistence.Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Drink.CACHE_REGION)
 public class Drink extends BaseEntity {
 
     public static final String ADDITIONAL_SEPARATOR = ";";
+    public static final String CACHE_REGION = "drinks";
 
     @Size(min = 3, max = 100, message = "O nome da bebida precisa ter de 3 a 100 caracteres.")
     @NotBlank(message = "O nome da bebida não pode ficar vazio.")
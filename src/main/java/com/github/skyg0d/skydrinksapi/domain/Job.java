@@ -0,0 +1,81 @@
+package com.github.skyg0d.skydrinksapi.domain;
+
+import com.github.skyg0d.skydrinksapi.enums.JobStatus;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@javax.persistence.Table(
+        name = "jobs",
+        indexes = {
+                @Index(name = "idx_jobs_status", columnList = "status"),
+                @Index(name = "idx_jobs_type_target", columnList = "type, targetUuid")
+        }
+)
+@Entity
+public class Job extends BaseEntity {
+
+    @NotNull(message = "Um job precisa de um tipo.")
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    @Schema(description = "Operação executada pelo job", example = "DELETE_DRINK")
+    private JobType type;
+
+    @NotNull(message = "Um job precisa de um status.")
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @Schema(description = "Status do job", example = "RUNNING")
+    private JobStatus status;
+
+    @Schema(description = "Entidade afetada pelo job", example = "74a49e0b-9e36-4af4-b283-d569813047a6")
+    private UUID targetUuid;
+
+    @Schema(description = "Quantidade estimada de itens a processar", example = "12000")
+    private long totalItems;
+
+    @Schema(description = "Quantidade de itens já processados", example = "4500")
+    private long processedItems;
+
+    @Column(length = 1000)
+    @Schema(description = "Mensagem de erro quando o job falha")
+    private String errorMessage;
+
+    @Column(length = 36)
+    @Schema(description = "Nó que está executando o job", example = "5b0e3f3a-2f4d-4b8e-9c1a-7d6e5f4a3b2c")
+    private String owner;
+
+    @Schema(description = "Data até a qual o job pertence ao nó que o executa; depois dela outro nó pode retomá-lo")
+    private LocalDateTime leaseUntil;
+
+    @Schema(description = "Data em que o job começou a ser executado")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "Data em que o job terminou")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "Porcentagem concluída do job", example = "37.5")
+    public double getProgress() {
+        if (status == JobStatus.COMPLETED) {
+            return 100;
+        }
+
+        return totalItems <= 0 ? 0 : Math.min(100, processedItems * 100.0 / totalItems);
+    }
+
+    public void advance(long items) {
+        this.processedItems += items;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.github.skyg0d.skydrinksapi.domain;
+
+import com.github.skyg0d.skydrinksapi.enums.MailStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@ToString(callSuper = true, exclude = "content")
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@javax.persistence.Table(
+        name = "mail_outbox",
+        indexes = @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, nextAttemptAt")
+)
+@Entity
+public class OutboxMail extends BaseEntity {
+
+    @NotBlank(message = "O destinatário do email não pode ficar vazio.")
+    @Schema(description = "Email do destinatário", example = "maria@mail.com")
+    private String recipient;
+
+    @NotBlank(message = "O assunto do email não pode ficar vazio.")
+    @Schema(description = "Assunto do email", example = "Código para resetar sua senha")
+    private String subject;
+
+    @NotBlank(message = "O conteúdo do email não pode ficar vazio.")
+    @Column(length = 10000)
+    @Schema(description = "Conteúdo HTML do email")
+    private String content;
+
+    @NotNull(message = "Um email precisa de um status.")
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @Schema(description = "Status do envio", example = "PENDING")
+    private MailStatus status;
+
+    @Schema(description = "Quantidade de tentativas de envio que falharam", example = "2")
+    private int attempts;
+
+    @NotNull(message = "A data da próxima tentativa não pode ficar vazia.")
+    @Schema(description = "Data a partir da qual o email pode ser enviado")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    @Schema(description = "Mensagem de erro da última tentativa")
+    private String lastError;
+
+    @Schema(description = "Data em que o email foi aceito pelo servidor SMTP")
+    private LocalDateTime sentAt;
+
+}
@@ -1,39 +1,46 @@
 package com.github.skyg0d.skydrinksapi.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
-import javax.persistence.Entity;
-import javax.persistence.OneToOne;
-import javax.persistence.Table;
+import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
-@ToString(callSuper = true)
+@ToString(callSuper = true, exclude = "tokenHash")
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "password_reset")
+@javax.persistence.Table(
+        name = "password_reset",
+        uniqueConstraints = @UniqueConstraint(name = "uk_password_reset_user_token", columnNames = {"user_uuid", "token_hash", "reset_finished"}),
+        indexes = @Index(name = "idx_password_reset_expire_date", columnList = "expireDate")
+)
 @Entity
 public class PasswordReset extends BaseEntity {
 
     @NotBlank(message = "O código de confirmação não pode ficar vazio.")
-    @Schema(description = "Código de confirmação para restaurar senha", example = "qfq71VC13")
-    private String token;
+    @Column(name = "token_hash", length = 64)
+    @JsonIgnore
+    @Schema(description = "Hash SHA-256 do código de confirmação enviado por email")
+    private String tokenHash;
 
     @NotNull(message = "Data de expiração do código de confirmação não pode ficar vazia")
     @Schema(description = "Data que o código de confirmação expira")
     private LocalDateTime expireDate;
 
     @NotNull(message = "Usuário não pode ficar vazio")
-    @OneToOne
+    @ManyToOne
+    @JoinColumn(name = "user_uuid")
     @Schema(description = "Usuário para restaurar senha")
     private ApplicationUser user;
 
+    @Column(name = "reset_finished")
     @Schema(description = "Indicia se o pedido de alteração já foi finalizado")
     private boolean resetFinished;
     
@@ -0,0 +1,19 @@
+package com.github.skyg0d.skydrinksapi.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RequestLockExpiration {
+
+    private UUID uuid;
+
+    private LocalDateTime lockRequestsUntil;
+
+}
@@ -0,0 +1,38 @@
+package com.github.skyg0d.skydrinksapi.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RetentionReport {
+
+    @Schema(description = "Nome da regra de retenção", example = "password-reset")
+    private String rule;
+
+    @Schema(description = "Linhas removidas ou expiradas na última execução", example = "1250")
+    private long purged;
+
+    @Schema(description = "Quantidade de lotes executados na última execução", example = "3")
+    private int batches;
+
+    @Schema(description = "Tempo gasto na última execução, somando as pausas para aliviar o banco", example = "4200")
+    private long durationMillis;
+
+    @Schema(description = "Falso quando a execução parou pelo tempo máximo e ainda restam linhas vencidas", example = "true")
+    private boolean completed;
+
+    @Schema(description = "Data em que a última execução terminou")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "Linhas removidas ou expiradas desde que a aplicação iniciou", example = "8400")
+    private long totalPurged;
+
+}
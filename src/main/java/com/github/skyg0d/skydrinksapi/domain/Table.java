@@ -5,6 +5,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.validator.constraints.Range;
 
 import javax.persistence.Column;
@@ -21,8 +23,12 @@ import java.util.Set;
 @AllArgsConstructor
 @javax.persistence.Table(name = "client_tables")
 @Entity
+@javax.persistence.Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Table.CACHE_REGION)
 public class Table extends BaseEntity {
 
+    public static final String CACHE_REGION = "tables";
+
     @Range(min = 1, max = 100, message = "O número de assentos de uma mesa deve estar entre 1 e 100.")
     @Positive(message = "O número de assentos em uma mesa deve ser positivo.")
     @Schema(description = "Número de assentos na mesa", example = "8")
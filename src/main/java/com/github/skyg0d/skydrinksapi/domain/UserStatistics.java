@@ -0,0 +1,33 @@
+package com.github.skyg0d.skydrinksapi.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserStatistics {
+
+    @Schema(description = "UUID do usuário")
+    private UUID userUUID;
+
+    @Schema(description = "Bebidas pedidas pelo usuário, da mais pedida para a menos pedida")
+    private List<ClientRequestDrinkCount> drinks;
+
+    @Schema(description = "Total de bebidas pedidas pelo usuário, agrupado pelo atributo de alcoolismo")
+    private List<ClientRequestAlcoholicDrinkCount> alcoholic;
+
+    @Schema(description = "Total gasto pelo usuário, sem contar os pedidos cancelados", example = "153.4")
+    private double totalSpent;
+
+    @Schema(description = "Total de pedidos do usuário", example = "12")
+    private long totalRequests;
+
+}
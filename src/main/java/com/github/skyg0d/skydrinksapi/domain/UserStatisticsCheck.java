@@ -0,0 +1,24 @@
+package com.github.skyg0d.skydrinksapi.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserStatisticsCheck {
+
+    @Schema(description = "Informa se as estatísticas em cache batem com as calculadas no banco de dados", example = "true")
+    private boolean consistent;
+
+    @Schema(description = "Estatísticas que estavam em cache, nulo quando o usuário não estava em cache")
+    private UserStatistics cached;
+
+    @Schema(description = "Estatísticas calculadas no banco de dados")
+    private UserStatistics live;
+
+}
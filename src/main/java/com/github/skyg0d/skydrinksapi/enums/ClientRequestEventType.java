@@ -0,0 +1,13 @@
+package com.github.skyg0d.skydrinksapi.enums;
+
+public enum ClientRequestEventType {
+
+    CREATED,
+    UPDATED,
+    STARTED,
+    FINISHED,
+    CANCELED,
+    DELIVERED,
+    DELETED,
+
+}
@@ -0,0 +1,8 @@
+package com.github.skyg0d.skydrinksapi.enums;
+
+public enum ExportFormat {
+
+    CSV,
+    NDJSON,
+
+}
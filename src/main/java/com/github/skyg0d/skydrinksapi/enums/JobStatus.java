@@ -0,0 +1,10 @@
+package com.github.skyg0d.skydrinksapi.enums;
+
+public enum JobStatus {
+
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+
+}
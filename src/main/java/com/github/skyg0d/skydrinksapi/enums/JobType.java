@@ -0,0 +1,9 @@
+package com.github.skyg0d.skydrinksapi.enums;
+
+public enum JobType {
+
+    DELETE_DRINK,
+    DELETE_USER,
+    DELETE_TABLE,
+
+}
@@ -0,0 +1,9 @@
+package com.github.skyg0d.skydrinksapi.enums;
+
+public enum TrendingWindow {
+
+    LAST_FIFTEEN_MINUTES,
+    LAST_HOUR,
+    TONIGHT,
+
+}
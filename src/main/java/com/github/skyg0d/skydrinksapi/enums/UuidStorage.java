@@ -0,0 +1,18 @@
+package com.github.skyg0d.skydrinksapi.enums;
+
+public enum UuidStorage {
+
+    /**
+     * Texto de 36 caracteres, formato antigo, usado enquanto o banco ainda não foi migrado.
+     */
+    CHAR,
+    /**
+     * BINARY(16) no MySQL e BYTEA no PostgreSQL.
+     */
+    BINARY,
+    /**
+     * Tipo uuid nativo do PostgreSQL.
+     */
+    NATIVE,
+
+}
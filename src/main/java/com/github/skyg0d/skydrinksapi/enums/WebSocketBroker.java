@@ -0,0 +1,9 @@
+package com.github.skyg0d.skydrinksapi.enums;
+
+public enum WebSocketBroker {
+
+    SIMPLE,
+    RELAY,
+    DATABASE,
+
+}
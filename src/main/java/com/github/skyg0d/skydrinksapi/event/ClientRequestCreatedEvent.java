@@ -0,0 +1,18 @@
+package com.github.skyg0d.skydrinksapi.event;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.domain.Drink;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ClientRequestCreatedEvent {
+
+    private final ClientRequest request;
+    private final List<Drink> drinks;
+    private final double spent;
+
+}
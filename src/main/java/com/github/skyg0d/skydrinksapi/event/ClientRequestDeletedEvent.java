@@ -0,0 +1,19 @@
+package com.github.skyg0d.skydrinksapi.event;
+
+import com.github.skyg0d.skydrinksapi.domain.Drink;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ClientRequestDeletedEvent {
+
+    private final UUID uuid;
+    private final UUID userUuid;
+    private final List<Drink> drinks;
+    private final double spent;
+
+}
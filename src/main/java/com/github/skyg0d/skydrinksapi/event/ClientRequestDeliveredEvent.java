@@ -0,0 +1,18 @@
+package com.github.skyg0d.skydrinksapi.event;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ClientRequestDeliveredEvent {
+
+    private final ClientRequest request;
+    private final double previousSpent;
+    private final double spent;
+    private final LocalDateTime previousStageStartedAt;
+
+}
@@ -0,0 +1,73 @@
+package com.github.skyg0d.skydrinksapi.event;
+
+import com.github.skyg0d.skydrinksapi.config.AsyncConfiguration;
+import com.github.skyg0d.skydrinksapi.service.UserStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Atualiza as estatísticas dos usuários só depois que a alteração do pedido foi confirmada.
+ * <p>
+ * Os eventos que mudam os totais do usuário também são tratados na hora da publicação, para que as estatísticas não
+ * sejam guardadas em cache entre o commit e a aplicação da alteração.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientRequestStatisticsListener {
+
+    private final UserStatisticsService userStatisticsService;
+
+    @EventListener
+    public void beforeCreated(ClientRequestCreatedEvent event) {
+        userStatisticsService.requestChanging(event.getRequest().getUser().getUuid());
+    }
+
+    @EventListener
+    public void beforeStatusChanged(ClientRequestStatusChangedEvent event) {
+        userStatisticsService.requestChanging(event.getRequest().getUser().getUuid());
+    }
+
+    @EventListener
+    public void beforeDelivered(ClientRequestDeliveredEvent event) {
+        userStatisticsService.requestChanging(event.getRequest().getUser().getUuid());
+    }
+
+    @EventListener
+    public void beforeDeleted(ClientRequestDeletedEvent event) {
+        userStatisticsService.requestChanging(event.getUserUuid());
+    }
+
+    @Async(AsyncConfiguration.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(ClientRequestCreatedEvent event) {
+        userStatisticsService.requestAdded(event.getRequest().getUser().getUuid(), event.getDrinks(), event.getSpent());
+    }
+
+    @Async(AsyncConfiguration.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUpdated(ClientRequestUpdatedEvent event) {
+        userStatisticsService.evict(event.getRequest().getUser().getUuid());
+    }
+
+    @Async(AsyncConfiguration.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(ClientRequestStatusChangedEvent event) {
+        userStatisticsService.spentChanged(event.getRequest().getUser().getUuid(), event.getPreviousSpent(), event.getSpent());
+    }
+
+    @Async(AsyncConfiguration.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDelivered(ClientRequestDeliveredEvent event) {
+        userStatisticsService.spentChanged(event.getRequest().getUser().getUuid(), event.getPreviousSpent(), event.getSpent());
+    }
+
+    @Async(AsyncConfiguration.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(ClientRequestDeletedEvent event) {
+        userStatisticsService.requestRemoved(event.getUserUuid(), event.getDrinks(), event.getSpent());
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.github.skyg0d.skydrinksapi.event;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ClientRequestStatusChangedEvent {
+
+    private final ClientRequest request;
+    private final List<Drink> drinks;
+    private final ClientRequestStatus previousStatus;
+    private final double previousSpent;
+    private final double spent;
+    private final LocalDateTime previousStageStartedAt;
+
+}
@@ -0,0 +1,13 @@
+package com.github.skyg0d.skydrinksapi.event;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ClientRequestUpdatedEvent {
+
+    private final ClientRequest request;
+
+}
@@ -0,0 +1,19 @@
+package com.github.skyg0d.skydrinksapi.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Pedidos apagados de uma vez, junto com a bebida ou o usuário, sem passar pelo
+ * {@link ClientRequestDeletedEvent} de cada pedido.
+ */
+@Getter
+@AllArgsConstructor
+public class ClientRequestsRemovedEvent {
+
+    private final List<UUID> uuids;
+
+}
@@ -4,7 +4,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.FORBIDDEN)
-public class ActionNotAllowedException extends RuntimeException {
+public class ActionNotAllowedException extends BusinessException {
 
     public ActionNotAllowedException(String message) {
         super(message);
@@ -2,10 +2,9 @@ package com.github.skyg0d.skydrinksapi.exception;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
-import org.springframework.web.server.ResponseStatusException;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
-public class BadRequestException extends RuntimeException {
+public class BadRequestException extends BusinessException {
 
     public BadRequestException(String message) {
         super(message);
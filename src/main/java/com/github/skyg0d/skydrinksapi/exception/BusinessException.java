@@ -0,0 +1,18 @@
+package com.github.skyg0d.skydrinksapi.exception;
+
+/**
+ * Base das exceções lançadas por regras de negócio, como registro não encontrado ou usuário bloqueado. Elas viram uma
+ * resposta de erro e ninguém lê a pilha, então a pilha não é capturada: sob muitos erros seguidos, percorrer as
+ * dezenas de frames do Spring a cada lançamento é o que mais pesa.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+
+    protected BusinessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+
+}
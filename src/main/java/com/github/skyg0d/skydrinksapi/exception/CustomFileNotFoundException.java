@@ -4,7 +4,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
-public class CustomFileNotFoundException extends RuntimeException {
+public class CustomFileNotFoundException extends BusinessException {
 
     public CustomFileNotFoundException(String message) {
         super(message);
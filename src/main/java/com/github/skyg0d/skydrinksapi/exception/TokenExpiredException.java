@@ -1,6 +1,6 @@
 package com.github.skyg0d.skydrinksapi.exception;
 
-public class TokenExpiredException extends RuntimeException {
+public class TokenExpiredException extends BusinessException {
 
     public TokenExpiredException(String message) {
         super(message);
@@ -6,7 +6,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 @Getter
-public class UserCannotCompleteClientRequestException extends RuntimeException {
+public class UserCannotCompleteClientRequestException extends BusinessException {
 
     private final String reason;
 
@@ -8,7 +8,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 @Getter
-public class UserCannotModifyClientRequestException extends RuntimeException {
+public class UserCannotModifyClientRequestException extends BusinessException {
 
     private final ApplicationUser triedUser;
     private final ClientRequest request;
@@ -6,7 +6,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 @Getter
-public class UserUniqueFieldExistsException extends RuntimeException {
+public class UserUniqueFieldExistsException extends BusinessException {
 
     private final String unique;
 
@@ -0,0 +1,60 @@
+package com.github.skyg0d.skydrinksapi.job;
+
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.service.DrinkService;
+import com.github.skyg0d.skydrinksapi.service.UserStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class DeleteDrinkJobHandler implements JobHandler {
+
+    private final ClientRequestRepository clientRequestRepository;
+    private final DrinkService drinkService;
+    private final UserStatisticsService userStatisticsService;
+
+    @Override
+    public JobType getType() {
+        return JobType.DELETE_DRINK;
+    }
+
+    @Override
+    public boolean executeChunk(Job job, int chunkSize) {
+        UUID drinkUUID = job.getTargetUuid();
+        List<UUID> requests = clientRequestRepository.findRequestsWithDrink(drinkUUID, PageRequest.of(0, chunkSize));
+
+        if (requests.isEmpty()) {
+            int archived = drinkService.removeFromArchivedRequests(drinkUUID, chunkSize);
+
+            if (archived == 0) {
+                drinkService.deleteRemovedFromRequests(drinkUUID);
+
+                return true;
+            }
+
+            // Cada lote é confirmado em separado, então as estatísticas não esperam o fim do job para sair do cache.
+            userStatisticsService.evictAllAfterCommit();
+
+            job.advance(archived);
+
+            return false;
+        }
+
+        clientRequestRepository.deleteDrinkFromRequests(drinkUUID, requests);
+        drinkService.deleteRequestsWithoutDrinks(requests);
+
+        userStatisticsService.evictAllAfterCommit();
+
+        job.advance(requests.size());
+
+        return false;
+    }
+
+}
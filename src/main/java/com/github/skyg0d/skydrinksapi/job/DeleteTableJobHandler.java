@@ -0,0 +1,52 @@
+package com.github.skyg0d.skydrinksapi.job;
+
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.service.TableService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class DeleteTableJobHandler implements JobHandler {
+
+    private final ClientRequestRepository clientRequestRepository;
+    private final TableService tableService;
+
+    @Override
+    public JobType getType() {
+        return JobType.DELETE_TABLE;
+    }
+
+    @Override
+    public boolean executeChunk(Job job, int chunkSize) {
+        UUID tableUUID = job.getTargetUuid();
+        List<UUID> requests = clientRequestRepository.findRequestsOfTable(tableUUID, PageRequest.of(0, chunkSize));
+
+        if (requests.isEmpty()) {
+            int archived = tableService.removeFromArchivedRequests(tableUUID, chunkSize);
+
+            if (archived == 0) {
+                tableService.deleteRemovedFromRequests(tableUUID);
+
+                return true;
+            }
+
+            job.advance(archived);
+
+            return false;
+        }
+
+        clientRequestRepository.removeTableFromRequests(requests);
+
+        job.advance(requests.size());
+
+        return false;
+    }
+
+}
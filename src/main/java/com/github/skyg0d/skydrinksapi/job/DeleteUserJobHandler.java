@@ -0,0 +1,52 @@
+package com.github.skyg0d.skydrinksapi.job;
+
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.service.ApplicationUserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class DeleteUserJobHandler implements JobHandler {
+
+    private final ClientRequestRepository clientRequestRepository;
+    private final ApplicationUserService applicationUserService;
+
+    @Override
+    public JobType getType() {
+        return JobType.DELETE_USER;
+    }
+
+    @Override
+    public boolean executeChunk(Job job, int chunkSize) {
+        UUID userUUID = job.getTargetUuid();
+        List<UUID> requests = clientRequestRepository.findRequestsOfUser(userUUID, PageRequest.of(0, chunkSize));
+
+        if (requests.isEmpty()) {
+            int archived = applicationUserService.deleteArchivedRequests(userUUID, chunkSize);
+
+            if (archived == 0) {
+                applicationUserService.deleteWithoutRequests(userUUID);
+
+                return true;
+            }
+
+            job.advance(archived);
+
+            return false;
+        }
+
+        applicationUserService.deleteRequests(requests);
+
+        job.advance(requests.size());
+
+        return false;
+    }
+
+}
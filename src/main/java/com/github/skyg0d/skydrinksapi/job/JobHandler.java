@@ -0,0 +1,22 @@
+package com.github.skyg0d.skydrinksapi.job;
+
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+
+/**
+ * Executa um tipo de job em lotes. Cada chamada de {@link #executeChunk(Job, int)} roda dentro da mesma transação
+ * que grava o progresso do job. Cada lote busca de novo os itens que ainda faltam, então um job retomado continua
+ * de onde parou sem refazer os lotes já confirmados.
+ */
+public interface JobHandler {
+
+    JobType getType();
+
+    /**
+     * Processa até {@code chunkSize} dos itens que ainda faltam e atualiza o progresso do job.
+     *
+     * @return verdadeiro quando não há mais nada a processar e o job terminou.
+     */
+    boolean executeChunk(Job job, int chunkSize);
+
+}
@@ -0,0 +1,201 @@
+package com.github.skyg0d.skydrinksapi.job;
+
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.enums.JobStatus;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import com.github.skyg0d.skydrinksapi.property.JobProperties;
+import com.github.skyg0d.skydrinksapi.repository.job.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executa os jobs persistidos num pool limitado de threads. Cada job em execução pertence ao nó que o pegou até
+ * {@code leaseUntil}, renovado enquanto o nó estiver vivo; quando a posse vence, porque o nó parou, o job volta para
+ * a fila e qualquer nó o continua a partir do último lote confirmado.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class JobRunner implements DisposableBean {
+
+    private final JobRepository jobRepository;
+    private final JobProperties jobProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<JobHandler> jobHandlers;
+    private final Set<UUID> queuedJobs = ConcurrentHashMap.newKeySet();
+    private final String node = UUID.randomUUID().toString();
+    private volatile ThreadPoolExecutor executor;
+
+    public void submit(UUID jobUUID) {
+        if (!queuedJobs.add(jobUUID)) {
+            return;
+        }
+
+        try {
+            getExecutor().execute(() -> run(jobUUID));
+        } catch (RejectedExecutionException exception) {
+            queuedJobs.remove(jobUUID);
+
+            log.warn("Fila de jobs cheia, job \"{}\" continuará pendente até a próxima verificação", jobUUID);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        submitPendingJobs();
+    }
+
+    @Scheduled(fixedDelayString = "${my.job.poll-rate:30000}")
+    public void submitPendingJobs() {
+        // Só os jobs cuja posse venceu; os que estão rodando em outro nó continuam com ele.
+        int interrupted = jobRepository.releaseExpiredLeases(JobStatus.RUNNING, JobStatus.PENDING, LocalDateTime.now());
+
+        if (interrupted > 0) {
+            log.info("Retomando {} jobs interrompidos", interrupted);
+        }
+
+        List<UUID> pendingJobs = jobRepository.findByStatus(JobStatus.PENDING, PageRequest.of(0, jobProperties.getQueueCapacity()));
+
+        pendingJobs.forEach(this::submit);
+    }
+
+    @Scheduled(fixedDelayString = "${my.job.lease-renew-rate:30000}")
+    public void renewLeases() {
+        if (queuedJobs.isEmpty()) {
+            return;
+        }
+
+        jobRepository.renewLeases(JobStatus.RUNNING, node, getLeaseUntil());
+    }
+
+    public void run(UUID jobUUID) {
+        try {
+            if (jobRepository.claim(jobUUID, JobStatus.PENDING, JobStatus.RUNNING, LocalDateTime.now(), node, getLeaseUntil()) == 0) {
+                return;
+            }
+
+            log.info("Executando job \"{}\"", jobUUID);
+
+            Boolean finished = false;
+
+            while (Boolean.FALSE.equals(finished) && !Thread.currentThread().isInterrupted()) {
+                finished = transactionTemplate.execute((status) -> executeChunk(jobUUID));
+            }
+
+            if (finished == null) {
+                log.warn("Job \"{}\" passou para outro nó, a execução neste nó foi interrompida", jobUUID);
+            } else if (!finished) {
+                log.info("Job \"{}\" interrompido, será retomado quando a posse vencer", jobUUID);
+            }
+        } catch (RuntimeException exception) {
+            log.error("Job \"{}\" falhou", jobUUID, exception);
+
+            transactionTemplate.executeWithoutResult((status) -> fail(jobUUID, exception));
+        } finally {
+            queuedJobs.remove(jobUUID);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    // Retorna nulo quando a posse venceu e o job foi pego por outro nó.
+    private Boolean executeChunk(UUID jobUUID) {
+        Job job = jobRepository
+                .findById(jobUUID)
+                .orElseThrow(() -> new IllegalStateException(String.format("Job com id %s não foi encontrado.", jobUUID)));
+
+        if (job.getStatus() != JobStatus.RUNNING || !node.equals(job.getOwner())) {
+            return null;
+        }
+
+        job.setLeaseUntil(getLeaseUntil());
+
+        boolean finished = getHandler(job.getType()).executeChunk(job, jobProperties.getChunkSize());
+
+        if (finished) {
+            job.setStatus(JobStatus.COMPLETED);
+            job.setFinishedAt(LocalDateTime.now());
+
+            log.info("Job \"{}\" concluído, {} itens processados", jobUUID, job.getProcessedItems());
+        }
+
+        jobRepository.save(job);
+
+        return finished;
+    }
+
+    private void fail(UUID jobUUID, RuntimeException exception) {
+        jobRepository.findById(jobUUID).ifPresent((job) -> {
+            String message = String.valueOf(exception.getMessage());
+
+            job.setStatus(JobStatus.FAILED);
+            job.setFinishedAt(LocalDateTime.now());
+            job.setErrorMessage(message.length() > 1000 ? message.substring(0, 1000) : message);
+
+            jobRepository.save(job);
+        });
+    }
+
+    String getNode() {
+        return node;
+    }
+
+    private LocalDateTime getLeaseUntil() {
+        return LocalDateTime.now().plus(jobProperties.getLease(), ChronoUnit.MILLIS);
+    }
+
+    private JobHandler getHandler(JobType type) {
+        return jobHandlers
+                .orderedStream()
+                .filter((handler) -> handler.getType() == type)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(String.format("Nenhum executor para jobs do tipo %s.", type)));
+    }
+
+    private ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    AtomicInteger threadNumber = new AtomicInteger();
+
+                    executor = new ThreadPoolExecutor(
+                            jobProperties.getWorkers(),
+                            jobProperties.getWorkers(),
+                            0L,
+                            TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(jobProperties.getQueueCapacity()),
+                            (runnable) -> {
+                                Thread thread = new Thread(runnable, "job-worker-" + threadNumber.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            }
+                    );
+                }
+            }
+        }
+
+        return executor;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.github.skyg0d.skydrinksapi.logging;
+
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+
+/**
+ * Marcadores usados nas linhas de log que precisam de tratamento diferente na configuração do Logback.
+ */
+public class LogMarkers {
+
+    /**
+     * Linhas que registram uma alteração nos dados. Nunca são descartadas pelo {@link SamplingTurboFilter}.
+     */
+    public static final Marker AUDIT = MarkerManager.getMarker("AUDIT");
+
+}
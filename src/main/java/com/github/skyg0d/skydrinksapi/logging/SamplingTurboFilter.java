@@ -0,0 +1,82 @@
+package com.github.skyg0d.skydrinksapi.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mantém só uma a cada {@code rate} linhas dos loggers de alto volume, como os das services, que escrevem várias linhas
+ * por requisição. Só age até {@code maxLevel}: avisos e erros nunca são descartados, assim como as linhas com o marcador
+ * {@code unsampledMarker} ({@link LogMarkers#AUDIT}), que registram as alterações nos dados.
+ *
+ * <p>O código da aplicação loga pela API do Log4j2, que pergunta se o nível está habilitado antes de montar a mensagem,
+ * e o Logback repassa essa pergunta aos turbo filters sem o formato. A amostragem é feita nessa pergunta, então as linhas
+ * descartadas não chegam a formatar a mensagem nem a chamar os suppliers; a chamada seguinte, já com o formato, passa
+ * direto.
+ */
+@Getter
+@Setter
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final List<String> loggers = new ArrayList<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    private int rate = 1;
+    private Level maxLevel = Level.INFO;
+    private String unsampledMarker = LogMarkers.AUDIT.getName();
+
+    public void setLogger(String logger) {
+        loggers.add(logger);
+    }
+
+    public void setLoggerList(String loggerList) {
+        for (String logger : loggerList.split(",")) {
+            if (!logger.isBlank()) {
+                loggers.add(logger.trim());
+            }
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || rate <= 1 || format != null || t != null || level == null || !maxLevel.isGreaterOrEqual(level)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (marker != null && marker.contains(unsampledMarker)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        String name = logger.getName();
+
+        // Perguntas sobre níveis desligados não contam, senão os debug desabilitados consumiriam a vez das linhas de info.
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel()) || !isSampled(name)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        long count = counters.computeIfAbsent(name, (key) -> new AtomicLong()).getAndIncrement();
+
+        return count % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean isSampled(String name) {
+        for (String logger : loggers) {
+            if (name.startsWith(logger)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.github.skyg0d.skydrinksapi.metrics;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestStatusCount;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestCreatedEvent;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestDeliveredEvent;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestStatusChangedEvent;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Métricas do ciclo de vida dos pedidos: quanto tempo cada pedido fica em cada status, quantos pedidos estão
+ * esperando em cada etapa e quantos passam por cada transição. Os valores só são registrados depois que a alteração
+ * do pedido foi confirmada, para que transações desfeitas não apareçam nos gráficos.
+ */
+@Log4j2
+@Component
+public class ClientRequestMetrics {
+
+    public static final String STAGE_DURATION = "skydrinks.requests.stage.duration";
+    public static final String TRANSITIONS = "skydrinks.requests.transitions";
+    public static final String CREATED = "skydrinks.requests.created";
+    public static final String QUEUE_DEPTH = "skydrinks.requests.queue.depth";
+
+    public static final String DELIVERED = "DELIVERED";
+
+    static final List<ClientRequestStatus> QUEUED_STATUSES = List.of(
+            ClientRequestStatus.PROCESSING,
+            ClientRequestStatus.STARTED,
+            ClientRequestStatus.FINISHED
+    );
+
+    private final MeterRegistry registry;
+    private final ClientRequestRepository clientRequestRepository;
+    private final Counter created;
+    private final Map<ClientRequestStatus, AtomicLong> queueDepth = new EnumMap<>(ClientRequestStatus.class);
+
+    public ClientRequestMetrics(MeterRegistry registry, ClientRequestRepository clientRequestRepository) {
+        this.registry = registry;
+        this.clientRequestRepository = clientRequestRepository;
+
+        this.created = Counter
+                .builder(CREATED)
+                .description("Pedidos criados")
+                .register(registry);
+
+        for (ClientRequestStatus status : QUEUED_STATUSES) {
+            AtomicLong depth = new AtomicLong();
+
+            queueDepth.put(status, depth);
+            registry.gauge(QUEUE_DEPTH, Tags.of("stage", status.name()), depth);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(ClientRequestCreatedEvent event) {
+        created.increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(ClientRequestStatusChangedEvent event) {
+        recordTransition(
+                event.getPreviousStatus(),
+                event.getRequest().getStatus().name(),
+                event.getPreviousStageStartedAt(),
+                event.getRequest().getStatusChangedAt()
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDelivered(ClientRequestDeliveredEvent event) {
+        recordTransition(
+                ClientRequestStatus.FINISHED,
+                DELIVERED,
+                event.getPreviousStageStartedAt(),
+                event.getRequest().getStatusChangedAt()
+        );
+    }
+
+    /**
+     * Atualiza a quantidade de pedidos esperando em cada etapa. Os pedidos finalizados só contam enquanto não foram
+     * entregues.
+     */
+    @Scheduled(fixedDelayString = "${my.metrics.queue-depth-refresh-rate:15000}")
+    public void refreshQueueDepth() {
+        Map<ClientRequestStatus, Long> totals = new EnumMap<>(ClientRequestStatus.class);
+
+        for (ClientRequestStatusCount count : clientRequestRepository.countQueuedByStatus(QUEUED_STATUSES)) {
+            totals.put(count.getStatus(), count.getTotal());
+        }
+
+        queueDepth.forEach((status, depth) -> depth.set(totals.getOrDefault(status, 0L)));
+
+        log.debug("Pedidos na fila por etapa: {}", totals);
+    }
+
+    private void recordTransition(ClientRequestStatus stage, String outcome, LocalDateTime stageStartedAt, LocalDateTime stageEndedAt) {
+        Tags tags = Tags.of("stage", stage.name(), "outcome", outcome);
+
+        Counter
+                .builder(TRANSITIONS)
+                .description("Pedidos que saíram de uma etapa")
+                .tags(tags)
+                .register(registry)
+                .increment();
+
+        if (stageStartedAt == null || stageEndedAt == null) {
+            return;
+        }
+
+        Duration duration = Duration.between(stageStartedAt, stageEndedAt);
+
+        if (duration.isNegative()) {
+            return;
+        }
+
+        Timer
+                .builder(STAGE_DURATION)
+                .description("Tempo que o pedido passou em cada etapa")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofSeconds(1))
+                .maximumExpectedValue(Duration.ofHours(4))
+                .register(registry)
+                .record(duration);
+    }
+
+}
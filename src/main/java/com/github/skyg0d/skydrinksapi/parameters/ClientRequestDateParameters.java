@@ -0,0 +1,24 @@
+package com.github.skyg0d.skydrinksapi.parameters;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class ClientRequestDateParameters {
+
+    @Parameter(description = "Primeiro dia do intervalo pesquisado", example = "2021-11-01", allowEmptyValue = true)
+    private String startDate;
+
+    @Parameter(description = "Último dia do intervalo pesquisado", example = "2021-11-30", allowEmptyValue = true)
+    private String endDate;
+
+    @Parameter(description = "Mês pesquisado, caso informado substitui o intervalo", example = "2021-11", allowEmptyValue = true)
+    private String month;
+
+}
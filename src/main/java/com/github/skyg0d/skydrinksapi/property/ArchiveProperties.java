@@ -0,0 +1,21 @@
+package com.github.skyg0d.skydrinksapi.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "my.archive")
+@Getter
+@Setter
+@ToString
+public class ArchiveProperties {
+
+    private boolean enabled = true;
+    private int minAgeDays = 180;
+    private int batchSize = 500;
+    private String cron = "0 0 5 * * *";
+
+}
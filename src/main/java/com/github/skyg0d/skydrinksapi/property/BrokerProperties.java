@@ -0,0 +1,32 @@
+package com.github.skyg0d.skydrinksapi.property;
+
+import com.github.skyg0d.skydrinksapi.enums.WebSocketBroker;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "my.websocket.broker")
+@Getter
+@Setter
+@ToString(exclude = {"clientPasscode", "systemPasscode"})
+public class BrokerProperties {
+
+    private WebSocketBroker mode = WebSocketBroker.SIMPLE;
+
+    private String relayHost = "localhost";
+    private int relayPort = 61613;
+    private String clientLogin = "guest";
+    private String clientPasscode = "guest";
+    private String systemLogin = "guest";
+    private String systemPasscode = "guest";
+    private String virtualHost;
+
+    private long pollRate = 500;
+    private long settleWindow = 10000;
+    private int batchSize = 1000;
+    private long retention = 600000;
+
+}
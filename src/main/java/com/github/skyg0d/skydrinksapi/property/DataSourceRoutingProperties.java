@@ -0,0 +1,39 @@
+package com.github.skyg0d.skydrinksapi.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "my.datasource")
+@Getter
+@Setter
+@ToString
+public class DataSourceRoutingProperties {
+
+    private boolean routingEnabled = false;
+    private List<Replica> replicas = new ArrayList<>();
+    private long maxLagSeconds = 5;
+    private String lagQuery;
+    private long stickinessSeconds = 10;
+    private long healthCheckRate = 5000;
+
+    @Getter
+    @Setter
+    @ToString(exclude = "password")
+    public static class Replica {
+
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.github.skyg0d.skydrinksapi.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "my.event")
+@Getter
+@Setter
+@ToString
+public class EventProperties {
+
+    private int threads = 1;
+    private int queueCapacity = 10000;
+
+}
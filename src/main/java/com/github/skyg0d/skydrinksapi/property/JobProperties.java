@@ -0,0 +1,24 @@
+package com.github.skyg0d.skydrinksapi.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "my.job")
+@Getter
+@Setter
+@ToString
+public class JobProperties {
+
+    private int workers = 2;
+    private int queueCapacity = 100;
+    private int chunkSize = 500;
+    private long asyncThreshold = 5000;
+    private long pollRate = 30000;
+    private long lease = 120000;
+    private long leaseRenewRate = 30000;
+
+}
@@ -0,0 +1,25 @@
+package com.github.skyg0d.skydrinksapi.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "my.mail")
+@Getter
+@Setter
+@ToString
+public class MailProperties {
+
+    private String from = "oficialskydrinks@gmail.com";
+    private String fromName = "SkyDrinks Suporte";
+    private long pollRate = 5000;
+    private int batchSize = 20;
+    private int maxAttempts = 8;
+    private long initialBackoff = 30000;
+    private long maxBackoff = 3600000;
+    private long lease = 120000;
+
+}
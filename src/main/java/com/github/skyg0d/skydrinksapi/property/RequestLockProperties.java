@@ -0,0 +1,26 @@
+package com.github.skyg0d.skydrinksapi.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "my.request-lock")
+@Getter
+@Setter
+@ToString
+public class RequestLockProperties {
+
+    private int defaultDurationMinutes = 1440;
+
+    private long tickDuration = 1000;
+
+    private int ticksPerWheel = 512;
+
+    private int rebuildPageSize = 500;
+
+    private long scanRate = 60000;
+
+}
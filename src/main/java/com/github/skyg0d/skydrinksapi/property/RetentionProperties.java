@@ -0,0 +1,27 @@
+package com.github.skyg0d.skydrinksapi.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "my.retention")
+@Getter
+@Setter
+@ToString
+public class RetentionProperties {
+
+    private boolean enabled = true;
+    private String cron = "0 30 4 * * *";
+    private int batchSize = 500;
+    private double maxDbLoad = 0.25;
+    private long maxRunTime = 1800000;
+
+    private int passwordResetGraceHours = 24;
+    private int sentMailTtlDays = 7;
+    private int deadMailTtlDays = 30;
+    private int userLockTtlHours = 24;
+
+}
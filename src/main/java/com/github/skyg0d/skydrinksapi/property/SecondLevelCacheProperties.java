@@ -0,0 +1,23 @@
+package com.github.skyg0d.skydrinksapi.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "my.cache")
+@Getter
+@Setter
+@ToString
+public class SecondLevelCacheProperties {
+
+    private boolean enabled = true;
+    private long drinksSize = 1000;
+    private long tablesSize = 200;
+    private long usersSize = 5000;
+    private long queriesSize = 5000;
+    private long timeToLiveMinutes = 60;
+
+}
@@ -0,0 +1,24 @@
+package com.github.skyg0d.skydrinksapi.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "my.sse")
+@Getter
+@Setter
+@ToString
+public class SseProperties {
+
+    private long timeout = 1800000;
+    private long heartbeatRate = 15000;
+    private long reconnectTime = 3000;
+    private int maxStreamsPerUser = 5;
+    private int maxQueuedEvents = 50;
+    private int senderThreads = 2;
+    private int senderQueueCapacity = 1000;
+
+}
@@ -0,0 +1,23 @@
+package com.github.skyg0d.skydrinksapi.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "my.trending")
+@Getter
+@Setter
+@ToString
+public class TrendingProperties {
+
+    private int capacity = 64;
+    private long bucketMinutes = 1;
+    private long retentionMinutes = 720;
+    private int nightStartHour = 18;
+    private long pushRate = 30000;
+    private int pushSize = 10;
+
+}
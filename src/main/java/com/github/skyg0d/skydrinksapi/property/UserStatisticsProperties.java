@@ -0,0 +1,18 @@
+package com.github.skyg0d.skydrinksapi.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "my.statistics")
+@Getter
+@Setter
+@ToString
+public class UserStatisticsProperties {
+
+    private int cacheSize = 1000;
+
+}
@@ -0,0 +1,19 @@
+package com.github.skyg0d.skydrinksapi.property;
+
+import com.github.skyg0d.skydrinksapi.enums.UuidStorage;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "my.uuid")
+@Getter
+@Setter
+@ToString
+public class UuidStorageProperties {
+
+    private UuidStorage storage = UuidStorage.CHAR;
+
+}
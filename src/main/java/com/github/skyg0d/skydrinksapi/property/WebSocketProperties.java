@@ -6,6 +6,8 @@ import lombok.ToString;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Configuration
 @ConfigurationProperties(prefix = "my.websocket")
 @Getter
@@ -14,5 +16,23 @@ import org.springframework.context.annotation.Configuration;
 public class WebSocketProperties {
 
     private long sendClientRequestUpdateDelay = 10000;
+    private long staffDirectoryTtl = 60000;
+    private boolean perUserStaffNotifications = true;
+    private int eventLogCapacity = 1000;
+    private long longPollTimeout = 30000;
+    private boolean preservePublishOrder = false;
+
+    private int inboundCorePoolSize = 8;
+    private int inboundMaxPoolSize = 16;
+    private int inboundQueueCapacity = 1000;
+    private int outboundCorePoolSize = 8;
+    private int outboundMaxPoolSize = 16;
+    private int outboundQueueCapacity = 2000;
+
+    private int sendTimeLimit = 15000;
+    private int sendBufferSizeLimit = 512 * 1024;
+    private int messageSizeLimit = 64 * 1024;
+    private int maxQueuedPerSession = 100;
+    private List<String> conflatedDestinations = List.of("/topic/trending-drinks", "/topic/updated/**");
 
 }
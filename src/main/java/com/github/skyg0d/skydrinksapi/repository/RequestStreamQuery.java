@@ -0,0 +1,51 @@
+package com.github.skyg0d.skydrinksapi.repository;
+
+import com.github.skyg0d.skydrinksapi.domain.Drink;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public class RequestStreamQuery {
+
+    private RequestStreamQuery() {
+    }
+
+    public static <T> Stream<Object[]> streamWithDrinks(EntityManager entityManager, Class<T> type, Specification<T> specification, int fetchSize, int clearInterval) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = builder.createQuery(Object[].class);
+        Root<T> root = query.from(type);
+
+        root.fetch("user", JoinType.LEFT);
+        root.fetch("table", JoinType.LEFT);
+
+        Join<T, Drink> drinks = root.join("drinks", JoinType.LEFT);
+
+        query.multiselect(root, drinks);
+
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, builder);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.orderBy(builder.asc(root.get("createdAt")), builder.asc(root.get("uuid")));
+
+        AtomicLong rows = new AtomicLong();
+
+        return entityManager
+                .createQuery(query)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream()
+                .peek((row) -> {
+                    if (rows.incrementAndGet() % clearInterval == 0) {
+                        entityManager.clear();
+                    }
+                });
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.github.skyg0d.skydrinksapi.repository.archive;
+
+import com.github.skyg0d.skydrinksapi.domain.ArchivedClientRequest;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestAlcoholicDrinkCount;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestDate;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestDrinkCount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ArchivedClientRequestRepository extends JpaRepository<ArchivedClientRequest, UUID>,
+        JpaSpecificationExecutor<ArchivedClientRequest>, ArchivedClientRequestStreamRepository {
+
+    @Query("SELECT cr.uuid FROM ClientRequest cr"
+            + " WHERE cr.createdAt < ?1"
+            + " AND (cr.status = 'CANCELED' OR (cr.status = 'FINISHED' AND cr.delivered = true))"
+            + " ORDER BY cr.createdAt"
+    )
+    List<UUID> findArchivableRequests(LocalDateTime createdBefore, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO client_requests_archive"
+            + " (uuid, created_at, updated_at, created_date, status, total_price, delivered, user_uuid, table_uuid, archived_at)"
+            + " SELECT uuid, created_at, updated_at, created_date, status, total_price, delivered, user_uuid, table_uuid, ?2"
+            + " FROM client_requests WHERE uuid IN (?1)",
+            nativeQuery = true
+    )
+    int copyRequestsToArchive(Collection<UUID> uuids, LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO request_drink_archive (request_id, drink_id)"
+            + " SELECT request_id, drink_id FROM request_drink WHERE request_id IN (?1)",
+            nativeQuery = true
+    )
+    int copyRequestDrinksToArchive(Collection<UUID> uuids);
+
+    @Modifying
+    @Query(value = "DELETE FROM request_drink WHERE request_id IN (?1)", nativeQuery = true)
+    int deleteRequestDrinks(Collection<UUID> uuids);
+
+    @Modifying
+    @Query(value = "DELETE FROM client_requests WHERE uuid IN (?1)", nativeQuery = true)
+    int deleteRequests(Collection<UUID> uuids);
+
+    @Query("SELECT cr.uuid FROM ArchivedClientRequest cr JOIN cr.drinks d WHERE d.uuid = ?1")
+    List<UUID> findArchivedRequestsWithDrink(UUID drinkUUID, Pageable pageable);
+
+    @Query("SELECT COUNT(cr) FROM ArchivedClientRequest cr JOIN cr.drinks d WHERE d.uuid = ?1")
+    long countArchivedRequestsWithDrink(UUID drinkUUID);
+
+    @Query("SELECT cr.uuid FROM ArchivedClientRequest cr WHERE cr.user.uuid = ?1")
+    List<UUID> findArchivedRequestsOfUser(UUID userUUID, Pageable pageable);
+
+    @Query("SELECT cr.uuid FROM ArchivedClientRequest cr WHERE cr.table.uuid = ?1")
+    List<UUID> findArchivedRequestsOfTable(UUID tableUUID, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM request_drink_archive WHERE drink_id = ?1 AND request_id IN (?2)", nativeQuery = true)
+    int deleteDrinkFromArchive(UUID drinkUUID, Collection<UUID> requestUUIDs);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM client_requests_archive"
+            + " WHERE uuid IN (?1)"
+            + " AND NOT EXISTS (SELECT 1 FROM request_drink_archive rd WHERE rd.request_id = client_requests_archive.uuid)",
+            nativeQuery = true
+    )
+    int deleteArchivedRequestsWithoutDrinks(Collection<UUID> requestUUIDs);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM request_drink_archive"
+            + " WHERE request_id IN (SELECT cr.uuid FROM client_requests_archive cr WHERE cr.user_uuid = ?1)",
+            nativeQuery = true
+    )
+    int deleteArchivedRequestDrinksOfUser(UUID userUUID);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM client_requests_archive WHERE user_uuid = ?1", nativeQuery = true)
+    int deleteArchivedRequestsOfUser(UUID userUUID);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE client_requests_archive SET table_uuid = NULL WHERE table_uuid = ?1", nativeQuery = true)
+    int removeTableFromArchive(UUID tableUUID);
+
+    @Modifying
+    @Query(value = "DELETE FROM request_drink_archive WHERE request_id IN (?1)", nativeQuery = true)
+    int deleteArchivedRequestDrinks(Collection<UUID> requestUUIDs);
+
+    @Modifying
+    @Query(value = "DELETE FROM client_requests_archive WHERE uuid IN (?1)", nativeQuery = true)
+    int deleteArchivedRequests(Collection<UUID> requestUUIDs);
+
+    @Modifying
+    @Query(value = "UPDATE client_requests_archive SET table_uuid = NULL WHERE uuid IN (?1)", nativeQuery = true)
+    int removeTableFromArchive(Collection<UUID> requestUUIDs);
+
+    @Query("SELECT new com.github.skyg0d.skydrinksapi.domain.ClientRequestDate(cr.createdDate, COUNT(cr),"
+            + " SUM(CASE WHEN cr.status = 'CANCELED' THEN 0.0 ELSE cr.totalPrice END))"
+            + " FROM ArchivedClientRequest cr"
+            + " WHERE cr.createdDate BETWEEN ?1 AND ?2"
+            + " GROUP BY cr.createdDate"
+            + " ORDER BY cr.createdDate"
+    )
+    List<ClientRequestDate> getAllDatesInRequests(LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT new com.github.skyg0d.skydrinksapi.domain.ClientRequestDrinkCount(d.uuid, d.name, COUNT(d.name))"
+            + " FROM ArchivedClientRequest cr"
+            + " JOIN cr.drinks d"
+            + " JOIN cr.user u"
+            + " WHERE u.uuid = ?1"
+            + " GROUP BY d.name, d.uuid"
+    )
+    List<ClientRequestDrinkCount> countTotalDrinksInRequest(UUID userUUID);
+
+    @Query("SELECT new com.github.skyg0d.skydrinksapi.domain.ClientRequestDrinkCount(d.uuid, d.name, COUNT(d.name))"
+            + " FROM ArchivedClientRequest cr"
+            + " JOIN cr.drinks d"
+            + " JOIN cr.user u"
+            + " GROUP BY d.name, d.uuid"
+    )
+    List<ClientRequestDrinkCount> countTotalDrinksInRequest();
+
+    @Query("SELECT new com.github.skyg0d.skydrinksapi.domain.ClientRequestDrinkCount(d.uuid, d.name, COUNT(d.name))"
+            + " FROM ArchivedClientRequest cr"
+            + " JOIN cr.drinks d"
+            + " JOIN cr.user u"
+            + " WHERE cr.status = 'CANCELED'"
+            + " GROUP BY d.name, d.uuid"
+    )
+    List<ClientRequestDrinkCount> mostCanceledDrinks();
+
+    @Query("SELECT new com.github.skyg0d.skydrinksapi.domain.ClientRequestAlcoholicDrinkCount(d.alcoholic, COUNT(d.alcoholic))"
+            + " FROM ArchivedClientRequest cr"
+            + " JOIN cr.drinks d"
+            + " JOIN cr.user u"
+            + " WHERE u.uuid = ?1"
+            + " GROUP BY d.alcoholic"
+    )
+    List<ClientRequestAlcoholicDrinkCount> countAlcoholicDrinksInRequests(UUID userUUID);
+
+    long countByUserUuid(UUID userUUID);
+
+    long countByTableUuid(UUID tableUUID);
+
+    @Query("SELECT COALESCE(SUM(cr.totalPrice), 0.0)"
+            + " FROM ArchivedClientRequest cr"
+            + " WHERE cr.user.uuid = ?1 AND cr.status <> 'CANCELED'"
+    )
+    double sumTotalSpentByUser(UUID userUUID);
+
+}
@@ -0,0 +1,16 @@
+package com.github.skyg0d.skydrinksapi.repository.archive;
+
+import com.github.skyg0d.skydrinksapi.domain.ArchivedClientRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public interface ArchivedClientRequestStreamRepository {
+
+    /**
+     * Mesmo contrato de {@link com.github.skyg0d.skydrinksapi.repository.request.ClientRequestStreamRepository},
+     * porém sobre os pedidos arquivados.
+     */
+    Stream<Object[]> streamWithDrinks(Specification<ArchivedClientRequest> specification, int fetchSize, int clearInterval);
+
+}
@@ -0,0 +1,21 @@
+package com.github.skyg0d.skydrinksapi.repository.archive;
+
+import com.github.skyg0d.skydrinksapi.domain.ArchivedClientRequest;
+import com.github.skyg0d.skydrinksapi.repository.RequestStreamQuery;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.stream.Stream;
+
+public class ArchivedClientRequestStreamRepositoryImpl implements ArchivedClientRequestStreamRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Object[]> streamWithDrinks(Specification<ArchivedClientRequest> specification, int fetchSize, int clearInterval) {
+        return RequestStreamQuery.streamWithDrinks(entityManager, ArchivedClientRequest.class, specification, fetchSize, clearInterval);
+    }
+
+}
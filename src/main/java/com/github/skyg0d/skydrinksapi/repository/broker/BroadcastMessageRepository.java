@@ -0,0 +1,31 @@
+package com.github.skyg0d.skydrinksapi.repository.broker;
+
+import com.github.skyg0d.skydrinksapi.domain.BroadcastMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BroadcastMessageRepository extends JpaRepository<BroadcastMessage, Long> {
+
+    @Query("SELECT MAX(m.id) FROM BroadcastMessage m")
+    Optional<Long> findMaxId();
+
+    @Query("SELECT m FROM BroadcastMessage m WHERE m.id > ?1 ORDER BY m.id")
+    List<BroadcastMessage> findAfter(long cursor, Pageable pageable);
+
+    @Query("SELECT m FROM BroadcastMessage m WHERE m.id IN ?1 ORDER BY m.id")
+    List<BroadcastMessage> findByIds(Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM BroadcastMessage m WHERE m.createdAt < ?1")
+    int deleteOlderThan(LocalDateTime createdAt);
+
+}
@@ -0,0 +1,17 @@
+package com.github.skyg0d.skydrinksapi.repository.broker;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestEventCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface ClientRequestEventCounterRepository extends JpaRepository<ClientRequestEventCounter, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ClientRequestEventCounter c WHERE c.id = ?1")
+    Optional<ClientRequestEventCounter> findForUpdate(int id);
+
+}
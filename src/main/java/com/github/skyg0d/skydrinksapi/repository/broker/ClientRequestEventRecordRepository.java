@@ -0,0 +1,23 @@
+package com.github.skyg0d.skydrinksapi.repository.broker;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestEventRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ClientRequestEventRecordRepository extends JpaRepository<ClientRequestEventRecord, Long> {
+
+    @Query("SELECT e FROM ClientRequestEventRecord e WHERE e.sequence > ?1 ORDER BY e.sequence")
+    List<ClientRequestEventRecord> findAfter(long sequence, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ClientRequestEventRecord e WHERE e.createdAt < ?1")
+    int deleteOlderThan(LocalDateTime createdAt);
+
+}
@@ -0,0 +1,40 @@
+package com.github.skyg0d.skydrinksapi.repository.job;
+
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.enums.JobStatus;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface JobRepository extends JpaRepository<Job, UUID> {
+
+    @Query("SELECT j.uuid FROM Job j WHERE j.status = ?1 ORDER BY j.createdAt")
+    List<UUID> findByStatus(JobStatus status, Pageable pageable);
+
+    Optional<Job> findFirstByTypeAndTargetUuidAndStatusInOrderByCreatedAt(JobType type, UUID targetUuid, Collection<JobStatus> statuses);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = ?3, j.startedAt = ?4, j.owner = ?5, j.leaseUntil = ?6 WHERE j.uuid = ?1 AND j.status = ?2")
+    int claim(UUID uuid, JobStatus from, JobStatus to, LocalDateTime startedAt, String owner, LocalDateTime leaseUntil);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.leaseUntil = ?3 WHERE j.status = ?1 AND j.owner = ?2")
+    int renewLeases(JobStatus status, String owner, LocalDateTime leaseUntil);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = ?2, j.owner = NULL WHERE j.status = ?1 AND (j.leaseUntil IS NULL OR j.leaseUntil < ?3)")
+    int releaseExpiredLeases(JobStatus from, JobStatus to, LocalDateTime now);
+
+}
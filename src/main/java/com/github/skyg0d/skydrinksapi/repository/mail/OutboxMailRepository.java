@@ -0,0 +1,35 @@
+package com.github.skyg0d.skydrinksapi.repository.mail;
+
+import com.github.skyg0d.skydrinksapi.domain.OutboxMail;
+import com.github.skyg0d.skydrinksapi.enums.MailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxMailRepository extends JpaRepository<OutboxMail, UUID> {
+
+    @Query("SELECT m FROM OutboxMail m WHERE m.status = ?1 AND m.nextAttemptAt <= ?2 ORDER BY m.nextAttemptAt")
+    List<OutboxMail> findReady(MailStatus status, LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxMail m SET m.nextAttemptAt = ?4 WHERE m.uuid = ?1 AND m.status = ?2 AND m.nextAttemptAt = ?3")
+    int claim(UUID uuid, MailStatus status, LocalDateTime expectedNextAttemptAt, LocalDateTime leaseUntil);
+
+    long countByStatus(MailStatus status);
+
+    @Query("SELECT m.uuid FROM OutboxMail m WHERE m.status = ?1 AND m.nextAttemptAt < ?2 ORDER BY m.nextAttemptAt")
+    List<UUID> findFinishedBefore(MailStatus status, LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxMail m WHERE m.uuid IN ?1")
+    int deleteByUuidIn(List<UUID> uuids);
+
+}
@@ -2,13 +2,33 @@ package com.github.skyg0d.skydrinksapi.repository.password;
 
 import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
 import com.github.skyg0d.skydrinksapi.domain.PasswordReset;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface PasswordResetRepository extends JpaRepository<PasswordReset, UUID> {
 
-    List<PasswordReset> findByUser(ApplicationUser user);
+    @Query("SELECT p FROM PasswordReset p WHERE p.user.email = ?1 AND p.tokenHash = ?2 AND p.resetFinished = false")
+    Optional<PasswordReset> findActiveToken(String email, String tokenHash);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PasswordReset p WHERE p.user = ?1")
+    int deleteByUser(ApplicationUser user);
+
+    @Query("SELECT p.uuid FROM PasswordReset p WHERE p.expireDate < ?1 ORDER BY p.expireDate")
+    List<UUID> findExpired(LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PasswordReset p WHERE p.uuid IN ?1")
+    int deleteByUuidIn(List<UUID> uuids);
 
 }
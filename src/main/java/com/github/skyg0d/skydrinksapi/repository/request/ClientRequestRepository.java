@@ -4,23 +4,46 @@ import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
 import com.github.skyg0d.skydrinksapi.domain.ClientRequestAlcoholicDrinkCount;
 import com.github.skyg0d.skydrinksapi.domain.ClientRequestDate;
 import com.github.skyg0d.skydrinksapi.domain.ClientRequestDrinkCount;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestStatusCount;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface ClientRequestRepository extends JpaRepository<ClientRequest, UUID>,
-        JpaSpecificationExecutor<ClientRequest> {
+        JpaSpecificationExecutor<ClientRequest>, ClientRequestStreamRepository {
 
-    @Query("SELECT DISTINCT new com.github.skyg0d.skydrinksapi.domain.ClientRequestDate(CAST(cr.createdAt AS LocalDate))"
+    @Query("SELECT new com.github.skyg0d.skydrinksapi.domain.ClientRequestDate(cr.createdDate, COUNT(cr),"
+            + " SUM(CASE WHEN cr.status = 'CANCELED' THEN 0.0 ELSE cr.totalPrice END))"
             + " FROM ClientRequest cr"
-            + " GROUP BY CAST(cr.createdAt AS LocalDate)"
-            + " ORDER BY CAST(cr.createdAt AS LocalDate)"
+            + " WHERE cr.createdDate BETWEEN ?1 AND ?2"
+            + " GROUP BY cr.createdDate"
+            + " ORDER BY cr.createdDate"
     )
-    List<ClientRequestDate> getAllDatesInRequests();
+    List<ClientRequestDate> getAllDatesInRequests(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Pedidos na fila de cada status; os finalizados só contam enquanto não foram entregues.
+     */
+    @Query("SELECT new com.github.skyg0d.skydrinksapi.domain.ClientRequestStatusCount(cr.status, COUNT(cr))"
+            + " FROM ClientRequest cr"
+            + " WHERE cr.status IN ?1 AND cr.delivered = false"
+            + " GROUP BY cr.status"
+    )
+    List<ClientRequestStatusCount> countQueuedByStatus(Collection<ClientRequestStatus> statuses);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ClientRequest cr SET cr.createdDate = CAST(cr.createdAt AS LocalDate) WHERE cr.createdDate IS NULL")
+    int fillMissingCreatedDates();
 
     @Query("SELECT new com.github.skyg0d.skydrinksapi.domain.ClientRequestDrinkCount(d.uuid, d.name, COUNT(d.name))"
             + " FROM ClientRequest cr"
@@ -61,4 +84,76 @@ public interface ClientRequestRepository extends JpaRepository<ClientRequest, UU
     )
     List<ClientRequestAlcoholicDrinkCount> countAlcoholicDrinksInRequests(UUID userUUID, Pageable pageable);
 
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM request_drink WHERE drink_id = ?1", nativeQuery = true)
+    int deleteDrinkFromRequests(UUID drinkUUID);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM request_drink"
+            + " WHERE request_id IN (SELECT cr.uuid FROM client_requests cr WHERE cr.user_uuid = ?1)",
+            nativeQuery = true
+    )
+    int deleteRequestDrinksOfUser(UUID userUUID);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ClientRequest cr WHERE cr.user.uuid = ?1")
+    int deleteRequestsOfUser(UUID userUUID);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ClientRequest cr SET cr.table = NULL WHERE cr.table.uuid = ?1")
+    int removeTableFromRequests(UUID tableUUID);
+
+    @Query("SELECT cr.uuid FROM ClientRequest cr JOIN cr.drinks d WHERE d.uuid = ?1")
+    List<UUID> findRequestsWithDrink(UUID drinkUUID, Pageable pageable);
+
+    @Query("SELECT cr.uuid FROM ClientRequest cr WHERE cr.user.uuid = ?1")
+    List<UUID> findRequestsOfUser(UUID userUUID, Pageable pageable);
+
+    @Query("SELECT cr.uuid FROM ClientRequest cr WHERE cr.table.uuid = ?1")
+    List<UUID> findRequestsOfTable(UUID tableUUID, Pageable pageable);
+
+    @Query("SELECT COUNT(cr) FROM ClientRequest cr JOIN cr.drinks d WHERE d.uuid = ?1")
+    long countRequestsWithDrink(UUID drinkUUID);
+
+    long countByTableUuid(UUID tableUUID);
+
+    @Modifying
+    @Query(value = "DELETE FROM request_drink WHERE drink_id = ?1 AND request_id IN (?2)", nativeQuery = true)
+    int deleteDrinkFromRequests(UUID drinkUUID, Collection<UUID> requestUUIDs);
+
+    @Query("SELECT cr.uuid FROM ClientRequest cr WHERE cr.uuid IN ?1 AND cr.drinks IS EMPTY")
+    List<UUID> findRequestsWithoutDrinks(Collection<UUID> requestUUIDs);
+
+    @Modifying
+    @Query(value = "DELETE FROM client_requests"
+            + " WHERE uuid IN (?1)"
+            + " AND NOT EXISTS (SELECT 1 FROM request_drink rd WHERE rd.request_id = client_requests.uuid)",
+            nativeQuery = true
+    )
+    int deleteRequestsWithoutDrinks(Collection<UUID> requestUUIDs);
+
+    @Modifying
+    @Query(value = "DELETE FROM request_drink WHERE request_id IN (?1)", nativeQuery = true)
+    int deleteRequestDrinks(Collection<UUID> requestUUIDs);
+
+    @Modifying
+    @Query("DELETE FROM ClientRequest cr WHERE cr.uuid IN ?1")
+    int deleteRequests(Collection<UUID> requestUUIDs);
+
+    @Modifying
+    @Query("UPDATE ClientRequest cr SET cr.table = NULL WHERE cr.uuid IN ?1")
+    int removeTableFromRequests(Collection<UUID> requestUUIDs);
+
+    long countByUserUuid(UUID userUUID);
+
+    @Query("SELECT COALESCE(SUM(cr.totalPrice), 0.0)"
+            + " FROM ClientRequest cr"
+            + " WHERE cr.user.uuid = ?1 AND cr.status <> 'CANCELED'"
+    )
+    double sumTotalSpentByUser(UUID userUUID);
+
 }
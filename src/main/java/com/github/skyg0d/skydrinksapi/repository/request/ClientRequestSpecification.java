@@ -1,13 +1,21 @@
 package com.github.skyg0d.skydrinksapi.repository.request;
 
+import com.github.skyg0d.skydrinksapi.domain.ArchivedClientRequest;
 import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.domain.Drink;
 import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
 import com.github.skyg0d.skydrinksapi.parameters.ClientRequestParameters;
 import com.github.skyg0d.skydrinksapi.repository.AbstractSpecification;
 import com.github.skyg0d.skydrinksapi.util.UUIDUtil;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
 import java.util.UUID;
+import java.util.function.BiFunction;
 
 import static org.springframework.data.jpa.domain.Specification.where;
 
@@ -20,20 +28,31 @@ public class ClientRequestSpecification extends AbstractSpecification {
                 .and(where(withDrinkUUID(parameters.getDrinkUUID())))
                 .and(where(withDrinkName(parameters.getDrinkName())))
                 .and(where(withDrinkDescription(parameters.getDrinkDescription())))
-                .and(where(withUserUUID(parameters.getUserUUID())))
-                .and(where(withUserName(parameters.getUserName())))
-                .and(where(withUserEmail(parameters.getUserEmail())))
-                .and(where(withUserCpf(parameters.getUserCpf())))
-                .and(where(withTableUUID(parameters.getTableUUID())))
-                .and(where(withTotalPrice(parameters.getTotalPrice())))
-                .and(where(withGreaterThanTotalPrice(parameters.getGreaterThanTotalPrice())))
-                .and(where(withLessThanTotalPrice(parameters.getLessThanTotalPrice())))
-                .and(where(withGreaterThanOrEqualToTotalPrice(parameters.getGreaterThanOrEqualToTotalPrice())))
-                .and(where(withLessThanOrEqualToTotalPrice(parameters.getLessThanOrEqualToTotalPrice())))
-                .and(where(withCreatedAt(parameters.getCreatedAt())))
-                .and(where(withCreatedInDateOrAfter(parameters.getCreatedInDateOrAfter())))
-                .and(where(withCreatedInDateOrBefore(parameters.getCreatedInDateOrBefore())))
-                .and(where(withDelivered(parameters.getDelivered())));
+                .and(where(withRequestAttributes(parameters)));
+    }
+
+    /**
+     * Mesmos filtros de {@link #getSpecification(ClientRequestParameters)}, mas os de bebida usam um {@code EXISTS}
+     * em vez de um join: a exportação já faz o próprio join com as bebidas, e um segundo join repetiria ou juntaria
+     * as bebidas de cada pedido.
+     */
+    public static Specification<ClientRequest> getStreamSpecification(ClientRequestParameters parameters) {
+        return where(withStatus(parameters.getStatus()))
+                .and(where(withDrinkUUIDInRequest(parameters.getDrinkUUID())))
+                .and(where(withDrinkNameInRequest(parameters.getDrinkName())))
+                .and(where(withDrinkDescriptionInRequest(parameters.getDrinkDescription())))
+                .and(where(withRequestAttributes(parameters)));
+    }
+
+    /**
+     * Os pedidos arquivados possuem os mesmos atributos dos pedidos, então os mesmos filtros são reaproveitados.
+     */
+    public static Specification<ArchivedClientRequest> getArchiveSpecification(ClientRequestParameters parameters) {
+        return toArchiveSpecification(getSpecification(parameters));
+    }
+
+    public static Specification<ArchivedClientRequest> getArchiveStreamSpecification(ClientRequestParameters parameters) {
+        return toArchiveSpecification(getStreamSpecification(parameters));
     }
 
     public static Specification<ClientRequest> withDrinkUUID(UUID uuid) {
@@ -56,6 +75,24 @@ public class ClientRequestSpecification extends AbstractSpecification {
         });
     }
 
+    public static Specification<ClientRequest> withDrinkUUIDInRequest(UUID uuid) {
+        return getSpec(uuid, withDrinkInRequest((drink, builder) -> (
+                builder.equal(drink.get("uuid"), uuid)
+        )));
+    }
+
+    public static Specification<ClientRequest> withDrinkNameInRequest(String name) {
+        return getSpec(name, withDrinkInRequest((drink, builder) -> (
+                builder.like(builder.lower(drink.get("name")), like(name))
+        )));
+    }
+
+    public static Specification<ClientRequest> withDrinkDescriptionInRequest(String description) {
+        return getSpec(description, withDrinkInRequest((drink, builder) -> (
+                builder.like(builder.lower(drink.get("description")), like(description))
+        )));
+    }
+
     public static Specification<ClientRequest> withUserUUID(UUID uuid) {
         return getSpec(uuid, (root, query, builder) -> (
                 builder.equal(root.join("user").get("uuid"), uuid)
@@ -146,4 +183,36 @@ public class ClientRequestSpecification extends AbstractSpecification {
         return (root, query, builder) -> builder.equal(root.get("delivered"), isDelivered);
     }
 
+
+    private static Specification<ClientRequest> withRequestAttributes(ClientRequestParameters parameters) {
+        return where(withUserUUID(parameters.getUserUUID()))
+                .and(where(withUserName(parameters.getUserName())))
+                .and(where(withUserEmail(parameters.getUserEmail())))
+                .and(where(withUserCpf(parameters.getUserCpf())))
+                .and(where(withTableUUID(parameters.getTableUUID())))
+                .and(where(withTotalPrice(parameters.getTotalPrice())))
+                .and(where(withGreaterThanTotalPrice(parameters.getGreaterThanTotalPrice())))
+                .and(where(withLessThanTotalPrice(parameters.getLessThanTotalPrice())))
+                .and(where(withGreaterThanOrEqualToTotalPrice(parameters.getGreaterThanOrEqualToTotalPrice())))
+                .and(where(withLessThanOrEqualToTotalPrice(parameters.getLessThanOrEqualToTotalPrice())))
+                .and(where(withCreatedAt(parameters.getCreatedAt())))
+                .and(where(withCreatedInDateOrAfter(parameters.getCreatedInDateOrAfter())))
+                .and(where(withCreatedInDateOrBefore(parameters.getCreatedInDateOrBefore())))
+                .and(where(withDelivered(parameters.getDelivered())));
+    }
+
+    private static Specification<ClientRequest> withDrinkInRequest(BiFunction<Join<ClientRequest, Drink>, CriteriaBuilder, Predicate> condition) {
+        return (root, query, builder) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Join<ClientRequest, Drink> drink = subquery.correlate(root).join("drinks");
+
+            return builder.exists(subquery.select(builder.literal(1)).where(condition.apply(drink, builder)));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Specification<ArchivedClientRequest> toArchiveSpecification(Specification<ClientRequest> specification) {
+        return (root, query, builder) -> specification.toPredicate((Root<ClientRequest>) (Root<?>) root, query, builder);
+    }
+
 }
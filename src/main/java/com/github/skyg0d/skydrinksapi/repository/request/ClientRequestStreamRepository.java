@@ -0,0 +1,19 @@
+package com.github.skyg0d.skydrinksapi.repository.request;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public interface ClientRequestStreamRepository {
+
+    /**
+     * Percorre os pedidos com um cursor somente para frente, devolvendo uma linha por bebida do pedido
+     * ({@code [ClientRequest, Drink]}) em ordem de criação, com as linhas de um mesmo pedido sempre juntas.
+     * O contexto de persistência é limpo a cada {@code clearInterval} linhas, então as entidades devolvidas
+     * ficam desanexadas e o consumo de memória não cresce com o número de pedidos.
+     * O stream deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    Stream<Object[]> streamWithDrinks(Specification<ClientRequest> specification, int fetchSize, int clearInterval);
+
+}
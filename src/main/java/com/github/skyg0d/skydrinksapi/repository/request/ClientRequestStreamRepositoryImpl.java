@@ -0,0 +1,21 @@
+package com.github.skyg0d.skydrinksapi.repository.request;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.repository.RequestStreamQuery;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.stream.Stream;
+
+public class ClientRequestStreamRepositoryImpl implements ClientRequestStreamRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Object[]> streamWithDrinks(Specification<ClientRequest> specification, int fetchSize, int clearInterval) {
+        return RequestStreamQuery.streamWithDrinks(entityManager, ClientRequest.class, specification, fetchSize, clearInterval);
+    }
+
+}
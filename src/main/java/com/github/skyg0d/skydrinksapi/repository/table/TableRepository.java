@@ -3,12 +3,15 @@ package com.github.skyg0d.skydrinksapi.repository.table;
 import com.github.skyg0d.skydrinksapi.domain.Table;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface TableRepository extends JpaRepository<Table, UUID>, JpaSpecificationExecutor<Table> {
 
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"))
     Optional<Table> findByNumber(int number);
 
 }
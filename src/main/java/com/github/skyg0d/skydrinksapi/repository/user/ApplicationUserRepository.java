@@ -2,22 +2,33 @@ package com.github.skyg0d.skydrinksapi.repository.user;
 
 import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
 import com.github.skyg0d.skydrinksapi.domain.ClientRequestDrinkCount;
+import com.github.skyg0d.skydrinksapi.domain.RequestLockExpiration;
 import com.github.skyg0d.skydrinksapi.domain.TotalUsers;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ApplicationUserRepository extends JpaRepository<ApplicationUser, UUID>, JpaSpecificationExecutor<ApplicationUser> {
 
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"))
     Optional<ApplicationUser> findByEmail(String email);
 
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"))
     Optional<ApplicationUser> findByCpf(String cpf);
 
+    @Query("SELECT u.email FROM ApplicationUser u WHERE LOWER(u.role) NOT LIKE 'user'")
+    List<String> findStaffEmails();
+
     @Query("SELECT new com.github.skyg0d.skydrinksapi.domain.TotalUsers("
             + " COUNT(u.name), COUNT(CASE WHEN u.lockRequests = true THEN 1 END),"
             + " COUNT(CASE WHEN u.lockRequests = false THEN 1 END))"
@@ -25,4 +36,36 @@ public interface ApplicationUserRepository extends JpaRepository<ApplicationUser
     )
     TotalUsers countTotalUsers();
 
+    @Query("SELECT u.uuid FROM ApplicationUser u WHERE u.lockRequests = true AND u.lockRequestsUntil IS NULL AND u.lockRequestsTimestamp < ?1 ORDER BY u.lockRequestsTimestamp")
+    List<UUID> findStaleRequestLocks(LocalDateTime cutoff, Pageable pageable);
+
+    @Query("SELECT u.uuid FROM ApplicationUser u WHERE u.lockRequests = true AND u.lockRequestsUntil < ?1 ORDER BY u.lockRequestsUntil")
+    List<UUID> findExpiredRequestLocks(LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT new com.github.skyg0d.skydrinksapi.domain.RequestLockExpiration(u.uuid, u.lockRequestsUntil)"
+            + " FROM ApplicationUser u WHERE u.lockRequests = true AND u.lockRequestsUntil IS NOT NULL ORDER BY u.lockRequestsUntil"
+    )
+    List<RequestLockExpiration> findRequestLockExpirations(Pageable pageable);
+
+    @Query("SELECT new com.github.skyg0d.skydrinksapi.domain.RequestLockExpiration(u.uuid, u.lockRequestsUntil)"
+            + " FROM ApplicationUser u WHERE u.lockRequests = true AND u.lockRequestsUntil < ?1 ORDER BY u.lockRequestsUntil"
+    )
+    List<RequestLockExpiration> findRequestLockExpirationsBefore(LocalDateTime until, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ApplicationUser u SET u.lockRequests = false, u.lockRequestsTimestamp = NULL, u.lockRequestsUntil = NULL WHERE u.uuid IN ?1")
+    int unlockRequests(List<UUID> uuids);
+
+    /**
+     * Só desbloqueia se o bloqueio ainda for o mesmo que foi agendado, então quando vários nós disparam o mesmo
+     * desbloqueio apenas um deles altera a linha.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ApplicationUser u SET u.lockRequests = false, u.lockRequestsTimestamp = NULL, u.lockRequestsUntil = NULL"
+            + " WHERE u.uuid = ?1 AND u.lockRequests = true AND u.lockRequestsUntil = ?2"
+    )
+    int unlockRequestsIfExpired(UUID uuid, LocalDateTime lockRequestsUntil);
+
 }
@@ -0,0 +1,50 @@
+package com.github.skyg0d.skydrinksapi.retention;
+
+import com.github.skyg0d.skydrinksapi.enums.MailStatus;
+import com.github.skyg0d.skydrinksapi.property.RetentionProperties;
+import com.github.skyg0d.skydrinksapi.repository.mail.OutboxMailRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Apaga os emails já enviados e, com um prazo maior, os que desistimos de enviar. Usa o índice de status e próxima
+ * tentativa, que nos emails finalizados guarda o horário da última tentativa.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxMailRetentionRule implements RetentionRule {
+
+    private final OutboxMailRepository outboxMailRepository;
+    private final RetentionProperties retentionProperties;
+
+    @Override
+    public String getName() {
+        return "mail-outbox";
+    }
+
+    @Override
+    public int purge(LocalDateTime now, int batchSize) {
+        List<UUID> expired = new ArrayList<>(outboxMailRepository.findFinishedBefore(
+                MailStatus.SENT,
+                now.minusDays(retentionProperties.getSentMailTtlDays()),
+                PageRequest.of(0, batchSize)
+        ));
+
+        if (expired.size() < batchSize) {
+            expired.addAll(outboxMailRepository.findFinishedBefore(
+                    MailStatus.DEAD,
+                    now.minusDays(retentionProperties.getDeadMailTtlDays()),
+                    PageRequest.of(0, batchSize - expired.size())
+            ));
+        }
+
+        return expired.isEmpty() ? 0 : outboxMailRepository.deleteByUuidIn(expired);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.github.skyg0d.skydrinksapi.retention;
+
+import com.github.skyg0d.skydrinksapi.property.RetentionProperties;
+import com.github.skyg0d.skydrinksapi.repository.password.PasswordResetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class PasswordResetRetentionRule implements RetentionRule {
+
+    private final PasswordResetRepository passwordResetRepository;
+    private final RetentionProperties retentionProperties;
+
+    @Override
+    public String getName() {
+        return "password-reset";
+    }
+
+    @Override
+    public int purge(LocalDateTime now, int batchSize) {
+        LocalDateTime cutoff = now.minusHours(retentionProperties.getPasswordResetGraceHours());
+        List<UUID> expired = passwordResetRepository.findExpired(cutoff, PageRequest.of(0, batchSize));
+
+        return expired.isEmpty() ? 0 : passwordResetRepository.deleteByUuidIn(expired);
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.github.skyg0d.skydrinksapi.retention;
+
+import java.time.LocalDateTime;
+
+/**
+ * Regra de expiração de um tipo de dado com prazo de validade. Cada chamada de {@link #purge(LocalDateTime, int)} roda
+ * numa transação própria e deve usar uma coluna indexada para achar as linhas vencidas.
+ */
+public interface RetentionRule {
+
+    String getName();
+
+    /**
+     * Remove, ou volta ao estado padrão, até {@code batchSize} linhas vencidas em {@code now}.
+     *
+     * @return quantidade de linhas afetadas; menos que {@code batchSize} indica que não há mais nada vencido.
+     */
+    int purge(LocalDateTime now, int batchSize);
+
+}
@@ -0,0 +1,44 @@
+package com.github.skyg0d.skydrinksapi.retention;
+
+import com.github.skyg0d.skydrinksapi.property.RetentionProperties;
+import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Garante que nenhum bloqueio de pedidos fique para sempre: desbloqueia os bloqueios com prazo que o
+ * {@link com.github.skyg0d.skydrinksapi.service.RequestUnlockScheduler} não chegou a disparar, por exemplo porque o nó
+ * que os agendou parou, e os bloqueios antigos, sem prazo, depois de {@code my.retention.user-lock-ttl-hours}.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserRequestLockRetentionRule implements RetentionRule {
+
+    private final ApplicationUserRepository applicationUserRepository;
+    private final RetentionProperties retentionProperties;
+
+    @Override
+    public String getName() {
+        return "user-request-lock";
+    }
+
+    @Override
+    public int purge(LocalDateTime now, int batchSize) {
+        List<UUID> stale = new ArrayList<>(applicationUserRepository.findExpiredRequestLocks(now, PageRequest.of(0, batchSize)));
+
+        if (stale.size() < batchSize) {
+            LocalDateTime cutoff = now.minusHours(retentionProperties.getUserLockTtlHours());
+
+            stale.addAll(applicationUserRepository.findStaleRequestLocks(cutoff, PageRequest.of(0, batchSize - stale.size())));
+        }
+
+        return stale.isEmpty() ? 0 : applicationUserRepository.unlockRequests(stale);
+    }
+
+}
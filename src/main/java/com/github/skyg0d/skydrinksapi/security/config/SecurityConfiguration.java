@@ -79,6 +79,8 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
                 .antMatchers("/**/waiter/**").hasAnyRole(Roles.WAITER.getName(), Roles.ADMIN.getName())
                 .antMatchers("/**/barmen/**").hasAnyRole(Roles.BARMEN.getName(), Roles.ADMIN.getName())
                 .antMatchers("/**/staff/**").hasAnyRole(Roles.WAITER.getName(), Roles.BARMEN.getName(), Roles.ADMIN.getName())
+                .antMatchers("/actuator/health").permitAll()
+                .antMatchers("/actuator/**").hasRole(Roles.ADMIN.getName())
                 .antMatchers("/**/all/**").hasAnyRole(Roles.ADMIN.getName(), Roles.USER.getName(), Roles.WAITER.getName(), Roles.BARMEN.getName())
                 .antMatchers("/**").permitAll();
     }
@@ -29,6 +29,12 @@ public class JwtTokenAuthorizationFilter extends OncePerRequestFilter {
     private final JwtConfigurationProperties jwtConfigurationProperties;
     private final TokenConverterUtil tokenConverterUtil;
 
+    // Streams assíncronos (SSE) voltam à cadeia de filtros ao terminar, e a sessão sem estado não guarda a autenticação.
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
         String header = request.getHeader(jwtConfigurationProperties.getHeader().getName());
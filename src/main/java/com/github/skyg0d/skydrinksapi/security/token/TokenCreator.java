@@ -61,7 +61,7 @@ public class TokenCreator {
 
         signedJWT.sign(signer);
 
-        log.info("Token serializado '{}'", signedJWT.serialize());
+        log.debug("Token serializado '{}'", signedJWT::serialize);
 
         return signedJWT;
     }
@@ -87,7 +87,7 @@ public class TokenCreator {
     }
 
     private JWTClaimsSet createJWTClaimsSet(Authentication auth, ApplicationUser applicationUser) {
-        log.info("Criando JWTClaimSet para '{}'", applicationUser);
+        log.info("Criando JWTClaimSet para '{}'", applicationUser.getEmail());
 
         Date expirationTime = new Date(System.currentTimeMillis() + (jwtConfigurationProperties.getExpiration() * 1000L));
 
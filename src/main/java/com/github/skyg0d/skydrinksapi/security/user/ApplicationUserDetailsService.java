@@ -35,7 +35,7 @@ public class ApplicationUserDetailsService implements UserDetailsService {
 
         ApplicationUser applicationUser = userOptional.get();
 
-        log.info("ApplicationUser encontrado: '{}'", applicationUser);
+        log.debug("ApplicationUser encontrado: '{}'", () -> applicationUser);
 
         return new CustomUserDetails(applicationUser);
     }
@@ -1,12 +1,18 @@
 package com.github.skyg0d.skydrinksapi.service;
 
 import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
-import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.domain.Job;
 import com.github.skyg0d.skydrinksapi.domain.TotalUsers;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestsRemovedEvent;
 import com.github.skyg0d.skydrinksapi.exception.BadRequestException;
 import com.github.skyg0d.skydrinksapi.exception.UserUniqueFieldExistsException;
+import com.github.skyg0d.skydrinksapi.logging.LogMarkers;
 import com.github.skyg0d.skydrinksapi.mapper.ApplicationUserMapper;
 import com.github.skyg0d.skydrinksapi.parameters.ApplicationUserParameters;
+import com.github.skyg0d.skydrinksapi.property.JobProperties;
+import com.github.skyg0d.skydrinksapi.property.RequestLockProperties;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
 import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserSpecification;
@@ -15,15 +21,18 @@ import com.github.skyg0d.skydrinksapi.requests.ApplicationUserPutRequestBody;
 import com.github.skyg0d.skydrinksapi.util.RolesUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -33,6 +42,13 @@ public class ApplicationUserService {
 
     private final ApplicationUserRepository applicationUserRepository;
     private final ClientRequestRepository clientRequestRepository;
+    private final ArchivedClientRequestRepository archivedClientRequestRepository;
+    private final UserStatisticsService userStatisticsService;
+    private final JobService jobService;
+    private final JobProperties jobProperties;
+    private final RequestLockProperties requestLockProperties;
+    private final RequestUnlockScheduler requestUnlockScheduler;
+    private final ApplicationEventPublisher eventPublisher;
     private final ApplicationUserMapper mapper = ApplicationUserMapper.INSTANCE;
 
     public Page<ApplicationUser> listAll(Pageable pageable) {
@@ -61,6 +77,14 @@ public class ApplicationUserService {
                 .orElseThrow(() -> new BadRequestException(String.format("Usuário com id: \"%s\" não foi encontrado!", uuid)));
     }
 
+    public void verifyIfExistsOrElseThrowBadRequestException(UUID uuid) {
+        log.info("Verificando se o usuário com uuid \"{}\" existe", uuid);
+
+        if (!applicationUserRepository.existsById(uuid)) {
+            throw new BadRequestException(String.format("Usuário com id: \"%s\" não foi encontrado!", uuid));
+        }
+    }
+
     public ApplicationUser findByEmail(String email) {
         log.info("Pesquisando usuário com email \"{}\"", email);
 
@@ -110,7 +134,8 @@ public class ApplicationUserService {
 
         ApplicationUser userToCreate = mapper.toApplicationUser(applicationUserPostRequestBody);
 
-        log.info("Criando o usuário, \"{}\"", userToCreate);
+        log.info(LogMarkers.AUDIT, "Criando o usuário com email \"{}\"", userToCreate.getEmail());
+        log.debug("Conteúdo do usuário: {}", () -> userToCreate);
 
         return applicationUserRepository.save(userToCreate);
     }
@@ -129,41 +154,123 @@ public class ApplicationUserService {
             userMapped.setPassword(userFound.getPassword());
         }
 
-        log.info("Atualizando usuário com uuid \"{}\"", uuid);
+        log.info(LogMarkers.AUDIT, "Atualizando usuário com uuid \"{}\"", uuid);
 
         applicationUserRepository.save(userMapped);
     }
 
-    public ApplicationUser toggleLockRequests(UUID uuid) {
+    /**
+     * Bloqueia os pedidos do usuário por {@code durationMinutes} minutos, ou pelo prazo padrão quando nulo, ou desfaz
+     * o bloqueio atual.
+     */
+    public ApplicationUser toggleLockRequests(UUID uuid, Integer durationMinutes) {
+        if (durationMinutes != null && durationMinutes <= 0) {
+            throw new BadRequestException("A duração do bloqueio deve ser maior que zero.");
+        }
+
         ApplicationUser userFound = findByIdOrElseThrowBadRequestException(uuid);
 
-        log.info("Invertendo o bloqueamento de pedidos do usuário com uuid \"{}\"", uuid);
+        log.info(LogMarkers.AUDIT, "Invertendo o bloqueamento de pedidos do usuário com uuid \"{}\"", uuid);
 
         boolean isUserRequestsLockedNow = !userFound.isLockRequests();
-        LocalDateTime lockedTimestamp = isUserRequestsLockedNow ? LocalDateTime.now() : null;
+        LocalDateTime lockedTimestamp = isUserRequestsLockedNow ? LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS) : null;
+        LocalDateTime lockedUntil = null;
+
+        if (isUserRequestsLockedNow) {
+            int minutes = durationMinutes != null ? durationMinutes : requestLockProperties.getDefaultDurationMinutes();
+
+            lockedUntil = lockedTimestamp.plusMinutes(minutes);
+        }
 
         userFound.setLockRequests(isUserRequestsLockedNow);
         userFound.setLockRequestsTimestamp(lockedTimestamp);
+        userFound.setLockRequestsUntil(lockedUntil);
+
+        ApplicationUser userSaved = applicationUserRepository.save(userFound);
+
+        if (isUserRequestsLockedNow) {
+            requestUnlockScheduler.schedule(uuid, lockedUntil);
+        } else {
+            requestUnlockScheduler.cancel(uuid);
+        }
 
-        return applicationUserRepository.save(userFound);
+        return userSaved;
     }
 
-    public void delete(UUID uuid, ApplicationUser user) {
+    /**
+     * Apaga os pedidos do usuário e depois o usuário. Quando o usuário tem muitos pedidos a remoção é feita em
+     * segundo plano e o job criado é retornado.
+     */
+    @Transactional
+    public Optional<Job> delete(UUID uuid, ApplicationUser user) {
         RolesUtil.verifyIfUserHasPermission(uuid, user);
 
-        log.info("Deletando usuário com uuid \"{}\"", uuid);
+        log.info(LogMarkers.AUDIT, "Deletando usuário com uuid \"{}\"", uuid);
 
-        ApplicationUser userFound = findByIdOrElseThrowBadRequestException(uuid);
+        findByIdOrElseThrowBadRequestException(uuid);
+
+        long requests = clientRequestRepository.countByUserUuid(uuid) + archivedClientRequestRepository.countByUserUuid(uuid);
+
+        if (requests > jobProperties.getAsyncThreshold()) {
+            log.info(LogMarkers.AUDIT, "Usuário com uuid \"{}\" tem {} pedidos, a remoção será feita em segundo plano", uuid, requests);
+
+            return Optional.of(jobService.schedule(JobType.DELETE_USER, uuid, requests));
+        }
+
+        log.info("Deletando todos os pedidos do usuário");
+
+        List<UUID> requestUUIDs = clientRequestRepository.findRequestsOfUser(uuid, Pageable.unpaged());
+
+        clientRequestRepository.deleteRequestDrinksOfUser(uuid);
+        clientRequestRepository.deleteRequestsOfUser(uuid);
+
+        if (!requestUUIDs.isEmpty()) {
+            eventPublisher.publishEvent(new ClientRequestsRemovedEvent(requestUUIDs));
+        }
+
+        archivedClientRequestRepository.deleteArchivedRequestDrinksOfUser(uuid);
+        archivedClientRequestRepository.deleteArchivedRequestsOfUser(uuid);
+
+        deleteWithoutRequests(uuid);
 
-        Set<ClientRequest> requests = userFound.getRequests();
+        return Optional.empty();
+    }
+
+    /**
+     * Apaga os pedidos informados e avisa os clientes depois do commit.
+     */
+    public void deleteRequests(List<UUID> requestUUIDs) {
+        clientRequestRepository.deleteRequestDrinks(requestUUIDs);
+        clientRequestRepository.deleteRequests(requestUUIDs);
+
+        eventPublisher.publishEvent(new ClientRequestsRemovedEvent(requestUUIDs));
+    }
 
-        if (requests != null && !requests.isEmpty()) {
-            log.info("Deletando todos os pedidos do usuário");
+    /**
+     * Apaga até {@code chunkSize} pedidos arquivados do usuário.
+     *
+     * @return quantos pedidos arquivados foram apagados; zero quando o usuário não tem mais nenhum.
+     */
+    public int deleteArchivedRequests(UUID uuid, int chunkSize) {
+        List<UUID> archivedUUIDs = archivedClientRequestRepository.findArchivedRequestsOfUser(uuid, PageRequest.of(0, chunkSize));
 
-            clientRequestRepository.deleteAll(requests);
+        if (archivedUUIDs.isEmpty()) {
+            return 0;
         }
 
-        applicationUserRepository.delete(userFound);
+        archivedClientRequestRepository.deleteArchivedRequestDrinks(archivedUUIDs);
+        archivedClientRequestRepository.deleteArchivedRequests(archivedUUIDs);
+
+        return archivedUUIDs.size();
+    }
+
+    /**
+     * Apaga o usuário depois que os seus pedidos ativos e arquivados já foram apagados.
+     */
+    public void deleteWithoutRequests(UUID uuid) {
+        applicationUserRepository.deleteById(uuid);
+
+        userStatisticsService.evictAfterCommit(uuid);
     }
 
 }
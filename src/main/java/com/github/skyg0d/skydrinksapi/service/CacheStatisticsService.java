@@ -0,0 +1,57 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.domain.CacheRegionStatistics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatistics> getRegionStatistics() {
+        log.info("Retornando as estatísticas das regiões do cache de segundo nível");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        return Arrays
+                .stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .filter((region) -> statistics.getCacheRegionStatistics(region) != null)
+                .map((region) -> toRegionStatistics(region, statistics.getCacheRegionStatistics(region)))
+                .collect(Collectors.toList());
+    }
+
+    public void evictAll() {
+        log.info("Limpando o cache de segundo nível");
+
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private CacheRegionStatistics toRegionStatistics(String region, org.hibernate.stat.CacheRegionStatistics statistics) {
+        long hitCount = statistics.getHitCount();
+        long missCount = statistics.getMissCount();
+        long reads = hitCount + missCount;
+
+        return CacheRegionStatistics
+                .builder()
+                .region(region)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .putCount(statistics.getPutCount())
+                .elementCountInMemory(statistics.getElementCountInMemory())
+                .hitRatio(reads == 0 ? 0 : (double) hitCount / reads)
+                .build();
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.config.AsyncConfiguration;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import com.github.skyg0d.skydrinksapi.parameters.ClientRequestParameters;
+import com.github.skyg0d.skydrinksapi.property.ArchiveProperties;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ClientRequestArchiveService {
+
+    private final ArchivedClientRequestRepository archivedClientRequestRepository;
+    private final ArchiveProperties archiveProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async(AsyncConfiguration.ARCHIVE_EXECUTOR)
+    @Scheduled(cron = "${my.archive.cron:0 0 5 * * *}")
+    public void scheduledArchive() {
+        if (archiveProperties.isEnabled()) {
+            archiveOldRequests();
+        }
+    }
+
+    /**
+     * Inicia o arquivamento em segundo plano; se ele já estiver rodando, o pedido é ignorado.
+     */
+    @Async(AsyncConfiguration.ARCHIVE_EXECUTOR)
+    public void archiveOldRequestsInBackground() {
+        archiveOldRequests();
+    }
+
+    public long archiveOldRequests() {
+        LocalDateTime cutoff = getCutoff().atStartOfDay();
+        int batchSize = archiveProperties.getBatchSize();
+
+        log.info("Arquivando pedidos finalizados ou cancelados criados antes de \"{}\"", cutoff);
+
+        long archived = 0;
+        List<UUID> uuids;
+
+        do {
+            uuids = archivedClientRequestRepository.findArchivableRequests(cutoff, PageRequest.of(0, batchSize));
+
+            if (uuids.isEmpty()) {
+                break;
+            }
+
+            List<UUID> batch = uuids;
+
+            Integer moved = transactionTemplate.execute((status) -> archiveBatch(batch));
+
+            archived += moved == null ? 0 : moved;
+        } while (uuids.size() == batchSize);
+
+        log.info("Foram arquivados {} pedidos", archived);
+
+        return archived;
+    }
+
+    public LocalDate getCutoff() {
+        return LocalDate.now().minusDays(archiveProperties.getMinAgeDays());
+    }
+
+    /**
+     * Informa se a pesquisa pode encontrar pedidos arquivados: só pedidos finalizados ou cancelados são
+     * arquivados, e apenas quando criados antes do corte.
+     */
+    public boolean reachesArchive(ClientRequestParameters parameters) {
+        ClientRequestStatus status = parameters.getStatus();
+
+        if (status != null && !status.equals(ClientRequestStatus.FINISHED) && !status.equals(ClientRequestStatus.CANCELED)) {
+            return false;
+        }
+
+        try {
+            LocalDate cutoff = getCutoff();
+
+            if (parameters.getCreatedAt() != null && !parameters.getCreatedAt().isEmpty()) {
+                return LocalDateTime.parse(parameters.getCreatedAt()).toLocalDate().isBefore(cutoff);
+            }
+
+            String createdInDateOrAfter = parameters.getCreatedInDateOrAfter();
+
+            return createdInDateOrAfter == null || createdInDateOrAfter.isEmpty() || LocalDate.parse(createdInDateOrAfter).isBefore(cutoff);
+        } catch (DateTimeParseException exception) {
+            return true;
+        }
+    }
+
+    private int archiveBatch(List<UUID> uuids) {
+        int moved = archivedClientRequestRepository.copyRequestsToArchive(uuids, LocalDateTime.now());
+
+        archivedClientRequestRepository.copyRequestDrinksToArchive(uuids);
+        archivedClientRequestRepository.deleteRequestDrinks(uuids);
+        archivedClientRequestRepository.deleteRequests(uuids);
+
+        return moved;
+    }
+
+}
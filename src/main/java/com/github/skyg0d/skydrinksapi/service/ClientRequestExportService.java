@@ -0,0 +1,103 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.skyg0d.skydrinksapi.domain.ArchivedClientRequest;
+import com.github.skyg0d.skydrinksapi.domain.BaseEntity;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestExportRow;
+import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.enums.ExportFormat;
+import com.github.skyg0d.skydrinksapi.parameters.ClientRequestParameters;
+import com.github.skyg0d.skydrinksapi.property.ExportProperties;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestSpecification;
+import com.github.skyg0d.skydrinksapi.util.ClientRequestExportWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ClientRequestExportService {
+
+    private final ClientRequestRepository clientRequestRepository;
+    private final ArchivedClientRequestRepository archivedClientRequestRepository;
+    private final ClientRequestArchiveService clientRequestArchiveService;
+    private final ExportProperties exportProperties;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long export(ClientRequestParameters parameters, ExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("Exportando pedidos em \"{}\" com as determinadas características \"{}\"", format, parameters);
+
+        long exported = 0;
+
+        try (ClientRequestExportWriter writer = new ClientRequestExportWriter(format, objectMapper.writer(), outputStream)) {
+            writer.writeHeader();
+
+            // Os pedidos arquivados são mais antigos, então vêm primeiro para manter a ordem de criação.
+            if (clientRequestArchiveService.reachesArchive(parameters)) {
+                try (Stream<Object[]> rows = archivedClientRequestRepository.streamWithDrinks(
+                        ClientRequestSpecification.getArchiveStreamSpecification(parameters),
+                        exportProperties.getFetchSize(),
+                        exportProperties.getClearInterval()
+                )) {
+                    exported += writeRows(rows, writer);
+                }
+            }
+
+            try (Stream<Object[]> rows = clientRequestRepository.streamWithDrinks(
+                    ClientRequestSpecification.getStreamSpecification(parameters),
+                    exportProperties.getFetchSize(),
+                    exportProperties.getClearInterval()
+            )) {
+                exported += writeRows(rows, writer);
+            }
+        }
+
+        log.info("Foram exportados {} pedidos", exported);
+
+        return exported;
+    }
+
+    private long writeRows(Stream<Object[]> rows, ClientRequestExportWriter writer) throws IOException {
+        long written = 0;
+
+        Iterator<Object[]> iterator = rows.iterator();
+        ClientRequestExportRow current = null;
+
+        while (iterator.hasNext()) {
+            Object[] row = iterator.next();
+            BaseEntity request = (BaseEntity) row[0];
+
+            if (current == null || !current.getUuid().equals(request.getUuid())) {
+                if (current != null) {
+                    writer.write(current);
+                    written++;
+                }
+
+                current = request instanceof ArchivedClientRequest
+                        ? ClientRequestExportRow.of((ArchivedClientRequest) request)
+                        : ClientRequestExportRow.of((ClientRequest) request);
+            }
+
+            current.addDrink((Drink) row[1]);
+        }
+
+        if (current != null) {
+            writer.write(current);
+            written++;
+        }
+
+        return written;
+    }
+
+}
@@ -3,27 +3,45 @@ package com.github.skyg0d.skydrinksapi.service;
 import com.github.skyg0d.skydrinksapi.domain.*;
 import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
 import com.github.skyg0d.skydrinksapi.enums.Roles;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestCreatedEvent;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestDeletedEvent;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestDeliveredEvent;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestStatusChangedEvent;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestUpdatedEvent;
 import com.github.skyg0d.skydrinksapi.exception.BadRequestException;
 import com.github.skyg0d.skydrinksapi.exception.UserCannotCompleteClientRequestException;
 import com.github.skyg0d.skydrinksapi.exception.UserCannotModifyClientRequestException;
 import com.github.skyg0d.skydrinksapi.exception.UserRequestsAreLockedException;
+import com.github.skyg0d.skydrinksapi.logging.LogMarkers;
 import com.github.skyg0d.skydrinksapi.mapper.ClientRequestMapper;
+import com.github.skyg0d.skydrinksapi.parameters.ClientRequestDateParameters;
 import com.github.skyg0d.skydrinksapi.parameters.ClientRequestParameters;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestSpecification;
 import com.github.skyg0d.skydrinksapi.requests.ClientRequestPostRequestBody;
 import com.github.skyg0d.skydrinksapi.requests.ClientRequestPutRequestBody;
+import com.github.skyg0d.skydrinksapi.util.ClientRequestRollupUtil;
+import com.github.skyg0d.skydrinksapi.util.OffsetPageRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -31,10 +49,15 @@ import java.util.UUID;
 public class ClientRequestService {
 
     private static final int MINORITY = 18;
+    private static final LocalDate FIRST_REQUEST_DATE = LocalDate.of(2000, 1, 1);
 
     private final ClientRequestRepository clientRequestRepository;
     private final ApplicationUserService applicationUserService;
     private final DrinkService drinkService;
+    private final UserStatisticsService userStatisticsService;
+    private final ClientRequestArchiveService clientRequestArchiveService;
+    private final ArchivedClientRequestRepository archivedClientRequestRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final ClientRequestMapper mapper = ClientRequestMapper.INSTANCE;
 
     private boolean blockAllRequests;
@@ -54,7 +77,13 @@ public class ClientRequestService {
 
         log.info("Pesquisando pedidos com as determinadas características \"{}\"", parameters);
 
-        return clientRequestRepository.findAll(ClientRequestSpecification.getSpecification(parameters), pageable);
+        Page<ClientRequest> requests = clientRequestRepository.findAll(ClientRequestSpecification.getSpecification(parameters), pageable);
+
+        if (!clientRequestArchiveService.reachesArchive(parameters)) {
+            return requests;
+        }
+
+        return appendArchivedRequests(requests, parameters, pageable);
     }
 
     public ClientRequest findByIdOrElseThrowBadRequestException(UUID uuid) {
@@ -68,39 +97,70 @@ public class ClientRequestService {
     public List<ClientRequestDrinkCount> getMyTopFiveDrinks(ApplicationUser user) {
         log.info("Retornando as cinco bebidas mais pedidas do usuário com uuid \"{}\"", user.getUuid());
 
-        return clientRequestRepository.countTotalDrinksInRequest(user.getUuid(), PageRequest.of(0, 5));
+        return userStatisticsService.getTopFiveDrinks(user.getUuid());
     }
 
     public List<ClientRequestDrinkCount> getTopFiveDrinks(UUID uuid) {
         log.info("Retornando as cinco bebidas mais pedidas do usuário com uuid \"{}\"", uuid);
 
-        return clientRequestRepository.countTotalDrinksInRequest(applicationUserService.findByIdOrElseThrowBadRequestException(uuid).getUuid(), PageRequest.of(0, 5));
+        applicationUserService.verifyIfExistsOrElseThrowBadRequestException(uuid);
+
+        return userStatisticsService.getTopFiveDrinks(uuid);
     }
 
     public List<ClientRequestDrinkCount> getTopDrinksInRequests(Pageable pageable) {
         log.info("Retornando as bebidas mais pedidas de todos os tempos");
 
-        return clientRequestRepository.countTotalDrinksInRequest(PageRequest.of(0, pageable.getPageSize()));
+        return ClientRequestRollupUtil.mergeDrinkCounts(
+                clientRequestRepository.countTotalDrinksInRequest(Pageable.unpaged()),
+                archivedClientRequestRepository.countTotalDrinksInRequest(),
+                pageable.getPageSize()
+        );
     }
 
     public List<ClientRequestDrinkCount> mostCanceledDrinks(Pageable pageable) {
         log.info("Retornando as bebidas mais canceladas de todos os tempos");
 
-        return clientRequestRepository.mostCanceledDrinks(PageRequest.of(0, pageable.getPageSize()));
+        return ClientRequestRollupUtil.mergeDrinkCounts(
+                clientRequestRepository.mostCanceledDrinks(Pageable.unpaged()),
+                archivedClientRequestRepository.mostCanceledDrinks(),
+                pageable.getPageSize()
+        );
     }
 
     public List<ClientRequestAlcoholicDrinkCount> getTotalOfDrinksGroupedByAlcoholic(ApplicationUser user) {
         log.info("Retornando o total de bebidas do usuário com uuid \"{}\", agrupando pelo atributo de alcoolismo", user.getUuid());
 
-        return clientRequestRepository.countAlcoholicDrinksInRequests(user.getUuid(), PageRequest.of(0, 2));
+        return userStatisticsService.getTotalOfDrinksGroupedByAlcoholic(user.getUuid());
     }
 
-    public List<ClientRequestDate> getAllDatesInRequests() {
-        log.info("Retornando todas as datas dos pedidos");
+    public List<ClientRequestDate> getAllDatesInRequests(ClientRequestDateParameters parameters) {
+        LocalDate startDate;
+        LocalDate endDate;
+
+        try {
+            if (parameters.getMonth() != null && !parameters.getMonth().isEmpty()) {
+                YearMonth month = YearMonth.parse(parameters.getMonth());
+
+                startDate = month.atDay(1);
+                endDate = month.atEndOfMonth();
+            } else {
+                startDate = parseDateOrElse(parameters.getStartDate(), FIRST_REQUEST_DATE);
+                endDate = parseDateOrElse(parameters.getEndDate(), LocalDate.now());
+            }
+        } catch (DateTimeParseException exception) {
+            throw new BadRequestException(String.format("Data inválida: %s", exception.getParsedString()));
+        }
+
+        log.info("Retornando as datas dos pedidos entre \"{}\" e \"{}\"", startDate, endDate);
 
-        return clientRequestRepository.getAllDatesInRequests();
+        return ClientRequestRollupUtil.mergeDates(
+                clientRequestRepository.getAllDatesInRequests(startDate, endDate),
+                archivedClientRequestRepository.getAllDatesInRequests(startDate, endDate)
+        );
     }
 
+    @Transactional
     public ClientRequest save(ClientRequestPostRequestBody clientRequestPostRequestBody, ApplicationUser user) {
         log.info("Tentando criar usuário. . .");
 
@@ -116,9 +176,13 @@ public class ClientRequestService {
             throw new UserRequestsAreLockedException("Usuário foi bloqueado temporariamente, logo não pode realizar novos pedidos", user.getLockRequestsTimestamp());
         }
 
-        boolean containsAlcoholicDrink = clientRequestPostRequestBody.getDrinks().stream().anyMatch((drink) -> (
-                drinkService.findByIdOrElseThrowBadRequestException(drink.getUuid()).isAlcoholic()
-        ));
+        List<Drink> drinks = clientRequestPostRequestBody
+                .getDrinks()
+                .stream()
+                .map((drink) -> drinkService.findByIdOrElseThrowBadRequestException(drink.getUuid()))
+                .collect(Collectors.toList());
+
+        boolean containsAlcoholicDrink = drinks.stream().anyMatch(Drink::isAlcoholic);
 
         long userAge = ChronoUnit.YEARS.between(user.getBirthDay(), LocalDateTime.now());
 
@@ -130,18 +194,26 @@ public class ClientRequestService {
 
         ClientRequest request = mapper.toClientRequest(clientRequestPostRequestBody);
 
+        request.setDrinks(drinks);
+
         double totalPrice = calculatePrice(request);
 
         request.setTotalPrice(totalPrice);
         request.setStatus(ClientRequestStatus.PROCESSING);
         request.setUser(user);
 
-        log.info("Realizando pedido \"{}\", para o usuário com uuid \"{}\"", request, user.getUuid());
+        log.info(LogMarkers.AUDIT, "Realizando pedido com {} bebidas para o usuário com uuid \"{}\"", drinks.size(), user.getUuid());
+        log.debug("Conteúdo do pedido: {}", () -> request);
 
-        return clientRequestRepository.save(request);
+        ClientRequest requestSaved = clientRequestRepository.save(request);
+
+        eventPublisher.publishEvent(new ClientRequestCreatedEvent(requestSaved, drinks, getSpent(requestSaved)));
+
+        return requestSaved;
     }
 
-    public void replace(ClientRequestPutRequestBody clientRequestPutRequestBody, ApplicationUser user) {
+    @Transactional
+    public ClientRequest replace(ClientRequestPutRequestBody clientRequestPutRequestBody, ApplicationUser user) {
         ClientRequest request = findByIdOrElseThrowBadRequestException(clientRequestPutRequestBody.getUuid());
 
         userCanModifyRequestOrElseThrowUserCannotModifyClientRequestException(user, request);
@@ -150,15 +222,22 @@ public class ClientRequestService {
 
         requestToUpdate.setTotalPrice(calculatePrice(requestToUpdate));
         requestToUpdate.setStatus(request.getStatus());
+        requestToUpdate.setStatusChangedAt(request.getStatusChangedAt());
         requestToUpdate.setUser(request.getUser());
 
-        log.info("Atualizando o pedido \"{}\"", request);
+        log.info(LogMarkers.AUDIT, "Atualizando o pedido com uuid \"{}\"", request.getUuid());
+        log.debug("Conteúdo do pedido: {}", () -> requestToUpdate);
+
+        ClientRequest requestUpdated = clientRequestRepository.save(requestToUpdate);
 
-        clientRequestRepository.save(requestToUpdate);
+        eventPublisher.publishEvent(new ClientRequestUpdatedEvent(requestUpdated));
+
+        return requestUpdated;
     }
 
+    @Transactional
     public ClientRequest startRequest(UUID uuid) {
-        log.info("Tentando iniciar o pedido com uuid \"{}\". . .", uuid);
+        log.info(LogMarkers.AUDIT, "Tentando iniciar o pedido com uuid \"{}\". . .", uuid);
 
         return setStatus(
                 ClientRequestStatus.STARTED,
@@ -167,8 +246,9 @@ public class ClientRequestService {
         );
     }
 
+    @Transactional
     public ClientRequest finishRequest(UUID uuid) {
-        log.info("Tentando finalizar o pedido com uuid \"{}\". . .", uuid);
+        log.info(LogMarkers.AUDIT, "Tentando finalizar o pedido com uuid \"{}\". . .", uuid);
 
         return setStatus(
                 ClientRequestStatus.FINISHED,
@@ -177,8 +257,9 @@ public class ClientRequestService {
         );
     }
 
+    @Transactional
     public ClientRequest cancelRequest(UUID uuid, ApplicationUser user) {
-        log.info("Tentando cancelar o pedido com uuid \"{}\". . .", uuid);
+        log.info(LogMarkers.AUDIT, "Tentando cancelar o pedido com uuid \"{}\". . .", uuid);
 
         return setStatus(
                 ClientRequestStatus.CANCELED,
@@ -187,6 +268,7 @@ public class ClientRequestService {
         );
     }
 
+    @Transactional
     public ClientRequest deliverRequest(UUID uuid) {
         ClientRequest request = findByIdOrElseThrowBadRequestException(uuid);
 
@@ -203,25 +285,39 @@ public class ClientRequestService {
             throw new BadRequestException(String.format("O pedido %s já foi entregue!", uuid));
         }
 
-        log.info("Entregando pedido pedido com uuid \"{}\"", uuid);
+        log.info(LogMarkers.AUDIT, "Entregando pedido pedido com uuid \"{}\"", uuid);
+
+        double previousSpent = getSpent(request);
+        LocalDateTime previousStageStartedAt = request.getStageStartedAt();
 
         request.setDelivered(true);
+        request.setStatusChangedAt(LocalDateTime.now());
 
         double totalPrice = calculatePrice(request);
 
         request.setTotalPrice(totalPrice);
 
-        return clientRequestRepository.save(request);
+        ClientRequest requestDelivered = clientRequestRepository.save(request);
+
+        eventPublisher.publishEvent(new ClientRequestDeliveredEvent(requestDelivered, previousSpent, getSpent(requestDelivered), previousStageStartedAt));
+
+        return requestDelivered;
     }
 
+    @Transactional
     public void delete(UUID uuid, ApplicationUser user) {
         ClientRequest request = findByIdOrElseThrowBadRequestException(uuid);
 
         userCanModifyRequestOrElseThrowUserCannotModifyClientRequestException(user, request);
 
-        log.info("Deletando o pedido \"{}\"", request);
+        log.info(LogMarkers.AUDIT, "Deletando o pedido com uuid \"{}\"", uuid);
+
+        List<Drink> drinks = new ArrayList<>(request.getDrinks());
+        double spent = getSpent(request);
 
         clientRequestRepository.delete(request);
+
+        eventPublisher.publishEvent(new ClientRequestDeletedEvent(uuid, request.getUser().getUuid(), drinks, spent));
     }
 
     public boolean getAllBlocked() {
@@ -231,7 +327,7 @@ public class ClientRequestService {
     }
 
     public boolean toggleBlockAllRequests() {
-        log.info("Invertendo o bloqueamento de todos os pedidos");
+        log.info(LogMarkers.AUDIT, "Invertendo o bloqueamento de todos os pedidos");
 
         blockAllRequests = !blockAllRequests;
         return blockAllRequests;
@@ -260,17 +356,33 @@ public class ClientRequestService {
             userCanModifyRequestOrElseThrowUserCannotModifyClientRequestException(user, request);
         }
 
+        double previousSpent = getSpent(request);
+        ClientRequestStatus previousStatus = request.getStatus();
+        LocalDateTime previousStageStartedAt = request.getStageStartedAt();
+
         request.setStatus(status);
+        request.setStatusChangedAt(LocalDateTime.now());
 
         double totalPrice = calculatePrice(request);
 
         request.setTotalPrice(totalPrice);
 
-        return clientRequestRepository.save(request);
+        ClientRequest requestSaved = clientRequestRepository.save(request);
+
+        eventPublisher.publishEvent(new ClientRequestStatusChangedEvent(
+                requestSaved,
+                new ArrayList<>(requestSaved.getDrinks()),
+                previousStatus,
+                previousSpent,
+                getSpent(requestSaved),
+                previousStageStartedAt
+        ));
+
+        return requestSaved;
     }
 
     private void userCanModifyRequestOrElseThrowUserCannotModifyClientRequestException(ApplicationUser user, ClientRequest request) {
-        log.info("Verificando se o usuário com uuid \"{}\" pode modificar o pedido \"{}\"", user.getUuid(), request);
+        log.info("Verificando se o usuário com uuid \"{}\" pode modificar o pedido com uuid \"{}\"", user.getUuid(), request.getUuid());
 
         if (!requestBelongsToUser(request, user) && !userIsStaff(user)) {
             String message = String.format("O usuário %s não possuí permissão suficiente para modificar o pedido de id: %s", user.getName(), request.getUuid());
@@ -285,13 +397,58 @@ public class ClientRequestService {
     }
 
     private boolean requestBelongsToUser(ClientRequest request, ApplicationUser user) {
-        log.info("Verificando se o pedido \"{}\" pertence ao usuário com uuid \"{}\" é um staff", request, user.getUuid());
+        log.info("Verificando se o pedido com uuid \"{}\" pertence ao usuário com uuid \"{}\" é um staff", request.getUuid(), user.getUuid());
 
         return request.getUser().getUuid().equals(user.getUuid());
     }
 
+    private Page<ClientRequest> appendArchivedRequests(Page<ClientRequest> requests, ClientRequestParameters parameters, Pageable pageable) {
+        Specification<ArchivedClientRequest> specification = ClientRequestSpecification.getArchiveSpecification(parameters);
+
+        if (pageable.isUnpaged()) {
+            List<ClientRequest> content = new ArrayList<>(requests.getContent());
+
+            archivedClientRequestRepository
+                    .findAll(specification)
+                    .forEach((archived) -> content.add(archived.toClientRequest()));
+
+            return new PageImpl<>(content);
+        }
+
+        log.info("Pesquisando pedidos arquivados com as determinadas características \"{}\"", parameters);
+
+        // Os pedidos atuais e os arquivados podem se intercalar na ordenação pedida, então cada tabela devolve tudo
+        // até o fim da página e a página é montada depois de ordenar os dois juntos.
+        int window = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+        OffsetPageRequest windowRequest = new OffsetPageRequest(0, window, pageable.getSort());
+
+        List<ClientRequest> current = pageable.getOffset() == 0
+                ? requests.getContent()
+                : clientRequestRepository.findAll(ClientRequestSpecification.getSpecification(parameters), windowRequest).getContent();
+
+        Page<ArchivedClientRequest> archived = archivedClientRequestRepository.findAll(specification, windowRequest);
+
+        List<ClientRequest> content = ClientRequestRollupUtil.mergeRequests(
+                current,
+                archived.map(ArchivedClientRequest::toClientRequest).getContent(),
+                pageable.getSort(),
+                pageable.getOffset(),
+                pageable.getPageSize()
+        );
+
+        return new PageImpl<>(content, pageable, requests.getTotalElements() + archived.getTotalElements());
+    }
+
+    private LocalDate parseDateOrElse(String date, LocalDate defaultDate) {
+        return date == null || date.isEmpty() ? defaultDate : LocalDate.parse(date);
+    }
+
+    private double getSpent(ClientRequest request) {
+        return ClientRequestStatus.CANCELED.equals(request.getStatus()) ? 0 : request.getTotalPrice();
+    }
+
     private double calculatePrice(ClientRequest request) {
-        log.info("Calculando o preço do pedido \"{}\"", request);
+        log.debug("Calculando o preço do pedido \"{}\"", () -> request);
 
         return request
                 .getDrinks()
@@ -1,23 +1,32 @@
 package com.github.skyg0d.skydrinksapi.service;
 
-import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
 import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestsRemovedEvent;
 import com.github.skyg0d.skydrinksapi.exception.BadRequestException;
+import com.github.skyg0d.skydrinksapi.logging.LogMarkers;
 import com.github.skyg0d.skydrinksapi.mapper.DrinkMapper;
 import com.github.skyg0d.skydrinksapi.parameters.DrinkParameters;
+import com.github.skyg0d.skydrinksapi.property.JobProperties;
 import com.github.skyg0d.skydrinksapi.repository.drink.DrinkRepository;
 import com.github.skyg0d.skydrinksapi.repository.drink.DrinkSpecification;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.requests.DrinkPostRequestBody;
 import com.github.skyg0d.skydrinksapi.requests.DrinkPutRequestBody;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
-import java.util.function.Predicate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +35,11 @@ public class DrinkService {
 
     private final DrinkRepository drinkRepository;
     private final ClientRequestRepository clientRequestRepository;
+    private final ArchivedClientRequestRepository archivedClientRequestRepository;
+    private final UserStatisticsService userStatisticsService;
+    private final JobService jobService;
+    private final JobProperties jobProperties;
+    private final ApplicationEventPublisher eventPublisher;
     private final DrinkMapper mapper = DrinkMapper.INSTANCE;
 
     public Page<Drink> listAll(Pageable pageable) {
@@ -57,7 +71,8 @@ public class DrinkService {
     public Drink save(DrinkPostRequestBody drinkPostRequestBody) {
         Drink drinkToCreate = mapper.toDrink(drinkPostRequestBody);
 
-        log.info("Salvando bebida \"{}\"", drinkToCreate);
+        log.info(LogMarkers.AUDIT, "Salvando bebida \"{}\"", drinkToCreate.getName());
+        log.debug("Conteúdo da bebida: {}", () -> drinkToCreate);
 
         return drinkRepository.save(drinkToCreate);
     }
@@ -67,37 +82,100 @@ public class DrinkService {
 
         Drink drinkToUpdate = mapper.toDrink(drinkPutRequestBody);
 
-        log.info("Atualizando bebida \"{}\"", drinkToUpdate);
+        log.info(LogMarkers.AUDIT, "Atualizando bebida com uuid \"{}\"", drinkToUpdate.getUuid());
+        log.debug("Conteúdo da bebida: {}", () -> drinkToUpdate);
 
         drinkRepository.save(drinkToUpdate);
+
+        userStatisticsService.evictAllAfterCommit();
     }
 
-    public void delete(UUID uuid) {
-        Drink drinkFound = findByIdOrElseThrowBadRequestException(uuid);
+    /**
+     * Remove a bebida dos pedidos e depois a apaga. Quando a bebida está em muitos pedidos a remoção é feita em
+     * segundo plano e o job criado é retornado.
+     */
+    @Transactional
+    public Optional<Job> delete(UUID uuid) {
+        findByIdOrElseThrowBadRequestException(uuid);
+
+        log.info(LogMarkers.AUDIT, "Deletando bebida com uuid \"{}\"", uuid);
+
+        long requests = clientRequestRepository.countRequestsWithDrink(uuid)
+                + archivedClientRequestRepository.countArchivedRequestsWithDrink(uuid);
+
+        if (requests > jobProperties.getAsyncThreshold()) {
+            log.info(LogMarkers.AUDIT, "Bebida com uuid \"{}\" está em {} pedidos, a remoção será feita em segundo plano", uuid, requests);
+
+            return Optional.of(jobService.schedule(JobType.DELETE_DRINK, uuid, requests));
+        }
+
+        log.info("Removendo bebida com uuid \"{}\" dos pedidos", uuid);
+
+        List<UUID> requestUUIDs = clientRequestRepository.findRequestsWithDrink(uuid, Pageable.unpaged());
+
+        clientRequestRepository.deleteDrinkFromRequests(uuid);
 
-        Set<ClientRequest> requests = drinkFound.getRequests();
+        deleteRequestsWithoutDrinks(requestUUIDs);
 
-        log.info("Deletando bebida com uuid \"{}\"", uuid);
+        log.info("Removendo bebida com uuid \"{}\" dos pedidos arquivados", uuid);
 
-        if (requests != null && !requests.isEmpty()) {
-            log.info("Removendo bebida com uuid \"{}\" dos pedidos", uuid);
+        int removed;
 
-            Predicate<Drink> isDrinkFound = (drink) -> drink.equals(drinkFound);
+        do {
+            removed = removeFromArchivedRequests(uuid, jobProperties.getChunkSize());
+        } while (removed > 0);
 
-            for (ClientRequest request : requests) {
-                List<Drink> drinks = request.getDrinks();
+        deleteRemovedFromRequests(uuid);
 
-                boolean onlyThisDrinkInRequest = drinks.stream().allMatch(isDrinkFound);
+        return Optional.empty();
+    }
+
+    /**
+     * Apaga, entre os pedidos informados, os que ficaram sem nenhuma bebida e avisa os clientes depois do commit.
+     */
+    public void deleteRequestsWithoutDrinks(List<UUID> requestUUIDs) {
+        if (requestUUIDs.isEmpty()) {
+            return;
+        }
 
-                drinks.removeIf(isDrinkFound);
+        List<UUID> emptyRequests = clientRequestRepository.findRequestsWithoutDrinks(requestUUIDs);
 
-                if (onlyThisDrinkInRequest) {
-                    clientRequestRepository.delete(request);
-                }
-            }
+        if (emptyRequests.isEmpty()) {
+            return;
         }
 
-        drinkRepository.delete(drinkFound);
+        log.info("Deletando {} pedidos que ficaram sem bebidas", emptyRequests.size());
+
+        clientRequestRepository.deleteRequestsWithoutDrinks(emptyRequests);
+
+        eventPublisher.publishEvent(new ClientRequestsRemovedEvent(emptyRequests));
+    }
+
+    /**
+     * Remove a bebida de até {@code chunkSize} pedidos arquivados, apagando os que ficaram sem bebidas.
+     *
+     * @return quantos pedidos arquivados foram processados; zero quando não há mais nenhum com a bebida.
+     */
+    public int removeFromArchivedRequests(UUID uuid, int chunkSize) {
+        List<UUID> archivedUUIDs = archivedClientRequestRepository.findArchivedRequestsWithDrink(uuid, PageRequest.of(0, chunkSize));
+
+        if (archivedUUIDs.isEmpty()) {
+            return 0;
+        }
+
+        archivedClientRequestRepository.deleteDrinkFromArchive(uuid, archivedUUIDs);
+        archivedClientRequestRepository.deleteArchivedRequestsWithoutDrinks(archivedUUIDs);
+
+        return archivedUUIDs.size();
+    }
+
+    /**
+     * Apaga a bebida depois que ela já foi removida dos pedidos ativos e arquivados.
+     */
+    public void deleteRemovedFromRequests(UUID uuid) {
+        drinkRepository.deleteById(uuid);
+
+        userStatisticsService.evictAllAfterCommit();
     }
 
 }
@@ -0,0 +1,81 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.enums.JobStatus;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import com.github.skyg0d.skydrinksapi.exception.BadRequestException;
+import com.github.skyg0d.skydrinksapi.job.JobRunner;
+import com.github.skyg0d.skydrinksapi.repository.job.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class JobService {
+
+    private final JobRepository jobRepository;
+    private final JobRunner jobRunner;
+
+    public Page<Job> listAll(Pageable pageable) {
+        log.info("Retornando todos os jobs com os parametros \"{}\"", pageable);
+
+        return jobRepository.findAll(pageable);
+    }
+
+    public Job findByIdOrElseThrowBadRequestException(UUID uuid) {
+        log.info("Pesquisando job com uuid \"{}\"", uuid);
+
+        return jobRepository
+                .findById(uuid)
+                .orElseThrow(() -> new BadRequestException(String.format("Job com id %s não foi encontrado.", uuid)));
+    }
+
+    /**
+     * Grava o job como pendente e o envia para execução. Dentro de uma transação o envio só acontece depois do
+     * commit, para que o executor encontre o job gravado. Se já existe um job pendente ou rodando para a mesma
+     * entidade, ele é retornado em vez de criar outro.
+     */
+    public Job schedule(JobType type, UUID targetUuid, long totalItems) {
+        Optional<Job> activeJob = jobRepository.findFirstByTypeAndTargetUuidAndStatusInOrderByCreatedAt(type, targetUuid, List.of(JobStatus.PENDING, JobStatus.RUNNING));
+
+        if (activeJob.isPresent()) {
+            log.info("Job \"{}\" do tipo \"{}\" para \"{}\" já está agendado", activeJob.get().getUuid(), type, targetUuid);
+
+            return activeJob.get();
+        }
+
+        Job jobSaved = jobRepository.save(Job
+                .builder()
+                .type(type)
+                .status(JobStatus.PENDING)
+                .targetUuid(targetUuid)
+                .totalItems(totalItems)
+                .build());
+
+        log.info("Job \"{}\" do tipo \"{}\" agendado para \"{}\"", jobSaved.getUuid(), type, targetUuid);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    jobRunner.submit(jobSaved.getUuid());
+                }
+            });
+        } else {
+            jobRunner.submit(jobSaved.getUuid());
+        }
+
+        return jobSaved;
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.config.AsyncConfiguration;
+import com.github.skyg0d.skydrinksapi.domain.OutboxMail;
+import com.github.skyg0d.skydrinksapi.enums.MailStatus;
+import com.github.skyg0d.skydrinksapi.property.MailProperties;
+import com.github.skyg0d.skydrinksapi.repository.mail.OutboxMailRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.io.UnsupportedEncodingException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Guarda os emails na tabela {@code mail_outbox} dentro da transação de quem os criou e envia em segundo plano. Cada
+ * lote usa uma única conexão SMTP; os emails que falham voltam para a fila com espera exponencial e, depois de
+ * {@code my.mail.max-attempts} tentativas, ficam como {@link MailStatus#DEAD} para análise.
+ * <p>
+ * O conteúdo pode ter dados sensíveis, como códigos de recuperação de senha, então é apagado assim que o email sai da
+ * fila; a linha continua até a limpeza só com o destinatário, o assunto e o resultado.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class MailOutboxService {
+
+    public static final String REDACTED_CONTENT = "[conteúdo removido]";
+
+    private final OutboxMailRepository outboxMailRepository;
+    private final MailProperties mailProperties;
+    private final JavaMailSender mailSender;
+
+    @Transactional
+    public OutboxMail enqueue(String recipient, String subject, String content) {
+        log.info("Adicionando email \"{}\" para \"{}\" na fila de envio", subject, recipient);
+
+        OutboxMail mail = OutboxMail
+                .builder()
+                .recipient(recipient)
+                .subject(subject)
+                .content(content)
+                .status(MailStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        return outboxMailRepository.save(mail);
+    }
+
+    @Async(AsyncConfiguration.MAIL_EXECUTOR)
+    @Scheduled(fixedDelayString = "${my.mail.poll-rate:5000}")
+    public void sendPending() {
+        List<OutboxMail> mails;
+
+        do {
+            mails = outboxMailRepository.findReady(MailStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, mailProperties.getBatchSize()));
+
+            if (!mails.isEmpty()) {
+                sendBatch(mails);
+            }
+        } while (mails.size() == mailProperties.getBatchSize());
+    }
+
+    private void sendBatch(List<OutboxMail> mails) {
+        Map<MimeMessage, OutboxMail> messages = new IdentityHashMap<>();
+        LocalDateTime leaseUntil = LocalDateTime.now().plus(mailProperties.getLease(), ChronoUnit.MILLIS);
+
+        for (OutboxMail mail : mails) {
+            // Outro nó pode ter pego o mesmo email; só envia quem conseguir adiar a próxima tentativa.
+            if (outboxMailRepository.claim(mail.getUuid(), MailStatus.PENDING, mail.getNextAttemptAt(), leaseUntil) == 0) {
+                continue;
+            }
+
+            try {
+                messages.put(createMessage(mail), mail);
+            } catch (MessagingException | UnsupportedEncodingException ex) {
+                failed(mail, ex);
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        log.info("Enviando {} emails da fila", messages.size());
+
+        Map<Object, Exception> failures = Map.of();
+
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException ex) {
+            failures = ex.getFailedMessages();
+
+            if (failures.isEmpty()) {
+                messages.values().forEach((mail) -> failed(mail, ex));
+                return;
+            }
+        } catch (MailException ex) {
+            // Falha de autenticação ou de conexão: nenhum email do lote foi enviado.
+            messages.values().forEach((mail) -> failed(mail, ex));
+            return;
+        }
+
+        for (Map.Entry<MimeMessage, OutboxMail> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+
+            if (failure != null) {
+                failed(entry.getValue(), failure);
+            } else {
+                sent(entry.getValue());
+            }
+        }
+    }
+
+    private MimeMessage createMessage(OutboxMail mail) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+
+        helper.setFrom(mailProperties.getFrom(), mailProperties.getFromName());
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getContent(), true);
+
+        return message;
+    }
+
+    private void sent(OutboxMail mail) {
+        log.info("Email \"{}\" enviado para \"{}\"", mail.getSubject(), mail.getRecipient());
+
+        mail.setStatus(MailStatus.SENT);
+        mail.setSentAt(LocalDateTime.now());
+        mail.setLastError(null);
+        mail.setContent(REDACTED_CONTENT);
+
+        outboxMailRepository.save(mail);
+    }
+
+    private void failed(OutboxMail mail, Exception ex) {
+        String message = String.valueOf(ex.getMessage());
+
+        mail.setAttempts(mail.getAttempts() + 1);
+        mail.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+
+        if (mail.getAttempts() >= mailProperties.getMaxAttempts()) {
+            log.error("Email \"{}\" para \"{}\" falhou {} vezes e não será mais enviado", mail.getSubject(), mail.getRecipient(), mail.getAttempts(), ex);
+
+            mail.setStatus(MailStatus.DEAD);
+            mail.setContent(REDACTED_CONTENT);
+        } else {
+            long backoff = Math.min(mailProperties.getMaxBackoff(), mailProperties.getInitialBackoff() << Math.min(mail.getAttempts() - 1, 30));
+
+            log.warn("Falha ao enviar email \"{}\" para \"{}\", nova tentativa em {} ms: {}", mail.getSubject(), mail.getRecipient(), backoff, message);
+
+            mail.setNextAttemptAt(LocalDateTime.now().plus(backoff, ChronoUnit.MILLIS));
+        }
+
+        outboxMailRepository.save(mail);
+    }
+
+}
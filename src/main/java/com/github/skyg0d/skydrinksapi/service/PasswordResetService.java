@@ -7,19 +7,15 @@ import com.github.skyg0d.skydrinksapi.property.PasswordResetProperties;
 import com.github.skyg0d.skydrinksapi.repository.password.PasswordResetRepository;
 import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
 import com.github.skyg0d.skydrinksapi.requests.NewPasswordPostRequestBody;
+import com.github.skyg0d.skydrinksapi.util.TokenHashUtil;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 import net.bytebuddy.utility.RandomString;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.mail.internet.MimeMessage;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -30,11 +26,19 @@ public class PasswordResetService {
     private final ApplicationUserRepository applicationUserRepository;
     private final PasswordResetRepository passwordResetRepository;
     private final PasswordResetProperties passwordResetProperties;
-    private final JavaMailSender mailSender;
+    private final MailOutboxService mailOutboxService;
 
+    @Transactional
     public void create(String userEmail) {
         ApplicationUser userFound = applicationUserService.findByEmail(userEmail);
 
+        // Um código novo invalida os anteriores, então cada usuário tem no máximo um código ativo.
+        int superseded = passwordResetRepository.deleteByUser(userFound);
+
+        if (superseded > 0) {
+            log.info("Invalidando {} códigos anteriores do usuário com o email \"{}\"", superseded, userEmail);
+        }
+
         log.info("Criando novo código de confirmação para o usuário com o email \"{}\"", userEmail);
 
         String token = RandomString.make(passwordResetProperties.getTokenLength());
@@ -42,35 +46,23 @@ public class PasswordResetService {
         PasswordReset passwordReset = PasswordReset
                 .builder()
                 .expireDate(LocalDateTime.now().plusMinutes(passwordResetProperties.getExpireMinutes()))
-                .token(token)
+                .tokenHash(TokenHashUtil.hash(token))
                 .user(userFound)
                 .build();
 
-        sendTokenToUser(userEmail, token, userFound);
-
         passwordResetRepository.save(passwordReset);
+
+        sendTokenToUser(userEmail, token, userFound);
     }
 
     public PasswordReset tokenIsValid(String token, String userEmail) {
-        ApplicationUser user = applicationUserService.findByEmail(userEmail);
-        List<PasswordReset> tokens = passwordResetRepository.findByUser(user);
+        log.info("Pesquisando código de confirmação para o usuário com email \"{}\"", userEmail);
 
-        log.info("Pesquisando código \"{}\", para o usuário com email \"{}\"", token, userEmail);
+        PasswordReset tokenFound = passwordResetRepository
+                .findActiveToken(userEmail, TokenHashUtil.hash(token))
+                .orElseThrow(() -> new BadRequestException("Código de confirmação inválido!"));
 
-        Optional<PasswordReset> optionalPasswordReset = tokens
-                .stream()
-                .filter((passwordReset) -> passwordReset.getToken().equals(token) && !passwordReset.isResetFinished())
-                .findFirst();
-
-        if (optionalPasswordReset.isEmpty()) {
-            throw new BadRequestException("Código de confirmação inválido!");
-        }
-
-        log.info("Código encontrado para o usuário com o email \"{}\"", userEmail);
-
-        PasswordReset tokenFound = optionalPasswordReset.get();
-
-        log.info("Verificando se o token \"{}\" já expirou", tokenFound.getToken());
+        log.info("Verificando se o código do usuário com o email \"{}\" já expirou", userEmail);
 
         boolean tokenExpired = tokenFound.getExpireDate().isBefore(LocalDateTime.now());
 
@@ -89,33 +81,21 @@ public class PasswordResetService {
 
         log.info("Atualizando a senha do usuário com o email: \"{}\"", newPasswordPostRequestBody.getEmail());
 
-        ApplicationUser user = applicationUserService.findByEmail(newPasswordPostRequestBody.getEmail());
+        ApplicationUser user = tokenFound.getUser();
         user.setPassword(new BCryptPasswordEncoder().encode(newPasswordPostRequestBody.getPassword()));
 
         applicationUserRepository.save(user);
         passwordResetRepository.save(tokenFound);
     }
 
-    @SneakyThrows
     private void sendTokenToUser(String email, String token, ApplicationUser user) {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message);
-
-        helper.setFrom("oficialskydrinks@gmail.com", "SkyDrinks Suporte");
-        helper.setTo(email);
-
         String content = String.format("<h2>Olá, <b><i>%s</i></b></h2>", user.getName())
                 + "<p>Você solicitou a recuperação de sua senha.</p>"
                 + String.format("<p>Insira esse código para confirmar: <b>%s</b></p>", token)
                 + "<p>Ignore caso você lembre sua senha, ou não solicitou isso.</p>";
 
-        helper.setSubject("Código para resetar sua senha");
-
-        helper.setText(content, true);
-
-        log.info("Envinado confirmação para o email \"{}\"", email);
-
-        mailSender.send(message);
+        // O email só é gravado na fila junto com o código; o envio acontece depois, fora da requisição.
+        mailOutboxService.enqueue(email, "Código para resetar sua senha", content);
     }
 
 }
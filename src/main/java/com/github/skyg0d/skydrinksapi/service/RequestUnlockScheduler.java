@@ -0,0 +1,159 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.domain.RequestLockExpiration;
+import com.github.skyg0d.skydrinksapi.property.RequestLockProperties;
+import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Desbloqueia os pedidos dos usuários no fim do prazo do bloqueio. Os desbloqueios ficam numa roda de tempo em memória,
+ * que dispara cada um com a precisão de {@code my.request-lock.tick-duration} sem consultar a tabela de usuários; ao
+ * iniciar, a roda é montada de novo a partir dos bloqueios gravados.
+ *
+ * <p>Todos os nós agendam os bloqueios que encontram ao iniciar, mas o desbloqueio só altera a linha se o prazo gravado
+ * ainda for o agendado, então apenas um nó o executa. Como um bloqueio só é agendado no nó que o criou, cada nó também
+ * procura a cada {@code my.request-lock.scan-rate} os bloqueios que vencem até a próxima procura, para que os criados
+ * em outro nó, inclusive num que parou, sejam desfeitos no prazo.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class RequestUnlockScheduler implements DisposableBean {
+
+    private final ApplicationUserRepository applicationUserRepository;
+    private final RequestLockProperties requestLockProperties;
+    private final Map<UUID, Timeout> scheduledUnlocks = new ConcurrentHashMap<>();
+    private volatile HashedWheelTimer timer;
+
+    public void schedule(UUID uuid, LocalDateTime lockRequestsUntil) {
+        long delay = Math.max(0, Duration.between(LocalDateTime.now(), lockRequestsUntil).toMillis());
+
+        Timeout timeout = getTimer().newTimeout((self) -> unlock(uuid, lockRequestsUntil, self), delay, TimeUnit.MILLISECONDS);
+        Timeout previous = scheduledUnlocks.put(uuid, timeout);
+
+        if (previous != null) {
+            previous.cancel();
+        }
+
+        if (timeout.isExpired()) {
+            scheduledUnlocks.remove(uuid, timeout);
+        }
+    }
+
+    public void cancel(UUID uuid) {
+        Timeout timeout = scheduledUnlocks.remove(uuid);
+
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    public int getScheduledUnlocks() {
+        return scheduledUnlocks.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int pageSize = requestLockProperties.getRebuildPageSize();
+        int page = 0;
+        int scheduled = 0;
+        List<RequestLockExpiration> expirations;
+
+        do {
+            expirations = applicationUserRepository.findRequestLockExpirations(PageRequest.of(page++, pageSize));
+
+            expirations.forEach((expiration) -> schedule(expiration.getUuid(), expiration.getLockRequestsUntil()));
+
+            scheduled += expirations.size();
+        } while (expirations.size() == pageSize);
+
+        if (scheduled > 0) {
+            log.info("Agendados {} desbloqueios de pedidos", scheduled);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${my.request-lock.scan-rate:60000}", initialDelayString = "${my.request-lock.scan-rate:60000}")
+    public void scheduleUpcomingUnlocks() {
+        // Duas vezes o intervalo, para que um bloqueio nunca fique entre o fim de uma procura e o início da próxima.
+        LocalDateTime until = LocalDateTime.now().plusNanos(requestLockProperties.getScanRate() * 2 * 1_000_000);
+        int pageSize = requestLockProperties.getRebuildPageSize();
+        int page = 0;
+        int scheduled = 0;
+        List<RequestLockExpiration> expirations;
+
+        do {
+            expirations = applicationUserRepository.findRequestLockExpirationsBefore(until, PageRequest.of(page++, pageSize));
+
+            for (RequestLockExpiration expiration : expirations) {
+                if (!scheduledUnlocks.containsKey(expiration.getUuid())) {
+                    schedule(expiration.getUuid(), expiration.getLockRequestsUntil());
+                    scheduled++;
+                }
+            }
+        } while (expirations.size() == pageSize);
+
+        if (scheduled > 0) {
+            log.info("Agendados {} desbloqueios de pedidos criados em outros nós", scheduled);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    // Roda na thread da roda de tempo; o update é por chave primária, então não atrasa os próximos desbloqueios.
+    void unlock(UUID uuid, LocalDateTime lockRequestsUntil, Timeout timeout) {
+        scheduledUnlocks.remove(uuid, timeout);
+
+        try {
+            if (applicationUserRepository.unlockRequestsIfExpired(uuid, lockRequestsUntil) > 0) {
+                log.info("Pedidos do usuário com uuid \"{}\" desbloqueados automaticamente", uuid);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Não foi possível desbloquear os pedidos do usuário com uuid \"{}\"", uuid, ex);
+        }
+    }
+
+    private HashedWheelTimer getTimer() {
+        if (timer == null) {
+            synchronized (this) {
+                if (timer == null) {
+                    timer = new HashedWheelTimer(
+                            (runnable) -> {
+                                Thread thread = new Thread(runnable, "request-unlock-timer");
+                                thread.setDaemon(true);
+
+                                return thread;
+                            },
+                            requestLockProperties.getTickDuration(),
+                            TimeUnit.MILLISECONDS,
+                            requestLockProperties.getTicksPerWheel()
+                    );
+                }
+            }
+        }
+
+        return timer;
+    }
+
+}
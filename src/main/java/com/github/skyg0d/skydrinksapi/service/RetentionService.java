@@ -0,0 +1,147 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.config.AsyncConfiguration;
+import com.github.skyg0d.skydrinksapi.domain.RetentionReport;
+import com.github.skyg0d.skydrinksapi.property.RetentionProperties;
+import com.github.skyg0d.skydrinksapi.retention.RetentionRule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Executa as {@link RetentionRule} fora do horário de movimento, em lotes pequenos. Depois de cada lote a execução
+ * pausa proporcionalmente ao tempo que o lote levou, para que a limpeza ocupe no máximo {@code my.retention.max-db-load}
+ * do tempo do banco, e para de vez ao atingir {@code my.retention.max-run-time}.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class RetentionService {
+
+    private final ObjectProvider<RetentionRule> retentionRules;
+    private final RetentionProperties retentionProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, RetentionReport> reports = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Async(AsyncConfiguration.RETENTION_EXECUTOR)
+    @Scheduled(cron = "${my.retention.cron:0 30 4 * * *}")
+    public void scheduledPurge() {
+        if (retentionProperties.isEnabled()) {
+            purgeAll();
+        }
+    }
+
+    /**
+     * Inicia a limpeza em segundo plano; o andamento pode ser acompanhado por {@link #getReports()}.
+     */
+    @Async(AsyncConfiguration.RETENTION_EXECUTOR)
+    public void purgeAllInBackground() {
+        purgeAll();
+    }
+
+    public List<RetentionReport> purgeAll() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Limpeza de dados vencidos já está em execução");
+
+            return getReports();
+        }
+
+        try {
+            long deadline = System.currentTimeMillis() + retentionProperties.getMaxRunTime();
+
+            retentionRules.orderedStream().forEach((rule) -> purge(rule, deadline));
+
+            return getReports();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public List<RetentionReport> getReports() {
+        return reports
+                .values()
+                .stream()
+                .sorted(Comparator.comparing(RetentionReport::getRule))
+                .collect(Collectors.toList());
+    }
+
+    private void purge(RetentionRule rule, long deadline) {
+        int batchSize = retentionProperties.getBatchSize();
+        LocalDateTime now = LocalDateTime.now();
+        long startedAt = System.currentTimeMillis();
+
+        long purged = 0;
+        int batches = 0;
+        boolean completed = false;
+
+        log.info("Aplicando a regra de retenção \"{}\"", rule.getName());
+
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                long batchStartedAt = System.nanoTime();
+
+                Integer affected = transactionTemplate.execute((status) -> rule.purge(now, batchSize));
+
+                long batchMillis = (System.nanoTime() - batchStartedAt) / 1_000_000;
+
+                purged += affected == null ? 0 : affected;
+                batches++;
+
+                if (affected == null || affected < batchSize) {
+                    completed = true;
+                    break;
+                }
+
+                throttle(batchMillis);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            log.error("A regra de retenção \"{}\" falhou", rule.getName(), ex);
+        }
+
+        if (!completed) {
+            log.warn("A regra de retenção \"{}\" parou antes do fim, o restante será removido na próxima execução", rule.getName());
+        }
+
+        log.info("A regra de retenção \"{}\" removeu {} linhas em {} lotes", rule.getName(), purged, batches);
+
+        RetentionReport previous = reports.get(rule.getName());
+
+        reports.put(rule.getName(), RetentionReport
+                .builder()
+                .rule(rule.getName())
+                .purged(purged)
+                .batches(batches)
+                .durationMillis(System.currentTimeMillis() - startedAt)
+                .completed(completed)
+                .finishedAt(LocalDateTime.now())
+                .totalPurged((previous == null ? 0 : previous.getTotalPurged()) + purged)
+                .build());
+    }
+
+    // Com carga máxima de 25%, um lote de 100 ms é seguido de 300 ms de pausa.
+    private void throttle(long batchMillis) throws InterruptedException {
+        double maxDbLoad = Math.min(1, Math.max(0.01, retentionProperties.getMaxDbLoad()));
+        long pause = (long) (batchMillis * (1 - maxDbLoad) / maxDbLoad);
+
+        if (pause > 0) {
+            Thread.sleep(pause);
+        }
+    }
+
+}
@@ -1,10 +1,14 @@
 package com.github.skyg0d.skydrinksapi.service;
 
-import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.domain.Job;
 import com.github.skyg0d.skydrinksapi.domain.Table;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
 import com.github.skyg0d.skydrinksapi.exception.BadRequestException;
+import com.github.skyg0d.skydrinksapi.logging.LogMarkers;
 import com.github.skyg0d.skydrinksapi.mapper.TableMapper;
 import com.github.skyg0d.skydrinksapi.parameters.TableParameters;
+import com.github.skyg0d.skydrinksapi.property.JobProperties;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.table.TableRepository;
 import com.github.skyg0d.skydrinksapi.repository.table.TableSpecification;
@@ -14,11 +18,13 @@ import com.github.skyg0d.skydrinksapi.util.UUIDUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -28,8 +34,11 @@ public class TableService {
 
     private final TableRepository tableRepository;
     private final ClientRequestRepository clientRequestRepository;
+    private final ArchivedClientRequestRepository archivedClientRequestRepository;
     private final TableMapper mapper = TableMapper.INSTANCE;
     private final UUIDUtil uuidUtil;
+    private final JobService jobService;
+    private final JobProperties jobProperties;
 
     public Page<Table> listAll(Pageable pageable) {
         log.info("Retornando todos as tabelas com os parametros \"{}\"", pageable);
@@ -71,7 +80,7 @@ public class TableService {
             throw new BadRequestException(String.format("Mesa com número %d já existe!", tableNumber));
         }
 
-        log.info("Criando mesa com número \"{}\"", tableNumber);
+        log.info(LogMarkers.AUDIT, "Criando mesa com número \"{}\"", tableNumber);
 
         return tableRepository.save(mapper.toTable(tablePostRequestBody));
     }
@@ -79,7 +88,7 @@ public class TableService {
     public void replace(TablePutRequestBody tablePutRequestBody) {
         findByIdOrElseThrowBadRequestException(tablePutRequestBody.getUuid());
 
-        log.info("Atualizando mesa com uuid \"{}\"", tablePutRequestBody.getUuid());
+        log.info(LogMarkers.AUDIT, "Atualizando mesa com uuid \"{}\"", tablePutRequestBody.getUuid());
 
         tableRepository.save(mapper.toTable(tablePutRequestBody));
     }
@@ -91,34 +100,63 @@ public class TableService {
                 ? findByIdOrElseThrowBadRequestException(uuid)
                 : findByNumberOrElseThrowBadRequestException(Integer.parseInt(identification));
 
-        log.info("Invertendo a ocupação da mesa com identificação \"{}\"", identification);
+        log.info(LogMarkers.AUDIT, "Invertendo a ocupação da mesa com identificação \"{}\"", identification);
 
         foundTable.setOccupied(!foundTable.isOccupied());
 
         return tableRepository.save(foundTable);
     }
 
-    public void delete(UUID uuid) {
-        Table tableFound = findByIdOrElseThrowBadRequestException(uuid);
+    /**
+     * Remove a mesa dos pedidos e depois a apaga. Quando a mesa está em muitos pedidos a remoção é feita em
+     * segundo plano e o job criado é retornado.
+     */
+    @Transactional
+    public Optional<Job> delete(UUID uuid) {
+        findByIdOrElseThrowBadRequestException(uuid);
 
-        Set<ClientRequest> requests = tableFound.getRequests();
+        log.info(LogMarkers.AUDIT, "Deletando mesa com uuid \"{}\"", uuid);
 
-        log.info("Deletando mesa com uuid \"{}\"", uuid);
+        long requests = clientRequestRepository.countByTableUuid(uuid) + archivedClientRequestRepository.countByTableUuid(uuid);
 
-        if (requests != null && !requests.isEmpty()) {
-            log.info("Removendo mesa dos pedidos");
+        if (requests > jobProperties.getAsyncThreshold()) {
+            log.info(LogMarkers.AUDIT, "Mesa com uuid \"{}\" está em {} pedidos, a remoção será feita em segundo plano", uuid, requests);
 
-            for (ClientRequest request : requests) {
-                Table table = request.getTable();
+            return Optional.of(jobService.schedule(JobType.DELETE_TABLE, uuid, requests));
+        }
+
+        log.info("Removendo mesa dos pedidos");
+
+        clientRequestRepository.removeTableFromRequests(uuid);
+        archivedClientRequestRepository.removeTableFromArchive(uuid);
+
+        deleteRemovedFromRequests(uuid);
+
+        return Optional.empty();
+    }
+
+    /**
+     * Remove a mesa de até {@code chunkSize} pedidos arquivados.
+     *
+     * @return quantos pedidos arquivados foram processados; zero quando não há mais nenhum com a mesa.
+     */
+    public int removeFromArchivedRequests(UUID uuid, int chunkSize) {
+        List<UUID> archivedUUIDs = archivedClientRequestRepository.findArchivedRequestsOfTable(uuid, PageRequest.of(0, chunkSize));
 
-                if (tableFound.equals(table)) {
-                    request.setTable(null);
-                    clientRequestRepository.save(request);
-                }
-            }
+        if (archivedUUIDs.isEmpty()) {
+            return 0;
         }
 
-        tableRepository.delete(tableFound);
+        archivedClientRequestRepository.removeTableFromArchive(archivedUUIDs);
+
+        return archivedUUIDs.size();
+    }
+
+    /**
+     * Apaga a mesa depois que ela já foi removida dos pedidos ativos e arquivados.
+     */
+    public void deleteRemovedFromRequests(UUID uuid) {
+        tableRepository.deleteById(uuid);
     }
 
 }
@@ -0,0 +1,133 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestDrinkCount;
+import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestEventType;
+import com.github.skyg0d.skydrinksapi.enums.TrendingWindow;
+import com.github.skyg0d.skydrinksapi.property.TrendingProperties;
+import com.github.skyg0d.skydrinksapi.repository.drink.DrinkRepository;
+import com.github.skyg0d.skydrinksapi.socket.broker.MessageBroadcaster;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEvent;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestSummary;
+import com.github.skyg0d.skydrinksapi.socket.domain.TrendingDrinksMessage;
+import com.github.skyg0d.skydrinksapi.util.sketch.SlidingWindowSketch;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Conta as bebidas pedidas a partir dos eventos aceitos pelo
+ * {@link com.github.skyg0d.skydrinksapi.socket.notification.ClientRequestEventLog}, que inclui os eventos de todos os
+ * nós, para que todas as instâncias mostrem os mesmos drinks em alta.
+ */
+@Service
+@Log4j2
+public class TrendingDrinksService {
+
+    private final TrendingProperties trendingProperties;
+    private final MessageBroadcaster messageBroadcaster;
+    private final DrinkRepository drinkRepository;
+    private final SlidingWindowSketch<UUID> sketch;
+    private final Map<UUID, String> drinkNames = new ConcurrentHashMap<>();
+
+    public TrendingDrinksService(TrendingProperties trendingProperties, MessageBroadcaster messageBroadcaster, DrinkRepository drinkRepository) {
+        this.trendingProperties = trendingProperties;
+        this.messageBroadcaster = messageBroadcaster;
+        this.drinkRepository = drinkRepository;
+        this.sketch = new SlidingWindowSketch<>(
+                trendingProperties.getCapacity(),
+                Duration.ofMinutes(trendingProperties.getBucketMinutes()),
+                Duration.ofMinutes(trendingProperties.getRetentionMinutes())
+        );
+    }
+
+    /**
+     * Os pedidos criados somam as suas bebidas e os cancelados as descontam, na data em que o pedido foi criado.
+     */
+    @EventListener
+    public void record(ClientRequestEvent event) {
+        ClientRequestSummary request = event.getRequest();
+
+        if (request == null || request.getDrinks() == null) {
+            return;
+        }
+
+        Instant requestedAt = request.getCreatedAt() == null ? Instant.now() : request.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant();
+
+        if (event.getType() == ClientRequestEventType.CREATED) {
+            record(request.getDrinks(), 1, requestedAt);
+        } else if (event.getType() == ClientRequestEventType.CANCELED) {
+            record(request.getDrinks(), -1, requestedAt);
+        }
+    }
+
+    public List<ClientRequestDrinkCount> getTrendingDrinks(TrendingWindow window, int size) {
+        log.info("Retornando as bebidas em alta na janela \"{}\"", window);
+
+        Instant now = Instant.now();
+
+        List<Map.Entry<UUID, Long>> top = sketch.top(getWindowStart(window, now), now, size);
+
+        loadMissingNames(top);
+
+        return top
+                .stream()
+                .map((entry) -> new ClientRequestDrinkCount(entry.getKey(), drinkNames.get(entry.getKey()), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @Scheduled(fixedRateString = "${my.trending.push-rate:30000}", initialDelayString = "${my.trending.push-rate:30000}")
+    public void sendTrendingDrinks() {
+        Map<TrendingWindow, List<ClientRequestDrinkCount>> drinks = new EnumMap<>(TrendingWindow.class);
+
+        for (TrendingWindow window : TrendingWindow.values()) {
+            drinks.put(window, getTrendingDrinks(window, trendingProperties.getPushSize()));
+        }
+
+        messageBroadcaster.convertAndSend("/topic/trending-drinks", new TrendingDrinksMessage(drinks));
+    }
+
+    private void record(List<UUID> drinks, long weight, Instant when) {
+        for (UUID drink : drinks) {
+            sketch.offer(drink, weight, when);
+        }
+    }
+
+    // Os eventos só trazem o id das bebidas; o nome é buscado uma vez e guardado.
+    private void loadMissingNames(List<Map.Entry<UUID, Long>> top) {
+        List<UUID> missing = top
+                .stream()
+                .map(Map.Entry::getKey)
+                .filter((uuid) -> !drinkNames.containsKey(uuid))
+                .collect(Collectors.toList());
+
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        for (Drink drink : drinkRepository.findAllById(missing)) {
+            drinkNames.put(drink.getUuid(), drink.getName());
+        }
+    }
+
+    private Instant getWindowStart(TrendingWindow window, Instant now) {
+        switch (window) {
+            case LAST_FIFTEEN_MINUTES:
+                return now.minus(Duration.ofMinutes(15));
+            case LAST_HOUR:
+                return now.minus(Duration.ofHours(1));
+            default:
+                ZonedDateTime zonedNow = now.atZone(ZoneId.systemDefault());
+                ZonedDateTime nightStart = zonedNow.toLocalDate().atTime(trendingProperties.getNightStartHour(), 0).atZone(ZoneId.systemDefault());
+
+                return (nightStart.isAfter(zonedNow) ? nightStart.minusDays(1) : nightStart).toInstant();
+        }
+    }
+
+}
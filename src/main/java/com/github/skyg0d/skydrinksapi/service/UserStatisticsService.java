@@ -0,0 +1,322 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.domain.*;
+import com.github.skyg0d.skydrinksapi.property.UserStatisticsProperties;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.util.ClientRequestRollupUtil;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Mantém em cache (LRU) as estatísticas de pedidos de cada usuário, atualizadas a cada pedido criado,
+ * alterado ou removido, evitando as agregações sobre todo o histórico do usuário a cada consulta.
+ * <p>
+ * Os totais por bebida e por alcoolismo contam todos os pedidos, inclusive os cancelados, assim como as
+ * consultas de {@link ClientRequestRepository}, somando os pedidos arquivados; o total gasto ignora os pedidos
+ * cancelados.
+ */
+@Service
+@Log4j2
+public class UserStatisticsService {
+
+    private static final double PRICE_TOLERANCE = 0.005;
+
+    private final ClientRequestRepository clientRequestRepository;
+    private final ArchivedClientRequestRepository archivedClientRequestRepository;
+    private final Map<UUID, CachedStatistics> cache;
+    private final Map<UUID, Integer> pending = new HashMap<>();
+
+    private long mutations;
+
+    public UserStatisticsService(ClientRequestRepository clientRequestRepository, ArchivedClientRequestRepository archivedClientRequestRepository, UserStatisticsProperties userStatisticsProperties) {
+        this.clientRequestRepository = clientRequestRepository;
+        this.archivedClientRequestRepository = archivedClientRequestRepository;
+
+        int cacheSize = userStatisticsProperties.getCacheSize();
+
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedStatistics> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public UserStatistics getStatistics(UUID userUUID) {
+        long mutationsBeforeLoad;
+
+        synchronized (this) {
+            CachedStatistics entry = cache.get(userUUID);
+
+            if (entry != null) {
+                return entry.getSnapshot();
+            }
+
+            mutationsBeforeLoad = mutations;
+        }
+
+        log.info("Calculando as estatísticas do usuário com uuid \"{}\"", userUUID);
+
+        CachedStatistics entry = loadEntry(userUUID);
+        UserStatistics statistics = entry.getSnapshot();
+
+        synchronized (this) {
+            // Só guarda o resultado se nenhum pedido mudou durante a consulta, senão ele já pode estar desatualizado,
+            // nem se um pedido já confirmado ainda vai ser aplicado, senão ele seria contado duas vezes.
+            if (mutations == mutationsBeforeLoad && !pending.containsKey(userUUID)) {
+                cache.put(userUUID, entry);
+            }
+        }
+
+        return statistics;
+    }
+
+    public List<ClientRequestDrinkCount> getTopFiveDrinks(UUID userUUID) {
+        return getStatistics(userUUID)
+                .getDrinks()
+                .stream()
+                .limit(5)
+                .collect(Collectors.toList());
+    }
+
+    public List<ClientRequestAlcoholicDrinkCount> getTotalOfDrinksGroupedByAlcoholic(UUID userUUID) {
+        return getStatistics(userUUID).getAlcoholic();
+    }
+
+    /**
+     * Marca, no commit da transação atual, que um pedido do usuário foi alterado e ainda vai ser aplicado ao cache
+     * pelo listener assíncrono. Até lá as consultas do usuário não vão para o cache, porque o banco já tem o pedido.
+     */
+    public void requestChanging(UUID userUUID) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markPending(userUUID);
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            private boolean marked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                markPending(userUUID);
+
+                marked = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                // O commit falhou depois da marcação, então o listener não vai rodar para liberar o usuário.
+                if (marked && status != STATUS_COMMITTED) {
+                    releasePending(userUUID);
+                }
+            }
+
+        });
+    }
+
+    public synchronized void requestAdded(UUID userUUID, List<Drink> drinks, double spent) {
+        mutations++;
+        releasePending(userUUID);
+
+        CachedStatistics entry = cache.get(userUUID);
+
+        if (entry != null) {
+            entry.apply(drinks, spent, 1);
+        }
+    }
+
+    public synchronized void requestRemoved(UUID userUUID, List<Drink> drinks, double spent) {
+        mutations++;
+        releasePending(userUUID);
+
+        CachedStatistics entry = cache.get(userUUID);
+
+        if (entry != null) {
+            entry.apply(drinks, -spent, -1);
+        }
+    }
+
+    public synchronized void spentChanged(UUID userUUID, double previousSpent, double currentSpent) {
+        mutations++;
+        releasePending(userUUID);
+
+        CachedStatistics entry = cache.get(userUUID);
+
+        if (entry != null) {
+            entry.apply(Collections.emptyList(), currentSpent - previousSpent, 0);
+        }
+    }
+
+    public synchronized void evict(UUID userUUID) {
+        mutations++;
+
+        cache.remove(userUUID);
+    }
+
+    public synchronized void evictAll() {
+        log.info("Removendo as estatísticas de todos os usuários do cache");
+
+        mutations++;
+
+        cache.clear();
+    }
+
+    /**
+     * Remove o usuário do cache só depois do commit da transação atual, para que uma consulta feita antes do commit
+     * não volte a guardar as estatísticas antigas.
+     */
+    public void evictAfterCommit(UUID userUUID) {
+        runAfterCommit(() -> evict(userUUID));
+    }
+
+    public void evictAllAfterCommit() {
+        runAfterCommit(this::evictAll);
+    }
+
+    public UserStatisticsCheck checkConsistency(UUID userUUID) {
+        log.info("Verificando a consistência das estatísticas do usuário com uuid \"{}\"", userUUID);
+
+        UserStatistics cached;
+
+        synchronized (this) {
+            CachedStatistics entry = cache.get(userUUID);
+            cached = entry == null ? null : entry.getSnapshot();
+        }
+
+        UserStatistics live = loadEntry(userUUID).getSnapshot();
+
+        boolean consistent = cached == null || isEquivalent(cached, live);
+
+        if (!consistent) {
+            log.warn("As estatísticas em cache do usuário com uuid \"{}\" estão inconsistentes, removendo do cache", userUUID);
+
+            evict(userUUID);
+        }
+
+        return new UserStatisticsCheck(consistent, cached, live);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+        });
+    }
+
+    private synchronized void markPending(UUID userUUID) {
+        mutations++;
+
+        pending.merge(userUUID, 1, Integer::sum);
+    }
+
+    private synchronized void releasePending(UUID userUUID) {
+        pending.computeIfPresent(userUUID, (uuid, total) -> total > 1 ? total - 1 : null);
+    }
+
+    private CachedStatistics loadEntry(UUID userUUID) {
+        CachedStatistics entry = new CachedStatistics(userUUID);
+
+        ClientRequestRollupUtil
+                .mergeDrinkCounts(
+                        clientRequestRepository.countTotalDrinksInRequest(userUUID, Pageable.unpaged()),
+                        archivedClientRequestRepository.countTotalDrinksInRequest(userUUID),
+                        Integer.MAX_VALUE
+                )
+                .forEach((drinkCount) -> entry.drinks.put(drinkCount.getDrinkUUID(), drinkCount));
+
+        ClientRequestRollupUtil
+                .mergeAlcoholicCounts(
+                        clientRequestRepository.countAlcoholicDrinksInRequests(userUUID, Pageable.unpaged()),
+                        archivedClientRequestRepository.countAlcoholicDrinksInRequests(userUUID)
+                )
+                .forEach((alcoholicCount) -> entry.alcoholic.put(alcoholicCount.isAlcoholic(), alcoholicCount.getTotal()));
+
+        entry.totalSpent = clientRequestRepository.sumTotalSpentByUser(userUUID) + archivedClientRequestRepository.sumTotalSpentByUser(userUUID);
+        entry.totalRequests = clientRequestRepository.countByUserUuid(userUUID) + archivedClientRequestRepository.countByUserUuid(userUUID);
+
+        return entry;
+    }
+
+    private boolean isEquivalent(UserStatistics cached, UserStatistics live) {
+        return cached.getTotalRequests() == live.getTotalRequests()
+                && Math.abs(cached.getTotalSpent() - live.getTotalSpent()) < PRICE_TOLERANCE
+                && new HashSet<>(cached.getDrinks()).equals(new HashSet<>(live.getDrinks()))
+                && new HashSet<>(cached.getAlcoholic()).equals(new HashSet<>(live.getAlcoholic()));
+    }
+
+    private static class CachedStatistics {
+
+        private final UUID userUUID;
+        private final Map<UUID, ClientRequestDrinkCount> drinks = new HashMap<>();
+        private final Map<Boolean, Long> alcoholic = new HashMap<>();
+        private double totalSpent;
+        private long totalRequests;
+        private UserStatistics snapshot;
+
+        private CachedStatistics(UUID userUUID) {
+            this.userUUID = userUUID;
+        }
+
+        private void apply(List<Drink> requestDrinks, double spent, int direction) {
+            for (Drink drink : requestDrinks) {
+                ClientRequestDrinkCount drinkCount = drinks.computeIfAbsent(drink.getUuid(), (uuid) -> new ClientRequestDrinkCount(uuid, drink.getName(), 0));
+
+                drinkCount.setTotal(drinkCount.getTotal() + direction);
+
+                if (drinkCount.getTotal() <= 0) {
+                    drinks.remove(drink.getUuid());
+                }
+
+                alcoholic.merge(drink.isAlcoholic(), (long) direction, Long::sum);
+                alcoholic.remove(drink.isAlcoholic(), 0L);
+            }
+
+            totalSpent += spent;
+            totalRequests += direction;
+            snapshot = null;
+        }
+
+        private UserStatistics getSnapshot() {
+            if (snapshot == null) {
+                List<ClientRequestDrinkCount> drinksSnapshot = drinks
+                        .values()
+                        .stream()
+                        .map((drinkCount) -> new ClientRequestDrinkCount(drinkCount.getDrinkUUID(), drinkCount.getName(), drinkCount.getTotal()))
+                        .sorted(Comparator.comparingLong(ClientRequestDrinkCount::getTotal).reversed())
+                        .collect(Collectors.toUnmodifiableList());
+
+                List<ClientRequestAlcoholicDrinkCount> alcoholicSnapshot = alcoholic
+                        .entrySet()
+                        .stream()
+                        .map((alcoholicCount) -> new ClientRequestAlcoholicDrinkCount(alcoholicCount.getKey(), alcoholicCount.getValue()))
+                        .sorted(Comparator.comparingLong(ClientRequestAlcoholicDrinkCount::getTotal).reversed())
+                        .collect(Collectors.toUnmodifiableList());
+
+                snapshot = new UserStatistics(userUUID, drinksSnapshot, alcoholicSnapshot, totalSpent, totalRequests);
+            }
+
+            return snapshot;
+        }
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.github.skyg0d.skydrinksapi.socket.broker;
+
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEvent;
+
+import java.util.List;
+
+/**
+ * Numera os eventos dos pedidos e os guarda para que todos os nós da aplicação vejam a mesma sequência.
+ */
+public interface ClientRequestEventStore {
+
+    /**
+     * Atribui a próxima sequência ao evento e o grava. Quando retorna, todos os eventos anteriores já estão visíveis.
+     */
+    ClientRequestEvent append(ClientRequestEvent event);
+
+    /**
+     * Eventos gravados depois da sequência informada, em ordem crescente.
+     */
+    List<ClientRequestEvent> findAfter(long sequence, int limit);
+
+    long getLatestSequence();
+
+}
@@ -0,0 +1,136 @@
+package com.github.skyg0d.skydrinksapi.socket.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestEventCounter;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestEventRecord;
+import com.github.skyg0d.skydrinksapi.property.BrokerProperties;
+import com.github.skyg0d.skydrinksapi.repository.broker.ClientRequestEventCounterRepository;
+import com.github.skyg0d.skydrinksapi.repository.broker.ClientRequestEventRecordRepository;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEvent;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Numera os eventos com um contador no banco, compartilhado por todos os nós. O contador fica bloqueado até o commit
+ * do evento, então um evento nunca fica visível antes dos anteriores e a sequência não tem buracos.
+ */
+@Log4j2
+public class DatabaseClientRequestEventStore implements ClientRequestEventStore {
+
+    static final int COUNTER_ID = 1;
+
+    private final ClientRequestEventRecordRepository clientRequestEventRecordRepository;
+    private final ClientRequestEventCounterRepository clientRequestEventCounterRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BrokerProperties brokerProperties;
+
+    private volatile boolean counterCreated;
+
+    public DatabaseClientRequestEventStore(
+            ClientRequestEventRecordRepository clientRequestEventRecordRepository,
+            ClientRequestEventCounterRepository clientRequestEventCounterRepository,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            BrokerProperties brokerProperties
+    ) {
+        this.clientRequestEventRecordRepository = clientRequestEventRecordRepository;
+        this.clientRequestEventCounterRepository = clientRequestEventCounterRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.brokerProperties = brokerProperties;
+    }
+
+    @Override
+    public ClientRequestEvent append(ClientRequestEvent event) {
+        createCounter();
+
+        return transactionTemplate.execute((status) -> {
+            ClientRequestEventCounter counter = clientRequestEventCounterRepository
+                    .findForUpdate(COUNTER_ID)
+                    .orElseThrow(() -> new IllegalStateException("O contador dos eventos dos pedidos não existe"));
+
+            counter.setLastSequence(counter.getLastSequence() + 1);
+            event.setSequence(counter.getLastSequence());
+
+            clientRequestEventRecordRepository.save(ClientRequestEventRecord
+                    .builder()
+                    .sequence(event.getSequence())
+                    .payload(write(event))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+
+            return event;
+        });
+    }
+
+    @Override
+    public List<ClientRequestEvent> findAfter(long sequence, int limit) {
+        return clientRequestEventRecordRepository
+                .findAfter(sequence, PageRequest.of(0, limit))
+                .stream()
+                .map(this::read)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long getLatestSequence() {
+        return clientRequestEventCounterRepository
+                .findById(COUNTER_ID)
+                .map(ClientRequestEventCounter::getLastSequence)
+                .orElse(0L);
+    }
+
+    @Scheduled(fixedDelayString = "${my.websocket.broker.retention:600000}")
+    public void deleteOldEvents() {
+        LocalDateTime createdAt = LocalDateTime.now().minus(brokerProperties.getRetention(), ChronoUnit.MILLIS);
+
+        int deleted = clientRequestEventRecordRepository.deleteOlderThan(createdAt);
+
+        if (deleted > 0) {
+            log.info("Removidos {} eventos antigos dos pedidos", deleted);
+        }
+    }
+
+    private void createCounter() {
+        if (counterCreated) {
+            return;
+        }
+
+        if (!clientRequestEventCounterRepository.existsById(COUNTER_ID)) {
+            try {
+                clientRequestEventCounterRepository.saveAndFlush(new ClientRequestEventCounter(COUNTER_ID, 0));
+            } catch (DataIntegrityViolationException ex) {
+                log.debug("O contador dos eventos dos pedidos foi criado por outro nó");
+            }
+        }
+
+        counterCreated = true;
+    }
+
+    private String write(ClientRequestEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalArgumentException(String.format("Não foi possível serializar o evento do pedido \"%s\"", event.getUuid()), exception);
+        }
+    }
+
+    private ClientRequestEvent read(ClientRequestEventRecord record) {
+        try {
+            return objectMapper.readValue(record.getPayload(), ClientRequestEvent.class);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(String.format("Não foi possível ler o evento com sequência %d", record.getSequence()), exception);
+        }
+    }
+
+}
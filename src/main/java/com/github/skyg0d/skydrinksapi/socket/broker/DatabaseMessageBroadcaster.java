@@ -0,0 +1,137 @@
+package com.github.skyg0d.skydrinksapi.socket.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.skyg0d.skydrinksapi.domain.BroadcastMessage;
+import com.github.skyg0d.skydrinksapi.property.BrokerProperties;
+import com.github.skyg0d.skydrinksapi.repository.broker.BroadcastMessageRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Repassa as mensagens entre os nós sem um broker externo: cada mensagem é entregue aos clientes deste nó e gravada
+ * na tabela {@code broadcast_messages}, que os outros nós leem periodicamente.
+ * <p>
+ * Um id menor pode ser confirmado depois de um maior, então os ids pulados abaixo do cursor são guardados e relidos
+ * pelo id até aparecerem ou até passar a janela de acomodação, medida pelo relógio deste nó a partir de quando o
+ * buraco foi visto.
+ */
+@Log4j2
+public class DatabaseMessageBroadcaster implements MessageBroadcaster {
+
+    private final SimpMessagingTemplate template;
+    private final BroadcastMessageRepository broadcastMessageRepository;
+    private final ObjectMapper objectMapper;
+    private final BrokerProperties brokerProperties;
+
+    private final String node = UUID.randomUUID().toString();
+    private final Map<Long, LocalDateTime> missing = new HashMap<>();
+
+    private Long cursor;
+
+    public DatabaseMessageBroadcaster(SimpMessagingTemplate template, BroadcastMessageRepository broadcastMessageRepository, ObjectMapper objectMapper, BrokerProperties brokerProperties) {
+        this.template = template;
+        this.broadcastMessageRepository = broadcastMessageRepository;
+        this.objectMapper = objectMapper;
+        this.brokerProperties = brokerProperties;
+
+        log.info("Repassando as mensagens do websocket pelo banco de dados como o nó \"{}\"", node);
+    }
+
+    @Override
+    public void convertAndSend(String destination, Object payload) {
+        template.convertAndSend(destination, payload);
+
+        try {
+            BroadcastMessage message = BroadcastMessage
+                    .builder()
+                    .destination(destination)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .node(node)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+
+            broadcastMessageRepository.save(message);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalArgumentException(String.format("Não foi possível serializar a mensagem para \"%s\"", destination), exception);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${my.websocket.broker.poll-rate:500}")
+    public synchronized void poll() {
+        if (cursor == null) {
+            // Mensagens gravadas antes deste nó subir não têm mais para quem ser entregues.
+            cursor = broadcastMessageRepository.findMaxId().orElse(0L);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!missing.isEmpty()) {
+            for (BroadcastMessage message : broadcastMessageRepository.findByIds(new ArrayList<>(missing.keySet()))) {
+                missing.remove(message.getId());
+                deliver(message);
+            }
+
+            LocalDateTime since = now.minus(brokerProperties.getSettleWindow(), ChronoUnit.MILLIS);
+
+            missing.values().removeIf((seenAt) -> seenAt.isBefore(since));
+        }
+
+        for (BroadcastMessage message : broadcastMessageRepository.findAfter(cursor, PageRequest.of(0, brokerProperties.getBatchSize()))) {
+            addMissing(cursor + 1, message.getId(), now);
+
+            cursor = message.getId();
+            deliver(message);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${my.websocket.broker.retention:600000}")
+    public void deleteOldMessages() {
+        LocalDateTime createdAt = LocalDateTime.now().minus(brokerProperties.getRetention(), ChronoUnit.MILLIS);
+
+        int deleted = broadcastMessageRepository.deleteOlderThan(createdAt);
+
+        if (deleted > 0) {
+            log.info("Removidas {} mensagens antigas do websocket", deleted);
+        }
+    }
+
+    String getNode() {
+        return node;
+    }
+
+    private void addMissing(long from, long to, LocalDateTime seenAt) {
+        // Um salto maior que um lote não vem de transações em andamento, como o auto incremento pulando após um reinício.
+        if (to - from > brokerProperties.getBatchSize()) {
+            log.warn("Ignorando os ids de {} a {} que faltam nas mensagens do websocket", from, to - 1);
+            return;
+        }
+
+        for (long id = from; id < to; id++) {
+            missing.put(id, seenAt);
+        }
+    }
+
+    private void deliver(BroadcastMessage message) {
+        if (node.equals(message.getNode())) {
+            return;
+        }
+
+        try {
+            // Envia a árvore JSON para que o conversor do broker gere o mesmo JSON gravado pelo outro nó.
+            template.convertAndSend(message.getDestination(), objectMapper.readTree(message.getPayload()));
+        } catch (JsonProcessingException | RuntimeException exception) {
+            log.error("Não foi possível entregar a mensagem {} para \"{}\"", message.getId(), message.getDestination(), exception);
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.github.skyg0d.skydrinksapi.socket.broker;
+
+import com.github.skyg0d.skydrinksapi.property.WebSocketProperties;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEvent;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Numera os eventos em memória. Só serve para uma única instância, já que cada nó teria a própria sequência.
+ */
+@RequiredArgsConstructor
+public class InMemoryClientRequestEventStore implements ClientRequestEventStore {
+
+    private final WebSocketProperties webSocketProperties;
+
+    private final Deque<ClientRequestEvent> events = new ArrayDeque<>();
+
+    private long sequence;
+
+    @Override
+    public synchronized ClientRequestEvent append(ClientRequestEvent event) {
+        event.setSequence(++sequence);
+
+        events.addLast(event);
+
+        while (events.size() > webSocketProperties.getEventLogCapacity()) {
+            events.removeFirst();
+        }
+
+        return event;
+    }
+
+    @Override
+    public synchronized List<ClientRequestEvent> findAfter(long sequence, int limit) {
+        List<ClientRequestEvent> found = new ArrayList<>();
+        Iterator<ClientRequestEvent> iterator = events.descendingIterator();
+
+        while (iterator.hasNext()) {
+            ClientRequestEvent event = iterator.next();
+
+            if (event.getSequence() <= sequence) {
+                break;
+            }
+
+            found.add(event);
+        }
+
+        Collections.reverse(found);
+
+        return found.size() > limit ? new ArrayList<>(found.subList(0, limit)) : found;
+    }
+
+    @Override
+    public synchronized long getLatestSequence() {
+        return sequence;
+    }
+
+}
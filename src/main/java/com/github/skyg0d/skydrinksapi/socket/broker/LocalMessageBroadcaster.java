@@ -0,0 +1,20 @@
+package com.github.skyg0d.skydrinksapi.socket.broker;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * Envia direto para o broker do nó. Com o broker em memória só alcança os clientes deste nó; com o broker relay o
+ * próprio broker externo repassa a mensagem para os outros nós.
+ */
+@RequiredArgsConstructor
+public class LocalMessageBroadcaster implements MessageBroadcaster {
+
+    private final SimpMessagingTemplate template;
+
+    @Override
+    public void convertAndSend(String destination, Object payload) {
+        template.convertAndSend(destination, payload);
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.github.skyg0d.skydrinksapi.socket.broker;
+
+/**
+ * Entrega mensagens aos clientes do websocket conectados em qualquer nó da aplicação.
+ */
+public interface MessageBroadcaster {
+
+    void convertAndSend(String destination, Object payload);
+
+}
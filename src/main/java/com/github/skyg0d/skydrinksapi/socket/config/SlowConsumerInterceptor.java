@@ -0,0 +1,173 @@
+package com.github.skyg0d.skydrinksapi.socket.config;
+
+import com.github.skyg0d.skydrinksapi.property.WebSocketProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limita quantas mensagens podem ficar na fila de saída para cada sessão. Mensagens além do limite são descartadas, e
+ * nos destinos que só carregam o estado mais recente as mensagens antigas ainda na fila são substituídas pela última.
+ * <p>
+ * Cada mensagem ocupa uma vaga da fila até terminar de ser enviada, ser substituída ou ser recusada pelo executor.
+ * Só as sessões conectadas são acompanhadas; mensagens para uma sessão já desconectada passam sem ocupar vaga.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class SlowConsumerInterceptor implements ExecutorChannelInterceptor {
+
+    private final WebSocketProperties webSocketProperties;
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, SessionQueue> sessions = new ConcurrentHashMap<>();
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+
+        SessionQueue queue = sessionId == null ? null : sessions.get(sessionId);
+
+        if (queue == null || destination == null) {
+            return message;
+        }
+
+        synchronized (queue) {
+            if (queue.pending.size() >= webSocketProperties.getMaxQueuedPerSession()) {
+                dropped.increment();
+
+                log.warn("Descartando mensagem para \"{}\": a sessão \"{}\" já tem {} mensagens na fila", destination, sessionId, webSocketProperties.getMaxQueuedPerSession());
+
+                return null;
+            }
+
+            queue.pending.add(message.getHeaders().getId());
+        }
+
+        if (isConflated(destination)) {
+            queue.latest.put(destination, message.getHeaders().getId());
+        }
+
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (sent && ex == null) {
+            return;
+        }
+
+        // O executor recusou a mensagem: ela não vai chegar ao beforeHandle, e as anteriores do mesmo destino não
+        // podem ser descartadas por causa dela.
+        SessionQueue queue = release(message);
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+
+        if (queue != null && destination != null) {
+            queue.latest.remove(destination, message.getHeaders().getId());
+        }
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+
+        SessionQueue queue = sessionId == null ? null : sessions.get(sessionId);
+
+        if (queue == null || destination == null) {
+            return message;
+        }
+
+        UUID latest = queue.latest.get(destination);
+
+        if (latest != null && !latest.equals(message.getHeaders().getId())) {
+            release(message);
+            conflated.increment();
+            return null;
+        }
+
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        release(message);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+
+        if (sessionId != null) {
+            sessions.putIfAbsent(sessionId, new SessionQueue());
+        }
+    }
+
+    @EventListener
+    public void onDisconnected(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    public int getSessions() {
+        return sessions.size();
+    }
+
+    public long getQueuedFrames() {
+        return sessions.values().stream().mapToLong((queue) -> queue.pending.size()).sum();
+    }
+
+    public long getDroppedFrames() {
+        return dropped.sum();
+    }
+
+    public long getConflatedFrames() {
+        return conflated.sum();
+    }
+
+    // Pode ser chamado mais de uma vez para a mesma mensagem; só a primeira libera a vaga.
+    private SessionQueue release(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        SessionQueue queue = sessionId == null ? null : sessions.get(sessionId);
+
+        if (queue != null) {
+            queue.pending.remove(message.getHeaders().getId());
+        }
+
+        return queue;
+    }
+
+    private boolean isConflated(String destination) {
+        return webSocketProperties
+                .getConflatedDestinations()
+                .stream()
+                .anyMatch((pattern) -> pathMatcher.match(pattern, destination));
+    }
+
+    private static class SessionQueue {
+
+        private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+        private final Map<String, UUID> latest = new ConcurrentHashMap<>();
+
+    }
+
+}
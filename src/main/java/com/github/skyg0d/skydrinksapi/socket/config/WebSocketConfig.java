@@ -1,7 +1,12 @@
 package com.github.skyg0d.skydrinksapi.socket.config;
 
+import com.github.skyg0d.skydrinksapi.enums.Roles;
+import com.github.skyg0d.skydrinksapi.enums.WebSocketBroker;
+import com.github.skyg0d.skydrinksapi.property.BrokerProperties;
 import com.github.skyg0d.skydrinksapi.property.CorsProperties;
 import com.github.skyg0d.skydrinksapi.property.JwtConfigurationProperties;
+import com.github.skyg0d.skydrinksapi.property.WebSocketProperties;
+import com.github.skyg0d.skydrinksapi.socket.notification.NotificationDispatcher;
 import com.github.skyg0d.skydrinksapi.util.PrincipalCreatorUtil;
 import com.github.skyg0d.skydrinksapi.util.TokenConverterUtil;
 import com.nimbusds.jose.JOSEException;
@@ -14,17 +19,21 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 import java.text.ParseException;
 import java.util.List;
+import java.util.Set;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -32,14 +41,58 @@ import java.util.List;
 @Log4j2
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final Set<String> STAFF_ROLES = Set.of(Roles.WAITER.getRole(), Roles.BARMEN.getRole(), Roles.ADMIN.getRole());
+
     private final CorsProperties corsProperties;
+    private final BrokerProperties brokerProperties;
+    private final WebSocketProperties webSocketProperties;
+    private final SlowConsumerInterceptor slowConsumerInterceptor;
     private final JwtConfigurationProperties jwtConfigurationProperties;
     private final TokenConverterUtil tokenConverterUtil;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");
+        if (brokerProperties.getMode() == WebSocketBroker.RELAY) {
+            log.info("Usando o broker relay em {}:{}", brokerProperties.getRelayHost(), brokerProperties.getRelayPort());
+
+            StompBrokerRelayRegistration relay = registry
+                    .enableStompBrokerRelay("/topic")
+                    .setRelayHost(brokerProperties.getRelayHost())
+                    .setRelayPort(brokerProperties.getRelayPort())
+                    .setClientLogin(brokerProperties.getClientLogin())
+                    .setClientPasscode(brokerProperties.getClientPasscode())
+                    .setSystemLogin(brokerProperties.getSystemLogin())
+                    .setSystemPasscode(brokerProperties.getSystemPasscode());
+
+            if (brokerProperties.getVirtualHost() != null) {
+                relay.setVirtualHost(brokerProperties.getVirtualHost());
+            }
+        } else {
+            registry.enableSimpleBroker("/topic");
+        }
+
         registry.setApplicationDestinationPrefixes("/app");
+        // Manter a ordem envia uma mensagem por vez para cada sessão, e a fila de um cliente lento passa a crescer sem
+        // limite antes de chegar aos limites abaixo. Os eventos dos pedidos são numerados para o cliente reordenar.
+        registry.setPreservePublishOrder(webSocketProperties.isPreservePublishOrder());
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+                .setSendTimeLimit(webSocketProperties.getSendTimeLimit())
+                .setSendBufferSizeLimit(webSocketProperties.getSendBufferSizeLimit())
+                .setMessageSizeLimit(webSocketProperties.getMessageSizeLimit());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration
+                .interceptors(slowConsumerInterceptor)
+                .taskExecutor()
+                .corePoolSize(webSocketProperties.getOutboundCorePoolSize())
+                .maxPoolSize(webSocketProperties.getOutboundMaxPoolSize())
+                .queueCapacity(webSocketProperties.getOutboundQueueCapacity());
     }
 
     @Override
@@ -52,6 +105,12 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration
+                .taskExecutor()
+                .corePoolSize(webSocketProperties.getInboundCorePoolSize())
+                .maxPoolSize(webSocketProperties.getInboundMaxPoolSize())
+                .queueCapacity(webSocketProperties.getInboundQueueCapacity());
+
         registration.interceptors(new ChannelInterceptor() {
             @Override
             public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -69,6 +128,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                     try {
                         UsernamePasswordAuthenticationToken auth = decryptToken(token);
 
+                        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand()) && !canSubscribe(accessor.getDestination(), auth)) {
+                            throw new MessagingException("Apenas membros da staff podem se inscrever neste tópico.");
+                        }
+
                         accessor.setUser(auth);
 
                         return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
@@ -82,6 +145,18 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         });
     }
 
+    private boolean canSubscribe(String destination, UsernamePasswordAuthenticationToken auth) {
+        if (destination == null || !destination.startsWith(NotificationDispatcher.STAFF_DESTINATION_PREFIX)) {
+            return true;
+        }
+
+        return auth
+                .getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch((authority) -> STAFF_ROLES.contains(authority));
+    }
+
     private UsernamePasswordAuthenticationToken decryptToken(String encryptedToken) throws JOSEException, ParseException {
         String prefix = jwtConfigurationProperties.getHeader().getPrefix();
 
@@ -0,0 +1,38 @@
+package com.github.skyg0d.skydrinksapi.socket.domain;
+
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestEventType;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class ClientRequestEvent {
+
+    @Schema(description = "Número de sequência do evento, sempre uma unidade maior que o anterior", example = "128")
+    private long sequence;
+
+    @Schema(description = "Tipo do evento", example = "STARTED")
+    private ClientRequestEventType type;
+
+    @Schema(description = "Identificador do pedido alterado", example = "9ce40cbc-4a14-40c7-a016-a46c9964ebcf")
+    private UUID uuid;
+
+    @Schema(description = "Novo status do pedido, vazio quando o pedido foi removido", example = "STARTED")
+    private ClientRequestStatus status;
+
+    @Schema(description = "Resumo do pedido depois da alteração, vazio quando o pedido foi removido")
+    private ClientRequestSummary request;
+
+    @Schema(description = "Data em que o evento aconteceu")
+    private LocalDateTime occurredAt;
+
+}
@@ -0,0 +1,26 @@
+package com.github.skyg0d.skydrinksapi.socket.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class ClientRequestEventsResync {
+
+    @Schema(description = "Número de sequência do último evento publicado", example = "135")
+    private long latestSequence;
+
+    @Schema(description = "Informa se os eventos pedidos já foram descartados e os pedidos devem ser buscados novamente", example = "false")
+    private boolean resyncRequired;
+
+    @Schema(description = "Eventos publicados depois da sequência informada, em ordem")
+    private List<ClientRequestEvent> events;
+
+}
@@ -0,0 +1,81 @@
+package com.github.skyg0d.skydrinksapi.socket.domain;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class ClientRequestSummary {
+
+    @Schema(description = "Identificador do pedido", example = "9ce40cbc-4a14-40c7-a016-a46c9964ebcf")
+    private UUID uuid;
+
+    @Schema(description = "Status do pedido", example = "STARTED")
+    private ClientRequestStatus status;
+
+    @Schema(description = "Informa se o pedido foi entregue", example = "false")
+    private boolean delivered;
+
+    @Schema(description = "Valor total do pedido", example = "25.55")
+    private double totalPrice;
+
+    @Schema(description = "Identificador do usuário que realizou o pedido", example = "d9f7dbdd-4514-4f86-95af-0bba60228ef8")
+    private UUID userUuid;
+
+    @Schema(description = "Nome do usuário que realizou o pedido", example = "Maria")
+    private String userName;
+
+    @Schema(description = "Identificador da mesa do pedido", example = "35375453-5ff3-4c78-b458-00b5804afdfe")
+    private UUID tableUuid;
+
+    @Schema(description = "Número da mesa do pedido", example = "12")
+    private Integer tableNumber;
+
+    @Schema(description = "Identificadores dos drinks do pedido")
+    private List<UUID> drinks;
+
+    @Schema(description = "Data de criação do pedido")
+    private LocalDateTime createdAt;
+
+    public static ClientRequestSummary of(ClientRequest request) {
+        ClientRequestSummaryBuilder builder = ClientRequestSummary
+                .builder()
+                .uuid(request.getUuid())
+                .status(request.getStatus())
+                .delivered(request.isDelivered())
+                .totalPrice(request.getTotalPrice())
+                .createdAt(request.getCreatedAt());
+
+        if (request.getUser() != null) {
+            builder
+                    .userUuid(request.getUser().getUuid())
+                    .userName(request.getUser().getName());
+        }
+
+        if (request.getTable() != null) {
+            builder
+                    .tableUuid(request.getTable().getUuid())
+                    .tableNumber(request.getTable().getNumber());
+        }
+
+        if (request.getDrinks() != null) {
+            builder.drinks(request.getDrinks().stream().map(Drink::getUuid).collect(Collectors.toList()));
+        }
+
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.github.skyg0d.skydrinksapi.socket.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class NotificationStatistics {
+
+    @Schema(description = "Quantidade de notificações solicitadas", example = "340")
+    private long requested;
+
+    @Schema(description = "Quantidade de notificações agrupadas com outra já agendada", example = "310")
+    private long coalesced;
+
+    @Schema(description = "Quantidade de mensagens enviadas pelo broker", example = "30")
+    private long sent;
+
+    @Schema(description = "Quantidade de envios que falharam", example = "0")
+    private long failed;
+
+}
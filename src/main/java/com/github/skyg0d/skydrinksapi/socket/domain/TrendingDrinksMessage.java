@@ -0,0 +1,21 @@
+package com.github.skyg0d.skydrinksapi.socket.domain;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestDrinkCount;
+import com.github.skyg0d.skydrinksapi.enums.TrendingWindow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class TrendingDrinksMessage {
+
+    private Map<TrendingWindow, List<ClientRequestDrinkCount>> drinks;
+
+}
@@ -0,0 +1,45 @@
+package com.github.skyg0d.skydrinksapi.socket.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class WebSocketStatistics {
+
+    @Schema(description = "Quantidade de sessões conectadas neste nó", example = "42")
+    private int sessions;
+
+    @Schema(description = "Threads ocupadas processando mensagens recebidas dos clientes", example = "1")
+    private int inboundActiveThreads;
+
+    @Schema(description = "Mensagens recebidas dos clientes aguardando uma thread", example = "0")
+    private int inboundQueueSize;
+
+    @Schema(description = "Threads ocupadas enviando mensagens para os clientes", example = "3")
+    private int outboundActiveThreads;
+
+    @Schema(description = "Mensagens para os clientes aguardando uma thread", example = "12")
+    private int outboundQueueSize;
+
+    @Schema(description = "Mensagens na fila de saída somando todas as sessões", example = "12")
+    private long queuedFrames;
+
+    @Schema(description = "Mensagens descartadas porque a sessão atingiu o limite da fila", example = "0")
+    private long droppedFrames;
+
+    @Schema(description = "Mensagens substituídas por uma mais recente do mesmo destino antes de serem enviadas", example = "5")
+    private long conflatedFrames;
+
+    @Schema(description = "Conexões Server-Sent Events abertas por clientes acompanhando os próprios pedidos", example = "8")
+    private int sseStreams;
+
+    @Schema(description = "Requisições de long polling da staff aguardando uma alteração nos pedidos", example = "4")
+    private int longPollWaiters;
+
+}
@@ -0,0 +1,232 @@
+package com.github.skyg0d.skydrinksapi.socket.notification;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestEventType;
+import com.github.skyg0d.skydrinksapi.property.WebSocketProperties;
+import com.github.skyg0d.skydrinksapi.socket.broker.ClientRequestEventStore;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEvent;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEventsResync;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Guarda em memória os últimos eventos dos pedidos, para que os clientes que perderem alguma sequência consigam
+ * buscar só o que falta em vez de recarregar todos os pedidos.
+ * <p>
+ * A sequência vem do {@link ClientRequestEventStore}. Com várias instâncias o store é compartilhado e cada nó copia
+ * para cá, em ordem, todos os eventos gravados, inclusive os dos outros nós. Cada evento aceito é republicado como
+ * evento da aplicação para os streams locais.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ClientRequestEventLog {
+
+    private final ClientRequestEventStore clientRequestEventStore;
+    private final NotificationDispatcher notificationDispatcher;
+    private final WebSocketProperties webSocketProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Deque<ClientRequestEvent> events = new ArrayDeque<>();
+    private final Map<DeferredResult<ClientRequestEventsResync>, Long> waiters = new ConcurrentHashMap<>();
+    private final ReentrantLock catchUpLock = new ReentrantLock();
+
+    private Long sequence;
+
+    public ClientRequestEvent publish(ClientRequestEventType type, ClientRequest request) {
+        return append(type, request.getUuid(), ClientRequestSummary.of(request));
+    }
+
+    public ClientRequestEvent publishDeleted(UUID uuid) {
+        return append(ClientRequestEventType.DELETED, uuid, null);
+    }
+
+    /**
+     * Responde na hora se já existem eventos depois da versão informada; caso contrário a requisição fica estacionada,
+     * sem ocupar thread, até o próximo evento ou até o tempo limite, quando volta sem eventos.
+     */
+    public DeferredResult<ClientRequestEventsResync> waitAfter(long after) {
+        DeferredResult<ClientRequestEventsResync> result = new DeferredResult<>(webSocketProperties.getLongPollTimeout());
+
+        result.onTimeout(() -> result.setResult(findAfter(after)));
+        result.onCompletion(() -> waiters.remove(result));
+
+        catchUp();
+
+        synchronized (this) {
+            ClientRequestEventsResync resync = snapshotAfter(after);
+
+            if (resync.isResyncRequired() || !resync.getEvents().isEmpty()) {
+                result.setResult(resync);
+            } else {
+                waiters.put(result, after);
+            }
+        }
+
+        return result;
+    }
+
+    public int getWaiters() {
+        return waiters.size();
+    }
+
+    public long getLatestSequence() {
+        catchUp();
+
+        synchronized (this) {
+            return sequence;
+        }
+    }
+
+    public ClientRequestEventsResync findAfter(long after) {
+        catchUp();
+
+        return snapshotAfter(after);
+    }
+
+    /**
+     * Copia para o log os eventos gravados depois da última sequência conhecida. Roda periodicamente para trazer os
+     * eventos dos outros nós, e logo depois de cada evento deste nó.
+     */
+    @Scheduled(fixedDelayString = "${my.websocket.broker.poll-rate:500}")
+    public void catchUp() {
+        initialize();
+
+        List<ClientRequestEvent> accepted = new ArrayList<>();
+
+        // Uma cópia por vez, para que os eventos sejam republicados na ordem da sequência.
+        catchUpLock.lock();
+
+        try {
+            int limit = webSocketProperties.getEventLogCapacity();
+            List<ClientRequestEvent> found;
+
+            do {
+                long after;
+
+                synchronized (this) {
+                    after = sequence;
+                }
+
+                found = clientRequestEventStore.findAfter(after, limit);
+
+                synchronized (this) {
+                    found.stream().filter(this::accept).forEach(accepted::add);
+                }
+            } while (found.size() == limit);
+
+            accepted.forEach(eventPublisher::publishEvent);
+        } finally {
+            catchUpLock.unlock();
+        }
+
+        if (!accepted.isEmpty()) {
+            releaseWaiters();
+        }
+    }
+
+    private ClientRequestEvent append(ClientRequestEventType type, UUID uuid, ClientRequestSummary summary) {
+        initialize();
+
+        ClientRequestEvent event = clientRequestEventStore.append(ClientRequestEvent
+                .builder()
+                .type(type)
+                .uuid(uuid)
+                .status(summary != null ? summary.getStatus() : null)
+                .request(summary)
+                .occurredAt(LocalDateTime.now())
+                .build());
+
+        log.info("Publicando o evento {} do pedido \"{}\" com sequência {}", type, uuid, event.getSequence());
+
+        catchUp();
+
+        // Fora de qualquer lock: o envio pode gravar no banco. Um cliente que receber as sequências fora de ordem
+        // percebe o salto e busca os eventos que faltam.
+        notificationDispatcher.publishStaffEvent(event);
+
+        return event;
+    }
+
+    // Os eventos gravados antes deste nó subir não têm mais para quem ser entregues.
+    private void initialize() {
+        synchronized (this) {
+            if (sequence != null) {
+                return;
+            }
+        }
+
+        long latest = clientRequestEventStore.getLatestSequence();
+
+        synchronized (this) {
+            if (sequence == null) {
+                sequence = latest;
+            }
+        }
+    }
+
+    private boolean accept(ClientRequestEvent event) {
+        if (event.getSequence() <= sequence) {
+            return false;
+        }
+
+        if (event.getSequence() > sequence + 1) {
+            // Os eventos intermediários já foram removidos do store; quem pedir por eles precisa recarregar tudo.
+            log.warn("Eventos entre as sequências {} e {} não estão mais disponíveis", sequence, event.getSequence());
+
+            events.clear();
+        }
+
+        sequence = event.getSequence();
+        events.addLast(event);
+
+        while (events.size() > webSocketProperties.getEventLogCapacity()) {
+            events.removeFirst();
+        }
+
+        return true;
+    }
+
+    private synchronized ClientRequestEventsResync snapshotAfter(long after) {
+        long oldest = events.isEmpty() ? sequence + 1 : events.peekFirst().getSequence();
+
+        // O cliente está à frente do servidor (reinício) ou os eventos seguintes já saíram do buffer.
+        boolean resyncRequired = after > sequence || after + 1 < oldest;
+
+        List<ClientRequestEvent> missed = resyncRequired
+                ? List.of()
+                : events.stream().filter((event) -> event.getSequence() > after).collect(Collectors.toList());
+
+        return ClientRequestEventsResync
+                .builder()
+                .latestSequence(sequence)
+                .resyncRequired(resyncRequired)
+                .events(missed)
+                .build();
+    }
+
+    private void releaseWaiters() {
+        waiters.forEach((result, after) -> {
+            if (waiters.remove(result) != null) {
+                result.setResult(snapshotAfter(after));
+            }
+        });
+    }
+
+}
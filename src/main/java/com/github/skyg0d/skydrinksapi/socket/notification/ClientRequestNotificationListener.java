@@ -0,0 +1,72 @@
+package com.github.skyg0d.skydrinksapi.socket.notification;
+
+import com.github.skyg0d.skydrinksapi.config.AsyncConfiguration;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestEventType;
+import com.github.skyg0d.skydrinksapi.event.*;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestStatusChanged;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Avisa a staff e o dono do pedido pelo websocket depois que a alteração foi confirmada, fora da thread da requisição.
+ * O stream de SSE recebe os eventos do {@link ClientRequestEventLog}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientRequestNotificationListener {
+
+    private final ClientRequestEventLog clientRequestEventLog;
+    private final NotificationDispatcher notificationDispatcher;
+
+    @Async(AsyncConfiguration.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(ClientRequestCreatedEvent event) {
+        clientRequestEventLog.publish(ClientRequestEventType.CREATED, event.getRequest());
+    }
+
+    @Async(AsyncConfiguration.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUpdated(ClientRequestUpdatedEvent event) {
+        clientRequestEventLog.publish(ClientRequestEventType.UPDATED, event.getRequest());
+    }
+
+    @Async(AsyncConfiguration.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(ClientRequestStatusChangedEvent event) {
+        requestChanged(ClientRequestEventType.valueOf(event.getRequest().getStatus().name()), event.getRequest());
+    }
+
+    @Async(AsyncConfiguration.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDelivered(ClientRequestDeliveredEvent event) {
+        requestChanged(ClientRequestEventType.DELIVERED, event.getRequest());
+    }
+
+    @Async(AsyncConfiguration.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(ClientRequestDeletedEvent event) {
+        clientRequestEventLog.publishDeleted(event.getUuid());
+    }
+
+    @Async(AsyncConfiguration.DOMAIN_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRemoved(ClientRequestsRemovedEvent event) {
+        event.getUuids().forEach(clientRequestEventLog::publishDeleted);
+    }
+
+    private void requestChanged(ClientRequestEventType type, ClientRequest request) {
+        clientRequestEventLog.publish(type, request);
+
+        ClientRequestStatusChanged clientRequestStatusChanged = ClientRequestStatusChanged
+                .builder()
+                .uuid(request.getUuid())
+                .message(type.toString())
+                .build();
+
+        notificationDispatcher.send("/topic/request-changed/" + request.getUser().getEmail(), clientRequestStatusChanged);
+    }
+
+}
@@ -0,0 +1,294 @@
+package com.github.skyg0d.skydrinksapi.socket.notification;
+
+import com.github.skyg0d.skydrinksapi.config.AsyncConfiguration;
+import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestEventType;
+import com.github.skyg0d.skydrinksapi.property.SseProperties;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEvent;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEventsResync;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Mantém as conexões Server-Sent Events em que os clientes acompanham os próprios pedidos. As conexões ficam em modo
+ * assíncrono, então uma conexão ociosa não ocupa uma thread do Tomcat; cada mensagem leva a sequência do evento como
+ * id, e o navegador a devolve no cabeçalho {@code Last-Event-ID} ao reconectar.
+ * <p>
+ * Os envios não acontecem na thread que publica o evento: cada conexão tem uma fila limitada, esvaziada pelo
+ * {@link AsyncConfiguration#SSE_EXECUTOR}. Uma conexão cuja fila enche é encerrada, e o navegador reconecta e recebe
+ * o que perdeu pelo {@code Last-Event-ID}.
+ */
+@Component
+@Log4j2
+public class ClientRequestStatusStream {
+
+    private static final Set<ClientRequestEventType> STATUS_EVENTS = Set.of(
+            ClientRequestEventType.STARTED,
+            ClientRequestEventType.FINISHED,
+            ClientRequestEventType.CANCELED,
+            ClientRequestEventType.DELIVERED
+    );
+
+    private final ClientRequestEventLog clientRequestEventLog;
+    private final SseProperties sseProperties;
+    private final TaskExecutor sseExecutor;
+
+    private final Map<UUID, Queue<Subscription>> subscriptions = new ConcurrentHashMap<>();
+
+    public ClientRequestStatusStream(
+            ClientRequestEventLog clientRequestEventLog,
+            SseProperties sseProperties,
+            @Qualifier(AsyncConfiguration.SSE_EXECUTOR) TaskExecutor sseExecutor
+    ) {
+        this.clientRequestEventLog = clientRequestEventLog;
+        this.sseProperties = sseProperties;
+        this.sseExecutor = sseExecutor;
+    }
+
+    public SseEmitter subscribe(ApplicationUser user, Long lastEventId) {
+        Queue<Subscription> userSubscriptions = subscriptions.get(user.getUuid());
+
+        while (userSubscriptions != null && userSubscriptions.size() >= sseProperties.getMaxStreamsPerUser()) {
+            Subscription oldest = userSubscriptions.poll();
+
+            if (oldest != null) {
+                synchronized (oldest) {
+                    oldest.close(null);
+                }
+            }
+        }
+
+        Subscription subscription = new Subscription(user.getUuid(), createEmitter());
+
+        subscription.emitter.onCompletion(() -> remove(subscription));
+        subscription.emitter.onTimeout(() -> remove(subscription));
+        subscription.emitter.onError((ex) -> remove(subscription));
+
+        // Registra e reenvia os eventos perdidos sob o mesmo lock, para que um evento novo não passe na frente deles.
+        synchronized (subscription) {
+            subscriptions.compute(user.getUuid(), (uuid, current) -> {
+                Queue<Subscription> queue = current != null ? current : new ConcurrentLinkedQueue<>();
+                queue.add(subscription);
+                return queue;
+            });
+
+            if (lastEventId == null) {
+                subscription.lastSequence = clientRequestEventLog.getLatestSequence();
+
+                subscription.enqueue(SseEmitter
+                        .event()
+                        .id(String.valueOf(subscription.lastSequence))
+                        .name("ready")
+                        .reconnectTime(sseProperties.getReconnectTime())
+                        .data(subscription.lastSequence));
+            } else {
+                ClientRequestEventsResync resync = clientRequestEventLog.findAfter(lastEventId);
+
+                subscription.lastSequence = resync.getLatestSequence();
+
+                List<ClientRequestEvent> missed = resync
+                        .getEvents()
+                        .stream()
+                        .filter((event) -> belongsTo(event, user.getUuid()))
+                        .collect(Collectors.toList());
+
+                // Mais eventos perdidos do que cabem na fila: é mais barato o cliente recarregar os pedidos.
+                if (resync.isResyncRequired() || missed.size() > sseProperties.getMaxQueuedEvents()) {
+                    log.info("Eventos depois da sequência {} não estão mais disponíveis para o usuário \"{}\"", lastEventId, user.getEmail());
+
+                    subscription.enqueue(SseEmitter
+                            .event()
+                            .id(String.valueOf(resync.getLatestSequence()))
+                            .name("resync")
+                            .data(resync.getLatestSequence()));
+                } else {
+                    missed.forEach((event) -> subscription.enqueue(toSseEvent(event)));
+                }
+            }
+        }
+
+        log.info("Usuário \"{}\" começou a acompanhar os pedidos a partir da sequência {}", user.getEmail(), subscription.lastSequence);
+
+        return subscription.emitter;
+    }
+
+    /**
+     * Recebe cada evento aceito pelo {@link ClientRequestEventLog}, inclusive os gerados em outros nós.
+     */
+    @EventListener
+    public void publish(ClientRequestEvent event) {
+        if (event.getRequest() == null || !STATUS_EVENTS.contains(event.getType())) {
+            return;
+        }
+
+        Queue<Subscription> userSubscriptions = subscriptions.get(event.getRequest().getUserUuid());
+
+        if (userSubscriptions == null) {
+            return;
+        }
+
+        for (Subscription subscription : userSubscriptions) {
+            synchronized (subscription) {
+                if (event.getSequence() > subscription.lastSequence) {
+                    subscription.lastSequence = event.getSequence();
+                    subscription.enqueue(toSseEvent(event));
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${my.sse.heartbeat-rate:15000}")
+    public void heartbeat() {
+        // Mantém a conexão viva em proxies que encerram conexões ociosas e descobre clientes que já foram embora. Uma
+        // conexão que ainda tem eventos na fila não está ociosa.
+        subscriptions
+                .values()
+                .forEach((userSubscriptions) -> userSubscriptions.forEach((subscription) -> {
+                    synchronized (subscription) {
+                        if (subscription.outbox.isEmpty()) {
+                            subscription.enqueue(SseEmitter.event().comment("heartbeat"));
+                        }
+                    }
+                }));
+    }
+
+    public int getStreams() {
+        return subscriptions.values().stream().mapToInt(Queue::size).sum();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(sseProperties.getTimeout());
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.userUuid, (uuid, userSubscriptions) -> {
+            userSubscriptions.remove(subscription);
+            return userSubscriptions.isEmpty() ? null : userSubscriptions;
+        });
+    }
+
+    private boolean belongsTo(ClientRequestEvent event, UUID userUuid) {
+        return STATUS_EVENTS.contains(event.getType())
+                && event.getRequest() != null
+                && userUuid.equals(event.getRequest().getUserUuid());
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(ClientRequestEvent event) {
+        return SseEmitter
+                .event()
+                .id(String.valueOf(event.getSequence()))
+                .name("request-changed")
+                .data(event);
+    }
+
+    private final class Subscription {
+
+        private final UUID userUuid;
+        private final SseEmitter emitter;
+
+        private final Deque<SseEmitter.SseEventBuilder> outbox = new ArrayDeque<>();
+
+        private long lastSequence;
+        private boolean draining;
+        private boolean closed;
+
+        private Subscription(UUID userUuid, SseEmitter emitter) {
+            this.userUuid = userUuid;
+            this.emitter = emitter;
+        }
+
+        // Chamado com o lock da inscrição, para que os eventos entrem na fila na ordem da sequência.
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+
+            if (outbox.size() >= sseProperties.getMaxQueuedEvents()) {
+                log.info("Encerrando a conexão do usuário \"{}\", que não está acompanhando os eventos", userUuid);
+
+                close(null);
+
+                return;
+            }
+
+            outbox.addLast(event);
+
+            if (draining) {
+                return;
+            }
+
+            draining = true;
+
+            try {
+                sseExecutor.execute(this::drain);
+            } catch (TaskRejectedException ex) {
+                log.warn("Encerrando a conexão do usuário \"{}\", a fila de envios está cheia", userUuid);
+
+                draining = false;
+                close(null);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+
+                synchronized (this) {
+                    event = closed ? null : outbox.pollFirst();
+
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                // Fora do lock: um cliente lento não segura quem publica nem o heartbeat.
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException ex) {
+                    log.debug("Encerrando a conexão do usuário \"{}\": {}", userUuid, ex.getMessage());
+
+                    synchronized (this) {
+                        draining = false;
+                        close(ex);
+                    }
+
+                    return;
+                }
+            }
+        }
+
+        private void close(Throwable ex) {
+            closed = true;
+            outbox.clear();
+
+            if (ex == null) {
+                emitter.complete();
+            } else {
+                emitter.completeWithError(ex);
+            }
+
+            remove(this);
+        }
+
+    }
+
+}
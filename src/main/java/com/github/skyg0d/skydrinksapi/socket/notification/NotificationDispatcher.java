@@ -0,0 +1,137 @@
+package com.github.skyg0d.skydrinksapi.socket.notification;
+
+import com.github.skyg0d.skydrinksapi.property.WebSocketProperties;
+import com.github.skyg0d.skydrinksapi.socket.broker.MessageBroadcaster;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEvent;
+import com.github.skyg0d.skydrinksapi.socket.domain.NotificationStatistics;
+import com.github.skyg0d.skydrinksapi.socket.domain.SocketMessage;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Envia as notificações do websocket. Notificações para o mesmo destino feitas dentro do intervalo configurado são
+ * agrupadas numa só mensagem com o último conteúdo, enviada por uma única thread compartilhada.
+ */
+@Component
+@Log4j2
+public class NotificationDispatcher implements DisposableBean {
+
+    public static final String STAFF_REQUEST_EVENTS = "/topic/staff/request-events";
+    public static final String STAFF_DESTINATION_PREFIX = "/topic/staff/";
+
+    static final String LEGACY_STAFF_DESTINATION = "/topic/updated/";
+
+    private final MessageBroadcaster messageBroadcaster;
+    private final WebSocketProperties webSocketProperties;
+    private final StaffDirectory staffDirectory;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentHashMap<String, Object> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder requested = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public NotificationDispatcher(MessageBroadcaster messageBroadcaster, WebSocketProperties webSocketProperties, StaffDirectory staffDirectory) {
+        this.messageBroadcaster = messageBroadcaster;
+        this.webSocketProperties = webSocketProperties;
+        this.staffDirectory = staffDirectory;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+            Thread thread = new Thread(runnable, "notification-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Envia o evento para a staff sem agrupar, já que cada evento carrega uma alteração diferente. Enquanto
+     * {@code my.websocket.per-user-staff-notifications} estiver ligado, que é o padrão, os clientes antigos, que só
+     * recebem o aviso para recarregar os pedidos, continuam recebendo avisos agrupados.
+     */
+    public void publishStaffEvent(ClientRequestEvent event) {
+        send(STAFF_REQUEST_EVENTS, event);
+
+        if (webSocketProperties.isPerUserStaffNotifications()) {
+            notifyDebounced(LEGACY_STAFF_DESTINATION, new SocketMessage("requests-changed"));
+        }
+    }
+
+    /**
+     * Agenda o envio para o destino. Se já existe um envio agendado, apenas troca o conteúdo que será enviado.
+     */
+    public void notifyDebounced(String destination, Object payload) {
+        requested.increment();
+
+        if (pending.put(destination, payload) != null) {
+            coalesced.increment();
+            return;
+        }
+
+        scheduler.schedule(() -> flush(destination), webSocketProperties.getSendClientRequestUpdateDelay(), TimeUnit.MILLISECONDS);
+    }
+
+    public void send(String destination, Object payload) {
+        requested.increment();
+
+        convertAndSend(destination, payload);
+    }
+
+    public NotificationStatistics getStatistics() {
+        return NotificationStatistics
+                .builder()
+                .requested(requested.sum())
+                .coalesced(coalesced.sum())
+                .sent(sent.sum())
+                .failed(failed.sum())
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    void flush(String destination) {
+        // Remove antes de enviar: notificações que chegarem durante o envio agendam uma nova mensagem.
+        Object payload = pending.remove(destination);
+
+        if (payload == null) {
+            return;
+        }
+
+        if (!LEGACY_STAFF_DESTINATION.equals(destination)) {
+            convertAndSend(destination, payload);
+            return;
+        }
+
+        try {
+            staffDirectory
+                    .getStaffEmails()
+                    .forEach((email) -> convertAndSend(LEGACY_STAFF_DESTINATION + email, payload));
+        } catch (RuntimeException exception) {
+            failed.increment();
+
+            log.error("Não foi possível carregar os emails da staff", exception);
+        }
+    }
+
+    private void convertAndSend(String destination, Object payload) {
+        try {
+            messageBroadcaster.convertAndSend(destination, payload);
+
+            sent.increment();
+        } catch (RuntimeException exception) {
+            failed.increment();
+
+            log.error("Não foi possível enviar notificação para \"{}\"", destination, exception);
+        }
+    }
+
+}
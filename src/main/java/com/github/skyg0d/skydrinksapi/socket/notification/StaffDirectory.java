@@ -0,0 +1,54 @@
+package com.github.skyg0d.skydrinksapi.socket.notification;
+
+import com.github.skyg0d.skydrinksapi.property.WebSocketProperties;
+import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Guarda os emails da staff por alguns segundos para que cada notificação não precise varrer a tabela de usuários.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class StaffDirectory {
+
+    private final ApplicationUserRepository applicationUserRepository;
+    private final WebSocketProperties webSocketProperties;
+
+    private volatile Snapshot snapshot;
+
+    public List<String> getStaffEmails() {
+        Snapshot current = snapshot;
+        long now = System.currentTimeMillis();
+
+        if (current == null || now - current.loadedAt > webSocketProperties.getStaffDirectoryTtl()) {
+            log.info("Atualizando a lista de emails da staff");
+
+            current = new Snapshot(List.copyOf(applicationUserRepository.findStaffEmails()), now);
+            snapshot = current;
+        }
+
+        return current.emails;
+    }
+
+    public void evict() {
+        snapshot = null;
+    }
+
+    private static class Snapshot {
+
+        private final List<String> emails;
+        private final long loadedAt;
+
+        private Snapshot(List<String> emails, long loadedAt) {
+            this.emails = emails;
+            this.loadedAt = loadedAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.github.skyg0d.skydrinksapi.socket.notification;
+
+import com.github.skyg0d.skydrinksapi.socket.config.SlowConsumerInterceptor;
+import com.github.skyg0d.skydrinksapi.socket.domain.WebSocketStatistics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Junta o estado dos pools de threads do STOMP, das filas de saída das sessões e das conexões de quem não usa o
+ * websocket (SSE e long polling).
+ */
+@Component
+public class WebSocketMonitor {
+
+    private final ThreadPoolTaskExecutor inboundExecutor;
+    private final ThreadPoolTaskExecutor outboundExecutor;
+    private final SlowConsumerInterceptor slowConsumerInterceptor;
+    private final ClientRequestStatusStream clientRequestStatusStream;
+    private final ClientRequestEventLog clientRequestEventLog;
+
+    public WebSocketMonitor(
+            @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inboundExecutor,
+            @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outboundExecutor,
+            SlowConsumerInterceptor slowConsumerInterceptor,
+            ClientRequestStatusStream clientRequestStatusStream,
+            ClientRequestEventLog clientRequestEventLog
+    ) {
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+        this.slowConsumerInterceptor = slowConsumerInterceptor;
+        this.clientRequestStatusStream = clientRequestStatusStream;
+        this.clientRequestEventLog = clientRequestEventLog;
+    }
+
+    public WebSocketStatistics getStatistics() {
+        return WebSocketStatistics
+                .builder()
+                .sessions(slowConsumerInterceptor.getSessions())
+                .inboundActiveThreads(inboundExecutor.getActiveCount())
+                .inboundQueueSize(inboundExecutor.getThreadPoolExecutor().getQueue().size())
+                .outboundActiveThreads(outboundExecutor.getActiveCount())
+                .outboundQueueSize(outboundExecutor.getThreadPoolExecutor().getQueue().size())
+                .queuedFrames(slowConsumerInterceptor.getQueuedFrames())
+                .droppedFrames(slowConsumerInterceptor.getDroppedFrames())
+                .conflatedFrames(slowConsumerInterceptor.getConflatedFrames())
+                .sseStreams(clientRequestStatusStream.getStreams())
+                .longPollWaiters(clientRequestEventLog.getWaiters())
+                .build();
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.github.skyg0d.skydrinksapi.util;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestExportRow;
+import com.github.skyg0d.skydrinksapi.enums.ExportFormat;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class ClientRequestExportWriter implements Closeable {
+
+    private static final String CSV_HEADER = "uuid,createdAt,status,delivered,totalPrice,userUUID,userName,userEmail,tableUUID,tableNumber,drinkUUIDs,drinkNames";
+
+    private final ExportFormat format;
+    private final ObjectWriter objectWriter;
+    private final Writer writer;
+
+    public ClientRequestExportWriter(ExportFormat format, ObjectWriter objectWriter, OutputStream outputStream) {
+        this.format = format;
+        this.objectWriter = objectWriter;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    public void writeHeader() throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    public void write(ClientRequestExportRow row) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            writer.write(objectWriter.writeValueAsString(row));
+        } else {
+            writer.write(String.join(",",
+                    csv(row.getUuid()),
+                    csv(row.getCreatedAt()),
+                    csv(row.getStatus()),
+                    csv(row.isDelivered()),
+                    csv(row.getTotalPrice()),
+                    csv(row.getUserUUID()),
+                    csv(row.getUserName()),
+                    csv(row.getUserEmail()),
+                    csv(row.getTableUUID()),
+                    csv(row.getTableNumber()),
+                    csv(join(row.getDrinkUUIDs())),
+                    csv(join(row.getDrinkNames()))
+            ));
+        }
+
+        writer.write('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private String join(List<?> values) {
+        return values.stream().map(String::valueOf).collect(Collectors.joining(";"));
+    }
+
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = Objects.toString(value);
+
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+
+        return text;
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.github.skyg0d.skydrinksapi.util;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestAlcoholicDrinkCount;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestDate;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestDrinkCount;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Junta os resultados dos pedidos com os dos pedidos arquivados.
+ */
+public class ClientRequestRollupUtil {
+
+    public static List<ClientRequestDrinkCount> mergeDrinkCounts(List<ClientRequestDrinkCount> requests, List<ClientRequestDrinkCount> archived, int limit) {
+        Map<UUID, ClientRequestDrinkCount> merged = new LinkedHashMap<>();
+
+        for (List<ClientRequestDrinkCount> drinkCounts : List.of(requests, archived)) {
+            for (ClientRequestDrinkCount drinkCount : drinkCounts) {
+                merged.merge(
+                        drinkCount.getDrinkUUID(),
+                        new ClientRequestDrinkCount(drinkCount.getDrinkUUID(), drinkCount.getName(), drinkCount.getTotal()),
+                        (current, other) -> new ClientRequestDrinkCount(current.getDrinkUUID(), current.getName(), current.getTotal() + other.getTotal())
+                );
+            }
+        }
+
+        return merged
+                .values()
+                .stream()
+                .sorted(Comparator.comparingLong(ClientRequestDrinkCount::getTotal).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public static List<ClientRequestAlcoholicDrinkCount> mergeAlcoholicCounts(List<ClientRequestAlcoholicDrinkCount> requests, List<ClientRequestAlcoholicDrinkCount> archived) {
+        Map<Boolean, Long> merged = new LinkedHashMap<>();
+
+        requests.forEach((alcoholicCount) -> merged.merge(alcoholicCount.isAlcoholic(), alcoholicCount.getTotal(), Long::sum));
+        archived.forEach((alcoholicCount) -> merged.merge(alcoholicCount.isAlcoholic(), alcoholicCount.getTotal(), Long::sum));
+
+        return merged
+                .entrySet()
+                .stream()
+                .map((alcoholicCount) -> new ClientRequestAlcoholicDrinkCount(alcoholicCount.getKey(), alcoholicCount.getValue()))
+                .sorted(Comparator.comparingLong(ClientRequestAlcoholicDrinkCount::getTotal).reversed())
+                .collect(Collectors.toList());
+    }
+
+    public static List<ClientRequestDate> mergeDates(List<ClientRequestDate> requests, List<ClientRequestDate> archived) {
+        if (archived.isEmpty()) {
+            return requests;
+        }
+
+        Map<LocalDate, ClientRequestDate> merged = new TreeMap<>();
+
+        for (List<ClientRequestDate> dates : List.of(requests, archived)) {
+            for (ClientRequestDate date : dates) {
+                merged.merge(
+                        date.getDate(),
+                        new ClientRequestDate(date.getDate(), date.getTotal(), date.getRevenue()),
+                        (current, other) -> new ClientRequestDate(current.getDate(), current.getTotal() + other.getTotal(), current.getRevenue() + other.getRevenue())
+                );
+            }
+        }
+
+        return new ArrayList<>(merged.values());
+    }
+
+    /**
+     * Ordena as duas listas juntas pela ordenação pedida e devolve só a janela da página. Sem ordenação os pedidos
+     * atuais vêm antes dos arquivados.
+     */
+    public static List<ClientRequest> mergeRequests(List<ClientRequest> requests, List<ClientRequest> archived, Sort sort, long offset, int limit) {
+        List<ClientRequest> merged = new ArrayList<>(requests);
+
+        merged.addAll(archived);
+
+        if (sort.isSorted()) {
+            merged.sort(comparing(sort));
+        }
+
+        return merged
+                .stream()
+                .skip(offset)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static Comparator<ClientRequest> comparing(Sort sort) {
+        Comparator<ClientRequest> comparator = (first, second) -> 0;
+
+        for (Sort.Order order : sort) {
+            Comparator<Object> values = order.getNullHandling() == Sort.NullHandling.NULLS_LAST
+                    ? Comparator.nullsLast(ClientRequestRollupUtil::compareValues)
+                    : Comparator.nullsFirst(ClientRequestRollupUtil::compareValues);
+
+            if (order.isIgnoreCase()) {
+                values = Comparator.comparing((value) -> value instanceof String ? ((String) value).toLowerCase() : value, values);
+            }
+
+            Comparator<ClientRequest> property = Comparator.comparing((request) -> new BeanWrapperImpl(request).getPropertyValue(order.getProperty()), values);
+
+            comparator = comparator.thenComparing(order.isDescending() ? property.reversed() : property);
+        }
+
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareValues(Object first, Object second) {
+        if (!(first instanceof Comparable)) {
+            throw new IllegalArgumentException(String.format("Não é possível ordenar os pedidos pelo valor \"%s\"", first));
+        }
+
+        return ((Comparable<Object>) first).compareTo(second);
+    }
+
+}
@@ -2,17 +2,20 @@ package com.github.skyg0d.skydrinksapi.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 public class ExceptionUtils {
 
+    // Criar um ObjectMapper por erro refaz a introspecção das classes de detalhes a cada resposta; o writer é imutável
+    // e pode ser compartilhado entre as threads.
+    private static final ObjectWriter WRITER = new ObjectMapper().writer();
+
     public static String convertObjectToJson(Object object) throws JsonProcessingException {
         if (object == null) {
             return null;
         }
 
-        ObjectMapper mapper = new ObjectMapper();
-
-        return mapper.writeValueAsString(object);
+        return WRITER.writeValueAsString(object);
     }
 
 }
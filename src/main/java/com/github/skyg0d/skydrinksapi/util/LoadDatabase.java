@@ -1,6 +1,7 @@
 package com.github.skyg0d.skydrinksapi.util;
 
 import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.boot.CommandLineRunner;
@@ -38,4 +39,17 @@ public class LoadDatabase {
         };
     }
 
+    @Bean
+    CommandLineRunner fillMissingRequestDates(ClientRequestRepository clientRequestRepository) {
+        return (args) -> {
+            log.info("Verificando se existem pedidos sem o dia de criação. . .");
+
+            int updated = clientRequestRepository.fillMissingCreatedDates();
+
+            if (updated > 0) {
+                log.info("Dia de criação preenchido em {} pedidos", updated);
+            }
+        };
+    }
+
 }
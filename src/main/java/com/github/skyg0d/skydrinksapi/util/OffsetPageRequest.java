@@ -0,0 +1,23 @@
+package com.github.skyg0d.skydrinksapi.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Página que começa em um deslocamento qualquer, usada para continuar uma paginação em outra tabela.
+ */
+public class OffsetPageRequest extends PageRequest {
+
+    private final long offset;
+
+    public OffsetPageRequest(long offset, int size, Sort sort) {
+        super((int) (offset / size), size, sort);
+        this.offset = offset;
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+}
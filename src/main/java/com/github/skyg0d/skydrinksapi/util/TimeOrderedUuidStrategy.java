@@ -0,0 +1,57 @@
+package com.github.skyg0d.skydrinksapi.util;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.UUIDGenerationStrategy;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gera UUIDs versão 7: os 48 bits mais significativos são o instante em milissegundos, seguidos de um contador de
+ * 12 bits e 62 bits aleatórios. Assim as chaves novas sempre vão para o fim do índice em vez de uma página
+ * aleatória, e a ordem das chaves acompanha a ordem de criação.
+ * <p>
+ * Dentro do mesmo milissegundo o contador é incrementado, começando de um valor aleatório na metade inferior para
+ * sobrar espaço. Se o relógio volta no tempo o último valor gerado continua sendo incrementado, e se o contador
+ * estoura ele avança para o milissegundo seguinte, então as chaves geradas por esta JVM são sempre estritamente
+ * crescentes.
+ */
+public class TimeOrderedUuidStrategy implements UUIDGenerationStrategy {
+
+    public static final TimeOrderedUuidStrategy INSTANCE = new TimeOrderedUuidStrategy();
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 7L << 12;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final AtomicLong LAST = new AtomicLong();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    static UUID generate(long millis) {
+        long seed = (millis << COUNTER_BITS) | ThreadLocalRandom.current().nextInt(1 << (COUNTER_BITS - 1));
+        long state = LAST.updateAndGet((last) -> seed > last ? seed : last + 1);
+
+        long mostSignificantBits = ((state >>> COUNTER_BITS) << 16) | VERSION | (state & ((1 << COUNTER_BITS) - 1));
+        long leastSignificantBits = (RANDOM.nextLong() & RANDOM_MASK) | VARIANT;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public int getGeneratedVersion() {
+        return 7;
+    }
+
+    @Override
+    public UUID generateUUID(SharedSessionContractImplementor session) {
+        return generate();
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.github.skyg0d.skydrinksapi.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Os códigos enviados por email são aleatórios e expiram em minutos, então um SHA-256 basta para que um vazamento do
+ * banco não revele códigos válidos; por ser determinístico, o hash pode ser procurado direto no índice.
+ */
+public class TokenHashUtil {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest
+                    .getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+
+            char[] hex = new char[digest.length * 2];
+
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+
+            return new String(hex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 não está disponível.", ex);
+        }
+    }
+
+}
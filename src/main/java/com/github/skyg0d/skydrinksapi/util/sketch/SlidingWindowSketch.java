@@ -0,0 +1,88 @@
+package com.github.skyg0d.skydrinksapi.util.sketch;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Janela deslizante de resumos {@link SpaceSavingSketch}, com um resumo por intervalo de tempo.
+ * <p>
+ * Uma consulta soma os resumos dos intervalos dentro da janela, então o erro de cada estimativa fica
+ * limitado por {@code N / capacity}, sendo {@code N} o total recebido na janela. A janela tem a precisão
+ * de um intervalo: eventos do intervalo mais antigo contam por inteiro enquanto ele estiver na janela.
+ */
+public class SlidingWindowSketch<T> {
+
+    private final int capacity;
+    private final long bucketMillis;
+    private final SpaceSavingSketch<T>[] buckets;
+    private final long[] bucketEpochs;
+
+    @SuppressWarnings("unchecked")
+    public SlidingWindowSketch(int capacity, Duration bucketSize, Duration retention) {
+        this.capacity = capacity;
+        this.bucketMillis = bucketSize.toMillis();
+
+        int size = (int) Math.max(1, retention.toMillis() / bucketMillis);
+
+        this.buckets = new SpaceSavingSketch[size];
+        this.bucketEpochs = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new SpaceSavingSketch<>(capacity);
+            bucketEpochs[i] = -1;
+        }
+    }
+
+    public synchronized void offer(T item, long weight, Instant when) {
+        long epoch = when.toEpochMilli() / bucketMillis;
+        int index = (int) (epoch % buckets.length);
+
+        if (bucketEpochs[index] != epoch) {
+            if (bucketEpochs[index] > epoch) {
+                return;
+            }
+
+            buckets[index].clear();
+            bucketEpochs[index] = epoch;
+        }
+
+        buckets[index].offer(item, weight);
+    }
+
+    public synchronized Map<T, Long> estimates(Instant from, Instant to) {
+        long fromEpoch = Math.max(from.toEpochMilli() / bucketMillis, to.toEpochMilli() / bucketMillis - buckets.length + 1);
+        long toEpoch = to.toEpochMilli() / bucketMillis;
+
+        Map<T, Long> estimates = new HashMap<>(capacity * 2);
+
+        for (long epoch = fromEpoch; epoch <= toEpoch; epoch++) {
+            int index = (int) (epoch % buckets.length);
+
+            if (bucketEpochs[index] == epoch) {
+                buckets[index].addTo(estimates);
+            }
+        }
+
+        return estimates;
+    }
+
+    public List<Map.Entry<T, Long>> top(Instant from, Instant to, int size) {
+        return estimates(from, to)
+                .entrySet()
+                .stream()
+                .filter((entry) -> entry.getValue() > 0)
+                .sorted(Map.Entry.<T, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    public Duration getRetention() {
+        return Duration.ofMillis(bucketMillis * buckets.length);
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.github.skyg0d.skydrinksapi.util.sketch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Resumo "Space-Saving" (Metwally et al.) que monitora no máximo {@code capacity} itens.
+ * <p>
+ * Sendo {@code N} a soma dos pesos positivos recebidos, todo item com frequência real maior que
+ * {@code N / capacity} está sempre monitorado, e a estimativa de um item monitorado nunca é menor que
+ * a frequência real nem passa dela em mais de {@code N / capacity}. Pesos negativos (cancelamentos) só
+ * são aplicados a itens monitorados, o que mantém a estimativa como limite superior, porém a garantia de
+ * que itens frequentes estão sempre monitorados só vale para fluxos sem cancelamentos.
+ * <p>
+ * Não é thread-safe, a sincronização fica por conta de quem usa.
+ */
+public class SpaceSavingSketch<T> {
+
+    private final int capacity;
+    private final Map<T, Counter> counters;
+    private long totalWeight;
+
+    public SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("A capacidade do resumo deve ser positiva.");
+        }
+
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public void offer(T item, long weight) {
+        if (weight == 0) {
+            return;
+        }
+
+        Counter counter = counters.get(item);
+
+        if (weight < 0) {
+            if (counter != null) {
+                counter.count = Math.max(0, counter.count + weight);
+                counter.error = Math.min(counter.error, counter.count);
+            }
+
+            return;
+        }
+
+        totalWeight += weight;
+
+        if (counter != null) {
+            counter.count += weight;
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counters.put(item, new Counter(weight, 0));
+            return;
+        }
+
+        Map.Entry<T, Counter> min = minEntry();
+
+        counters.remove(min.getKey());
+        counters.put(item, new Counter(min.getValue().count + weight, min.getValue().count));
+    }
+
+    public long estimate(T item) {
+        Counter counter = counters.get(item);
+        return counter == null ? 0 : counter.count;
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isEmpty() {
+        return counters.isEmpty();
+    }
+
+    /**
+     * Soma as estimativas deste resumo nas estimativas informadas, usado para juntar janelas de tempo.
+     * O erro da soma continua limitado pela soma dos {@code N / capacity} de cada resumo.
+     */
+    public void addTo(Map<T, Long> estimates) {
+        counters.forEach((item, counter) -> estimates.merge(item, counter.count, Long::sum));
+    }
+
+    public List<Estimate<T>> top(int size) {
+        return counters
+                .entrySet()
+                .stream()
+                .filter((entry) -> entry.getValue().count > 0)
+                .sorted(Comparator.comparingLong((Map.Entry<T, Counter> entry) -> entry.getValue().count).reversed())
+                .limit(size)
+                .map((entry) -> new Estimate<>(entry.getKey(), entry.getValue().count, entry.getValue().error))
+                .collect(Collectors.toList());
+    }
+
+    public void clear() {
+        counters.clear();
+        totalWeight = 0;
+    }
+
+    private Map.Entry<T, Counter> minEntry() {
+        Map.Entry<T, Counter> min = null;
+
+        for (Map.Entry<T, Counter> entry : counters.entrySet()) {
+            if (min == null || entry.getValue().count < min.getValue().count) {
+                min = entry;
+            }
+        }
+
+        return min;
+    }
+
+    @AllArgsConstructor
+    private static class Counter {
+
+        private long count;
+        private long error;
+
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Estimate<T> {
+
+        private final T item;
+        private final long count;
+        private final long error;
+
+    }
+
+}
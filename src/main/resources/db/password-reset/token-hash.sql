@@ -0,0 +1,10 @@
+-- Os códigos de recuperação de senha passam a ser gravados como hash SHA-256 na coluna token_hash, criada pelo
+-- Hibernate ao subir a nova versão. Os códigos antigos, em texto puro, não podem ser convertidos sem expor o valor e
+-- expiram em poucos minutos, então são apagados; quem estava no meio de uma recuperação só precisa pedir outro código.
+--
+-- Funciona no MySQL e no PostgreSQL. A restrição única antiga em user_uuid (do @OneToOne) pode continuar existindo,
+-- já que cada usuário passa a ter no máximo uma linha nesta tabela.
+
+DELETE FROM password_reset WHERE token_hash IS NULL;
+
+ALTER TABLE password_reset DROP COLUMN token;
@@ -0,0 +1,208 @@
+-- Migração online dos UUIDs de CHAR(36)/VARCHAR(255) para BINARY(16) no MySQL 8.
+--
+-- Fase 1 e 2 rodam com a aplicação no ar usando my.uuid.storage=char (padrão). A fase 3 troca as colunas e
+-- precisa da aplicação parada por alguns instantes; em seguida a aplicação volta com my.uuid.storage=binary.
+--
+-- O UUID é gravado com os bits mais significativos primeiro, que é o mesmo formato usado pelo Hibernate, por isso a
+-- conversão é UNHEX(REPLACE(uuid, '-', '')) e não UUID_TO_BIN(uuid, 1).
+
+-- ---------------------------------------------------------------------------------------------------------------
+-- Fase 1: colunas sombra e triggers que as mantêm atualizadas para as escritas novas.
+-- ---------------------------------------------------------------------------------------------------------------
+
+ALTER TABLE application_users ADD COLUMN uuid_bin BINARY(16), ALGORITHM = INPLACE, LOCK = NONE;
+ALTER TABLE client_tables ADD COLUMN uuid_bin BINARY(16), ALGORITHM = INPLACE, LOCK = NONE;
+ALTER TABLE drinks ADD COLUMN uuid_bin BINARY(16), ALGORITHM = INPLACE, LOCK = NONE;
+ALTER TABLE password_reset ADD COLUMN uuid_bin BINARY(16), ADD COLUMN user_uuid_bin BINARY(16), ALGORITHM = INPLACE, LOCK = NONE;
+ALTER TABLE client_requests ADD COLUMN uuid_bin BINARY(16), ADD COLUMN user_uuid_bin BINARY(16), ADD COLUMN table_uuid_bin BINARY(16), ALGORITHM = INPLACE, LOCK = NONE;
+ALTER TABLE client_requests_archive ADD COLUMN uuid_bin BINARY(16), ADD COLUMN user_uuid_bin BINARY(16), ADD COLUMN table_uuid_bin BINARY(16), ALGORITHM = INPLACE, LOCK = NONE;
+ALTER TABLE request_drink ADD COLUMN request_id_bin BINARY(16), ADD COLUMN drink_id_bin BINARY(16), ALGORITHM = INPLACE, LOCK = NONE;
+ALTER TABLE request_drink_archive ADD COLUMN request_id_bin BINARY(16), ADD COLUMN drink_id_bin BINARY(16), ALGORITHM = INPLACE, LOCK = NONE;
+
+CREATE FUNCTION uuid_text_to_bin(uuid VARCHAR(36)) RETURNS BINARY(16) DETERMINISTIC
+    RETURN IF(uuid IS NULL, NULL, UNHEX(REPLACE(uuid, '-', '')));
+
+DELIMITER //
+
+CREATE TRIGGER application_users_uuid_bin_insert BEFORE INSERT ON application_users FOR EACH ROW
+    SET NEW.uuid_bin = uuid_text_to_bin(NEW.uuid)//
+CREATE TRIGGER client_tables_uuid_bin_insert BEFORE INSERT ON client_tables FOR EACH ROW
+    SET NEW.uuid_bin = uuid_text_to_bin(NEW.uuid)//
+CREATE TRIGGER drinks_uuid_bin_insert BEFORE INSERT ON drinks FOR EACH ROW
+    SET NEW.uuid_bin = uuid_text_to_bin(NEW.uuid)//
+
+CREATE TRIGGER password_reset_uuid_bin_insert BEFORE INSERT ON password_reset FOR EACH ROW
+    SET NEW.uuid_bin = uuid_text_to_bin(NEW.uuid), NEW.user_uuid_bin = uuid_text_to_bin(NEW.user_uuid)//
+CREATE TRIGGER password_reset_uuid_bin_update BEFORE UPDATE ON password_reset FOR EACH ROW
+    SET NEW.user_uuid_bin = uuid_text_to_bin(NEW.user_uuid)//
+
+CREATE TRIGGER client_requests_uuid_bin_insert BEFORE INSERT ON client_requests FOR EACH ROW
+    SET NEW.uuid_bin = uuid_text_to_bin(NEW.uuid),
+        NEW.user_uuid_bin = uuid_text_to_bin(NEW.user_uuid),
+        NEW.table_uuid_bin = uuid_text_to_bin(NEW.table_uuid)//
+CREATE TRIGGER client_requests_uuid_bin_update BEFORE UPDATE ON client_requests FOR EACH ROW
+    SET NEW.user_uuid_bin = uuid_text_to_bin(NEW.user_uuid),
+        NEW.table_uuid_bin = uuid_text_to_bin(NEW.table_uuid)//
+
+CREATE TRIGGER client_requests_archive_uuid_bin_insert BEFORE INSERT ON client_requests_archive FOR EACH ROW
+    SET NEW.uuid_bin = uuid_text_to_bin(NEW.uuid),
+        NEW.user_uuid_bin = uuid_text_to_bin(NEW.user_uuid),
+        NEW.table_uuid_bin = uuid_text_to_bin(NEW.table_uuid)//
+CREATE TRIGGER client_requests_archive_uuid_bin_update BEFORE UPDATE ON client_requests_archive FOR EACH ROW
+    SET NEW.table_uuid_bin = uuid_text_to_bin(NEW.table_uuid)//
+
+CREATE TRIGGER request_drink_uuid_bin_insert BEFORE INSERT ON request_drink FOR EACH ROW
+    SET NEW.request_id_bin = uuid_text_to_bin(NEW.request_id), NEW.drink_id_bin = uuid_text_to_bin(NEW.drink_id)//
+CREATE TRIGGER request_drink_archive_uuid_bin_insert BEFORE INSERT ON request_drink_archive FOR EACH ROW
+    SET NEW.request_id_bin = uuid_text_to_bin(NEW.request_id), NEW.drink_id_bin = uuid_text_to_bin(NEW.drink_id)//
+
+-- ---------------------------------------------------------------------------------------------------------------
+-- Fase 2: preenche as linhas antigas em lotes pequenos, para não segurar locks por muito tempo.
+-- ---------------------------------------------------------------------------------------------------------------
+
+CREATE PROCEDURE backfill_uuid_bin(IN table_name VARCHAR(64), IN assignments TEXT, IN pending TEXT, IN batch_size INT)
+BEGIN
+    SET @backfill = CONCAT('UPDATE ', table_name, ' SET ', assignments, ' WHERE ', pending, ' LIMIT ', batch_size);
+
+    PREPARE statement FROM @backfill;
+
+    REPEAT
+        EXECUTE statement;
+    UNTIL ROW_COUNT() = 0 END REPEAT;
+
+    DEALLOCATE PREPARE statement;
+END//
+
+DELIMITER ;
+
+CALL backfill_uuid_bin('application_users', 'uuid_bin = uuid_text_to_bin(uuid)', 'uuid_bin IS NULL', 5000);
+CALL backfill_uuid_bin('client_tables', 'uuid_bin = uuid_text_to_bin(uuid)', 'uuid_bin IS NULL', 5000);
+CALL backfill_uuid_bin('drinks', 'uuid_bin = uuid_text_to_bin(uuid)', 'uuid_bin IS NULL', 5000);
+CALL backfill_uuid_bin('password_reset',
+        'uuid_bin = uuid_text_to_bin(uuid), user_uuid_bin = uuid_text_to_bin(user_uuid)',
+        'uuid_bin IS NULL', 5000);
+CALL backfill_uuid_bin('client_requests',
+        'uuid_bin = uuid_text_to_bin(uuid), user_uuid_bin = uuid_text_to_bin(user_uuid), table_uuid_bin = uuid_text_to_bin(table_uuid)',
+        'uuid_bin IS NULL', 5000);
+CALL backfill_uuid_bin('client_requests_archive',
+        'uuid_bin = uuid_text_to_bin(uuid), user_uuid_bin = uuid_text_to_bin(user_uuid), table_uuid_bin = uuid_text_to_bin(table_uuid)',
+        'uuid_bin IS NULL', 5000);
+CALL backfill_uuid_bin('request_drink',
+        'request_id_bin = uuid_text_to_bin(request_id), drink_id_bin = uuid_text_to_bin(drink_id)',
+        'request_id_bin IS NULL', 5000);
+CALL backfill_uuid_bin('request_drink_archive',
+        'request_id_bin = uuid_text_to_bin(request_id), drink_id_bin = uuid_text_to_bin(drink_id)',
+        'request_id_bin IS NULL', 5000);
+
+-- Antes de seguir, todas as consultas abaixo devem retornar zero.
+SELECT COUNT(*) FROM application_users WHERE uuid_bin IS NULL;
+SELECT COUNT(*) FROM client_tables WHERE uuid_bin IS NULL;
+SELECT COUNT(*) FROM drinks WHERE uuid_bin IS NULL;
+SELECT COUNT(*) FROM password_reset WHERE uuid_bin IS NULL;
+SELECT COUNT(*) FROM client_requests WHERE uuid_bin IS NULL;
+SELECT COUNT(*) FROM client_requests_archive WHERE uuid_bin IS NULL;
+SELECT COUNT(*) FROM request_drink WHERE request_id_bin IS NULL;
+SELECT COUNT(*) FROM request_drink_archive WHERE request_id_bin IS NULL;
+
+-- ---------------------------------------------------------------------------------------------------------------
+-- Fase 3: com a aplicação parada, troca as colunas e recria as chaves.
+-- ---------------------------------------------------------------------------------------------------------------
+
+DELIMITER //
+
+CREATE PROCEDURE drop_foreign_keys(IN target_table VARCHAR(64))
+BEGIN
+    DECLARE done BOOLEAN DEFAULT FALSE;
+    DECLARE constraint_name_found VARCHAR(64);
+    DECLARE foreign_keys CURSOR FOR
+        SELECT CONSTRAINT_NAME
+        FROM information_schema.TABLE_CONSTRAINTS
+        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = target_table AND CONSTRAINT_TYPE = 'FOREIGN KEY';
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = TRUE;
+
+    OPEN foreign_keys;
+
+    drop_loop: LOOP
+        FETCH foreign_keys INTO constraint_name_found;
+
+        IF done THEN
+            LEAVE drop_loop;
+        END IF;
+
+        SET @drop_foreign_key = CONCAT('ALTER TABLE ', target_table, ' DROP FOREIGN KEY ', constraint_name_found);
+
+        PREPARE statement FROM @drop_foreign_key;
+        EXECUTE statement;
+        DEALLOCATE PREPARE statement;
+    END LOOP;
+
+    CLOSE foreign_keys;
+END//
+
+DELIMITER ;
+
+CALL drop_foreign_keys('password_reset');
+CALL drop_foreign_keys('client_requests');
+CALL drop_foreign_keys('client_requests_archive');
+CALL drop_foreign_keys('request_drink');
+CALL drop_foreign_keys('request_drink_archive');
+
+DROP TRIGGER application_users_uuid_bin_insert;
+DROP TRIGGER client_tables_uuid_bin_insert;
+DROP TRIGGER drinks_uuid_bin_insert;
+DROP TRIGGER password_reset_uuid_bin_insert;
+DROP TRIGGER password_reset_uuid_bin_update;
+DROP TRIGGER client_requests_uuid_bin_insert;
+DROP TRIGGER client_requests_uuid_bin_update;
+DROP TRIGGER client_requests_archive_uuid_bin_insert;
+DROP TRIGGER client_requests_archive_uuid_bin_update;
+DROP TRIGGER request_drink_uuid_bin_insert;
+DROP TRIGGER request_drink_archive_uuid_bin_insert;
+
+ALTER TABLE application_users DROP PRIMARY KEY, DROP COLUMN uuid, CHANGE uuid_bin uuid BINARY(16) NOT NULL, ADD PRIMARY KEY (uuid);
+ALTER TABLE client_tables DROP PRIMARY KEY, DROP COLUMN uuid, CHANGE uuid_bin uuid BINARY(16) NOT NULL, ADD PRIMARY KEY (uuid);
+ALTER TABLE drinks DROP PRIMARY KEY, DROP COLUMN uuid, CHANGE uuid_bin uuid BINARY(16) NOT NULL, ADD PRIMARY KEY (uuid);
+
+ALTER TABLE password_reset
+    DROP PRIMARY KEY, DROP COLUMN uuid, DROP COLUMN user_uuid,
+    CHANGE uuid_bin uuid BINARY(16) NOT NULL,
+    CHANGE user_uuid_bin user_uuid BINARY(16),
+    ADD PRIMARY KEY (uuid),
+    ADD CONSTRAINT fk_password_reset_user FOREIGN KEY (user_uuid) REFERENCES application_users (uuid);
+
+ALTER TABLE client_requests
+    DROP PRIMARY KEY, DROP COLUMN uuid, DROP COLUMN user_uuid, DROP COLUMN table_uuid,
+    CHANGE uuid_bin uuid BINARY(16) NOT NULL,
+    CHANGE user_uuid_bin user_uuid BINARY(16),
+    CHANGE table_uuid_bin table_uuid BINARY(16),
+    ADD PRIMARY KEY (uuid),
+    ADD CONSTRAINT fk_client_requests_user FOREIGN KEY (user_uuid) REFERENCES application_users (uuid),
+    ADD CONSTRAINT fk_client_requests_table FOREIGN KEY (table_uuid) REFERENCES client_tables (uuid);
+
+ALTER TABLE client_requests_archive
+    DROP PRIMARY KEY, DROP COLUMN uuid, DROP COLUMN user_uuid, DROP COLUMN table_uuid,
+    CHANGE uuid_bin uuid BINARY(16) NOT NULL,
+    CHANGE user_uuid_bin user_uuid BINARY(16),
+    CHANGE table_uuid_bin table_uuid BINARY(16),
+    ADD PRIMARY KEY (uuid),
+    ADD INDEX idx_client_requests_archive_user_uuid (user_uuid),
+    ADD CONSTRAINT fk_client_requests_archive_user FOREIGN KEY (user_uuid) REFERENCES application_users (uuid),
+    ADD CONSTRAINT fk_client_requests_archive_table FOREIGN KEY (table_uuid) REFERENCES client_tables (uuid);
+
+ALTER TABLE request_drink
+    DROP COLUMN request_id, DROP COLUMN drink_id,
+    CHANGE request_id_bin request_id BINARY(16) NOT NULL,
+    CHANGE drink_id_bin drink_id BINARY(16) NOT NULL,
+    ADD CONSTRAINT fk_request_drink_request FOREIGN KEY (request_id) REFERENCES client_requests (uuid),
+    ADD CONSTRAINT fk_request_drink_drink FOREIGN KEY (drink_id) REFERENCES drinks (uuid);
+
+ALTER TABLE request_drink_archive
+    DROP COLUMN request_id, DROP COLUMN drink_id,
+    CHANGE request_id_bin request_id BINARY(16) NOT NULL,
+    CHANGE drink_id_bin drink_id BINARY(16) NOT NULL,
+    ADD CONSTRAINT fk_request_drink_archive_request FOREIGN KEY (request_id) REFERENCES client_requests_archive (uuid),
+    ADD CONSTRAINT fk_request_drink_archive_drink FOREIGN KEY (drink_id) REFERENCES drinks (uuid);
+
+DROP PROCEDURE drop_foreign_keys;
+DROP PROCEDURE backfill_uuid_bin;
+DROP FUNCTION uuid_text_to_bin;
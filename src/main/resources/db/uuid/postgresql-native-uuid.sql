@@ -0,0 +1,207 @@
+-- Migração online dos UUIDs de VARCHAR(255) para o tipo uuid nativo no PostgreSQL 11+.
+--
+-- Fase 1 e 2 rodam com a aplicação no ar usando my.uuid.storage=char (padrão). A fase 3 troca as colunas e
+-- precisa da aplicação parada por alguns instantes; em seguida a aplicação volta com my.uuid.storage=native.
+
+-- ---------------------------------------------------------------------------------------------------------------
+-- Fase 1: colunas sombra e triggers que as mantêm atualizadas para as escritas novas.
+-- ---------------------------------------------------------------------------------------------------------------
+
+ALTER TABLE application_users ADD COLUMN uuid_new uuid;
+ALTER TABLE client_tables ADD COLUMN uuid_new uuid;
+ALTER TABLE drinks ADD COLUMN uuid_new uuid;
+ALTER TABLE password_reset ADD COLUMN uuid_new uuid, ADD COLUMN user_uuid_new uuid;
+ALTER TABLE client_requests ADD COLUMN uuid_new uuid, ADD COLUMN user_uuid_new uuid, ADD COLUMN table_uuid_new uuid;
+ALTER TABLE client_requests_archive ADD COLUMN uuid_new uuid, ADD COLUMN user_uuid_new uuid, ADD COLUMN table_uuid_new uuid;
+ALTER TABLE request_drink ADD COLUMN request_id_new uuid, ADD COLUMN drink_id_new uuid;
+ALTER TABLE request_drink_archive ADD COLUMN request_id_new uuid, ADD COLUMN drink_id_new uuid;
+
+CREATE FUNCTION sync_uuid_new() RETURNS trigger AS $$
+BEGIN
+    NEW.uuid_new := NEW.uuid::uuid;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION sync_password_reset_uuid_new() RETURNS trigger AS $$
+BEGIN
+    NEW.uuid_new := NEW.uuid::uuid;
+    NEW.user_uuid_new := NEW.user_uuid::uuid;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION sync_client_requests_uuid_new() RETURNS trigger AS $$
+BEGIN
+    NEW.uuid_new := NEW.uuid::uuid;
+    NEW.user_uuid_new := NEW.user_uuid::uuid;
+    NEW.table_uuid_new := NEW.table_uuid::uuid;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION sync_request_drink_uuid_new() RETURNS trigger AS $$
+BEGIN
+    NEW.request_id_new := NEW.request_id::uuid;
+    NEW.drink_id_new := NEW.drink_id::uuid;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER application_users_uuid_new BEFORE INSERT ON application_users FOR EACH ROW EXECUTE FUNCTION sync_uuid_new();
+CREATE TRIGGER client_tables_uuid_new BEFORE INSERT ON client_tables FOR EACH ROW EXECUTE FUNCTION sync_uuid_new();
+CREATE TRIGGER drinks_uuid_new BEFORE INSERT ON drinks FOR EACH ROW EXECUTE FUNCTION sync_uuid_new();
+CREATE TRIGGER password_reset_uuid_new BEFORE INSERT OR UPDATE ON password_reset FOR EACH ROW EXECUTE FUNCTION sync_password_reset_uuid_new();
+CREATE TRIGGER client_requests_uuid_new BEFORE INSERT OR UPDATE ON client_requests FOR EACH ROW EXECUTE FUNCTION sync_client_requests_uuid_new();
+CREATE TRIGGER client_requests_archive_uuid_new BEFORE INSERT OR UPDATE ON client_requests_archive FOR EACH ROW EXECUTE FUNCTION sync_client_requests_uuid_new();
+CREATE TRIGGER request_drink_uuid_new BEFORE INSERT ON request_drink FOR EACH ROW EXECUTE FUNCTION sync_request_drink_uuid_new();
+CREATE TRIGGER request_drink_archive_uuid_new BEFORE INSERT ON request_drink_archive FOR EACH ROW EXECUTE FUNCTION sync_request_drink_uuid_new();
+
+-- ---------------------------------------------------------------------------------------------------------------
+-- Fase 2: preenche as linhas antigas em lotes pequenos, confirmando cada lote. Deve rodar fora de uma transação.
+-- ---------------------------------------------------------------------------------------------------------------
+
+CREATE PROCEDURE backfill_uuid_new(target_table text, assignments text, pending text, batch_size int) AS $$
+DECLARE
+    updated int;
+BEGIN
+    LOOP
+        EXECUTE format('UPDATE %I SET %s WHERE ctid IN (SELECT ctid FROM %I WHERE %s LIMIT %s)',
+                target_table, assignments, target_table, pending, batch_size);
+
+        GET DIAGNOSTICS updated = ROW_COUNT;
+
+        EXIT WHEN updated = 0;
+
+        COMMIT;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+CALL backfill_uuid_new('application_users', 'uuid_new = uuid::uuid', 'uuid_new IS NULL', 5000);
+CALL backfill_uuid_new('client_tables', 'uuid_new = uuid::uuid', 'uuid_new IS NULL', 5000);
+CALL backfill_uuid_new('drinks', 'uuid_new = uuid::uuid', 'uuid_new IS NULL', 5000);
+CALL backfill_uuid_new('password_reset', 'uuid_new = uuid::uuid, user_uuid_new = user_uuid::uuid', 'uuid_new IS NULL', 5000);
+CALL backfill_uuid_new('client_requests',
+        'uuid_new = uuid::uuid, user_uuid_new = user_uuid::uuid, table_uuid_new = table_uuid::uuid',
+        'uuid_new IS NULL', 5000);
+CALL backfill_uuid_new('client_requests_archive',
+        'uuid_new = uuid::uuid, user_uuid_new = user_uuid::uuid, table_uuid_new = table_uuid::uuid',
+        'uuid_new IS NULL', 5000);
+CALL backfill_uuid_new('request_drink', 'request_id_new = request_id::uuid, drink_id_new = drink_id::uuid', 'request_id_new IS NULL', 5000);
+CALL backfill_uuid_new('request_drink_archive', 'request_id_new = request_id::uuid, drink_id_new = drink_id::uuid', 'request_id_new IS NULL', 5000);
+
+-- Os índices únicos são criados sem bloquear escritas, para que a troca da fase 3 só precise anexá-los.
+CREATE UNIQUE INDEX CONCURRENTLY application_users_uuid_new_key ON application_users (uuid_new);
+CREATE UNIQUE INDEX CONCURRENTLY client_tables_uuid_new_key ON client_tables (uuid_new);
+CREATE UNIQUE INDEX CONCURRENTLY drinks_uuid_new_key ON drinks (uuid_new);
+CREATE UNIQUE INDEX CONCURRENTLY password_reset_uuid_new_key ON password_reset (uuid_new);
+CREATE UNIQUE INDEX CONCURRENTLY client_requests_uuid_new_key ON client_requests (uuid_new);
+CREATE UNIQUE INDEX CONCURRENTLY client_requests_archive_uuid_new_key ON client_requests_archive (uuid_new);
+
+-- Antes de seguir, todas as consultas abaixo devem retornar zero.
+SELECT COUNT(*) FROM application_users WHERE uuid_new IS NULL;
+SELECT COUNT(*) FROM client_tables WHERE uuid_new IS NULL;
+SELECT COUNT(*) FROM drinks WHERE uuid_new IS NULL;
+SELECT COUNT(*) FROM password_reset WHERE uuid_new IS NULL;
+SELECT COUNT(*) FROM client_requests WHERE uuid_new IS NULL;
+SELECT COUNT(*) FROM client_requests_archive WHERE uuid_new IS NULL;
+SELECT COUNT(*) FROM request_drink WHERE request_id_new IS NULL;
+SELECT COUNT(*) FROM request_drink_archive WHERE request_id_new IS NULL;
+
+-- ---------------------------------------------------------------------------------------------------------------
+-- Fase 3: com a aplicação parada, troca as colunas e recria as chaves em uma única transação.
+-- ---------------------------------------------------------------------------------------------------------------
+
+BEGIN;
+
+DO $$
+DECLARE
+    foreign_key record;
+BEGIN
+    FOR foreign_key IN
+        SELECT conrelid::regclass AS target_table, conname
+        FROM pg_constraint
+        WHERE contype = 'f'
+          AND conrelid::regclass::text IN ('password_reset', 'client_requests', 'client_requests_archive', 'request_drink', 'request_drink_archive')
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', foreign_key.target_table, foreign_key.conname);
+    END LOOP;
+END;
+$$;
+
+DROP TRIGGER application_users_uuid_new ON application_users;
+DROP TRIGGER client_tables_uuid_new ON client_tables;
+DROP TRIGGER drinks_uuid_new ON drinks;
+DROP TRIGGER password_reset_uuid_new ON password_reset;
+DROP TRIGGER client_requests_uuid_new ON client_requests;
+DROP TRIGGER client_requests_archive_uuid_new ON client_requests_archive;
+DROP TRIGGER request_drink_uuid_new ON request_drink;
+DROP TRIGGER request_drink_archive_uuid_new ON request_drink_archive;
+
+ALTER TABLE application_users DROP COLUMN uuid;
+ALTER TABLE application_users RENAME COLUMN uuid_new TO uuid;
+ALTER TABLE application_users ALTER COLUMN uuid SET NOT NULL, ADD PRIMARY KEY USING INDEX application_users_uuid_new_key;
+
+ALTER TABLE client_tables DROP COLUMN uuid;
+ALTER TABLE client_tables RENAME COLUMN uuid_new TO uuid;
+ALTER TABLE client_tables ALTER COLUMN uuid SET NOT NULL, ADD PRIMARY KEY USING INDEX client_tables_uuid_new_key;
+
+ALTER TABLE drinks DROP COLUMN uuid;
+ALTER TABLE drinks RENAME COLUMN uuid_new TO uuid;
+ALTER TABLE drinks ALTER COLUMN uuid SET NOT NULL, ADD PRIMARY KEY USING INDEX drinks_uuid_new_key;
+
+ALTER TABLE password_reset DROP COLUMN uuid, DROP COLUMN user_uuid;
+ALTER TABLE password_reset RENAME COLUMN uuid_new TO uuid;
+ALTER TABLE password_reset RENAME COLUMN user_uuid_new TO user_uuid;
+ALTER TABLE password_reset
+    ALTER COLUMN uuid SET NOT NULL,
+    ADD PRIMARY KEY USING INDEX password_reset_uuid_new_key,
+    ADD CONSTRAINT fk_password_reset_user FOREIGN KEY (user_uuid) REFERENCES application_users (uuid);
+
+ALTER TABLE client_requests DROP COLUMN uuid, DROP COLUMN user_uuid, DROP COLUMN table_uuid;
+ALTER TABLE client_requests RENAME COLUMN uuid_new TO uuid;
+ALTER TABLE client_requests RENAME COLUMN user_uuid_new TO user_uuid;
+ALTER TABLE client_requests RENAME COLUMN table_uuid_new TO table_uuid;
+ALTER TABLE client_requests
+    ALTER COLUMN uuid SET NOT NULL,
+    ADD PRIMARY KEY USING INDEX client_requests_uuid_new_key,
+    ADD CONSTRAINT fk_client_requests_user FOREIGN KEY (user_uuid) REFERENCES application_users (uuid),
+    ADD CONSTRAINT fk_client_requests_table FOREIGN KEY (table_uuid) REFERENCES client_tables (uuid);
+
+ALTER TABLE client_requests_archive DROP COLUMN uuid, DROP COLUMN user_uuid, DROP COLUMN table_uuid;
+ALTER TABLE client_requests_archive RENAME COLUMN uuid_new TO uuid;
+ALTER TABLE client_requests_archive RENAME COLUMN user_uuid_new TO user_uuid;
+ALTER TABLE client_requests_archive RENAME COLUMN table_uuid_new TO table_uuid;
+ALTER TABLE client_requests_archive
+    ALTER COLUMN uuid SET NOT NULL,
+    ADD PRIMARY KEY USING INDEX client_requests_archive_uuid_new_key,
+    ADD CONSTRAINT fk_client_requests_archive_user FOREIGN KEY (user_uuid) REFERENCES application_users (uuid),
+    ADD CONSTRAINT fk_client_requests_archive_table FOREIGN KEY (table_uuid) REFERENCES client_tables (uuid);
+CREATE INDEX idx_client_requests_archive_user_uuid ON client_requests_archive (user_uuid);
+
+ALTER TABLE request_drink DROP COLUMN request_id, DROP COLUMN drink_id;
+ALTER TABLE request_drink RENAME COLUMN request_id_new TO request_id;
+ALTER TABLE request_drink RENAME COLUMN drink_id_new TO drink_id;
+ALTER TABLE request_drink
+    ALTER COLUMN request_id SET NOT NULL,
+    ALTER COLUMN drink_id SET NOT NULL,
+    ADD CONSTRAINT fk_request_drink_request FOREIGN KEY (request_id) REFERENCES client_requests (uuid),
+    ADD CONSTRAINT fk_request_drink_drink FOREIGN KEY (drink_id) REFERENCES drinks (uuid);
+
+ALTER TABLE request_drink_archive DROP COLUMN request_id, DROP COLUMN drink_id;
+ALTER TABLE request_drink_archive RENAME COLUMN request_id_new TO request_id;
+ALTER TABLE request_drink_archive RENAME COLUMN drink_id_new TO drink_id;
+ALTER TABLE request_drink_archive
+    ALTER COLUMN request_id SET NOT NULL,
+    ALTER COLUMN drink_id SET NOT NULL,
+    ADD CONSTRAINT fk_request_drink_archive_request FOREIGN KEY (request_id) REFERENCES client_requests_archive (uuid),
+    ADD CONSTRAINT fk_request_drink_archive_drink FOREIGN KEY (drink_id) REFERENCES drinks (uuid);
+
+COMMIT;
+
+DROP PROCEDURE backfill_uuid_new;
+DROP FUNCTION sync_uuid_new();
+DROP FUNCTION sync_password_reset_uuid_new();
+DROP FUNCTION sync_client_requests_uuid_new();
+DROP FUNCTION sync_request_drink_uuid_new();
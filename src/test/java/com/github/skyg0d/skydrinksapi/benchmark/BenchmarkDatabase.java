@@ -0,0 +1,124 @@
+package com.github.skyg0d.skydrinksapi.benchmark;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Assumptions;
+
+import java.nio.ByteBuffer;
+import java.sql.*;
+import java.util.UUID;
+
+/**
+ * Conexão usada pelos benchmarks, configurada com -Dbenchmark.url, -Dbenchmark.username e -Dbenchmark.password.
+ * Por padrão usa o MySQL do docker-compose. Os benchmarks são ignorados quando o banco não está disponível.
+ */
+@Log4j2
+public class BenchmarkDatabase implements AutoCloseable {
+
+    private static final String DEFAULT_URL = "jdbc:mysql://localhost:3306/skydrinks_benchmark?createDatabaseIfNotExist=true&rewriteBatchedStatements=true";
+
+    private final Connection connection;
+    private final boolean postgresql;
+
+    private BenchmarkDatabase(Connection connection) throws SQLException {
+        this.connection = connection;
+        this.postgresql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+    }
+
+    public static BenchmarkDatabase connect() {
+        String url = System.getProperty("benchmark.url", DEFAULT_URL);
+
+        try {
+            return new BenchmarkDatabase(DriverManager.getConnection(
+                    url,
+                    System.getProperty("benchmark.username", "root"),
+                    System.getProperty("benchmark.password", "root")
+            ));
+        } catch (SQLException ex) {
+            Assumptions.assumeTrue(false, String.format("Banco de benchmark \"%s\" indisponível: %s", url, ex.getMessage()));
+
+            return null;
+        }
+    }
+
+    public static int rows(int defaultRows) {
+        return Integer.getInteger("benchmark.rows", defaultRows);
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public boolean isPostgresql() {
+        return postgresql;
+    }
+
+    public String textUuidType() {
+        return postgresql ? "VARCHAR(255)" : "CHAR(36)";
+    }
+
+    public String binaryUuidType() {
+        return postgresql ? "UUID" : "BINARY(16)";
+    }
+
+    public void bindUuid(PreparedStatement statement, int index, UUID uuid, boolean binary) throws SQLException {
+        if (!binary) {
+            statement.setString(index, uuid.toString());
+        } else if (postgresql) {
+            statement.setObject(index, uuid);
+        } else {
+            statement.setBytes(index, ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array());
+        }
+    }
+
+    public void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    public void analyze(String table) throws SQLException {
+        execute(postgresql ? "ANALYZE " + table : "ANALYZE TABLE " + table);
+    }
+
+    /**
+     * Tamanho em bytes dos índices secundários (MySQL) ou de todos os índices (PostgreSQL) da tabela.
+     */
+    public long indexSize(String table) throws SQLException {
+        return querySize(table, postgresql
+                ? "SELECT pg_indexes_size(?::regclass)"
+                : "SELECT index_length FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?");
+    }
+
+    /**
+     * Tamanho em bytes da tabela com todos os seus índices. No InnoDB a chave primária é o próprio índice clusterizado.
+     */
+    public long totalSize(String table) throws SQLException {
+        return querySize(table, postgresql
+                ? "SELECT pg_total_relation_size(?::regclass)"
+                : "SELECT data_length + index_length FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?");
+    }
+
+    private long querySize(String table, String sql) throws SQLException {
+        analyze(table);
+
+        if (!postgresql) {
+            execute("SET SESSION information_schema_stats_expiry = 0");
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, table);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        connection.close();
+    }
+
+}
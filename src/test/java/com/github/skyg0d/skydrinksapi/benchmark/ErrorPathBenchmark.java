@@ -0,0 +1,128 @@
+package com.github.skyg0d.skydrinksapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.skyg0d.skydrinksapi.exception.BadRequestException;
+import com.github.skyg0d.skydrinksapi.exception.details.BadRequestExceptionDetails;
+import com.github.skyg0d.skydrinksapi.exception.details.ExceptionDetails;
+import com.github.skyg0d.skydrinksapi.util.ExceptionUtils;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara a vazão do caminho de erro de negócio: exceção com pilha e um ObjectMapper por resposta, como era antes,
+ * contra a exceção sem pilha e o writer compartilhado. As exceções são lançadas a {@link #STACK_DEPTH} frames de
+ * profundidade, próximo do que uma requisição percorre entre filtros, interceptors e proxies do Spring.
+ * Executado com {@code ./mvnw test -P benchmarks}.
+ */
+@Log4j2
+@DisplayName("Benchmark for the business error path")
+class ErrorPathBenchmark {
+
+    private static final int STACK_DEPTH = 120;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    @DisplayName("stackless exceptions with a shared writer handle more errors per second than stack capturing exceptions")
+    void stacklessExceptionsWithASharedWriter_HandleMoreErrorsPerSecond_ThanStackCapturingExceptions() throws JsonProcessingException {
+        run(this::legacyErrorPath, WARMUP);
+        run(this::currentErrorPath, WARMUP);
+
+        double legacy = run(this::legacyErrorPath, ITERATIONS);
+        double current = run(this::currentErrorPath, ITERATIONS);
+
+        log.info("Caminho de erro antigo: {} erros/s", String.format("%.0f", legacy));
+        log.info("Caminho de erro atual: {} erros/s ({}x)", String.format("%.0f", current), String.format("%.1f", current / legacy));
+
+        assertThat(new BadRequestException("Drink não encontrado").getStackTrace()).isEmpty();
+
+        assertThat(current).isGreaterThan(legacy);
+    }
+
+    private double run(ErrorPath errorPath, int iterations) throws JsonProcessingException {
+        long length = 0;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            length += errorPath.handle(UUID.randomUUID()).length();
+        }
+
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(length).isPositive();
+
+        return iterations / (elapsed / 1_000_000_000.0);
+    }
+
+    private String legacyErrorPath(UUID uuid) throws JsonProcessingException {
+        try {
+            throwAt(STACK_DEPTH, () -> new StackCapturingBadRequestException(notFound(uuid)));
+        } catch (RuntimeException ex) {
+            return new ObjectMapper().writeValueAsString(createDetails(ex));
+        }
+
+        throw new IllegalStateException();
+    }
+
+    private String currentErrorPath(UUID uuid) throws JsonProcessingException {
+        try {
+            throwAt(STACK_DEPTH, () -> new BadRequestException(notFound(uuid)));
+        } catch (RuntimeException ex) {
+            return ExceptionUtils.convertObjectToJson(createDetails(ex));
+        }
+
+        throw new IllegalStateException();
+    }
+
+    private void throwAt(int depth, ExceptionFactory factory) {
+        if (depth == 0) {
+            throw factory.create();
+        }
+
+        throwAt(depth - 1, factory);
+    }
+
+    private ExceptionDetails createDetails(RuntimeException ex) {
+        return BadRequestExceptionDetails
+                .builder()
+                .title("Exceção do tipo BadRequestException aconteceu, consulte a documentação.")
+                .developerMessage(ex.getClass().getName())
+                .details(ex.getMessage())
+                .timestamp(LocalDateTime.now().toString())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .build();
+    }
+
+    private String notFound(UUID uuid) {
+        return String.format("Drink com id: \"%s\" não foi encontrado!", uuid);
+    }
+
+    private interface ErrorPath {
+
+        String handle(UUID uuid) throws JsonProcessingException;
+
+    }
+
+    private interface ExceptionFactory {
+
+        RuntimeException create();
+
+    }
+
+    private static class StackCapturingBadRequestException extends RuntimeException {
+
+        StackCapturingBadRequestException(String message) {
+            super(message);
+        }
+
+    }
+
+}
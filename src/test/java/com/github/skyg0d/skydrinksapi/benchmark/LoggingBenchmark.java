@@ -0,0 +1,189 @@
+package com.github.skyg0d.skydrinksapi.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.logging.SamplingTurboFilter;
+import com.github.skyg0d.skydrinksapi.util.request.ClientRequestCreator;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mede a latência de um caminho de requisição que escreve as mesmas linhas que {@code ClientRequestService.save}: com
+ * o log desligado, com o appender síncrono e o pedido inteiro formatado em info, como era antes, e com o appender
+ * assíncrono, a amostragem das services e o pedido só em debug. Cada configuração usa um LoggerContext próprio
+ * escrevendo num arquivo temporário. Executado com {@code ./mvnw test -P benchmarks}.
+ */
+@Log4j2
+@DisplayName("Benchmark for logging")
+class LoggingBenchmark {
+
+    private static final String LOGGER = "com.github.skyg0d.skydrinksapi.service.ClientRequestService";
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} %5p [%15.15t] %-40.40logger{39} : %m%n";
+    private static final int WARMUP = 20_000;
+    private static final int REQUESTS = 100_000;
+
+    @Test
+    @DisplayName("async sampled logging adds less latency to requests than synchronous eager logging")
+    void asyncSampledLogging_AddsLessLatencyToRequests_ThanSynchronousEagerLogging() throws IOException {
+        ClientRequest request = ClientRequestCreator.createValidClientRequest();
+
+        Result off = run("desligado", request, false, false, 1, Level.OFF);
+        Result sync = run("síncrono", request, false, true, 1, Level.INFO);
+        Result async = run("assíncrono com amostragem", request, true, false, 10, Level.INFO);
+
+        log.info("{}", off);
+        log.info("{}", sync);
+        log.info("{}", async);
+
+        assertThat(async.medianNanos).isLessThan(sync.medianNanos);
+    }
+
+    private Result run(String name, ClientRequest request, boolean async, boolean eager, int sampleRate, Level level) throws IOException {
+        Path file = Files.createTempFile("logging-benchmark", ".log");
+        LoggerContext context = createContext(file, async, sampleRate);
+
+        try {
+            Logger logger = context.getLogger(LOGGER);
+            logger.setLevel(level);
+
+            for (int i = 0; i < WARMUP; i++) {
+                handleRequest(logger, request, eager);
+            }
+
+            long[] latencies = new long[REQUESTS];
+
+            for (int i = 0; i < REQUESTS; i++) {
+                long start = System.nanoTime();
+
+                handleRequest(logger, request, eager);
+
+                latencies[i] = System.nanoTime() - start;
+            }
+
+            Arrays.sort(latencies);
+
+            return new Result(name, latencies[REQUESTS / 2], latencies[(int) (REQUESTS * 0.99)]);
+        } finally {
+            context.stop();
+
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // Mesmas linhas de ClientRequestService.save; cada isInfoEnabled faz o papel da verificação feita pela API do Log4j2.
+    private void handleRequest(Logger logger, ClientRequest request, boolean eager) {
+        UUID userUuid = request.getUser().getUuid();
+
+        if (logger.isInfoEnabled()) {
+            logger.info("Tentando criar pedido. . .");
+        }
+
+        if (logger.isInfoEnabled()) {
+            logger.info("Verificando se o usuário com uuid \"{}\" está bloqueado", userUuid);
+        }
+
+        if (logger.isInfoEnabled()) {
+            logger.info("Verificando se o usuário com uuid \"{}\" pediu bebidas alcoólicas e é menor de idade", userUuid);
+        }
+
+        if (eager) {
+            if (logger.isInfoEnabled()) {
+                logger.info("Calculando o preço do pedido \"{}\"", request);
+            }
+
+            if (logger.isInfoEnabled()) {
+                logger.info("Realizando pedido \"{}\", para o usuário com uuid \"{}\"", request, userUuid);
+            }
+        } else {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Calculando o preço do pedido \"{}\"", request);
+            }
+
+            if (logger.isInfoEnabled()) {
+                logger.info("Realizando pedido com {} bebidas para o usuário com uuid \"{}\"", request.getDrinks().size(), userUuid);
+            }
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("Conteúdo do pedido: {}", request);
+            }
+        }
+    }
+
+    private LoggerContext createContext(Path file, boolean async, int sampleRate) {
+        LoggerContext context = new LoggerContext();
+
+        SamplingTurboFilter samplingFilter = new SamplingTurboFilter();
+        samplingFilter.setContext(context);
+        samplingFilter.setRate(sampleRate);
+        samplingFilter.setLogger("com.github.skyg0d.skydrinksapi.service");
+        samplingFilter.start();
+
+        context.addTurboFilter(samplingFilter);
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> appender = fileAppender;
+
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+
+            appender = asyncAppender;
+        }
+
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.addAppender(appender);
+
+        return context;
+    }
+
+    private static class Result {
+
+        private final String name;
+        private final long medianNanos;
+        private final long p99Nanos;
+
+        Result(String name, long medianNanos, long p99Nanos) {
+            this.name = name;
+            this.medianNanos = medianNanos;
+            this.p99Nanos = p99Nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: mediana %d ns, p99 %d ns por requisição", name, medianNanos, p99Nanos);
+        }
+
+    }
+
+}
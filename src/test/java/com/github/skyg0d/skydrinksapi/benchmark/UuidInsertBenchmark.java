@@ -0,0 +1,120 @@
+package com.github.skyg0d.skydrinksapi.benchmark;
+
+import com.github.skyg0d.skydrinksapi.util.TimeOrderedUuidStrategy;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara a vazão de inserção numa tabela grande com chave primária binária usando UUIDs aleatórios (v4) e
+ * ordenados pelo tempo (v7). Executado com {@code ./mvnw test -P benchmarks}.
+ */
+@Log4j2
+@DisplayName("Benchmark for UUID inserts")
+class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 5000;
+
+    private static BenchmarkDatabase database;
+    private static int rows;
+
+    @BeforeAll
+    static void setUp() {
+        database = BenchmarkDatabase.connect();
+
+        rows = BenchmarkDatabase.rows(2_000_000);
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    @DisplayName("time ordered uuids insert faster and use smaller indexes than random uuids")
+    void timeOrderedUuids_InsertFasterAndUseSmallerIndexes_ThanRandomUuids() throws SQLException {
+        Result random = run("v4", UUID::randomUUID);
+        Result timeOrdered = run("v7", TimeOrderedUuidStrategy::generate);
+
+        log.info("{}", random);
+        log.info("{}", timeOrdered);
+
+        assertThat(timeOrdered.totalSize).isLessThanOrEqualTo(random.totalSize);
+    }
+
+    private Result run(String name, Supplier<UUID> generator) throws SQLException {
+        String table = "bench_insert_" + name;
+
+        database.execute("DROP TABLE IF EXISTS " + table);
+        database.execute("CREATE TABLE " + table + " (uuid " + database.binaryUuidType() + " NOT NULL PRIMARY KEY, "
+                + "user_uuid " + database.binaryUuidType() + ", status VARCHAR(20), total_price DOUBLE PRECISION)");
+
+        Result result = new Result(name);
+
+        database.getConnection().setAutoCommit(false);
+
+        try (PreparedStatement statement = database.getConnection().prepareStatement("INSERT INTO " + table + " (uuid, user_uuid, status, total_price) VALUES (?, ?, 'PROCESSING', 10.5)")) {
+            UUID user = UUID.randomUUID();
+            long tailStart = System.nanoTime();
+            int tailRows = 0;
+
+            for (int i = 0; i < rows; i++) {
+                database.bindUuid(statement, 1, generator.get(), true);
+                database.bindUuid(statement, 2, user, true);
+                statement.addBatch();
+
+                if (i % BATCH_SIZE == BATCH_SIZE - 1 || i == rows - 1) {
+                    statement.executeBatch();
+                    database.getConnection().commit();
+                }
+
+                // Mede apenas os últimos 20% para capturar o comportamento com a tabela já maior que o buffer pool.
+                if (i == rows - rows / 5) {
+                    tailStart = System.nanoTime();
+                    tailRows = 0;
+                }
+
+                tailRows++;
+            }
+
+            result.rowsPerSecondAtEnd = tailRows * 1_000_000_000L / Math.max(System.nanoTime() - tailStart, 1);
+        } finally {
+            database.getConnection().setAutoCommit(true);
+        }
+
+        database.analyze(table);
+
+        result.totalSize = database.totalSize(table);
+
+        return result;
+    }
+
+    private static class Result {
+
+        private final String name;
+        private long rowsPerSecondAtEnd;
+        private long totalSize;
+
+        private Result(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-3s inserções/s (últimos 20%%)=%,d  tamanho=%,d B", name, rowsPerSecondAtEnd, totalSize);
+        }
+
+    }
+
+}
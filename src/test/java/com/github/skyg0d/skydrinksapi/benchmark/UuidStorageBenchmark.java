@@ -0,0 +1,209 @@
+package com.github.skyg0d.skydrinksapi.benchmark;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara o tamanho dos índices e a latência dos joins das consultas de estatísticas com UUIDs em texto e binários.
+ * Executado com {@code ./mvnw test -P benchmarks}.
+ */
+@Log4j2
+@DisplayName("Benchmark for UUID storage")
+class UuidStorageBenchmark {
+
+    private static final int DRINKS = 200;
+    private static final int DRINKS_PER_REQUEST = 2;
+    private static final int QUERIES = 200;
+
+    private static BenchmarkDatabase database;
+    private static UUID[] users;
+    private static UUID[] drinks;
+    private static UUID[] requests;
+
+    @BeforeAll
+    static void setUp() {
+        database = BenchmarkDatabase.connect();
+
+        int rows = BenchmarkDatabase.rows(200_000);
+
+        users = randomUuids(Math.max(rows / 20, 1));
+        drinks = randomUuids(DRINKS);
+        requests = randomUuids(rows);
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    @DisplayName("binary uuids use smaller indexes and faster joins than text uuids")
+    void binaryUuids_UseSmallerIndexesAndFasterJoins_ThanTextUuids() throws SQLException {
+        Result text = run("text", database.textUuidType(), false);
+        Result binary = run("binary", database.binaryUuidType(), true);
+
+        log.info("{}", text);
+        log.info("{}", binary);
+
+        assertThat(binary.requestDrinkIndexSize).isLessThan(text.requestDrinkIndexSize);
+
+        assertThat(binary.requestsTotalSize).isLessThan(text.requestsTotalSize);
+    }
+
+    private Result run(String name, String uuidType, boolean binary) throws SQLException {
+        String prefix = "bench_" + name + "_";
+
+        createSchema(prefix, uuidType);
+        insertData(prefix, binary);
+
+        Result result = new Result(name);
+
+        result.requestsTotalSize = database.totalSize(prefix + "requests");
+        result.requestDrinkIndexSize = database.indexSize(prefix + "request_drink");
+        result.requestDrinkTotalSize = database.totalSize(prefix + "request_drink");
+
+        String userTopDrinks = "SELECT d.uuid, d.name, COUNT(d.name) FROM " + prefix + "requests r"
+                + " JOIN " + prefix + "request_drink rd ON rd.request_id = r.uuid"
+                + " JOIN " + prefix + "drinks d ON d.uuid = rd.drink_id"
+                + " JOIN " + prefix + "users u ON u.uuid = r.user_uuid"
+                + " WHERE u.uuid = ? GROUP BY d.name, d.uuid ORDER BY COUNT(d.name) DESC";
+
+        Random random = new Random(42);
+        long[] latencies = new long[QUERIES];
+
+        try (PreparedStatement statement = database.getConnection().prepareStatement(userTopDrinks)) {
+            for (int i = 0; i < QUERIES; i++) {
+                database.bindUuid(statement, 1, users[random.nextInt(users.length)], binary);
+
+                long start = System.nanoTime();
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getString(2);
+                    }
+                }
+
+                latencies[i] = System.nanoTime() - start;
+            }
+        }
+
+        Arrays.sort(latencies);
+
+        result.medianJoinMicros = latencies[QUERIES / 2] / 1000;
+        result.p95JoinMicros = latencies[(int) (QUERIES * 0.95)] / 1000;
+
+        return result;
+    }
+
+    private void createSchema(String prefix, String uuidType) throws SQLException {
+        for (String table : new String[]{"request_drink", "requests", "drinks", "users"}) {
+            database.execute("DROP TABLE IF EXISTS " + prefix + table);
+        }
+
+        database.execute("CREATE TABLE " + prefix + "users (uuid " + uuidType + " NOT NULL PRIMARY KEY, name VARCHAR(250))");
+        database.execute("CREATE TABLE " + prefix + "drinks (uuid " + uuidType + " NOT NULL PRIMARY KEY, name VARCHAR(100), alcoholic BOOLEAN)");
+        database.execute("CREATE TABLE " + prefix + "requests (uuid " + uuidType + " NOT NULL PRIMARY KEY, user_uuid " + uuidType
+                + ", status VARCHAR(20), total_price DOUBLE PRECISION)");
+        database.execute("CREATE INDEX " + prefix + "requests_user ON " + prefix + "requests (user_uuid)");
+        database.execute("CREATE TABLE " + prefix + "request_drink (request_id " + uuidType + " NOT NULL, drink_id " + uuidType + " NOT NULL)");
+        database.execute("CREATE INDEX " + prefix + "request_drink_request ON " + prefix + "request_drink (request_id)");
+        database.execute("CREATE INDEX " + prefix + "request_drink_drink ON " + prefix + "request_drink (drink_id)");
+    }
+
+    private void insertData(String prefix, boolean binary) throws SQLException {
+        database.getConnection().setAutoCommit(false);
+
+        try {
+            insertNamed(prefix + "users", users, binary);
+            insertNamed(prefix + "drinks", drinks, binary);
+
+            Random random = new Random(7);
+
+            try (PreparedStatement requestStatement = database.getConnection().prepareStatement("INSERT INTO " + prefix + "requests (uuid, user_uuid, status, total_price) VALUES (?, ?, 'FINISHED', 10.5)");
+                 PreparedStatement drinkStatement = database.getConnection().prepareStatement("INSERT INTO " + prefix + "request_drink (request_id, drink_id) VALUES (?, ?)")) {
+                for (int i = 0; i < requests.length; i++) {
+                    database.bindUuid(requestStatement, 1, requests[i], binary);
+                    database.bindUuid(requestStatement, 2, users[random.nextInt(users.length)], binary);
+                    requestStatement.addBatch();
+
+                    for (int j = 0; j < DRINKS_PER_REQUEST; j++) {
+                        database.bindUuid(drinkStatement, 1, requests[i], binary);
+                        database.bindUuid(drinkStatement, 2, drinks[random.nextInt(drinks.length)], binary);
+                        drinkStatement.addBatch();
+                    }
+
+                    if (i % 5000 == 4999) {
+                        requestStatement.executeBatch();
+                        drinkStatement.executeBatch();
+                        database.getConnection().commit();
+                    }
+                }
+
+                requestStatement.executeBatch();
+                drinkStatement.executeBatch();
+                database.getConnection().commit();
+            }
+        } finally {
+            database.getConnection().setAutoCommit(true);
+        }
+    }
+
+    private void insertNamed(String table, UUID[] uuids, boolean binary) throws SQLException {
+        try (PreparedStatement statement = database.getConnection().prepareStatement("INSERT INTO " + table + " (uuid, name) VALUES (?, ?)")) {
+            for (UUID uuid : uuids) {
+                database.bindUuid(statement, 1, uuid, binary);
+                statement.setString(2, "name-" + uuid);
+                statement.addBatch();
+            }
+
+            statement.executeBatch();
+            database.getConnection().commit();
+        }
+    }
+
+    private static UUID[] randomUuids(int size) {
+        UUID[] uuids = new UUID[size];
+
+        for (int i = 0; i < size; i++) {
+            uuids[i] = UUID.randomUUID();
+        }
+
+        return uuids;
+    }
+
+    private static class Result {
+
+        private final String name;
+        private long requestsTotalSize;
+        private long requestDrinkIndexSize;
+        private long requestDrinkTotalSize;
+        private long medianJoinMicros;
+        private long p95JoinMicros;
+
+        private Result(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-6s requests=%,d B  request_drink=%,d B (índices %,d B)  join mediana=%,d µs  p95=%,d µs",
+                    name, requestsTotalSize, requestDrinkTotalSize, requestDrinkIndexSize, medianJoinMicros, p95JoinMicros);
+        }
+
+    }
+
+}
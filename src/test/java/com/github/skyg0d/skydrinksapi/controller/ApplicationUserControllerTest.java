@@ -1,11 +1,13 @@
 package com.github.skyg0d.skydrinksapi.controller;
 
 import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
+import com.github.skyg0d.skydrinksapi.domain.Job;
 import com.github.skyg0d.skydrinksapi.domain.TotalUsers;
 import com.github.skyg0d.skydrinksapi.parameters.ApplicationUserParameters;
 import com.github.skyg0d.skydrinksapi.requests.ApplicationUserPostRequestBody;
 import com.github.skyg0d.skydrinksapi.service.ApplicationUserService;
 import com.github.skyg0d.skydrinksapi.util.AuthUtil;
+import com.github.skyg0d.skydrinksapi.util.job.JobCreator;
 import com.github.skyg0d.skydrinksapi.util.user.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +25,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import javax.servlet.http.HttpServletRequest;
 import java.security.Principal;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -77,13 +80,12 @@ class ApplicationUserControllerTest {
                 .thenReturn(ApplicationUserCreator.createValidApplicationUser());
 
         BDDMockito
-                .when(applicationUserServiceMock.toggleLockRequests(ArgumentMatchers.any(UUID.class)))
+                .when(applicationUserServiceMock.toggleLockRequests(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any()))
                 .thenReturn(ApplicationUserCreator.createApplicationUserWithRequestsLocked());
 
         BDDMockito
-                .doNothing()
-                .when(applicationUserServiceMock)
-                .delete(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any(ApplicationUser.class));
+                .when(applicationUserServiceMock.delete(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any(ApplicationUser.class)))
+                .thenReturn(Optional.empty());
     }
 
     @Test
@@ -299,7 +301,7 @@ class ApplicationUserControllerTest {
     void toggleLockRequests_LockUserRequests_WhenUserRequestsIsUnlocked() {
         ApplicationUser expectedApplicationUser = ApplicationUserCreator.createValidApplicationUser();
 
-        ResponseEntity<ApplicationUser> entity = applicationUserController.toggleLockRequests(expectedApplicationUser.getUuid());
+        ResponseEntity<ApplicationUser> entity = applicationUserController.toggleLockRequests(expectedApplicationUser.getUuid(), null);
 
         assertThat(entity).isNotNull();
 
@@ -320,12 +322,12 @@ class ApplicationUserControllerTest {
     @DisplayName("toggleLockRequests unlock user requests when user requests is locked")
     void toggleLockRequests_UnlockUserRequests_WhenUserRequestsIsLocked() {
         BDDMockito
-                .when(applicationUserServiceMock.toggleLockRequests(ArgumentMatchers.any(UUID.class)))
+                .when(applicationUserServiceMock.toggleLockRequests(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any()))
                 .thenReturn(ApplicationUserCreator.createValidApplicationUser());
 
         ApplicationUser expectedApplicationUser = ApplicationUserCreator.createApplicationUserWithRequestsLocked();
 
-        ResponseEntity<ApplicationUser> entity = applicationUserController.toggleLockRequests(expectedApplicationUser.getUuid());
+        ResponseEntity<ApplicationUser> entity = applicationUserController.toggleLockRequests(expectedApplicationUser.getUuid(), null);
 
         assertThat(entity).isNotNull();
 
@@ -347,7 +349,7 @@ class ApplicationUserControllerTest {
     void delete_RemovesApplicationUser_WhenSuccessful() {
         Principal principalMock = Mockito.mock(Principal.class);
 
-        ResponseEntity<Void> entity = applicationUserController.delete(UUID.randomUUID(), principalMock);
+        ResponseEntity<Job> entity = applicationUserController.delete(UUID.randomUUID(), principalMock);
 
         assertThat(entity).isNotNull();
 
@@ -356,4 +358,28 @@ class ApplicationUserControllerTest {
                 .isEqualTo(HttpStatus.NO_CONTENT);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("delete returns accepted job when application user has many requests")
+    void delete_ReturnsAcceptedJob_WhenApplicationUserHasManyRequests() {
+        Principal principalMock = Mockito.mock(Principal.class);
+
+        Job expectedJob = JobCreator.createValidJob();
+
+        BDDMockito
+                .when(applicationUserServiceMock.delete(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any(ApplicationUser.class)))
+                .thenReturn(Optional.of(expectedJob));
+
+        ResponseEntity<Job> entity = applicationUserController.delete(UUID.randomUUID(), principalMock);
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode())
+                .isNotNull()
+                .isEqualTo(HttpStatus.ACCEPTED);
+
+        assertThat(entity.getBody())
+                .isNotNull()
+                .isEqualTo(expectedJob);
+    }
+
+}
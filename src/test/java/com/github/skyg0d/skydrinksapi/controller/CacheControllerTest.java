@@ -0,0 +1,85 @@
+package com.github.skyg0d.skydrinksapi.controller;
+
+import com.github.skyg0d.skydrinksapi.domain.CacheRegionStatistics;
+import com.github.skyg0d.skydrinksapi.service.CacheStatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for CacheController")
+class CacheControllerTest {
+
+    @InjectMocks
+    private CacheController cacheController;
+
+    @Mock
+    private CacheStatisticsService cacheStatisticsServiceMock;
+
+    @BeforeEach
+    void setUp() {
+        BDDMockito
+                .when(cacheStatisticsServiceMock.getRegionStatistics())
+                .thenReturn(List.of(createDrinksRegionStatistics()));
+
+        BDDMockito
+                .doNothing()
+                .when(cacheStatisticsServiceMock)
+                .evictAll();
+    }
+
+    @Test
+    @DisplayName("getRegionStatistics returns statistics of each cache region when successful")
+    void getRegionStatistics_ReturnsStatisticsOfEachCacheRegion_WhenSuccessful() {
+        CacheRegionStatistics expectedStatistics = createDrinksRegionStatistics();
+
+        ResponseEntity<List<CacheRegionStatistics>> entity = cacheController.getRegionStatistics();
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(entity.getBody())
+                .isNotEmpty()
+                .hasSize(1)
+                .contains(expectedStatistics);
+    }
+
+    @Test
+    @DisplayName("evictAll clears the cache when successful")
+    void evictAll_ClearsTheCache_WhenSuccessful() {
+        ResponseEntity<Void> entity = cacheController.evictAll();
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        BDDMockito
+                .verify(cacheStatisticsServiceMock)
+                .evictAll();
+    }
+
+    private CacheRegionStatistics createDrinksRegionStatistics() {
+        return CacheRegionStatistics
+                .builder()
+                .region("drinks")
+                .hitCount(15)
+                .missCount(5)
+                .putCount(5)
+                .elementCountInMemory(5)
+                .hitRatio(0.75)
+                .build();
+    }
+
+}
@@ -1,13 +1,22 @@
 package com.github.skyg0d.skydrinksapi.controller;
 
 import com.github.skyg0d.skydrinksapi.domain.*;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestEventType;
+import com.github.skyg0d.skydrinksapi.enums.ExportFormat;
+import com.github.skyg0d.skydrinksapi.enums.TrendingWindow;
+import com.github.skyg0d.skydrinksapi.parameters.ClientRequestDateParameters;
 import com.github.skyg0d.skydrinksapi.parameters.ClientRequestParameters;
-import com.github.skyg0d.skydrinksapi.property.WebSocketProperties;
 import com.github.skyg0d.skydrinksapi.requests.ClientRequestPostRequestBody;
 import com.github.skyg0d.skydrinksapi.requests.ClientRequestPutRequestBody;
+import com.github.skyg0d.skydrinksapi.service.ClientRequestArchiveService;
+import com.github.skyg0d.skydrinksapi.service.ClientRequestExportService;
 import com.github.skyg0d.skydrinksapi.service.ClientRequestService;
-import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestStatusChanged;
-import com.github.skyg0d.skydrinksapi.socket.domain.SocketMessage;
+import com.github.skyg0d.skydrinksapi.service.TrendingDrinksService;
+import com.github.skyg0d.skydrinksapi.service.UserStatisticsService;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEvent;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEventsResync;
+import com.github.skyg0d.skydrinksapi.socket.notification.ClientRequestEventLog;
+import com.github.skyg0d.skydrinksapi.socket.notification.ClientRequestStatusStream;
 import com.github.skyg0d.skydrinksapi.util.AuthUtil;
 import com.github.skyg0d.skydrinksapi.util.request.*;
 import com.github.skyg0d.skydrinksapi.util.user.ApplicationUserCreator;
@@ -20,11 +29,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.security.Principal;
 import java.util.List;
 import java.util.UUID;
@@ -41,14 +55,26 @@ class ClientRequestControllerTest {
     @Mock
     private ClientRequestService clientRequestServiceMock;
 
+    @Mock
+    private TrendingDrinksService trendingDrinksServiceMock;
+
+    @Mock
+    private UserStatisticsService userStatisticsServiceMock;
+
+    @Mock
+    private ClientRequestExportService clientRequestExportServiceMock;
+
+    @Mock
+    private ClientRequestArchiveService clientRequestArchiveServiceMock;
+
     @Mock
     private AuthUtil authUtilMock;
 
     @Mock
-    private SimpMessagingTemplate templateMock;
+    private ClientRequestEventLog clientRequestEventLogMock;
 
     @Mock
-    private WebSocketProperties webSocketPropertiesMock;
+    private ClientRequestStatusStream clientRequestStatusStreamMock;
 
     @BeforeEach
     void setUp() {
@@ -90,12 +116,20 @@ class ClientRequestControllerTest {
                 .when(clientRequestServiceMock.getTopDrinksInRequests(ArgumentMatchers.any(Pageable.class)))
                 .thenReturn(List.of(ClientRequestDrinkCountCreator.createClientRequestDrinkCount()));
 
+        BDDMockito
+                .when(trendingDrinksServiceMock.getTrendingDrinks(ArgumentMatchers.any(TrendingWindow.class), ArgumentMatchers.anyInt()))
+                .thenReturn(List.of(ClientRequestDrinkCountCreator.createClientRequestDrinkCount()));
+
         BDDMockito
                 .when(clientRequestServiceMock.mostCanceledDrinks(ArgumentMatchers.any(Pageable.class)))
                 .thenReturn(List.of(ClientRequestDrinkCountCreator.createClientRequestDrinkCount()));
 
         BDDMockito
-                .when(clientRequestServiceMock.getAllDatesInRequests())
+                .when(userStatisticsServiceMock.checkConsistency(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(UserStatisticsCreator.createConsistentUserStatisticsCheck());
+
+        BDDMockito
+                .when(clientRequestServiceMock.getAllDatesInRequests(ArgumentMatchers.any(ClientRequestDateParameters.class)))
                 .thenReturn(List.of(ClientRequestDateCreator.createClientRequestDate()));
 
         BDDMockito
@@ -103,9 +137,8 @@ class ClientRequestControllerTest {
                 .thenReturn(ClientRequestCreator.createValidClientRequest());
 
         BDDMockito
-                .doNothing()
-                .when(clientRequestServiceMock)
-                .replace(ArgumentMatchers.any(ClientRequestPutRequestBody.class), ArgumentMatchers.any(ApplicationUser.class));
+                .when(clientRequestServiceMock.replace(ArgumentMatchers.any(ClientRequestPutRequestBody.class), ArgumentMatchers.any(ApplicationUser.class)))
+                .thenReturn(ClientRequestCreator.createValidUpdatedClientRequest());
 
         BDDMockito
                 .when(clientRequestServiceMock.toggleBlockAllRequests())
@@ -137,20 +170,8 @@ class ClientRequestControllerTest {
                 .delete(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any(ApplicationUser.class));
 
         BDDMockito
-                .doNothing()
-                .when(templateMock)
-                .convertAndSend(ArgumentMatchers.anyString(), ArgumentMatchers.any(SocketMessage.class));
-
-        BDDMockito
-                .doNothing()
-                .when(templateMock)
-                .convertAndSend(ArgumentMatchers.anyString(), ArgumentMatchers.any(ClientRequestStatusChanged.class));
-
-
-        BDDMockito
-                .when(webSocketPropertiesMock.getSendClientRequestUpdateDelay())
-                .thenReturn(10000L);
-
+                .when(clientRequestEventLogMock.findAfter(ArgumentMatchers.anyLong()))
+                .thenReturn(createEventsResync());
     }
 
     @Test
@@ -348,6 +369,28 @@ class ClientRequestControllerTest {
                 .isEqualTo(expectedDrinksCount.getDrinkUUID());
     }
 
+    @Test
+    @DisplayName("getTrendingDrinks returns client request drinks count of window when successful")
+    void getTrendingDrinks_ReturnsClientRequestDrinksCountOfWindow_WhenSuccessful() {
+        ClientRequestDrinkCount expectedDrinksCount = ClientRequestDrinkCountCreator.createClientRequestDrinkCount();
+
+        ResponseEntity<List<ClientRequestDrinkCount>> entity = clientRequestController.getTrendingDrinks(TrendingWindow.LAST_HOUR, PageRequest.of(0, 1));
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode())
+                .isNotNull()
+                .isEqualTo(HttpStatus.OK);
+
+        assertThat(entity.getBody())
+                .isNotEmpty()
+                .hasSize(1);
+
+        assertThat(entity.getBody().get(0).getDrinkUUID())
+                .isNotNull()
+                .isEqualTo(expectedDrinksCount.getDrinkUUID());
+    }
+
     @Test
     @DisplayName("mostCanceledDrinks returns client request drinks count of most canceled requests when successful")
     void mostCanceledDrinks_ReturnsClientRequestDrinksCountOfMostCanceledRequests_WhenSuccessful() {
@@ -373,10 +416,28 @@ class ClientRequestControllerTest {
                 .isEqualTo(expectedDrinksCount.getDrinkUUID());
     }
 
+    @Test
+    @DisplayName("checkUserStatistics returns user statistics check when successful")
+    void checkUserStatistics_ReturnsUserStatisticsCheck_WhenSuccessful() {
+        UserStatisticsCheck expectedCheck = UserStatisticsCreator.createConsistentUserStatisticsCheck();
+
+        ResponseEntity<UserStatisticsCheck> entity = clientRequestController.checkUserStatistics(UUID.randomUUID());
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode())
+                .isNotNull()
+                .isEqualTo(HttpStatus.OK);
+
+        assertThat(entity.getBody())
+                .isNotNull()
+                .isEqualTo(expectedCheck);
+    }
+
     @Test
     @DisplayName("getAllDatesInRequests returns all dates in requests when successful")
     void getAllDatesInRequests_ReturnsAllDatesInRequests_WhenSuccessful() {
-        ResponseEntity<List<ClientRequestDate>> entity = clientRequestController.getAllDatesInRequests();
+        ResponseEntity<List<ClientRequestDate>> entity = clientRequestController.getAllDatesInRequests(new ClientRequestDateParameters());
 
         assertThat(entity).isNotNull();
 
@@ -395,6 +456,38 @@ class ClientRequestControllerTest {
                 .isEqualTo(ClientRequestDateCreator.createClientRequestDate().getDate());
     }
 
+    @Test
+    @DisplayName("export returns csv attachment that streams client requests when successful")
+    void export_ReturnsCsvAttachmentThatStreamsClientRequests_WhenSuccessful() throws Exception {
+        ResponseEntity<StreamingResponseBody> entity = clientRequestController.export(new ClientRequestParameters(), ExportFormat.CSV, false);
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode())
+                .isNotNull()
+                .isEqualTo(HttpStatus.OK);
+
+        assertThat(entity.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("requests.csv");
+
+        assertThat(entity.getBody()).isNotNull();
+
+        entity.getBody().writeTo(new ByteArrayOutputStream());
+
+        BDDMockito
+                .verify(clientRequestExportServiceMock)
+                .export(ArgumentMatchers.any(ClientRequestParameters.class), ArgumentMatchers.eq(ExportFormat.CSV), ArgumentMatchers.any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("export returns gzip attachment when gzip is requested")
+    void export_ReturnsGzipAttachment_WhenGzipIsRequested() {
+        ResponseEntity<StreamingResponseBody> entity = clientRequestController.export(new ClientRequestParameters(), ExportFormat.NDJSON, true);
+
+        assertThat(entity.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("requests.ndjson.gz");
+
+        assertThat(entity.getHeaders().getContentType()).hasToString("application/gzip");
+    }
+
     @Test
     @DisplayName("getAllBlocked returns boolean of all users is blocked when successful")
     void getAllBlocked_ReturnsBooleanOfAllUsersIsBlocked_WhenSuccessful() {
@@ -595,4 +688,78 @@ class ClientRequestControllerTest {
                 .isEqualTo(HttpStatus.NO_CONTENT);
     }
 
+    @Test
+    @DisplayName("findEventsAfter returns events published after the sequence when successful")
+    void findEventsAfter_ReturnsEventsPublishedAfterTheSequence_WhenSuccessful() {
+        ClientRequestEventsResync expectedResync = createEventsResync();
+
+        ResponseEntity<ClientRequestEventsResync> entity = clientRequestController.findEventsAfter(4);
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode())
+                .isNotNull()
+                .isEqualTo(HttpStatus.OK);
+
+        assertThat(entity.getBody())
+                .isNotNull()
+                .isEqualTo(expectedResync);
+    }
+
+    @Test
+    @DisplayName("waitForChanges returns deferred result of the event log when successful")
+    void waitForChanges_ReturnsDeferredResultOfTheEventLog_WhenSuccessful() {
+        DeferredResult<ClientRequestEventsResync> expectedResult = new DeferredResult<>();
+
+        BDDMockito
+                .when(clientRequestEventLogMock.waitAfter(4))
+                .thenReturn(expectedResult);
+
+        DeferredResult<ClientRequestEventsResync> result = clientRequestController.waitForChanges(4);
+
+        assertThat(result).isSameAs(expectedResult);
+    }
+
+    @Test
+    @DisplayName("streamMyRequests subscribes user from the last event id when successful")
+    void streamMyRequests_SubscribesUserFromTheLastEventId_WhenSuccessful() {
+        SseEmitter expectedEmitter = new SseEmitter();
+
+        BDDMockito
+                .when(clientRequestStatusStreamMock.subscribe(ArgumentMatchers.any(ApplicationUser.class), ArgumentMatchers.eq(4L)))
+                .thenReturn(expectedEmitter);
+
+        SseEmitter emitter = clientRequestController.streamMyRequests(4L, Mockito.mock(Principal.class));
+
+        assertThat(emitter).isSameAs(expectedEmitter);
+    }
+
+    @Test
+    @DisplayName("archiveOldRequests starts the archive in background and returns accepted when successful")
+    void archiveOldRequests_StartsTheArchiveInBackgroundAndReturnsAccepted_WhenSuccessful() {
+        ResponseEntity<Void> entity = clientRequestController.archiveOldRequests();
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+
+        BDDMockito
+                .verify(clientRequestArchiveServiceMock)
+                .archiveOldRequestsInBackground();
+    }
+
+    private ClientRequestEventsResync createEventsResync() {
+        ClientRequestEvent event = ClientRequestEvent
+                .builder()
+                .sequence(5)
+                .type(ClientRequestEventType.DELETED)
+                .uuid(ClientRequestCreator.createValidClientRequest().getUuid())
+                .build();
+
+        return ClientRequestEventsResync
+                .builder()
+                .latestSequence(5)
+                .resyncRequired(false)
+                .events(List.of(event))
+                .build();
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.github.skyg0d.skydrinksapi.controller;
 
 import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.domain.Job;
 import com.github.skyg0d.skydrinksapi.parameters.DrinkParameters;
 import com.github.skyg0d.skydrinksapi.requests.DrinkPostRequestBody;
 import com.github.skyg0d.skydrinksapi.requests.DrinkPutRequestBody;
@@ -8,6 +9,7 @@ import com.github.skyg0d.skydrinksapi.service.DrinkService;
 import com.github.skyg0d.skydrinksapi.util.drink.DrinkCreator;
 import com.github.skyg0d.skydrinksapi.util.drink.DrinkPostRequestBodyCreator;
 import com.github.skyg0d.skydrinksapi.util.drink.DrinkPutRequestBodyCreator;
+import com.github.skyg0d.skydrinksapi.util.job.JobCreator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -68,9 +71,8 @@ class DrinkControllerTest {
                 .replace(ArgumentMatchers.any(DrinkPutRequestBody.class));
 
         BDDMockito
-                .doNothing()
-                .when(drinkServiceMock)
-                .delete(ArgumentMatchers.any(UUID.class));
+                .when(drinkServiceMock.delete(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(Optional.empty());
     }
 
     @Test
@@ -203,7 +205,7 @@ class DrinkControllerTest {
     @Test
     @DisplayName("delete removes drink when successful")
     void delete_RemovesDrink_WhenSuccessful() {
-        ResponseEntity<Void> entity = drinkController.delete(UUID.randomUUID());
+        ResponseEntity<Job> entity = drinkController.delete(UUID.randomUUID());
 
         assertThat(entity).isNotNull();
 
@@ -212,4 +214,26 @@ class DrinkControllerTest {
                 .isEqualTo(HttpStatus.NO_CONTENT);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("delete returns accepted job when drink is in many requests")
+    void delete_ReturnsAcceptedJob_WhenDrinkIsInManyRequests() {
+        Job expectedJob = JobCreator.createValidJob();
+
+        BDDMockito
+                .when(drinkServiceMock.delete(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(Optional.of(expectedJob));
+
+        ResponseEntity<Job> entity = drinkController.delete(UUID.randomUUID());
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode())
+                .isNotNull()
+                .isEqualTo(HttpStatus.ACCEPTED);
+
+        assertThat(entity.getBody())
+                .isNotNull()
+                .isEqualTo(expectedJob);
+    }
+
+}
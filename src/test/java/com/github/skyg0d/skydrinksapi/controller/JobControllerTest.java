@@ -0,0 +1,84 @@
+package com.github.skyg0d.skydrinksapi.controller;
+
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.service.JobService;
+import com.github.skyg0d.skydrinksapi.util.job.JobCreator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for JobController")
+class JobControllerTest {
+
+    @InjectMocks
+    private JobController jobController;
+
+    @Mock
+    private JobService jobServiceMock;
+
+    @BeforeEach
+    void setUp() {
+        BDDMockito
+                .when(jobServiceMock.listAll(ArgumentMatchers.any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(List.of(JobCreator.createValidJob())));
+
+        BDDMockito
+                .when(jobServiceMock.findByIdOrElseThrowBadRequestException(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(JobCreator.createValidJob());
+    }
+
+    @Test
+    @DisplayName("listAll return list of jobs inside page object when successful")
+    void listAll_ReturnListOfJobsInsidePageObject_WhenSuccessful() {
+        Job expectedJob = JobCreator.createValidJob();
+
+        ResponseEntity<Page<Job>> entity = jobController.listAll(PageRequest.of(0, 1));
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(entity.getBody()).isNotNull();
+
+        assertThat(entity.getBody().toList())
+                .isNotEmpty()
+                .hasSize(1)
+                .contains(expectedJob);
+    }
+
+    @Test
+    @DisplayName("findById returns job with progress when successful")
+    void findById_ReturnsJobWithProgress_WhenSuccessful() {
+        Job expectedJob = JobCreator.createValidJob();
+
+        ResponseEntity<Job> entity = jobController.findById(expectedJob.getUuid());
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(entity.getBody())
+                .isNotNull()
+                .isEqualTo(expectedJob);
+
+        assertThat(entity.getBody().getProgress()).isZero();
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.github.skyg0d.skydrinksapi.controller;
+
+import com.github.skyg0d.skydrinksapi.socket.domain.NotificationStatistics;
+import com.github.skyg0d.skydrinksapi.socket.domain.WebSocketStatistics;
+import com.github.skyg0d.skydrinksapi.socket.notification.NotificationDispatcher;
+import com.github.skyg0d.skydrinksapi.socket.notification.WebSocketMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for NotificationController")
+class NotificationControllerTest {
+
+    @InjectMocks
+    private NotificationController notificationController;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcherMock;
+
+    @Mock
+    private WebSocketMonitor webSocketMonitorMock;
+
+    @BeforeEach
+    void setUp() {
+        BDDMockito
+                .when(notificationDispatcherMock.getStatistics())
+                .thenReturn(createNotificationStatistics());
+
+        BDDMockito
+                .when(webSocketMonitorMock.getStatistics())
+                .thenReturn(createWebSocketStatistics());
+    }
+
+    @Test
+    @DisplayName("getStatistics returns notification statistics when successful")
+    void getStatistics_ReturnsNotificationStatistics_WhenSuccessful() {
+        NotificationStatistics expectedStatistics = createNotificationStatistics();
+
+        ResponseEntity<NotificationStatistics> entity = notificationController.getStatistics();
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(entity.getBody())
+                .isNotNull()
+                .isEqualTo(expectedStatistics);
+    }
+
+    @Test
+    @DisplayName("getWebSocketStatistics returns sessions and queues of the websocket when successful")
+    void getWebSocketStatistics_ReturnsSessionsAndQueuesOfTheWebsocket_WhenSuccessful() {
+        WebSocketStatistics expectedStatistics = createWebSocketStatistics();
+
+        ResponseEntity<WebSocketStatistics> entity = notificationController.getWebSocketStatistics();
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(entity.getBody())
+                .isNotNull()
+                .isEqualTo(expectedStatistics);
+    }
+
+    private WebSocketStatistics createWebSocketStatistics() {
+        return WebSocketStatistics
+                .builder()
+                .sessions(42)
+                .outboundActiveThreads(3)
+                .outboundQueueSize(12)
+                .queuedFrames(12)
+                .conflatedFrames(5)
+                .build();
+    }
+
+    private NotificationStatistics createNotificationStatistics() {
+        return NotificationStatistics
+                .builder()
+                .requested(340)
+                .coalesced(310)
+                .sent(30)
+                .failed(0)
+                .build();
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.github.skyg0d.skydrinksapi.controller;
+
+import com.github.skyg0d.skydrinksapi.domain.RetentionReport;
+import com.github.skyg0d.skydrinksapi.service.RetentionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for RetentionController")
+class RetentionControllerTest {
+
+    private static final LocalDateTime FINISHED_AT = LocalDateTime.of(2021, 11, 10, 4, 30);
+
+    @InjectMocks
+    private RetentionController retentionController;
+
+    @Mock
+    private RetentionService retentionServiceMock;
+
+    @BeforeEach
+    void setUp() {
+        BDDMockito
+                .when(retentionServiceMock.getReports())
+                .thenReturn(List.of(createPasswordResetReport()));
+    }
+
+    @Test
+    @DisplayName("getReports returns the last report of each rule when successful")
+    void getReports_ReturnsTheLastReportOfEachRule_WhenSuccessful() {
+        RetentionReport expectedReport = createPasswordResetReport();
+
+        ResponseEntity<List<RetentionReport>> entity = retentionController.getReports();
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(entity.getBody())
+                .isNotEmpty()
+                .hasSize(1)
+                .contains(expectedReport);
+    }
+
+    @Test
+    @DisplayName("purgeAll starts the rules in background and returns the last reports when successful")
+    void purgeAll_StartsTheRulesInBackgroundAndReturnsTheLastReports_WhenSuccessful() {
+        RetentionReport expectedReport = createPasswordResetReport();
+
+        ResponseEntity<List<RetentionReport>> entity = retentionController.purgeAll();
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+
+        assertThat(entity.getBody())
+                .isNotEmpty()
+                .hasSize(1)
+                .contains(expectedReport);
+
+        BDDMockito
+                .verify(retentionServiceMock)
+                .purgeAllInBackground();
+    }
+
+    private RetentionReport createPasswordResetReport() {
+        return RetentionReport
+                .builder()
+                .rule("password-reset")
+                .purged(1250)
+                .batches(3)
+                .durationMillis(4200)
+                .completed(true)
+                .finishedAt(FINISHED_AT)
+                .totalPurged(8400)
+                .build();
+    }
+
+}
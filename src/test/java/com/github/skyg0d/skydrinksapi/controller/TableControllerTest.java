@@ -1,10 +1,12 @@
 package com.github.skyg0d.skydrinksapi.controller;
 
+import com.github.skyg0d.skydrinksapi.domain.Job;
 import com.github.skyg0d.skydrinksapi.domain.Table;
 import com.github.skyg0d.skydrinksapi.parameters.TableParameters;
 import com.github.skyg0d.skydrinksapi.requests.TablePostRequestBody;
 import com.github.skyg0d.skydrinksapi.requests.TablePutRequestBody;
 import com.github.skyg0d.skydrinksapi.service.TableService;
+import com.github.skyg0d.skydrinksapi.util.job.JobCreator;
 import com.github.skyg0d.skydrinksapi.util.table.TableCreator;
 import com.github.skyg0d.skydrinksapi.util.table.TablePostRequestBodyCreator;
 import com.github.skyg0d.skydrinksapi.util.table.TablePutRequestBodyCreator;
@@ -24,6 +26,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -72,9 +75,8 @@ class TableControllerTest {
                 .thenReturn(TableCreator.createValidSwitchedTable());
 
         BDDMockito
-                .doNothing()
-                .when(tableServiceMock)
-                .delete(ArgumentMatchers.any(UUID.class));
+                .when(tableServiceMock.delete(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(Optional.empty());
     }
 
     @Test
@@ -248,7 +250,7 @@ class TableControllerTest {
     @Test
     @DisplayName("delete removes table when successful")
     void delete_RemovesTable_WhenSuccessful() {
-        ResponseEntity<Void> entity = tableController.delete(UUID.randomUUID());
+        ResponseEntity<Job> entity = tableController.delete(UUID.randomUUID());
 
         assertThat(entity).isNotNull();
 
@@ -257,4 +259,26 @@ class TableControllerTest {
                 .isEqualTo(HttpStatus.NO_CONTENT);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("delete returns accepted job when table is in many requests")
+    void delete_ReturnsAcceptedJob_WhenTableIsInManyRequests() {
+        Job expectedJob = JobCreator.createValidJob();
+
+        BDDMockito
+                .when(tableServiceMock.delete(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(Optional.of(expectedJob));
+
+        ResponseEntity<Job> entity = tableController.delete(UUID.randomUUID());
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode())
+                .isNotNull()
+                .isEqualTo(HttpStatus.ACCEPTED);
+
+        assertThat(entity.getBody())
+                .isNotNull()
+                .isEqualTo(expectedJob);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.github.skyg0d.skydrinksapi.datasource;
+
+import com.github.skyg0d.skydrinksapi.property.DataSourceRoutingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Tests for DataSourceRoutingInterceptor")
+class DataSourceRoutingInterceptorTest {
+
+    private DataSourceRoutingInterceptor dataSourceRoutingInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        dataSourceRoutingInterceptor = new DataSourceRoutingInterceptor(new DataSourceRoutingContext(new DataSourceRoutingProperties()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("preHandle allows reading from a replica when the request is a GET")
+    void preHandle_AllowsReadingFromAReplica_WhenTheRequestIsAGet() {
+        dataSourceRoutingInterceptor.preHandle(request("GET"), new MockHttpServletResponse(), new Object());
+
+        assertThat(DataSourceRoutingContext.isReadOnly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("preHandle keeps the primary when the request is not a GET")
+    void preHandle_KeepsThePrimary_WhenTheRequestIsNotAGet() {
+        dataSourceRoutingInterceptor.preHandle(request("POST"), new MockHttpServletResponse(), new Object());
+
+        assertThat(DataSourceRoutingContext.isReadOnly()).isFalse();
+    }
+
+    @Test
+    @DisplayName("preHandle keeps the primary when the user wrote recently")
+    void preHandle_KeepsThePrimary_WhenTheUserWroteRecently() {
+        MockHttpServletRequest write = request("PATCH");
+
+        dataSourceRoutingInterceptor.preHandle(write, new MockHttpServletResponse(), new Object());
+        dataSourceRoutingInterceptor.afterCompletion(write, new MockHttpServletResponse(), new Object(), null);
+
+        dataSourceRoutingInterceptor.preHandle(request("GET"), new MockHttpServletResponse(), new Object());
+
+        assertThat(DataSourceRoutingContext.isReadOnly()).isFalse();
+    }
+
+    @Test
+    @DisplayName("afterConcurrentHandlingStarted clears the routing decision of the request thread when async handling starts")
+    void afterConcurrentHandlingStarted_ClearsTheRoutingDecisionOfTheRequestThread_WhenAsyncHandlingStarts() {
+        MockHttpServletRequest export = request("GET");
+
+        dataSourceRoutingInterceptor.preHandle(export, new MockHttpServletResponse(), new Object());
+        dataSourceRoutingInterceptor.afterConcurrentHandlingStarted(export, new MockHttpServletResponse(), new Object());
+
+        assertThat(DataSourceRoutingContext.isReadOnly()).isFalse();
+    }
+
+    private MockHttpServletRequest request(String method) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/requests");
+        request.setUserPrincipal(new TestingAuthenticationToken("william@mail.com", null));
+
+        return request;
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.github.skyg0d.skydrinksapi.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for DataSourceRoutingTaskDecorator")
+class DataSourceRoutingTaskDecoratorTest {
+
+    private final DataSourceRoutingTaskDecorator dataSourceRoutingTaskDecorator = new DataSourceRoutingTaskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("decorate carries the routing decision to the task thread when the request can read from a replica")
+    void decorate_CarriesTheRoutingDecisionToTheTaskThread_WhenTheRequestCanReadFromAReplica() {
+        AtomicBoolean readOnlyInTask = new AtomicBoolean();
+
+        DataSourceRoutingContext.setReadOnly(true);
+
+        Runnable task = dataSourceRoutingTaskDecorator.decorate(() -> readOnlyInTask.set(DataSourceRoutingContext.isReadOnly()));
+
+        CompletableFuture.runAsync(task).join();
+
+        assertThat(readOnlyInTask).isTrue();
+    }
+
+    @Test
+    @DisplayName("decorate clears the routing decision of the task thread when the task finishes")
+    void decorate_ClearsTheRoutingDecisionOfTheTaskThread_WhenTheTaskFinishes() {
+        DataSourceRoutingContext.setReadOnly(true);
+
+        Runnable task = dataSourceRoutingTaskDecorator.decorate(() -> {
+        });
+
+        DataSourceRoutingContext.clear();
+
+        task.run();
+
+        assertThat(DataSourceRoutingContext.isReadOnly()).isFalse();
+    }
+
+}
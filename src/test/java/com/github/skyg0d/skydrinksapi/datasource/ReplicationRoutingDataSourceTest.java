@@ -0,0 +1,126 @@
+package com.github.skyg0d.skydrinksapi.datasource;
+
+import com.github.skyg0d.skydrinksapi.property.DataSourceRoutingProperties;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Tests for ReplicationRoutingDataSource")
+class ReplicationRoutingDataSourceTest {
+
+    private DataSourceRoutingProperties properties;
+
+    private JdbcTemplate replicaTemplate;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DataSourceRoutingProperties();
+        properties.setMaxLagSeconds(5);
+        properties.setLagQuery("SELECT lag FROM replication_status");
+
+        createDatabase("primary", 0);
+
+        replicaTemplate = createDatabase("replica", 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("getConnection uses the primary when the request is not read only")
+    void getConnection_UsesThePrimary_WhenTheRequestIsNotReadOnly() {
+        assertThat(currentDatabase(routingDataSource(Map.of("replica", h2("replica"))))).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("getConnection uses the replica when the request is read only")
+    void getConnection_UsesTheReplica_WhenTheRequestIsReadOnly() {
+        DataSourceRoutingContext.setReadOnly(true);
+
+        assertThat(currentDatabase(routingDataSource(Map.of("replica", h2("replica"))))).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("getConnection uses the primary when the replica lag is above the tolerance")
+    void getConnection_UsesThePrimary_WhenTheReplicaLagIsAboveTheTolerance() {
+        ReplicationRoutingDataSource dataSource = routingDataSource(Map.of("replica", h2("replica")));
+
+        replicaTemplate.update("UPDATE replication_status SET lag = 60");
+        dataSource.checkReplicas();
+
+        DataSourceRoutingContext.setReadOnly(true);
+
+        assertThat(currentDatabase(dataSource)).isEqualTo("primary");
+
+        replicaTemplate.update("UPDATE replication_status SET lag = 1");
+        dataSource.checkReplicas();
+
+        assertThat(currentDatabase(dataSource)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("getConnection fails over to the primary when the replica is down")
+    void getConnection_FailsOverToThePrimary_WhenTheReplicaIsDown() throws SQLException {
+        DataSource downReplica = Mockito.mock(DataSource.class);
+
+        BDDMockito
+                .when(downReplica.getConnection())
+                .thenThrow(new SQLException("Connection refused"));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("down", downReplica);
+        replicas.put("replica", h2("replica"));
+
+        ReplicationRoutingDataSource dataSource = routingDataSource(replicas);
+
+        DataSourceRoutingContext.setReadOnly(true);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(currentDatabase(dataSource)).isIn("primary", "replica");
+        }
+
+        BDDMockito
+                .verify(downReplica, Mockito.times(1))
+                .getConnection();
+    }
+
+    private ReplicationRoutingDataSource routingDataSource(Map<String, DataSource> replicas) {
+        return new ReplicationRoutingDataSource(h2("primary"), replicas, properties);
+    }
+
+    private String currentDatabase(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT name FROM replication_status", String.class);
+    }
+
+    private JdbcTemplate createDatabase(String name, long lag) {
+        JdbcTemplate template = new JdbcTemplate(h2(name));
+
+        template.execute("DROP TABLE IF EXISTS replication_status");
+        template.execute("CREATE TABLE replication_status (name VARCHAR(20), lag BIGINT)");
+        template.update("INSERT INTO replication_status (name, lag) VALUES (?, ?)", name, lag);
+
+        return template;
+    }
+
+    private DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.github.skyg0d.skydrinksapi.event;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import com.github.skyg0d.skydrinksapi.service.UserStatisticsService;
+import com.github.skyg0d.skydrinksapi.util.request.ClientRequestCreator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for ClientRequestStatisticsListener")
+class ClientRequestStatisticsListenerTest {
+
+    @InjectMocks
+    private ClientRequestStatisticsListener clientRequestStatisticsListener;
+
+    @Mock
+    private UserStatisticsService userStatisticsServiceMock;
+
+    @Test
+    @DisplayName("onCreated records user statistics when successful")
+    void onCreated_RecordsUserStatistics_WhenSuccessful() {
+        ClientRequest request = ClientRequestCreator.createValidClientRequest();
+
+        clientRequestStatisticsListener.onCreated(new ClientRequestCreatedEvent(request, request.getDrinks(), 0));
+
+        Mockito
+                .verify(userStatisticsServiceMock)
+                .requestAdded(request.getUser().getUuid(), request.getDrinks(), 0);
+    }
+
+    @Test
+    @DisplayName("beforeCreated marks user statistics as changing when successful")
+    void beforeCreated_MarksUserStatisticsAsChanging_WhenSuccessful() {
+        ClientRequest request = ClientRequestCreator.createValidClientRequest();
+
+        clientRequestStatisticsListener.beforeCreated(new ClientRequestCreatedEvent(request, request.getDrinks(), 0));
+
+        Mockito
+                .verify(userStatisticsServiceMock)
+                .requestChanging(request.getUser().getUuid());
+    }
+
+    @Test
+    @DisplayName("onStatusChanged updates user spent when successful")
+    void onStatusChanged_UpdatesUserSpent_WhenSuccessful() {
+        ClientRequest request = ClientRequestCreator.createClientRequestFinished();
+
+        clientRequestStatisticsListener.onStatusChanged(new ClientRequestStatusChangedEvent(request, request.getDrinks(), ClientRequestStatus.STARTED, 0, 0, request.getCreatedAt()));
+
+        Mockito
+                .verify(userStatisticsServiceMock)
+                .spentChanged(request.getUser().getUuid(), 0, 0);
+    }
+
+    @Test
+    @DisplayName("onDeleted removes request from user statistics when successful")
+    void onDeleted_RemovesRequestFromUserStatistics_WhenSuccessful() {
+        ClientRequest request = ClientRequestCreator.createValidClientRequest();
+
+        clientRequestStatisticsListener.onDeleted(new ClientRequestDeletedEvent(request.getUuid(), request.getUser().getUuid(), request.getDrinks(), 0));
+
+        Mockito
+                .verify(userStatisticsServiceMock)
+                .requestRemoved(request.getUser().getUuid(), request.getDrinks(), 0);
+    }
+
+}
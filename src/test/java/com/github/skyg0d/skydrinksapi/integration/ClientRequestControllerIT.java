@@ -29,6 +29,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -327,6 +328,72 @@ class ClientRequestControllerIT {
                 .isEqualTo(clientRequestSaved.getDrinks().get(0).getUuid());
     }
 
+    @Test
+    @DisplayName("export returns csv with client requests when successful")
+    void export_ReturnsCsvWithClientRequests_WhenSuccessful() {
+        ClientRequest clientRequestSaved = persistClientRequest();
+
+        ResponseEntity<String> entity = testRestTemplate.exchange(
+                "/requests/admin/export?format=CSV",
+                HttpMethod.GET,
+                tokenUtil.createAdminAuthEntity(null),
+                String.class
+        );
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode())
+                .isNotNull()
+                .isEqualTo(HttpStatus.OK);
+
+        assertThat(entity.getBody()).isNotNull();
+
+        String[] lines = entity.getBody().split("\n");
+
+        assertThat(lines).hasSize(2);
+
+        assertThat(lines[1]).startsWith(clientRequestSaved.getUuid().toString());
+    }
+
+    @Test
+    @DisplayName("checkUserStatistics returns consistent check when statistics are cached")
+    void checkUserStatistics_ReturnsConsistentCheck_WhenStatisticsAreCached() {
+        ApplicationUser applicationUser = applicationUserRepository.findByEmail(ApplicationUserCreator.createApplicationUser().getEmail()).get();
+
+        persistClientRequest(applicationUser);
+
+        testRestTemplate.exchange(
+                "/requests/admin/top-five-drinks/{uuid}",
+                HttpMethod.GET,
+                tokenUtil.createAdminAuthEntity(null),
+                new ParameterizedTypeReference<List<ClientRequestDrinkCount>>() {
+                },
+                applicationUser.getUuid()
+        );
+
+        ResponseEntity<UserStatisticsCheck> entity = testRestTemplate.exchange(
+                "/requests/admin/statistics/{uuid}/check",
+                HttpMethod.GET,
+                tokenUtil.createAdminAuthEntity(null),
+                UserStatisticsCheck.class,
+                applicationUser.getUuid()
+        );
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode())
+                .isNotNull()
+                .isEqualTo(HttpStatus.OK);
+
+        assertThat(entity.getBody()).isNotNull();
+
+        assertThat(entity.getBody().isConsistent()).isTrue();
+
+        assertThat(entity.getBody().getCached()).isNotNull();
+
+        assertThat(entity.getBody().getLive().getTotalRequests()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("getTotalOfDrinksGroupedByAlcoholic returns total of client requests grouped by alcoholic when successful")
     void getTotalOfDrinksGroupedByAlcoholic_ReturnsTotalOfClientRequestsGroupedByAlcoholic_WhenSuccessful() {
@@ -448,6 +515,31 @@ class ClientRequestControllerIT {
         assertThat(entity.getBody().get(0).getDate())
                 .isNotNull()
                 .isEqualTo(clientRequestSaved.getCreatedAt().toLocalDate());
+
+        assertThat(entity.getBody().get(0).getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getAllDatesInRequests returns empty list when there are no requests in month")
+    void getAllDatesInRequests_ReturnsEmptyList_WhenThereAreNoRequestsInMonth() {
+        persistClientRequest(applicationUserRepository.findByEmail(ApplicationUserCreator.createApplicationUser().getEmail()).get());
+
+        ResponseEntity<List<ClientRequestDate>> entity = testRestTemplate.exchange(
+                "/requests/admin/all-dates?month={month}",
+                HttpMethod.GET,
+                tokenUtil.createAdminAuthEntity(null),
+                new ParameterizedTypeReference<>() {
+                },
+                YearMonth.now().minusMonths(1).toString()
+        );
+
+        assertThat(entity).isNotNull();
+
+        assertThat(entity.getStatusCode())
+                .isNotNull()
+                .isEqualTo(HttpStatus.OK);
+
+        assertThat(entity.getBody()).isEmpty();
     }
 
     @Test
@@ -0,0 +1,98 @@
+package com.github.skyg0d.skydrinksapi.integration;
+
+import com.github.skyg0d.skydrinksapi.domain.OutboxMail;
+import com.github.skyg0d.skydrinksapi.enums.MailStatus;
+import com.github.skyg0d.skydrinksapi.repository.mail.OutboxMailRepository;
+import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
+import com.github.skyg0d.skydrinksapi.util.password.RequestPasswordResetCreator;
+import com.github.skyg0d.skydrinksapi.util.user.ApplicationUserCreator;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.mail.internet.MimeMessage;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Envia os emails da fila para um servidor SMTP local (GreenMail) no lugar do Gmail.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.mail.host=localhost",
+                "spring.mail.port=3025",
+                "spring.mail.username=skydrinks",
+                "spring.mail.password=secret",
+                "spring.mail.properties.mail.smtp.starttls.enable=false",
+                "my.mail.poll-rate=200"
+        }
+)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@DisplayName("Integration Tests for the mail outbox")
+class MailOutboxIT {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("skydrinks", "secret"));
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private ApplicationUserRepository applicationUserRepository;
+
+    @Autowired
+    private OutboxMailRepository outboxMailRepository;
+
+    @Test
+    @DisplayName("requestPasswordReset delivers token by mail in background when successful")
+    void requestPasswordReset_DeliversTokenByMailInBackground_WhenSuccessful() throws Exception {
+        applicationUserRepository.save(ApplicationUserCreator.createValidApplicationUser());
+
+        ResponseEntity<Void> entity = testRestTemplate.postForEntity(
+                "/password-reset/request",
+                RequestPasswordResetCreator.createRequestPasswordReset(),
+                Void.class
+        );
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(greenMail.waitForIncomingEmail(10000, 1)).isTrue();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getSubject()).isEqualTo("Código para resetar sua senha");
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo(ApplicationUserCreator.createValidApplicationUser().getEmail());
+
+        assertThat(waitForStatus(MailStatus.SENT)).isTrue();
+    }
+
+    private boolean waitForStatus(MailStatus status) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            List<OutboxMail> mails = outboxMailRepository.findAll();
+
+            if (!mails.isEmpty() && mails.stream().allMatch((mail) -> mail.getStatus() == status)) {
+                return true;
+            }
+
+            Thread.sleep(100);
+        }
+
+        return false;
+    }
+
+}
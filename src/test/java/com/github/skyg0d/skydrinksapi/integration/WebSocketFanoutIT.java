@@ -0,0 +1,120 @@
+package com.github.skyg0d.skydrinksapi.integration;
+
+import com.github.skyg0d.skydrinksapi.SkyDrinksApiApplication;
+import com.github.skyg0d.skydrinksapi.socket.broker.DatabaseMessageBroadcaster;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestStatusChanged;
+import com.github.skyg0d.skydrinksapi.socket.notification.NotificationDispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sobe dois contextos da aplicação apontando para o mesmo H2 em memória, como dois nós atrás de um balanceador.
+ */
+@DisplayName("Integration Tests for the database websocket fan-out")
+class WebSocketFanoutIT {
+
+    private static final String DESTINATION = "/topic/request-changed/user@mail.com";
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        String database = "fanout-" + UUID.randomUUID();
+
+        nodeA = startNode(database);
+        nodeB = startNode(database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    @DisplayName("send reaches clients of the other node when broker mode is database")
+    void send_ReachesClientsOfTheOtherNode_WhenBrokerModeIsDatabase() throws InterruptedException {
+        assertThat(nodeA.getBean(DatabaseMessageBroadcaster.class)).isNotNull();
+
+        BlockingQueue<Message<?>> receivedByA = subscribe(nodeA);
+        BlockingQueue<Message<?>> receivedByB = subscribe(nodeB);
+
+        ClientRequestStatusChanged statusChanged = ClientRequestStatusChanged
+                .builder()
+                .uuid(UUID.randomUUID())
+                .message("STARTED")
+                .build();
+
+        nodeA.getBean(NotificationDispatcher.class).send(DESTINATION, statusChanged);
+
+        Message<?> message = receivedByB.poll(10, TimeUnit.SECONDS);
+
+        assertThat(message).isNotNull();
+
+        assertThat(SimpMessageHeaderAccessor.getDestination(message.getHeaders())).isEqualTo(DESTINATION);
+
+        assertThat(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8))
+                .contains("\"message\":\"STARTED\"")
+                .contains(statusChanged.getUuid().toString());
+
+        // Espera alguns ciclos de leitura para garantir que nenhum nó recebe a mensagem duas vezes.
+        TimeUnit.SECONDS.sleep(1);
+
+        assertThat(destinations(receivedByA)).containsExactly(DESTINATION);
+        assertThat(destinations(receivedByB)).isEmpty();
+    }
+
+    private ConfigurableApplicationContext startNode(String database) {
+        return new SpringApplicationBuilder(SkyDrinksApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "my.websocket.broker.mode=database",
+                        "my.websocket.broker.poll-rate=100"
+                )
+                .run();
+    }
+
+    private BlockingQueue<Message<?>> subscribe(ConfigurableApplicationContext node) {
+        BlockingQueue<Message<?>> received = new LinkedBlockingQueue<>();
+
+        node
+                .getBean("brokerChannel", SubscribableChannel.class)
+                .subscribe((message) -> {
+                    if (DESTINATION.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+                        received.add(message);
+                    }
+                });
+
+        return received;
+    }
+
+    private List<String> destinations(BlockingQueue<Message<?>> received) {
+        return received
+                .stream()
+                .map((message) -> SimpMessageHeaderAccessor.getDestination(message.getHeaders()))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.github.skyg0d.skydrinksapi.job;
+
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.service.DrinkService;
+import com.github.skyg0d.skydrinksapi.service.UserStatisticsService;
+import com.github.skyg0d.skydrinksapi.util.drink.DrinkCreator;
+import com.github.skyg0d.skydrinksapi.util.job.JobCreator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for DeleteDrinkJobHandler")
+class DeleteDrinkJobHandlerTest {
+
+    @InjectMocks
+    private DeleteDrinkJobHandler deleteDrinkJobHandler;
+
+    @Mock
+    private ClientRequestRepository clientRequestRepositoryMock;
+
+    @Mock
+    private DrinkService drinkServiceMock;
+
+    @Mock
+    private UserStatisticsService userStatisticsServiceMock;
+
+    @Test
+    @DisplayName("executeChunk removes drink from a chunk of requests, evicts statistics and saves progress when there are requests left")
+    void executeChunk_RemovesDrinkFromAChunkOfRequestsEvictsStatisticsAndSavesProgress_WhenThereAreRequestsLeft() {
+        Job job = JobCreator.createValidJob();
+        List<UUID> requests = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.findRequestsWithDrink(ArgumentMatchers.eq(DrinkCreator.uuid), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(requests);
+
+        boolean finished = deleteDrinkJobHandler.executeChunk(job, 2);
+
+        assertThat(finished).isFalse();
+
+        assertThat(job.getProcessedItems()).isEqualTo(2);
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(1))
+                .deleteDrinkFromRequests(DrinkCreator.uuid, requests);
+
+        BDDMockito
+                .verify(drinkServiceMock, Mockito.times(1))
+                .deleteRequestsWithoutDrinks(requests);
+
+        BDDMockito
+                .verify(userStatisticsServiceMock, Mockito.times(1))
+                .evictAllAfterCommit();
+
+        BDDMockito
+                .verify(drinkServiceMock, Mockito.never())
+                .deleteRemovedFromRequests(ArgumentMatchers.any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("executeChunk removes drink from a chunk of archived requests when there are no active requests left")
+    void executeChunk_RemovesDrinkFromAChunkOfArchivedRequests_WhenThereAreNoActiveRequestsLeft() {
+        Job job = JobCreator.createValidJob();
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.findRequestsWithDrink(ArgumentMatchers.eq(DrinkCreator.uuid), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        BDDMockito
+                .when(drinkServiceMock.removeFromArchivedRequests(DrinkCreator.uuid, 2))
+                .thenReturn(2);
+
+        boolean finished = deleteDrinkJobHandler.executeChunk(job, 2);
+
+        assertThat(finished).isFalse();
+
+        assertThat(job.getProcessedItems()).isEqualTo(2);
+
+        BDDMockito
+                .verify(drinkServiceMock, Mockito.never())
+                .deleteRemovedFromRequests(ArgumentMatchers.any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("executeChunk deletes drink and finishes when there are no requests left")
+    void executeChunk_DeletesDrinkAndFinishes_WhenThereAreNoRequestsLeft() {
+        BDDMockito
+                .when(clientRequestRepositoryMock.findRequestsWithDrink(ArgumentMatchers.eq(DrinkCreator.uuid), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        boolean finished = deleteDrinkJobHandler.executeChunk(JobCreator.createValidJob(), 2);
+
+        assertThat(finished).isTrue();
+
+        BDDMockito
+                .verify(drinkServiceMock, Mockito.times(1))
+                .deleteRemovedFromRequests(DrinkCreator.uuid);
+    }
+
+}
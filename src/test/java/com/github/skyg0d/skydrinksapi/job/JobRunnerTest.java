@@ -0,0 +1,181 @@
+package com.github.skyg0d.skydrinksapi.job;
+
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.enums.JobStatus;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import com.github.skyg0d.skydrinksapi.property.JobProperties;
+import com.github.skyg0d.skydrinksapi.repository.job.JobRepository;
+import com.github.skyg0d.skydrinksapi.util.job.JobCreator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for JobRunner")
+class JobRunnerTest {
+
+    private JobRunner jobRunner;
+
+    private Job job;
+
+    @Mock
+    private JobRepository jobRepositoryMock;
+
+    @Mock
+    private TransactionTemplate transactionTemplateMock;
+
+    @Mock
+    private ObjectProvider<JobHandler> jobHandlersMock;
+
+    @Mock
+    private JobHandler jobHandlerMock;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        JobProperties properties = new JobProperties();
+        properties.setChunkSize(10);
+
+        jobRunner = new JobRunner(jobRepositoryMock, properties, transactionTemplateMock, jobHandlersMock);
+
+        job = JobCreator.createValidJob();
+        job.setStatus(JobStatus.RUNNING);
+        job.setOwner(jobRunner.getNode());
+
+        BDDMockito
+                .when(transactionTemplateMock.execute(ArgumentMatchers.any()))
+                .thenAnswer((invocation) -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+
+        BDDMockito
+                .doAnswer((invocation) -> {
+                    ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+                    return null;
+                })
+                .when(transactionTemplateMock)
+                .executeWithoutResult(ArgumentMatchers.any());
+
+        BDDMockito
+                .when(jobHandlersMock.orderedStream())
+                .thenAnswer((invocation) -> Stream.of(jobHandlerMock));
+
+        BDDMockito
+                .when(jobHandlerMock.getType())
+                .thenReturn(JobType.DELETE_DRINK);
+
+        BDDMockito
+                .when(jobRepositoryMock.claim(ArgumentMatchers.eq(JobCreator.uuid), ArgumentMatchers.eq(JobStatus.PENDING), ArgumentMatchers.eq(JobStatus.RUNNING), ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.eq(jobRunner.getNode()), ArgumentMatchers.any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        BDDMockito
+                .when(jobRepositoryMock.findById(JobCreator.uuid))
+                .thenReturn(Optional.of(job));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobRunner.destroy();
+    }
+
+    @Test
+    @DisplayName("run executes chunks until handler finishes and completes job when successful")
+    void run_ExecutesChunksUntilHandlerFinishesAndCompletesJob_WhenSuccessful() {
+        BDDMockito
+                .when(jobHandlerMock.executeChunk(job, 10))
+                .thenReturn(false)
+                .thenReturn(false)
+                .thenReturn(true);
+
+        jobRunner.run(JobCreator.uuid);
+
+        BDDMockito
+                .verify(jobHandlerMock, Mockito.times(3))
+                .executeChunk(job, 10);
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+
+        assertThat(job.getFinishedAt()).isNotNull();
+
+        assertThat(job.getProgress()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("run does nothing when job is not pending")
+    void run_DoesNothing_WhenJobIsNotPending() {
+        BDDMockito
+                .when(jobRepositoryMock.claim(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(0);
+
+        jobRunner.run(JobCreator.uuid);
+
+        BDDMockito
+                .verify(jobHandlerMock, Mockito.never())
+                .executeChunk(ArgumentMatchers.any(), ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    @DisplayName("run marks job as failed when handler throws exception")
+    void run_MarksJobAsFailed_WhenHandlerThrowsException() {
+        BDDMockito
+                .when(jobHandlerMock.executeChunk(job, 10))
+                .thenThrow(new IllegalStateException("Erro ao remover pedidos"));
+
+        jobRunner.run(JobCreator.uuid);
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+
+        assertThat(job.getErrorMessage()).isEqualTo("Erro ao remover pedidos");
+    }
+
+    @Test
+    @DisplayName("run stops without completing the job when another node took it over")
+    void run_StopsWithoutCompletingTheJob_WhenAnotherNodeTookItOver() {
+        job.setOwner("outro-no");
+
+        jobRunner.run(JobCreator.uuid);
+
+        BDDMockito
+                .verify(jobHandlerMock, Mockito.never())
+                .executeChunk(ArgumentMatchers.any(), ArgumentMatchers.anyInt());
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.RUNNING);
+    }
+
+    @Test
+    @DisplayName("resumeInterruptedJobs returns only jobs with expired lease to the queue when application starts")
+    void resumeInterruptedJobs_ReturnsOnlyJobsWithExpiredLeaseToTheQueue_WhenApplicationStarts() {
+        BDDMockito
+                .when(jobRepositoryMock.findByStatus(ArgumentMatchers.eq(JobStatus.PENDING), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        jobRunner.resumeInterruptedJobs();
+
+        BDDMockito
+                .verify(jobRepositoryMock, Mockito.times(1))
+                .releaseExpiredLeases(ArgumentMatchers.eq(JobStatus.RUNNING), ArgumentMatchers.eq(JobStatus.PENDING), ArgumentMatchers.any(LocalDateTime.class));
+
+        BDDMockito
+                .verify(jobRepositoryMock, Mockito.times(1))
+                .findByStatus(ArgumentMatchers.eq(JobStatus.PENDING), ArgumentMatchers.any(Pageable.class));
+    }
+
+}
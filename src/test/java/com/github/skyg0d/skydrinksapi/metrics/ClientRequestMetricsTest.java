@@ -0,0 +1,133 @@
+package com.github.skyg0d.skydrinksapi.metrics;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestStatusCount;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestCreatedEvent;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestDeliveredEvent;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestStatusChangedEvent;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.util.request.ClientRequestCreator;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for ClientRequestMetrics")
+class ClientRequestMetricsTest {
+
+    private ClientRequestMetrics clientRequestMetrics;
+
+    private SimpleMeterRegistry registry;
+
+    @Mock
+    private ClientRequestRepository clientRequestRepositoryMock;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        clientRequestMetrics = new ClientRequestMetrics(registry, clientRequestRepositoryMock);
+    }
+
+    @Test
+    @DisplayName("onCreated increments created counter when successful")
+    void onCreated_IncrementsCreatedCounter_WhenSuccessful() {
+        ClientRequest request = ClientRequestCreator.createValidClientRequest();
+
+        clientRequestMetrics.onCreated(new ClientRequestCreatedEvent(request, request.getDrinks(), 0));
+
+        assertThat(registry.get(ClientRequestMetrics.CREATED).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onStatusChanged records time spent in previous stage when successful")
+    void onStatusChanged_RecordsTimeSpentInPreviousStage_WhenSuccessful() {
+        ClientRequest request = ClientRequestCreator.createClientRequestStarted();
+        LocalDateTime now = LocalDateTime.now();
+
+        request.setStatusChangedAt(now);
+
+        clientRequestMetrics.onStatusChanged(new ClientRequestStatusChangedEvent(request, request.getDrinks(), ClientRequestStatus.PROCESSING, 0, 0, now.minusMinutes(3)));
+
+        Timer timer = registry
+                .get(ClientRequestMetrics.STAGE_DURATION)
+                .tags("stage", "PROCESSING", "outcome", "STARTED")
+                .timer();
+
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MINUTES)).isEqualTo(3);
+
+        assertThat(registry
+                .get(ClientRequestMetrics.TRANSITIONS)
+                .tags("stage", "PROCESSING", "outcome", "STARTED")
+                .counter()
+                .count()
+        ).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onStatusChanged only counts transition when stage start is unknown")
+    void onStatusChanged_OnlyCountsTransition_WhenStageStartIsUnknown() {
+        ClientRequest request = ClientRequestCreator.createClientRequestCanceled();
+
+        request.setStatusChangedAt(LocalDateTime.now());
+
+        clientRequestMetrics.onStatusChanged(new ClientRequestStatusChangedEvent(request, request.getDrinks(), ClientRequestStatus.STARTED, 0, 0, null));
+
+        assertThat(registry.find(ClientRequestMetrics.STAGE_DURATION).timer()).isNull();
+
+        assertThat(registry
+                .get(ClientRequestMetrics.TRANSITIONS)
+                .tags("stage", "STARTED", "outcome", "CANCELED")
+                .counter()
+                .count()
+        ).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onDelivered records time spent waiting for delivery when successful")
+    void onDelivered_RecordsTimeSpentWaitingForDelivery_WhenSuccessful() {
+        ClientRequest request = ClientRequestCreator.createClientRequestDelivered();
+        LocalDateTime now = LocalDateTime.now();
+
+        request.setStatusChangedAt(now);
+
+        clientRequestMetrics.onDelivered(new ClientRequestDeliveredEvent(request, 0, 0, now.minusSeconds(40)));
+
+        Timer timer = registry
+                .get(ClientRequestMetrics.STAGE_DURATION)
+                .tags("stage", "FINISHED", "outcome", ClientRequestMetrics.DELIVERED)
+                .timer();
+
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.SECONDS)).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("refreshQueueDepth updates gauges and zeroes empty stages when successful")
+    void refreshQueueDepth_UpdatesGaugesAndZeroesEmptyStages_WhenSuccessful() {
+        BDDMockito
+                .when(clientRequestRepositoryMock.countQueuedByStatus(ArgumentMatchers.anyCollection()))
+                .thenReturn(List.of(new ClientRequestStatusCount(ClientRequestStatus.PROCESSING, 7)));
+
+        clientRequestMetrics.refreshQueueDepth();
+
+        assertThat(registry.get(ClientRequestMetrics.QUEUE_DEPTH).tags("stage", "PROCESSING").gauge().value()).isEqualTo(7);
+        assertThat(registry.get(ClientRequestMetrics.QUEUE_DEPTH).tags("stage", "STARTED").gauge().value()).isZero();
+        assertThat(registry.get(ClientRequestMetrics.QUEUE_DEPTH).tags("stage", "FINISHED").gauge().value()).isZero();
+    }
+
+}
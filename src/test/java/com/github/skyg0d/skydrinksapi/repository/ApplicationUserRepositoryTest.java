@@ -1,6 +1,7 @@
 package com.github.skyg0d.skydrinksapi.repository;
 
 import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
+import com.github.skyg0d.skydrinksapi.domain.RequestLockExpiration;
 import com.github.skyg0d.skydrinksapi.domain.TotalUsers;
 import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
 import com.github.skyg0d.skydrinksapi.util.user.ApplicationUserCreator;
@@ -8,8 +9,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import javax.validation.ConstraintViolationException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,6 +50,28 @@ class ApplicationUserRepositoryTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("unlockRequestsIfExpired unlocks user only when the lock end is the scheduled one")
+    void unlockRequestsIfExpired_UnlocksUserOnlyWhenTheLockEndIsTheScheduledOne() {
+        LocalDateTime lockRequestsUntil = LocalDateTime.now().plusHours(1).truncatedTo(ChronoUnit.SECONDS);
+
+        ApplicationUser applicationUserToBeSave = ApplicationUserCreator.createApplicationUserWithRequestsLocked();
+        applicationUserToBeSave.setLockRequestsUntil(lockRequestsUntil);
+
+        ApplicationUser applicationUserSaved = applicationUserRepository.saveAndFlush(applicationUserToBeSave);
+
+        assertThat(applicationUserRepository.findRequestLockExpirations(PageRequest.of(0, 10)))
+                .containsExactly(new RequestLockExpiration(applicationUserSaved.getUuid(), lockRequestsUntil));
+
+        assertThat(applicationUserRepository.unlockRequestsIfExpired(applicationUserSaved.getUuid(), lockRequestsUntil.plusMinutes(5))).isZero();
+
+        assertThat(applicationUserRepository.unlockRequestsIfExpired(applicationUserSaved.getUuid(), lockRequestsUntil)).isEqualTo(1);
+
+        assertThat(applicationUserRepository.unlockRequestsIfExpired(applicationUserSaved.getUuid(), lockRequestsUntil)).isZero();
+
+        assertThat(applicationUserRepository.findRequestLockExpirations(PageRequest.of(0, 10))).isEmpty();
+    }
+
     @Test
     @DisplayName("save persist application user when successful")
     void save_PersistApplicationUser_WhenSuccessful() {
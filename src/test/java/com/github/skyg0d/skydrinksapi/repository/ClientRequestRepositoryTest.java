@@ -2,8 +2,10 @@ package com.github.skyg0d.skydrinksapi.repository;
 
 import com.github.skyg0d.skydrinksapi.domain.*;
 import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import com.github.skyg0d.skydrinksapi.parameters.ClientRequestParameters;
 import com.github.skyg0d.skydrinksapi.repository.drink.DrinkRepository;
 import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestSpecification;
 import com.github.skyg0d.skydrinksapi.repository.table.TableRepository;
 import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
 import com.github.skyg0d.skydrinksapi.util.drink.DrinkCreator;
@@ -16,9 +18,12 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
 
 import javax.validation.ConstraintViolationException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -135,6 +140,73 @@ class ClientRequestRepositoryTest {
                 .isEqualTo(drinksSaved.get(0).getUuid());
     }
 
+    @Test
+    @DisplayName("streamWithDrinks returns one row per drink of each client request when successful")
+    void streamWithDrinks_ReturnsOneRowPerDrinkOfEachClientRequest_WhenSuccessful() {
+        ClientRequest requestToBeSave = ClientRequestCreator.createClientRequestToBeSave();
+
+        ApplicationUser userSaved = applicationUserRepository.save(requestToBeSave.getUser());
+
+        List<Drink> drinksSaved = drinkRepository.saveAll(requestToBeSave.getDrinks());
+
+        Table tableSaved = tableRepository.save(requestToBeSave.getTable());
+
+        requestToBeSave.setUser(userSaved);
+        requestToBeSave.setDrinks(new ArrayList<>(List.of(drinksSaved.get(0), drinksSaved.get(0))));
+        requestToBeSave.setTable(tableSaved);
+
+        ClientRequest requestSaved = clientRequestRepository.save(requestToBeSave);
+
+        List<Object[]> rows;
+
+        try (Stream<Object[]> stream = clientRequestRepository.streamWithDrinks(null, 10, 1)) {
+            rows = stream.collect(Collectors.toList());
+        }
+
+        assertThat(rows).hasSize(2);
+
+        assertThat(rows)
+                .allSatisfy((row) -> {
+                    assertThat(((ClientRequest) row[0]).getUuid()).isEqualTo(requestSaved.getUuid());
+
+                    assertThat(((ClientRequest) row[0]).getUser().getEmail()).isEqualTo(userSaved.getEmail());
+
+                    assertThat(((Drink) row[1]).getUuid()).isEqualTo(drinksSaved.get(0).getUuid());
+                });
+    }
+
+    @Test
+    @DisplayName("streamWithDrinks keeps every drink of the client request once when filtering by drink")
+    void streamWithDrinks_KeepsEveryDrinkOfTheClientRequestOnce_WhenFilteringByDrink() {
+        ClientRequest requestToBeSave = ClientRequestCreator.createClientRequestToBeSave();
+
+        ApplicationUser userSaved = applicationUserRepository.save(requestToBeSave.getUser());
+
+        List<Drink> drinksSaved = drinkRepository.saveAll(requestToBeSave.getDrinks());
+
+        Table tableSaved = tableRepository.save(requestToBeSave.getTable());
+
+        requestToBeSave.setUser(userSaved);
+        requestToBeSave.setDrinks(new ArrayList<>(List.of(drinksSaved.get(0), drinksSaved.get(0))));
+        requestToBeSave.setTable(tableSaved);
+
+        clientRequestRepository.save(requestToBeSave);
+
+        ClientRequestParameters byUUID = new ClientRequestParameters();
+        byUUID.setDrinkUUID(drinksSaved.get(0).getUuid());
+
+        ClientRequestParameters byName = new ClientRequestParameters();
+        byName.setDrinkName(drinksSaved.get(0).getName());
+
+        try (Stream<Object[]> stream = clientRequestRepository.streamWithDrinks(ClientRequestSpecification.getStreamSpecification(byUUID), 10, 1)) {
+            assertThat(stream.count()).isEqualTo(2);
+        }
+
+        try (Stream<Object[]> stream = clientRequestRepository.streamWithDrinks(ClientRequestSpecification.getStreamSpecification(byName), 10, 1)) {
+            assertThat(stream.count()).isEqualTo(2);
+        }
+    }
+
     @Test
     @DisplayName("countAlcoholicDrinksInRequests returns total of client requests grouped by alcoholic when successful")
     void countAlcoholicDrinksInRequests_ReturnsTotalOfClientRequestsGroupedByAlcoholic_WhenSuccessful() {
@@ -243,7 +315,9 @@ class ClientRequestRepositoryTest {
 
         ClientRequest requestSaved = clientRequestRepository.save(requestToBeSave);
 
-        List<ClientRequestDate> datesFound = clientRequestRepository.getAllDatesInRequests();
+        LocalDate today = LocalDate.now();
+
+        List<ClientRequestDate> datesFound = clientRequestRepository.getAllDatesInRequests(today.minusDays(1), today.plusDays(1));
 
         assertThat(datesFound)
                 .isNotEmpty()
@@ -253,7 +327,45 @@ class ClientRequestRepositoryTest {
 
         assertThat(datesFound.get(0).getDate())
                 .isNotNull()
-                .isEqualTo(requestSaved.getCreatedAt().toLocalDate());
+                .isEqualTo(requestSaved.getCreatedDate());
+
+        assertThat(datesFound.get(0).getTotal()).isEqualTo(1);
+
+        assertThat(datesFound.get(0).getRevenue()).isEqualTo(requestSaved.getTotalPrice());
+    }
+
+    @Test
+    @DisplayName("getAllDatesInRequests returns empty list when there are no requests in range")
+    void getAllDatesInRequests_ReturnsEmptyList_WhenThereAreNoRequestsInRange() {
+        ClientRequest requestToBeSave = ClientRequestCreator.createClientRequestToBeSave();
+
+        requestToBeSave.setUser(applicationUserRepository.save(requestToBeSave.getUser()));
+        requestToBeSave.setDrinks(drinkRepository.saveAll(requestToBeSave.getDrinks()));
+        requestToBeSave.setTable(tableRepository.save(requestToBeSave.getTable()));
+
+        clientRequestRepository.save(requestToBeSave);
+
+        LocalDate lastYear = LocalDate.now().minusYears(1);
+
+        List<ClientRequestDate> datesFound = clientRequestRepository.getAllDatesInRequests(lastYear.minusDays(1), lastYear);
+
+        assertThat(datesFound).isEmpty();
+    }
+
+    @Test
+    @DisplayName("save fills created date when successful")
+    void save_FillsCreatedDate_WhenSuccessful() {
+        ClientRequest requestToBeSave = ClientRequestCreator.createClientRequestToBeSave();
+
+        requestToBeSave.setUser(applicationUserRepository.save(requestToBeSave.getUser()));
+        requestToBeSave.setDrinks(drinkRepository.saveAll(requestToBeSave.getDrinks()));
+        requestToBeSave.setTable(tableRepository.save(requestToBeSave.getTable()));
+
+        ClientRequest requestSaved = clientRequestRepository.save(requestToBeSave);
+
+        assertThat(requestSaved.getCreatedDate())
+                .isNotNull()
+                .isEqualTo(LocalDate.now());
     }
 
     @Test
@@ -4,17 +4,21 @@ import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
 import com.github.skyg0d.skydrinksapi.domain.PasswordReset;
 import com.github.skyg0d.skydrinksapi.repository.password.PasswordResetRepository;
 import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
+import com.github.skyg0d.skydrinksapi.util.TokenHashUtil;
 import com.github.skyg0d.skydrinksapi.util.password.PasswordResetCreator;
 import com.github.skyg0d.skydrinksapi.util.user.ApplicationUserCreator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import javax.validation.ConstraintViolationException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -42,9 +46,9 @@ class PasswordResetRepositoryTest {
 
         assertThat(passwordResetSaved).isNotNull();
 
-        assertThat(passwordResetSaved.getToken())
+        assertThat(passwordResetSaved.getTokenHash())
                 .isNotNull()
-                .isEqualTo(passwordResetToBeSave.getToken());
+                .isEqualTo(passwordResetToBeSave.getTokenHash());
     }
 
     @Test
@@ -64,9 +68,9 @@ class PasswordResetRepositoryTest {
 
         assertThat(passwordResetUpdated).isNotNull();
 
-        assertThat(passwordResetUpdated.getToken())
+        assertThat(passwordResetUpdated.getTokenHash())
                 .isNotNull()
-                .isEqualTo(passwordResetToBeSave.getToken());
+                .isEqualTo(passwordResetToBeSave.getTokenHash());
 
         assertThat(passwordResetUpdated.isResetFinished()).isTrue();
     }
@@ -90,8 +94,8 @@ class PasswordResetRepositoryTest {
     }
 
     @Test
-    @DisplayName("findByUser returns password reset when successful")
-    void findByUser_ReturnsPasswordReset_WhenSuccessful() {
+    @DisplayName("findActiveToken returns password reset when token hash and email match an unfinished reset")
+    void findActiveToken_ReturnsPasswordReset_WhenTokenHashAndEmailMatchAnUnfinishedReset() {
         PasswordReset passwordResetToBeSave = PasswordResetCreator.createPasswordResetToBeSave();
 
         ApplicationUser userSaved = applicationUserRepository.save(ApplicationUserCreator.createApplicationUserToBeSave());
@@ -100,13 +104,62 @@ class PasswordResetRepositoryTest {
 
         PasswordReset passwordResetSaved = passwordResetRepository.save(passwordResetToBeSave);
 
-        List<PasswordReset> passwordResetsFound = passwordResetRepository.findByUser(userSaved);
+        Optional<PasswordReset> passwordResetFound = passwordResetRepository.findActiveToken(userSaved.getEmail(), TokenHashUtil.hash(PasswordResetCreator.token));
 
-        assertThat(passwordResetsFound)
+        assertThat(passwordResetFound)
                 .isNotEmpty()
-                .hasSize(1);
+                .contains(passwordResetSaved);
 
-        assertThat(passwordResetsFound.get(0)).isEqualTo(passwordResetSaved);
+        assertThat(passwordResetRepository.findActiveToken(userSaved.getEmail(), TokenHashUtil.hash("outro-codigo"))).isEmpty();
+
+        passwordResetSaved.setResetFinished(true);
+
+        passwordResetRepository.saveAndFlush(passwordResetSaved);
+
+        assertThat(passwordResetRepository.findActiveToken(userSaved.getEmail(), TokenHashUtil.hash(PasswordResetCreator.token))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteByUser removes previous password resets of the user when successful")
+    void deleteByUser_RemovesPreviousPasswordResetsOfTheUser_WhenSuccessful() {
+        PasswordReset passwordResetToBeSave = PasswordResetCreator.createPasswordResetToBeSave();
+
+        ApplicationUser userSaved = applicationUserRepository.save(ApplicationUserCreator.createApplicationUserToBeSave());
+
+        passwordResetToBeSave.setUser(userSaved);
+
+        passwordResetRepository.saveAndFlush(passwordResetToBeSave);
+
+        int deleted = passwordResetRepository.deleteByUser(userSaved);
+
+        assertThat(deleted).isEqualTo(1);
+
+        assertThat(passwordResetRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("findExpired returns only resets that expired before the cutoff and deleteByUuidIn removes them")
+    void findExpired_ReturnsOnlyResetsThatExpiredBeforeTheCutoffAndDeleteByUuidInRemovesThem() {
+        PasswordReset passwordResetToBeSave = PasswordResetCreator.createPasswordResetToBeSave();
+
+        ApplicationUser userSaved = applicationUserRepository.save(ApplicationUserCreator.createApplicationUserToBeSave());
+
+        passwordResetToBeSave.setUser(userSaved);
+        passwordResetToBeSave.setExpireDate(LocalDateTime.now().minusDays(2));
+
+        PasswordReset passwordResetSaved = passwordResetRepository.saveAndFlush(passwordResetToBeSave);
+
+        assertThat(passwordResetRepository.findExpired(LocalDateTime.now().minusDays(3), PageRequest.of(0, 10))).isEmpty();
+
+        List<UUID> expired = passwordResetRepository.findExpired(LocalDateTime.now().minusDays(1), PageRequest.of(0, 10));
+
+        assertThat(expired).containsExactly(passwordResetSaved.getUuid());
+
+        int deleted = passwordResetRepository.deleteByUuidIn(expired);
+
+        assertThat(deleted).isEqualTo(1);
+
+        assertThat(passwordResetRepository.count()).isZero();
     }
 
     @Test
@@ -0,0 +1,160 @@
+package com.github.skyg0d.skydrinksapi.repository;
+
+import com.github.skyg0d.skydrinksapi.config.SecondLevelCacheConfiguration;
+import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
+import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.domain.Table;
+import com.github.skyg0d.skydrinksapi.property.SecondLevelCacheProperties;
+import com.github.skyg0d.skydrinksapi.repository.drink.DrinkRepository;
+import com.github.skyg0d.skydrinksapi.repository.table.TableRepository;
+import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
+import com.github.skyg0d.skydrinksapi.util.drink.DrinkCreator;
+import com.github.skyg0d.skydrinksapi.util.table.TableCreator;
+import com.github.skyg0d.skydrinksapi.util.user.ApplicationUserCreator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({SecondLevelCacheConfiguration.class, SecondLevelCacheProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Tests for the second-level cache")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private DrinkRepository drinkRepository;
+
+    @Autowired
+    private TableRepository tableRepository;
+
+    @Autowired
+    private ApplicationUserRepository applicationUserRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        drinkRepository.deleteAll();
+        tableRepository.deleteAll();
+        applicationUserRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("findById reads drink from cache when drink was loaded before")
+    void findById_ReadsDrinkFromCache_WhenDrinkWasLoadedBefore() {
+        Drink drinkSaved = drinkRepository.save(DrinkCreator.createDrinkToBeSave());
+
+        resetCache();
+
+        drinkRepository.findById(drinkSaved.getUuid());
+        drinkRepository.findById(drinkSaved.getUuid());
+
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(Drink.CACHE_REGION);
+
+        assertThat(regionStatistics.getMissCount()).isEqualTo(1);
+
+        assertThat(regionStatistics.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("save updates cached drink when drink is updated")
+    void save_UpdatesCachedDrink_WhenDrinkIsUpdated() {
+        Drink drinkSaved = drinkRepository.save(DrinkCreator.createDrinkToBeSave());
+
+        resetCache();
+
+        Drink drinkFound = drinkRepository.findById(drinkSaved.getUuid()).orElseThrow();
+
+        drinkFound.setPrice(99.9);
+
+        drinkRepository.save(drinkFound);
+
+        Optional<Drink> drinkUpdated = drinkRepository.findById(drinkSaved.getUuid());
+
+        assertThat(drinkUpdated).isPresent();
+
+        assertThat(drinkUpdated.get().getPrice()).isEqualTo(99.9);
+
+        assertThat(statistics.getCacheRegionStatistics(Drink.CACHE_REGION).getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("delete evicts table from cache when table is deleted")
+    void delete_EvictsTableFromCache_WhenTableIsDeleted() {
+        Table tableSaved = tableRepository.save(TableCreator.createTableToBeSave());
+
+        tableRepository.findById(tableSaved.getUuid());
+
+        assertThat(entityManagerFactory.getCache().contains(Table.class, tableSaved.getUuid())).isTrue();
+
+        tableRepository.deleteById(tableSaved.getUuid());
+
+        assertThat(entityManagerFactory.getCache().contains(Table.class, tableSaved.getUuid())).isFalse();
+
+        assertThat(tableRepository.findById(tableSaved.getUuid())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findByNumber reads from query cache until table is updated")
+    void findByNumber_ReadsFromQueryCache_UntilTableIsUpdated() {
+        Table tableSaved = tableRepository.save(TableCreator.createTableToBeSave());
+        int oldNumber = tableSaved.getNumber();
+
+        resetCache();
+
+        tableRepository.findByNumber(oldNumber);
+        tableRepository.findByNumber(oldNumber);
+
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        tableSaved.setNumber(oldNumber + 1);
+
+        tableRepository.save(tableSaved);
+
+        assertThat(tableRepository.findByNumber(oldNumber)).isEmpty();
+
+        assertThat(tableRepository.findByNumber(oldNumber + 1)).isPresent();
+    }
+
+    @Test
+    @DisplayName("findByEmail does not return deleted user when user was cached")
+    void findByEmail_DoesNotReturnDeletedUser_WhenUserWasCached() {
+        ApplicationUser userSaved = applicationUserRepository.save(ApplicationUserCreator.createApplicationUserToBeSave());
+
+        assertThat(applicationUserRepository.findByEmail(userSaved.getEmail())).isPresent();
+
+        applicationUserRepository.delete(userSaved);
+
+        assertThat(applicationUserRepository.findByEmail(userSaved.getEmail())).isEmpty();
+
+        assertThat(entityManagerFactory.getCache().contains(ApplicationUser.class, userSaved.getUuid())).isFalse();
+    }
+
+    private void resetCache() {
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+}
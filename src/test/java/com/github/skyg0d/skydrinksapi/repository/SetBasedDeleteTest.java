@@ -0,0 +1,182 @@
+package com.github.skyg0d.skydrinksapi.repository;
+
+import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.domain.Table;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import com.github.skyg0d.skydrinksapi.repository.drink.DrinkRepository;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.repository.table.TableRepository;
+import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
+import com.github.skyg0d.skydrinksapi.util.drink.DrinkCreator;
+import com.github.skyg0d.skydrinksapi.util.table.TableCreator;
+import com.github.skyg0d.skydrinksapi.util.user.ApplicationUserCreator;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Log4j2
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Tests for set based deletes in ClientRequestRepository")
+class SetBasedDeleteTest {
+
+    private static final int REQUESTS = 2000;
+    private static final long MAX_DURATION_MILLIS = 2000;
+
+    @Autowired
+    private ClientRequestRepository clientRequestRepository;
+
+    @Autowired
+    private DrinkRepository drinkRepository;
+
+    @Autowired
+    private ApplicationUserRepository applicationUserRepository;
+
+    @Autowired
+    private TableRepository tableRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Drink drinkToDelete;
+    private Drink otherDrink;
+    private ApplicationUser user;
+    private Table table;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        drinkToDelete = drinkRepository.save(DrinkCreator.createDrinkToBeSave());
+
+        Drink drink = DrinkCreator.createDrinkToBeSave();
+        drink.setName("Caipirinha");
+        otherDrink = drinkRepository.save(drink);
+
+        user = applicationUserRepository.save(ApplicationUserCreator.createApplicationUserToBeSave());
+        table = tableRepository.save(TableCreator.createTableToBeSave());
+
+        List<ClientRequest> requests = new ArrayList<>(REQUESTS);
+
+        for (int i = 0; i < REQUESTS; i++) {
+            List<Drink> drinks = i % 2 == 0
+                    ? new ArrayList<>(List.of(drinkToDelete))
+                    : new ArrayList<>(List.of(drinkToDelete, otherDrink));
+
+            requests.add(ClientRequest
+                    .builder()
+                    .user(user)
+                    .table(table)
+                    .drinks(drinks)
+                    .status(ClientRequestStatus.PROCESSING)
+                    .build());
+        }
+
+        clientRequestRepository.saveAll(requests);
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("deleteDrinkFromRequests and deleteRequestsWithoutDrinks remove drink and orphan requests with two statements when successful")
+    void deleteDrinkFromRequestsAndDeleteRequestsWithoutDrinks_RemoveDrinkAndOrphanRequestsWithTwoStatements_WhenSuccessful() {
+        ClientRequest requestWithoutDrinks = clientRequestRepository.save(ClientRequest
+                .builder()
+                .user(user)
+                .drinks(new ArrayList<>())
+                .status(ClientRequestStatus.PROCESSING)
+                .build());
+
+        List<UUID> requestsWithDrink = clientRequestRepository.findRequestsWithDrink(drinkToDelete.getUuid(), Pageable.unpaged());
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        long start = System.nanoTime();
+
+        int joinRowsDeleted = clientRequestRepository.deleteDrinkFromRequests(drinkToDelete.getUuid());
+        int requestsDeleted = clientRequestRepository.deleteRequestsWithoutDrinks(requestsWithDrink);
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("Bebida removida de {} pedidos em {} ms", REQUESTS, durationMillis);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        assertThat(durationMillis).isLessThan(MAX_DURATION_MILLIS);
+
+        assertThat(joinRowsDeleted).isEqualTo(REQUESTS);
+
+        assertThat(requestsDeleted).isEqualTo(REQUESTS / 2);
+
+        assertThat(clientRequestRepository.existsById(requestWithoutDrinks.getUuid())).isTrue();
+
+        List<ClientRequest> remaining = clientRequestRepository.findAll();
+
+        assertThat(remaining).hasSize(REQUESTS / 2 + 1);
+
+        assertThat(remaining)
+                .filteredOn((request) -> !request.getUuid().equals(requestWithoutDrinks.getUuid()))
+                .allSatisfy((request) -> assertThat(request.getDrinks()).containsExactly(otherDrink));
+    }
+
+    @Test
+    @DisplayName("deleteRequestDrinksOfUser and deleteRequestsOfUser remove all requests of user with two statements when successful")
+    void deleteRequestDrinksOfUserAndDeleteRequestsOfUser_RemoveAllRequestsOfUserWithTwoStatements_WhenSuccessful() {
+        long start = System.nanoTime();
+
+        clientRequestRepository.deleteRequestDrinksOfUser(user.getUuid());
+        int requestsDeleted = clientRequestRepository.deleteRequestsOfUser(user.getUuid());
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("Pedidos de {} removidos em {} ms", user.getUuid(), durationMillis);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        assertThat(durationMillis).isLessThan(MAX_DURATION_MILLIS);
+
+        assertThat(requestsDeleted).isEqualTo(REQUESTS);
+
+        assertThat(clientRequestRepository.countByUserUuid(user.getUuid())).isZero();
+    }
+
+    @Test
+    @DisplayName("removeTableFromRequests removes table from all requests with one statement when successful")
+    void removeTableFromRequests_RemovesTableFromAllRequestsWithOneStatement_WhenSuccessful() {
+        long start = System.nanoTime();
+
+        int requestsUpdated = clientRequestRepository.removeTableFromRequests(table.getUuid());
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("Mesa removida de {} pedidos em {} ms", REQUESTS, durationMillis);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        assertThat(durationMillis).isLessThan(MAX_DURATION_MILLIS);
+
+        assertThat(requestsUpdated).isEqualTo(REQUESTS);
+
+        assertThat(clientRequestRepository.findAll()).allSatisfy((request) -> assertThat(request.getTable()).isNull());
+    }
+
+}
@@ -1,14 +1,21 @@
 package com.github.skyg0d.skydrinksapi.service;
 
 import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
+import com.github.skyg0d.skydrinksapi.domain.Job;
 import com.github.skyg0d.skydrinksapi.domain.TotalUsers;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestsRemovedEvent;
 import com.github.skyg0d.skydrinksapi.exception.ActionNotAllowedException;
 import com.github.skyg0d.skydrinksapi.exception.BadRequestException;
 import com.github.skyg0d.skydrinksapi.exception.UserUniqueFieldExistsException;
 import com.github.skyg0d.skydrinksapi.parameters.ApplicationUserParameters;
+import com.github.skyg0d.skydrinksapi.property.JobProperties;
+import com.github.skyg0d.skydrinksapi.property.RequestLockProperties;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
 import com.github.skyg0d.skydrinksapi.requests.ApplicationUserPutRequestBody;
+import com.github.skyg0d.skydrinksapi.util.job.JobCreator;
 import com.github.skyg0d.skydrinksapi.util.user.ApplicationUserCreator;
 import com.github.skyg0d.skydrinksapi.util.user.ApplicationUserPostRequestBodyCreator;
 import com.github.skyg0d.skydrinksapi.util.user.ApplicationUserPutRequestBodyCreator;
@@ -21,6 +28,8 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -28,6 +37,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -47,6 +57,27 @@ class ApplicationUserServiceTest {
     @Mock
     private ClientRequestRepository clientRequestRepositoryMock;
 
+    @Mock
+    private ArchivedClientRequestRepository archivedClientRequestRepositoryMock;
+
+    @Mock
+    private UserStatisticsService userStatisticsServiceMock;
+
+    @Mock
+    private JobService jobServiceMock;
+
+    @Mock
+    private JobProperties jobPropertiesMock;
+
+    @Mock
+    private RequestLockProperties requestLockPropertiesMock;
+
+    @Mock
+    private RequestUnlockScheduler requestUnlockSchedulerMock;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisherMock;
+
     @BeforeEach
     void setUp() {
         PageImpl<ApplicationUser> applicationUsersPage = new PageImpl<>(List.of(ApplicationUserCreator.createValidApplicationUser()));
@@ -264,7 +295,7 @@ class ApplicationUserServiceTest {
 
         ApplicationUser expectedApplicationUser = ApplicationUserCreator.createValidApplicationUser();
 
-        ApplicationUser applicationUserSaved = applicationUserService.toggleLockRequests(expectedApplicationUser.getUuid());
+        ApplicationUser applicationUserSaved = applicationUserService.toggleLockRequests(expectedApplicationUser.getUuid(), null);
 
         assertThat(applicationUserSaved)
                 .isNotNull()
@@ -278,7 +309,7 @@ class ApplicationUserServiceTest {
     void toggleLockRequests_UnlockUserRequests_WhenUserRequestsIsLocked() {
         ApplicationUser expectedApplicationUser = ApplicationUserCreator.createApplicationUserWithRequestsLocked();
 
-        ApplicationUser applicationUserSaved = applicationUserService.toggleLockRequests(expectedApplicationUser.getUuid());
+        ApplicationUser applicationUserSaved = applicationUserService.toggleLockRequests(expectedApplicationUser.getUuid(), null);
 
         assertThat(applicationUserSaved)
                 .isNotNull()
@@ -287,6 +318,83 @@ class ApplicationUserServiceTest {
         assertThat(applicationUserSaved.isLockRequests()).isNotEqualTo(expectedApplicationUser.isLockRequests());
     }
 
+    @Test
+    @DisplayName("toggleLockRequests schedules the unlock at the end of the given duration when user requests is unlocked")
+    void toggleLockRequests_SchedulesTheUnlockAtTheEndOfTheGivenDuration_WhenUserRequestsIsUnlocked() {
+        BDDMockito
+                .when(applicationUserRepositoryMock.save(ArgumentMatchers.any(ApplicationUser.class)))
+                .thenAnswer((invocation) -> invocation.getArgument(0));
+
+        ApplicationUser user = ApplicationUserCreator.createValidApplicationUser();
+
+        ApplicationUser applicationUserSaved = applicationUserService.toggleLockRequests(user.getUuid(), 30);
+
+        assertThat(applicationUserSaved.isLockRequests()).isTrue();
+
+        assertThat(applicationUserSaved.getLockRequestsUntil())
+                .isNotNull()
+                .isEqualTo(applicationUserSaved.getLockRequestsTimestamp().plusMinutes(30));
+
+        BDDMockito
+                .verify(requestUnlockSchedulerMock)
+                .schedule(user.getUuid(), applicationUserSaved.getLockRequestsUntil());
+    }
+
+    @Test
+    @DisplayName("toggleLockRequests uses the default duration when no duration is given")
+    void toggleLockRequests_UsesTheDefaultDuration_WhenNoDurationIsGiven() {
+        BDDMockito
+                .when(requestLockPropertiesMock.getDefaultDurationMinutes())
+                .thenReturn(1440);
+
+        BDDMockito
+                .when(applicationUserRepositoryMock.save(ArgumentMatchers.any(ApplicationUser.class)))
+                .thenAnswer((invocation) -> invocation.getArgument(0));
+
+        ApplicationUser applicationUserSaved = applicationUserService.toggleLockRequests(UUID.randomUUID(), null);
+
+        assertThat(applicationUserSaved.getLockRequestsUntil()).isEqualTo(applicationUserSaved.getLockRequestsTimestamp().plusDays(1));
+    }
+
+    @Test
+    @DisplayName("toggleLockRequests cancels the scheduled unlock when user requests is locked")
+    void toggleLockRequests_CancelsTheScheduledUnlock_WhenUserRequestsIsLocked() {
+        ApplicationUser lockedUser = ApplicationUserCreator.createApplicationUserWithRequestsLocked();
+
+        BDDMockito
+                .when(applicationUserRepositoryMock.findById(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(Optional.of(lockedUser));
+
+        BDDMockito
+                .when(applicationUserRepositoryMock.save(ArgumentMatchers.any(ApplicationUser.class)))
+                .thenAnswer((invocation) -> invocation.getArgument(0));
+
+        ApplicationUser applicationUserSaved = applicationUserService.toggleLockRequests(lockedUser.getUuid(), null);
+
+        assertThat(applicationUserSaved.isLockRequests()).isFalse();
+
+        assertThat(applicationUserSaved.getLockRequestsUntil()).isNull();
+
+        BDDMockito
+                .verify(requestUnlockSchedulerMock)
+                .cancel(lockedUser.getUuid());
+
+        BDDMockito
+                .verify(requestUnlockSchedulerMock, Mockito.never())
+                .schedule(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("toggleLockRequests throws BadRequestException when duration is not positive")
+    void toggleLockRequests_ThrowsBadRequestException_WhenDurationIsNotPositive() {
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> applicationUserService.toggleLockRequests(UUID.randomUUID(), 0));
+
+        BDDMockito
+                .verify(applicationUserRepositoryMock, Mockito.never())
+                .save(ArgumentMatchers.any(ApplicationUser.class));
+    }
+
     @Test
     @DisplayName("delete removes drink when successful")
     void delete_RemovesDrink_WhenSuccessful() {
@@ -296,6 +404,42 @@ class ApplicationUserServiceTest {
                 .doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("delete removes requests of user with set based statements when successful")
+    void delete_RemovesRequestsOfUserWithSetBasedStatements_WhenSuccessful() {
+        ApplicationUser user = ApplicationUserCreator.createValidApplicationUser();
+        List<UUID> requestUUIDs = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.findRequestsOfUser(user.getUuid(), Pageable.unpaged()))
+                .thenReturn(requestUUIDs);
+
+        applicationUserService.delete(user.getUuid(), user);
+
+        BDDMockito
+                .verify(eventPublisherMock, Mockito.times(1))
+                .publishEvent(ArgumentMatchers.<ClientRequestsRemovedEvent>argThat((event) -> event.getUuids().equals(requestUUIDs)));
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(1))
+                .findRequestsOfUser(user.getUuid(), Pageable.unpaged());
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(1))
+                .deleteRequestDrinksOfUser(user.getUuid());
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(1))
+                .deleteRequestsOfUser(user.getUuid());
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(1))
+                .countByUserUuid(user.getUuid());
+
+        BDDMockito
+                .verifyNoMoreInteractions(clientRequestRepositoryMock);
+    }
+
     @Test
     @DisplayName("findByIdOrElseThrowBadRequestException throws BadRequestException when application user is not found")
     void findByIdOrElseThrowBadRequestException_ThrowsBadRequestException_WhenApplicationUserIsNotFound() {
@@ -307,6 +451,17 @@ class ApplicationUserServiceTest {
                 .isThrownBy(() -> applicationUserService.findByIdOrElseThrowBadRequestException(UUID.randomUUID()));
     }
 
+    @Test
+    @DisplayName("verifyIfExistsOrElseThrowBadRequestException throws BadRequestException when application user is not found")
+    void verifyIfExistsOrElseThrowBadRequestException_ThrowsBadRequestException_WhenApplicationUserIsNotFound() {
+        BDDMockito
+                .when(applicationUserRepositoryMock.existsById(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(false);
+
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> applicationUserService.verifyIfExistsOrElseThrowBadRequestException(UUID.randomUUID()));
+    }
+
     @Test
     @DisplayName("findByEmail throws BadRequestException when application user is not found")
     void findByEmail_ThrowsBadRequestException_WhenApplicationUserIsNotFound() {
@@ -371,4 +526,69 @@ class ApplicationUserServiceTest {
                 .isThrownBy(() -> applicationUserService.delete(UUID.randomUUID(), user));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("delete schedules job when user has more requests than the threshold")
+    void delete_SchedulesJob_WhenUserHasMoreRequestsThanTheThreshold() {
+        ApplicationUser user = ApplicationUserCreator.createValidApplicationUser();
+        UUID targetUUID = user.getUuid();
+
+        Job expectedJob = JobCreator.createValidJob();
+
+        BDDMockito
+                .when(jobPropertiesMock.getAsyncThreshold())
+                .thenReturn(100L);
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.countByUserUuid(targetUUID))
+                .thenReturn(101L);
+
+        BDDMockito
+                .when(jobServiceMock.schedule(JobType.DELETE_USER, targetUUID, 101L))
+                .thenReturn(expectedJob);
+
+        Optional<Job> jobScheduled = applicationUserService.delete(targetUUID, user);
+
+        assertThat(jobScheduled)
+                .isPresent()
+                .contains(expectedJob);
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.never())
+                .deleteRequestsOfUser(targetUUID);
+    }
+
+    @Test
+    @DisplayName("delete schedules job when archived requests put user over the threshold")
+    void delete_SchedulesJob_WhenArchivedRequestsPutUserOverTheThreshold() {
+        ApplicationUser user = ApplicationUserCreator.createValidApplicationUser();
+        UUID targetUUID = user.getUuid();
+
+        Job expectedJob = JobCreator.createValidJob();
+
+        BDDMockito
+                .when(jobPropertiesMock.getAsyncThreshold())
+                .thenReturn(100L);
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.countByUserUuid(targetUUID))
+                .thenReturn(1L);
+
+        BDDMockito
+                .when(archivedClientRequestRepositoryMock.countByUserUuid(targetUUID))
+                .thenReturn(5000L);
+
+        BDDMockito
+                .when(jobServiceMock.schedule(JobType.DELETE_USER, targetUUID, 5001L))
+                .thenReturn(expectedJob);
+
+        Optional<Job> jobScheduled = applicationUserService.delete(targetUUID, user);
+
+        assertThat(jobScheduled)
+                .isPresent()
+                .contains(expectedJob);
+
+        BDDMockito
+                .verify(archivedClientRequestRepositoryMock, Mockito.never())
+                .deleteArchivedRequestsOfUser(targetUUID);
+    }
+}
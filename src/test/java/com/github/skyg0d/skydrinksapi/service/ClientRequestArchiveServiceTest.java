@@ -0,0 +1,126 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import com.github.skyg0d.skydrinksapi.parameters.ClientRequestParameters;
+import com.github.skyg0d.skydrinksapi.property.ArchiveProperties;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for ClientRequestArchiveService")
+class ClientRequestArchiveServiceTest {
+
+    private ClientRequestArchiveService clientRequestArchiveService;
+
+    @Mock
+    private ArchivedClientRequestRepository archivedClientRequestRepositoryMock;
+
+    @Mock
+    private TransactionTemplate transactionTemplateMock;
+
+    @BeforeEach
+    void setUp() {
+        ArchiveProperties properties = new ArchiveProperties();
+        properties.setBatchSize(2);
+
+        clientRequestArchiveService = new ClientRequestArchiveService(archivedClientRequestRepositoryMock, properties, transactionTemplateMock);
+
+        BDDMockito
+                .when(transactionTemplateMock.execute(ArgumentMatchers.any()))
+                .thenAnswer((invocation) -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+
+        BDDMockito
+                .when(archivedClientRequestRepositoryMock.copyRequestsToArchive(ArgumentMatchers.anyCollection(), ArgumentMatchers.any(LocalDateTime.class)))
+                .thenAnswer((invocation) -> ((Collection<?>) invocation.getArgument(0)).size());
+    }
+
+    @Test
+    @DisplayName("archiveOldRequests moves requests in batches until a batch is not full when successful")
+    void archiveOldRequests_MovesRequestsInBatchesUntilABatchIsNotFull_WhenSuccessful() {
+        BDDMockito
+                .when(archivedClientRequestRepositoryMock.findArchivableRequests(ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .thenReturn(List.of(UUID.randomUUID()));
+
+        long archived = clientRequestArchiveService.archiveOldRequests();
+
+        assertThat(archived).isEqualTo(3);
+
+        BDDMockito
+                .verify(archivedClientRequestRepositoryMock, Mockito.times(2))
+                .copyRequestDrinksToArchive(ArgumentMatchers.anyCollection());
+
+        BDDMockito
+                .verify(archivedClientRequestRepositoryMock, Mockito.times(2))
+                .deleteRequests(ArgumentMatchers.anyCollection());
+    }
+
+    @Test
+    @DisplayName("archiveOldRequests does nothing when there are no requests to archive")
+    void archiveOldRequests_DoesNothing_WhenThereAreNoRequestsToArchive() {
+        BDDMockito
+                .when(archivedClientRequestRepositoryMock.findArchivableRequests(ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        assertThat(clientRequestArchiveService.archiveOldRequests()).isZero();
+
+        BDDMockito
+                .verify(transactionTemplateMock, Mockito.never())
+                .execute(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("reachesArchive returns false when status is not terminal")
+    void reachesArchive_ReturnsFalse_WhenStatusIsNotTerminal() {
+        ClientRequestParameters parameters = ClientRequestParameters
+                .builder()
+                .status(ClientRequestStatus.PROCESSING)
+                .build();
+
+        assertThat(clientRequestArchiveService.reachesArchive(parameters)).isFalse();
+    }
+
+    @Test
+    @DisplayName("reachesArchive returns false when searching only after the cutoff")
+    void reachesArchive_ReturnsFalse_WhenSearchingOnlyAfterTheCutoff() {
+        ClientRequestParameters parameters = ClientRequestParameters
+                .builder()
+                .createdInDateOrAfter(LocalDate.now().toString())
+                .build();
+
+        assertThat(clientRequestArchiveService.reachesArchive(parameters)).isFalse();
+    }
+
+    @Test
+    @DisplayName("reachesArchive returns true when searching before the cutoff")
+    void reachesArchive_ReturnsTrue_WhenSearchingBeforeTheCutoff() {
+        ClientRequestParameters parameters = ClientRequestParameters
+                .builder()
+                .status(ClientRequestStatus.FINISHED)
+                .createdInDateOrAfter(LocalDate.now().minusYears(1).toString())
+                .build();
+
+        assertThat(clientRequestArchiveService.reachesArchive(parameters)).isTrue();
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.enums.ExportFormat;
+import com.github.skyg0d.skydrinksapi.parameters.ClientRequestParameters;
+import com.github.skyg0d.skydrinksapi.property.ExportProperties;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.util.drink.DrinkCreator;
+import com.github.skyg0d.skydrinksapi.util.request.ClientRequestCreator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for ClientRequestExportService")
+class ClientRequestExportServiceTest {
+
+    private ClientRequestExportService clientRequestExportService;
+
+    @Mock
+    private ClientRequestRepository clientRequestRepositoryMock;
+
+    @Mock
+    private ArchivedClientRequestRepository archivedClientRequestRepositoryMock;
+
+    @Mock
+    private ClientRequestArchiveService clientRequestArchiveServiceMock;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        clientRequestExportService = new ClientRequestExportService(clientRequestRepositoryMock, archivedClientRequestRepositoryMock, clientRequestArchiveServiceMock, new ExportProperties(), objectMapper);
+
+        ClientRequest request = ClientRequestCreator.createValidClientRequest();
+        ClientRequest otherRequest = ClientRequestCreator.createValidClientRequest();
+        Drink drink = DrinkCreator.createValidDrink();
+
+        otherRequest.setUuid(UUID.randomUUID());
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.streamWithDrinks(ArgumentMatchers.<Specification<ClientRequest>>any(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt()))
+                .thenAnswer((invocation) -> Stream.of(
+                        new Object[]{request, drink},
+                        new Object[]{request, drink},
+                        new Object[]{otherRequest, drink}
+                ));
+    }
+
+    @Test
+    @DisplayName("export writes one csv line per client request when successful")
+    void export_WritesOneCsvLinePerClientRequest_WhenSuccessful() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Drink drink = DrinkCreator.createValidDrink();
+
+        long exported = clientRequestExportService.export(new ClientRequestParameters(), ExportFormat.CSV, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertThat(exported).isEqualTo(2);
+
+        assertThat(lines).hasSize(3);
+
+        assertThat(lines[0]).startsWith("uuid,");
+
+        assertThat(lines[1])
+                .startsWith(ClientRequestCreator.createValidClientRequest().getUuid().toString())
+                .endsWith(drink.getName() + ";" + drink.getName());
+    }
+
+    @Test
+    @DisplayName("export writes one json object per line when format is ndjson")
+    void export_WritesOneJsonObjectPerLine_WhenFormatIsNdjson() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        clientRequestExportService.export(new ClientRequestParameters(), ExportFormat.NDJSON, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertThat(lines)
+                .hasSize(2)
+                .allSatisfy((line) -> assertThat(line).startsWith("{").endsWith("}").contains("\"drinkNames\""));
+    }
+
+}
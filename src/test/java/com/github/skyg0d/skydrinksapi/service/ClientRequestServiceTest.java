@@ -1,11 +1,16 @@
 package com.github.skyg0d.skydrinksapi.service;
 
 import com.github.skyg0d.skydrinksapi.domain.*;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestCreatedEvent;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestStatusChangedEvent;
 import com.github.skyg0d.skydrinksapi.exception.BadRequestException;
 import com.github.skyg0d.skydrinksapi.exception.UserCannotCompleteClientRequestException;
 import com.github.skyg0d.skydrinksapi.exception.UserCannotModifyClientRequestException;
 import com.github.skyg0d.skydrinksapi.exception.UserRequestsAreLockedException;
+import com.github.skyg0d.skydrinksapi.parameters.ClientRequestDateParameters;
 import com.github.skyg0d.skydrinksapi.parameters.ClientRequestParameters;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.requests.ClientRequestPutRequestBody;
 import com.github.skyg0d.skydrinksapi.util.request.*;
@@ -18,10 +23,13 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -43,12 +51,23 @@ class ClientRequestServiceTest {
     @Mock
     private ClientRequestRepository clientRequestRepositoryMock;
 
+    @Mock
+    private ArchivedClientRequestRepository archivedClientRequestRepositoryMock;
+
     @Mock
     private DrinkService drinkServiceMock;
 
     @Mock
     private ApplicationUserService applicationUserServiceMock;
 
+    @Mock
+    private UserStatisticsService userStatisticsServiceMock;
+
+    @Mock
+    private ClientRequestArchiveService clientRequestArchiveServiceMock;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisherMock;
 
     @BeforeEach
     void setUp() {
@@ -70,6 +89,14 @@ class ClientRequestServiceTest {
                 .when(clientRequestRepositoryMock.countTotalDrinksInRequest(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any(Pageable.class)))
                 .thenReturn(List.of(ClientRequestDrinkCountCreator.createClientRequestDrinkCount()));
 
+        BDDMockito
+                .when(userStatisticsServiceMock.getTopFiveDrinks(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(List.of(ClientRequestDrinkCountCreator.createClientRequestDrinkCount()));
+
+        BDDMockito
+                .when(userStatisticsServiceMock.getTotalOfDrinksGroupedByAlcoholic(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(List.of(ClientRequestAlcoholicDrinkCountCreator.createClientRequestAlcoholicDrinkCount(), ClientRequestAlcoholicDrinkCountCreator.createClientRequestNotAlcoholicDrinkCount()));
+
         BDDMockito
                 .when(clientRequestRepositoryMock.countTotalDrinksInRequest(ArgumentMatchers.any(Pageable.class)))
                 .thenReturn(List.of(ClientRequestDrinkCountCreator.createClientRequestDrinkCount()));
@@ -79,7 +106,7 @@ class ClientRequestServiceTest {
                 .thenReturn(List.of(ClientRequestDrinkCountCreator.createClientRequestDrinkCount()));
 
         BDDMockito
-                .when(clientRequestRepositoryMock.getAllDatesInRequests())
+                .when(clientRequestRepositoryMock.getAllDatesInRequests(ArgumentMatchers.any(LocalDate.class), ArgumentMatchers.any(LocalDate.class)))
                 .thenReturn(List.of(ClientRequestDateCreator.createClientRequestDate()));
 
         BDDMockito
@@ -171,6 +198,56 @@ class ClientRequestServiceTest {
                 .contains(expectedClientRequest);
     }
 
+    @Test
+    @DisplayName("searchMyRequests appends archived requests after the current ones when the search reaches the archive")
+    void searchMyRequests_AppendsArchivedRequestsAfterTheCurrentOnes_WhenTheSearchReachesTheArchive() {
+        ClientRequest expectedClientRequest = ClientRequestCreator.createValidClientRequest();
+        ArchivedClientRequest archivedClientRequest = ArchivedClientRequestCreator.createValidArchivedClientRequest();
+
+        BDDMockito
+                .when(clientRequestArchiveServiceMock.reachesArchive(ArgumentMatchers.any(ClientRequestParameters.class)))
+                .thenReturn(true);
+
+        BDDMockito
+                .when(archivedClientRequestRepositoryMock.findAll(ArgumentMatchers.<Specification<ArchivedClientRequest>>any(), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(archivedClientRequest)));
+
+        Page<ClientRequest> requestPage = clientRequestService.searchMyRequests(new ClientRequestParameters(), PageRequest.of(0, 2), expectedClientRequest.getUser());
+
+        assertThat(requestPage).isNotNull();
+
+        assertThat(requestPage.getTotalElements()).isEqualTo(2);
+
+        assertThat(requestPage.toList())
+                .hasSize(2)
+                .containsExactly(expectedClientRequest, archivedClientRequest.toClientRequest());
+    }
+
+    @Test
+    @DisplayName("searchMyRequests merges archived requests by the requested sort when the search reaches the archive")
+    void searchMyRequests_MergesArchivedRequestsByTheRequestedSort_WhenTheSearchReachesTheArchive() {
+        ClientRequest expectedClientRequest = ClientRequestCreator.createValidClientRequest();
+        ArchivedClientRequest archivedClientRequest = ArchivedClientRequestCreator.createValidArchivedClientRequest();
+
+        BDDMockito
+                .when(clientRequestArchiveServiceMock.reachesArchive(ArgumentMatchers.any(ClientRequestParameters.class)))
+                .thenReturn(true);
+
+        BDDMockito
+                .when(archivedClientRequestRepositoryMock.findAll(ArgumentMatchers.<Specification<ArchivedClientRequest>>any(), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(archivedClientRequest)));
+
+        Page<ClientRequest> requestPage = clientRequestService.searchMyRequests(new ClientRequestParameters(), PageRequest.of(0, 2, Sort.by("createdAt")), expectedClientRequest.getUser());
+
+        assertThat(requestPage).isNotNull();
+
+        assertThat(requestPage.getTotalElements()).isEqualTo(2);
+
+        assertThat(requestPage.toList())
+                .hasSize(2)
+                .containsExactly(archivedClientRequest.toClientRequest(), expectedClientRequest);
+    }
+
     @Test
     @DisplayName("getMyTopFiveDrinks returns client request drinks count when successful")
     void getMyTopFiveDrinks_ReturnsClientRequestDrinksCount_WhenSuccessful() {
@@ -207,6 +284,18 @@ class ClientRequestServiceTest {
                 .isEqualTo(expectedDrinksCount.getDrinkUUID());
     }
 
+    @Test
+    @DisplayName("getTopFiveDrinks throws BadRequestException when user is not found")
+    void getTopFiveDrinks_ThrowsBadRequestException_WhenUserIsNotFound() {
+        BDDMockito
+                .doThrow(new BadRequestException("Usuário não foi encontrado!"))
+                .when(applicationUserServiceMock)
+                .verifyIfExistsOrElseThrowBadRequestException(ArgumentMatchers.any(UUID.class));
+
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> clientRequestService.getTopFiveDrinks(UUID.randomUUID()));
+    }
+
     @Test
     @DisplayName("getTopDrinksInRequests returns client request drinks count of all users when successful")
     void getTopDrinksInRequests_ReturnsClientRequestDrinksCountOfAllUsers_WhenSuccessful() {
@@ -264,7 +353,7 @@ class ClientRequestServiceTest {
     @Test
     @DisplayName("getAllDatesInRequests returns all dates in requests when successful")
     void getAllDatesInRequests_ReturnsAllDatesInRequests_WhenSuccessful() {
-        List<ClientRequestDate> datesFound = clientRequestService.getAllDatesInRequests();
+        List<ClientRequestDate> datesFound = clientRequestService.getAllDatesInRequests(new ClientRequestDateParameters());
 
         assertThat(datesFound)
                 .isNotEmpty()
@@ -277,6 +366,27 @@ class ClientRequestServiceTest {
                 .isEqualTo(ClientRequestDateCreator.createClientRequestDate().getDate());
     }
 
+    @Test
+    @DisplayName("getAllDatesInRequests searches the whole month when month is informed")
+    void getAllDatesInRequests_SearchesTheWholeMonth_WhenMonthIsInformed() {
+        ClientRequestDateParameters parameters = ClientRequestDateParameters.builder().month("2021-02").build();
+
+        clientRequestService.getAllDatesInRequests(parameters);
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock)
+                .getAllDatesInRequests(LocalDate.of(2021, 2, 1), LocalDate.of(2021, 2, 28));
+    }
+
+    @Test
+    @DisplayName("getAllDatesInRequests throws BadRequestException when date is invalid")
+    void getAllDatesInRequests_ThrowsBadRequestException_WhenDateIsInvalid() {
+        ClientRequestDateParameters parameters = ClientRequestDateParameters.builder().startDate("01/02/2021").build();
+
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> clientRequestService.getAllDatesInRequests(parameters));
+    }
+
     @Test
     @DisplayName("getAllBlocked returns boolean of all users is blocked when successful")
     void getAllBlocked_ReturnsBooleanOfAllUsersIsBlocked_WhenSuccessful() {
@@ -298,6 +408,14 @@ class ClientRequestServiceTest {
         assertThat(drinkSaved)
                 .isNotNull()
                 .isEqualTo(expectedClientRequest);
+
+        BDDMockito
+                .verify(eventPublisherMock)
+                .publishEvent(ArgumentMatchers.any(ClientRequestCreatedEvent.class));
+
+        BDDMockito
+                .verify(userStatisticsServiceMock, Mockito.never())
+                .requestAdded(ArgumentMatchers.any(UUID.class), ArgumentMatchers.anyList(), ArgumentMatchers.anyDouble());
     }
 
     @Test
@@ -391,6 +509,10 @@ class ClientRequestServiceTest {
         assertThat(requestCanceled.getStatus()).isEqualTo(expectedClientRequest.getStatus());
 
         assertThat(requestCanceled.getTotalPrice()).isEqualTo(expectedClientRequest.getTotalPrice());
+
+        BDDMockito
+                .verify(eventPublisherMock)
+                .publishEvent(ArgumentMatchers.<ClientRequestStatusChangedEvent>argThat((event) -> event.getPreviousStatus() == ClientRequestStatus.PROCESSING));
     }
 
     @Test
@@ -1,14 +1,19 @@
 package com.github.skyg0d.skydrinksapi.service;
 
-import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
 import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestsRemovedEvent;
 import com.github.skyg0d.skydrinksapi.exception.BadRequestException;
 import com.github.skyg0d.skydrinksapi.parameters.DrinkParameters;
+import com.github.skyg0d.skydrinksapi.property.JobProperties;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.drink.DrinkRepository;
 import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.util.drink.DrinkCreator;
 import com.github.skyg0d.skydrinksapi.util.drink.DrinkPostRequestBodyCreator;
 import com.github.skyg0d.skydrinksapi.util.drink.DrinkPutRequestBodyCreator;
+import com.github.skyg0d.skydrinksapi.util.job.JobCreator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,9 +22,12 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -42,6 +50,21 @@ class DrinkServiceTest {
     @Mock
     private ClientRequestRepository clientRequestRepositoryMock;
 
+    @Mock
+    private ArchivedClientRequestRepository archivedClientRequestRepositoryMock;
+
+    @Mock
+    private UserStatisticsService userStatisticsServiceMock;
+
+    @Mock
+    private JobService jobServiceMock;
+
+    @Mock
+    private JobProperties jobPropertiesMock;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisherMock;
+
     @BeforeEach
     void setUp() {
         Page<Drink> drinkPage = new PageImpl<>(List.of(DrinkCreator.createValidDrink()));
@@ -72,9 +95,8 @@ class DrinkServiceTest {
                 .delete(ArgumentMatchers.any(Drink.class));
 
         BDDMockito
-                .doNothing()
-                .when(clientRequestRepositoryMock)
-                .delete(ArgumentMatchers.any(ClientRequest.class));
+                .when(jobPropertiesMock.getChunkSize())
+                .thenReturn(500);
     }
 
     @Test
@@ -173,6 +195,66 @@ class DrinkServiceTest {
                 .doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("delete removes drink from requests with set based statements when successful")
+    void delete_RemovesDrinkFromRequestsWithSetBasedStatements_WhenSuccessful() {
+        UUID drinkUUID = UUID.randomUUID();
+        List<UUID> requestUUIDs = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.findRequestsWithDrink(drinkUUID, Pageable.unpaged()))
+                .thenReturn(requestUUIDs);
+
+        List<UUID> emptyRequests = List.of(requestUUIDs.get(0));
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.findRequestsWithoutDrinks(requestUUIDs))
+                .thenReturn(emptyRequests);
+
+        List<UUID> archivedUUIDs = List.of(UUID.randomUUID());
+
+        BDDMockito
+                .when(archivedClientRequestRepositoryMock.findArchivedRequestsWithDrink(ArgumentMatchers.eq(drinkUUID), ArgumentMatchers.any(PageRequest.class)))
+                .thenReturn(archivedUUIDs, List.of());
+
+        drinkService.delete(drinkUUID);
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(1))
+                .findRequestsWithDrink(drinkUUID, Pageable.unpaged());
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(1))
+                .deleteDrinkFromRequests(drinkUUID);
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(1))
+                .findRequestsWithoutDrinks(requestUUIDs);
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(1))
+                .deleteRequestsWithoutDrinks(emptyRequests);
+
+        BDDMockito
+                .verify(eventPublisherMock, Mockito.times(1))
+                .publishEvent(ArgumentMatchers.<ClientRequestsRemovedEvent>argThat((event) -> event.getUuids().equals(emptyRequests)));
+
+        BDDMockito
+                .verify(archivedClientRequestRepositoryMock, Mockito.times(1))
+                .deleteDrinkFromArchive(drinkUUID, archivedUUIDs);
+
+        BDDMockito
+                .verify(archivedClientRequestRepositoryMock, Mockito.times(1))
+                .deleteArchivedRequestsWithoutDrinks(archivedUUIDs);
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(1))
+                .countRequestsWithDrink(drinkUUID);
+
+        BDDMockito
+                .verifyNoMoreInteractions(clientRequestRepositoryMock);
+    }
+
     @Test
     @DisplayName("findByIdOrElseThrowBadRequestException throws BadRequestException when drink is not found")
     void findByIdOrElseThrowBadRequestException_ThrowsBadRequestException_WhenDrinkIsNotFound() {
@@ -184,4 +266,67 @@ class DrinkServiceTest {
                 .isThrownBy(() -> drinkService.findByIdOrElseThrowBadRequestException(UUID.randomUUID()));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("delete schedules job when drink is in more requests than the threshold")
+    void delete_SchedulesJob_WhenDrinkIsInMoreRequestsThanTheThreshold() {
+        UUID targetUUID = UUID.randomUUID();
+
+        Job expectedJob = JobCreator.createValidJob();
+
+        BDDMockito
+                .when(jobPropertiesMock.getAsyncThreshold())
+                .thenReturn(100L);
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.countRequestsWithDrink(targetUUID))
+                .thenReturn(101L);
+
+        BDDMockito
+                .when(jobServiceMock.schedule(JobType.DELETE_DRINK, targetUUID, 101L))
+                .thenReturn(expectedJob);
+
+        Optional<Job> jobScheduled = drinkService.delete(targetUUID);
+
+        assertThat(jobScheduled)
+                .isPresent()
+                .contains(expectedJob);
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.never())
+                .deleteDrinkFromRequests(targetUUID);
+    }
+
+    @Test
+    @DisplayName("delete schedules job when archived requests put drink over the threshold")
+    void delete_SchedulesJob_WhenArchivedRequestsPutDrinkOverTheThreshold() {
+        UUID targetUUID = UUID.randomUUID();
+
+        Job expectedJob = JobCreator.createValidJob();
+
+        BDDMockito
+                .when(jobPropertiesMock.getAsyncThreshold())
+                .thenReturn(100L);
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.countRequestsWithDrink(targetUUID))
+                .thenReturn(1L);
+
+        BDDMockito
+                .when(archivedClientRequestRepositoryMock.countArchivedRequestsWithDrink(targetUUID))
+                .thenReturn(5000L);
+
+        BDDMockito
+                .when(jobServiceMock.schedule(JobType.DELETE_DRINK, targetUUID, 5001L))
+                .thenReturn(expectedJob);
+
+        Optional<Job> jobScheduled = drinkService.delete(targetUUID);
+
+        assertThat(jobScheduled)
+                .isPresent()
+                .contains(expectedJob);
+
+        BDDMockito
+                .verify(archivedClientRequestRepositoryMock, Mockito.never())
+                .findArchivedRequestsWithDrink(ArgumentMatchers.eq(targetUUID), ArgumentMatchers.any(Pageable.class));
+    }
+}
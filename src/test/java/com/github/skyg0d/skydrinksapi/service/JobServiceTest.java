@@ -0,0 +1,108 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.enums.JobStatus;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import com.github.skyg0d.skydrinksapi.exception.BadRequestException;
+import com.github.skyg0d.skydrinksapi.job.JobRunner;
+import com.github.skyg0d.skydrinksapi.repository.job.JobRepository;
+import com.github.skyg0d.skydrinksapi.util.drink.DrinkCreator;
+import com.github.skyg0d.skydrinksapi.util.job.JobCreator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for JobService")
+class JobServiceTest {
+
+    @InjectMocks
+    private JobService jobService;
+
+    @Mock
+    private JobRepository jobRepositoryMock;
+
+    @Mock
+    private JobRunner jobRunnerMock;
+
+    @BeforeEach
+    void setUp() {
+        BDDMockito
+                .when(jobRepositoryMock.save(ArgumentMatchers.any(Job.class)))
+                .thenReturn(JobCreator.createValidJob());
+
+        BDDMockito
+                .when(jobRepositoryMock.findById(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(Optional.of(JobCreator.createValidJob()));
+    }
+
+    @Test
+    @DisplayName("schedule saves pending job and submits it when successful")
+    void schedule_SavesPendingJobAndSubmitsIt_WhenSuccessful() {
+        Job jobScheduled = jobService.schedule(JobType.DELETE_DRINK, DrinkCreator.uuid, 12000);
+
+        assertThat(jobScheduled).isEqualTo(JobCreator.createValidJob());
+
+        BDDMockito
+                .verify(jobRepositoryMock, Mockito.times(1))
+                .save(ArgumentMatchers.<Job>argThat((job) -> job.getStatus() == JobStatus.PENDING && job.getTotalItems() == 12000));
+
+        BDDMockito
+                .verify(jobRunnerMock, Mockito.times(1))
+                .submit(JobCreator.uuid);
+    }
+
+    @Test
+    @DisplayName("schedule returns the active job when the target already has one")
+    void schedule_ReturnsTheActiveJob_WhenTheTargetAlreadyHasOne() {
+        BDDMockito
+                .when(jobRepositoryMock.findFirstByTypeAndTargetUuidAndStatusInOrderByCreatedAt(ArgumentMatchers.eq(JobType.DELETE_DRINK), ArgumentMatchers.eq(DrinkCreator.uuid), ArgumentMatchers.anyCollection()))
+                .thenReturn(Optional.of(JobCreator.createValidJob()));
+
+        Job jobScheduled = jobService.schedule(JobType.DELETE_DRINK, DrinkCreator.uuid, 12000);
+
+        assertThat(jobScheduled).isEqualTo(JobCreator.createValidJob());
+
+        BDDMockito
+                .verify(jobRepositoryMock, Mockito.never())
+                .save(ArgumentMatchers.any(Job.class));
+
+        BDDMockito
+                .verify(jobRunnerMock, Mockito.never())
+                .submit(ArgumentMatchers.any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("findByIdOrElseThrowBadRequestException returns job when successful")
+    void findByIdOrElseThrowBadRequestException_ReturnsJob_WhenSuccessful() {
+        Job jobFound = jobService.findByIdOrElseThrowBadRequestException(JobCreator.uuid);
+
+        assertThat(jobFound)
+                .isNotNull()
+                .isEqualTo(JobCreator.createValidJob());
+    }
+
+    @Test
+    @DisplayName("findByIdOrElseThrowBadRequestException throws BadRequestException when job is not found")
+    void findByIdOrElseThrowBadRequestException_ThrowsBadRequestException_WhenJobIsNotFound() {
+        BDDMockito
+                .when(jobRepositoryMock.findById(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> jobService.findByIdOrElseThrowBadRequestException(UUID.randomUUID()));
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.domain.OutboxMail;
+import com.github.skyg0d.skydrinksapi.enums.MailStatus;
+import com.github.skyg0d.skydrinksapi.property.MailProperties;
+import com.github.skyg0d.skydrinksapi.repository.mail.OutboxMailRepository;
+import com.github.skyg0d.skydrinksapi.util.mail.OutboxMailCreator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for MailOutboxService")
+class MailOutboxServiceTest {
+
+    private final OutboxMailRepository outboxMailRepositoryMock = Mockito.mock(OutboxMailRepository.class);
+    private final JavaMailSender javaMailSenderMock = Mockito.mock(JavaMailSender.class);
+    private final MailProperties mailProperties = new MailProperties();
+
+    private MailOutboxService mailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxService = new MailOutboxService(outboxMailRepositoryMock, mailProperties, javaMailSenderMock);
+
+        BDDMockito
+                .when(javaMailSenderMock.createMimeMessage())
+                .thenAnswer((invocation) -> new MimeMessage((Session) null));
+
+        BDDMockito
+                .when(outboxMailRepositoryMock.claim(ArgumentMatchers.any(UUID.class), ArgumentMatchers.eq(MailStatus.PENDING), ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        BDDMockito
+                .when(outboxMailRepositoryMock.save(ArgumentMatchers.any(OutboxMail.class)))
+                .thenAnswer((invocation) -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("enqueue persists pending mail when successful")
+    void enqueue_PersistsPendingMail_WhenSuccessful() {
+        OutboxMail mail = mailOutboxService.enqueue("maria@mail.com", "Assunto", "<p>Conteúdo</p>");
+
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(mail.getAttempts()).isZero();
+        assertThat(mail.getNextAttemptAt()).isNotNull();
+
+        Mockito.verifyNoInteractions(javaMailSenderMock);
+    }
+
+    @Test
+    @DisplayName("sendPending sends the whole batch in a single call when successful")
+    void sendPending_SendsTheWholeBatchInASingleCall_WhenSuccessful() {
+        OutboxMail first = OutboxMailCreator.createValidOutboxMail();
+        OutboxMail second = OutboxMailCreator.createValidOutboxMail();
+
+        second.setUuid(UUID.randomUUID());
+
+        mockReadyMails(first, second);
+
+        List<Object> messages = new ArrayList<>();
+
+        BDDMockito
+                .willAnswer((invocation) -> messages.addAll(Arrays.asList(invocation.getArguments())))
+                .given(javaMailSenderMock)
+                .send(ArgumentMatchers.<MimeMessage[]>any());
+
+        mailOutboxService.sendPending();
+
+        Mockito
+                .verify(javaMailSenderMock, Mockito.times(1))
+                .send(ArgumentMatchers.<MimeMessage[]>any());
+
+        assertThat(messages).hasSize(2);
+
+        assertThat(first.getStatus()).isEqualTo(MailStatus.SENT);
+        assertThat(first.getSentAt()).isNotNull();
+        assertThat(first.getContent()).isEqualTo(MailOutboxService.REDACTED_CONTENT);
+        assertThat(second.getStatus()).isEqualTo(MailStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("sendPending schedules retry with exponential backoff when server rejects the mail")
+    void sendPending_SchedulesRetryWithExponentialBackoff_WhenServerRejectsTheMail() {
+        OutboxMail mail = OutboxMailCreator.createValidOutboxMail();
+
+        mail.setAttempts(2);
+
+        mockReadyMails(mail);
+
+        BDDMockito
+                .willAnswer((invocation) -> {
+                    MimeMessage message = invocation.getArgument(0);
+                    throw new MailSendException(Map.<Object, Exception>of(message, new Exception("451 Try again later")));
+                })
+                .given(javaMailSenderMock)
+                .send(ArgumentMatchers.<MimeMessage[]>any());
+
+        LocalDateTime before = LocalDateTime.now();
+
+        mailOutboxService.sendPending();
+
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(mail.getAttempts()).isEqualTo(3);
+        assertThat(mail.getLastError()).isEqualTo("451 Try again later");
+        assertThat(mail.getNextAttemptAt()).isAfterOrEqualTo(before.plusNanos(mailProperties.getInitialBackoff() * 4 * 1_000_000));
+    }
+
+    @Test
+    @DisplayName("sendPending moves mail to dead letter when it reached the maximum attempts")
+    void sendPending_MovesMailToDeadLetter_WhenItReachedTheMaximumAttempts() {
+        OutboxMail mail = OutboxMailCreator.createValidOutboxMail();
+
+        mail.setAttempts(mailProperties.getMaxAttempts() - 1);
+
+        mockReadyMails(mail);
+
+        BDDMockito
+                .willThrow(new MailSendException("Mail server connection failed"))
+                .given(javaMailSenderMock)
+                .send(ArgumentMatchers.<MimeMessage[]>any());
+
+        mailOutboxService.sendPending();
+
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.DEAD);
+        assertThat(mail.getAttempts()).isEqualTo(mailProperties.getMaxAttempts());
+        assertThat(mail.getContent()).isEqualTo(MailOutboxService.REDACTED_CONTENT);
+    }
+
+    @Test
+    @DisplayName("sendPending skips mail when another node claimed it")
+    void sendPending_SkipsMail_WhenAnotherNodeClaimedIt() {
+        mockReadyMails(OutboxMailCreator.createValidOutboxMail());
+
+        BDDMockito
+                .when(outboxMailRepositoryMock.claim(ArgumentMatchers.any(UUID.class), ArgumentMatchers.eq(MailStatus.PENDING), ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        mailOutboxService.sendPending();
+
+        Mockito
+                .verify(javaMailSenderMock, Mockito.never())
+                .send(ArgumentMatchers.<MimeMessage[]>any());
+    }
+
+    private void mockReadyMails(OutboxMail... mails) {
+        BDDMockito
+                .when(outboxMailRepositoryMock.findReady(ArgumentMatchers.eq(MailStatus.PENDING), ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(List.of(mails))
+                .thenReturn(List.of());
+    }
+
+}
@@ -7,6 +7,7 @@ import com.github.skyg0d.skydrinksapi.property.PasswordResetProperties;
 import com.github.skyg0d.skydrinksapi.repository.password.PasswordResetRepository;
 import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
 import com.github.skyg0d.skydrinksapi.requests.NewPasswordPostRequestBody;
+import com.github.skyg0d.skydrinksapi.util.TokenHashUtil;
 import com.github.skyg0d.skydrinksapi.util.password.NewPasswordPostRequestBodyCreator;
 import com.github.skyg0d.skydrinksapi.util.password.PasswordResetCreator;
 import com.github.skyg0d.skydrinksapi.util.user.ApplicationUserCreator;
@@ -15,13 +16,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import javax.mail.internet.MimeMessage;
-
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -45,7 +43,7 @@ public class PasswordResetServiceTest {
     private PasswordResetProperties passwordResetPropertiesMock;
 
     @Mock
-    private JavaMailSender javaMailSenderMock;
+    private MailOutboxService mailOutboxServiceMock;
 
     @BeforeEach
     void setUp() {
@@ -56,9 +54,11 @@ public class PasswordResetServiceTest {
                 .when(applicationUserServiceMock.findByEmail(ArgumentMatchers.anyString()))
                 .thenReturn(ApplicationUserCreator.createValidApplicationUser());
 
+        passwordReset.setUser(ApplicationUserCreator.createValidApplicationUser());
+
         BDDMockito
-                .when(passwordResetRepositoryMock.findByUser(ArgumentMatchers.any(ApplicationUser.class)))
-                .thenReturn(List.of(passwordReset));
+                .when(passwordResetRepositoryMock.findActiveToken(ArgumentMatchers.anyString(), ArgumentMatchers.eq(TokenHashUtil.hash(PasswordResetCreator.token))))
+                .thenReturn(Optional.of(passwordReset));
 
         BDDMockito
                 .when(passwordResetPropertiesMock.getTokenLength())
@@ -67,10 +67,6 @@ public class PasswordResetServiceTest {
         BDDMockito
                 .when(passwordResetPropertiesMock.getExpireMinutes())
                 .thenReturn(30);
-
-        BDDMockito
-                .when(javaMailSenderMock.createMimeMessage())
-                .thenReturn(Mockito.mock(MimeMessage.class));
     }
 
     @Test
@@ -80,6 +76,18 @@ public class PasswordResetServiceTest {
 
         assertThatCode(() -> passwordResetService.create(email))
                 .doesNotThrowAnyException();
+
+        Mockito
+                .verify(passwordResetRepositoryMock)
+                .deleteByUser(ArgumentMatchers.any(ApplicationUser.class));
+
+        Mockito
+                .verify(passwordResetRepositoryMock)
+                .save(ArgumentMatchers.<PasswordReset>argThat((passwordReset) -> passwordReset.getTokenHash().length() == 64));
+
+        Mockito
+                .verify(mailOutboxServiceMock)
+                .enqueue(ArgumentMatchers.eq(email), ArgumentMatchers.anyString(), ArgumentMatchers.anyString());
     }
 
     @Test
@@ -89,7 +97,7 @@ public class PasswordResetServiceTest {
 
         PasswordReset passwordResetValid = PasswordResetCreator.createValidPasswordReset();
 
-        String token = passwordResetValid.getToken();
+        String token = PasswordResetCreator.token;
 
         PasswordReset passwordResetFound = passwordResetService.tokenIsValid(token, email);
 
@@ -122,12 +130,12 @@ public class PasswordResetServiceTest {
         PasswordReset passwordResetValid = PasswordResetCreator.createValidPasswordReset();
 
         BDDMockito
-                .when(passwordResetRepositoryMock.findByUser(ArgumentMatchers.any(ApplicationUser.class)))
-                .thenReturn(List.of(passwordResetValid));
+                .when(passwordResetRepositoryMock.findActiveToken(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+                .thenReturn(Optional.of(passwordResetValid));
 
         String email = ApplicationUserCreator.createValidApplicationUser().getEmail();
 
-        String token = passwordResetValid.getToken();
+        String token = PasswordResetCreator.token;
 
         assertThatExceptionOfType(BadRequestException.class)
                 .isThrownBy(() -> passwordResetService.tokenIsValid(token, email));
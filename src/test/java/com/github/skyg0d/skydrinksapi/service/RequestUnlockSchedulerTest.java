@@ -0,0 +1,146 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.domain.RequestLockExpiration;
+import com.github.skyg0d.skydrinksapi.property.RequestLockProperties;
+import com.github.skyg0d.skydrinksapi.repository.user.ApplicationUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for RequestUnlockScheduler")
+class RequestUnlockSchedulerTest {
+
+    private RequestUnlockScheduler requestUnlockScheduler;
+
+    @Mock
+    private ApplicationUserRepository applicationUserRepositoryMock;
+
+    @BeforeEach
+    void setUp() {
+        RequestLockProperties properties = new RequestLockProperties();
+        properties.setTickDuration(10);
+        properties.setTicksPerWheel(8);
+        properties.setRebuildPageSize(2);
+
+        requestUnlockScheduler = new RequestUnlockScheduler(applicationUserRepositoryMock, properties);
+
+        BDDMockito
+                .when(applicationUserRepositoryMock.unlockRequestsIfExpired(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any(LocalDateTime.class)))
+                .thenReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        requestUnlockScheduler.destroy();
+    }
+
+    @Test
+    @DisplayName("schedule unlocks the user when the lock expires")
+    void schedule_UnlocksTheUser_WhenTheLockExpires() {
+        UUID uuid = UUID.randomUUID();
+        LocalDateTime lockRequestsUntil = LocalDateTime.now().plusNanos(50_000_000);
+
+        requestUnlockScheduler.schedule(uuid, lockRequestsUntil);
+
+        BDDMockito
+                .verify(applicationUserRepositoryMock, Mockito.timeout(2000))
+                .unlockRequestsIfExpired(uuid, lockRequestsUntil);
+
+        assertThat(requestUnlockScheduler.getScheduledUnlocks()).isZero();
+    }
+
+    @Test
+    @DisplayName("cancel prevents the unlock when the user is unlocked before the lock expires")
+    void cancel_PreventsTheUnlock_WhenTheUserIsUnlockedBeforeTheLockExpires() {
+        UUID uuid = UUID.randomUUID();
+
+        requestUnlockScheduler.schedule(uuid, LocalDateTime.now().plusHours(1));
+
+        assertThat(requestUnlockScheduler.getScheduledUnlocks()).isEqualTo(1);
+
+        requestUnlockScheduler.cancel(uuid);
+
+        assertThat(requestUnlockScheduler.getScheduledUnlocks()).isZero();
+    }
+
+    @Test
+    @DisplayName("schedule replaces the previous unlock when the user is locked again")
+    void schedule_ReplacesThePreviousUnlock_WhenTheUserIsLockedAgain() {
+        UUID uuid = UUID.randomUUID();
+
+        requestUnlockScheduler.schedule(uuid, LocalDateTime.now().plusHours(1));
+        requestUnlockScheduler.schedule(uuid, LocalDateTime.now().plusHours(2));
+
+        assertThat(requestUnlockScheduler.getScheduledUnlocks()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("rebuild schedules every lock saved in the database page by page")
+    void rebuild_SchedulesEveryLockSavedInTheDatabasePageByPage() {
+        LocalDateTime lockRequestsUntil = LocalDateTime.now().plusHours(1);
+
+        BDDMockito
+                .when(applicationUserRepositoryMock.findRequestLockExpirations(ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(List.of(
+                        new RequestLockExpiration(UUID.randomUUID(), lockRequestsUntil),
+                        new RequestLockExpiration(UUID.randomUUID(), lockRequestsUntil)
+                ))
+                .thenReturn(List.of(new RequestLockExpiration(UUID.randomUUID(), lockRequestsUntil)));
+
+        requestUnlockScheduler.rebuild();
+
+        assertThat(requestUnlockScheduler.getScheduledUnlocks()).isEqualTo(3);
+
+        BDDMockito
+                .verify(applicationUserRepositoryMock, Mockito.times(2))
+                .findRequestLockExpirations(ArgumentMatchers.any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("scheduleUpcomingUnlocks schedules locks created by other nodes when they expire before the next scan")
+    void scheduleUpcomingUnlocks_SchedulesLocksCreatedByOtherNodes_WhenTheyExpireBeforeTheNextScan() {
+        UUID scheduledHere = UUID.randomUUID();
+        LocalDateTime lockRequestsUntil = LocalDateTime.now().plusHours(1);
+
+        requestUnlockScheduler.schedule(scheduledHere, lockRequestsUntil);
+
+        BDDMockito
+                .when(applicationUserRepositoryMock.findRequestLockExpirationsBefore(ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(List.of(
+                        new RequestLockExpiration(scheduledHere, lockRequestsUntil),
+                        new RequestLockExpiration(UUID.randomUUID(), lockRequestsUntil)
+                ))
+                .thenReturn(List.of());
+
+        requestUnlockScheduler.scheduleUpcomingUnlocks();
+
+        assertThat(requestUnlockScheduler.getScheduledUnlocks()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("unlock does not throw when the database fails")
+    void unlock_DoesNotThrow_WhenTheDatabaseFails() {
+        BDDMockito
+                .when(applicationUserRepositoryMock.unlockRequestsIfExpired(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any(LocalDateTime.class)))
+                .thenThrow(new IllegalStateException("Banco indisponível"));
+
+        assertThatCode(() -> requestUnlockScheduler.unlock(UUID.randomUUID(), LocalDateTime.now(), null))
+                .doesNotThrowAnyException();
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.domain.RetentionReport;
+import com.github.skyg0d.skydrinksapi.property.RetentionProperties;
+import com.github.skyg0d.skydrinksapi.retention.RetentionRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for RetentionService")
+class RetentionServiceTest {
+
+    private RetentionService retentionService;
+
+    private RetentionProperties properties;
+
+    @Mock
+    private ObjectProvider<RetentionRule> retentionRulesMock;
+
+    @Mock
+    private TransactionTemplate transactionTemplateMock;
+
+    @Mock
+    private RetentionRule passwordResetRuleMock;
+
+    @Mock
+    private RetentionRule outboxMailRuleMock;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RetentionProperties();
+        properties.setBatchSize(2);
+        properties.setMaxDbLoad(1);
+
+        retentionService = new RetentionService(retentionRulesMock, properties, transactionTemplateMock);
+
+        BDDMockito
+                .when(retentionRulesMock.orderedStream())
+                .thenAnswer((invocation) -> Stream.of(passwordResetRuleMock, outboxMailRuleMock));
+
+        BDDMockito
+                .when(transactionTemplateMock.execute(ArgumentMatchers.any()))
+                .thenAnswer((invocation) -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+
+        BDDMockito
+                .when(passwordResetRuleMock.getName())
+                .thenReturn("password-reset");
+
+        BDDMockito
+                .when(outboxMailRuleMock.getName())
+                .thenReturn("mail-outbox");
+    }
+
+    @Test
+    @DisplayName("purgeAll runs each rule in batches until a batch is not full when successful")
+    void purgeAll_RunsEachRuleInBatchesUntilABatchIsNotFull_WhenSuccessful() {
+        BDDMockito
+                .when(passwordResetRuleMock.purge(ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.eq(2)))
+                .thenReturn(2, 2, 1);
+
+        BDDMockito
+                .when(outboxMailRuleMock.purge(ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.eq(2)))
+                .thenReturn(0);
+
+        List<RetentionReport> reports = retentionService.purgeAll();
+
+        assertThat(reports)
+                .hasSize(2)
+                .extracting(RetentionReport::getRule, RetentionReport::getPurged, RetentionReport::getBatches, RetentionReport::isCompleted)
+                .containsExactly(
+                        tuple("mail-outbox", 0L, 1, true),
+                        tuple("password-reset", 5L, 3, true)
+                );
+
+        BDDMockito
+                .verify(passwordResetRuleMock, Mockito.times(3))
+                .purge(ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.eq(2));
+    }
+
+    @Test
+    @DisplayName("purgeAll stops the rule and marks it incomplete when the max run time is reached")
+    void purgeAll_StopsTheRuleAndMarksItIncomplete_WhenTheMaxRunTimeIsReached() {
+        properties.setMaxRunTime(0);
+
+        List<RetentionReport> reports = retentionService.purgeAll();
+
+        assertThat(reports)
+                .hasSize(2)
+                .allSatisfy((report) -> {
+                    assertThat(report.isCompleted()).isFalse();
+                    assertThat(report.getBatches()).isZero();
+                });
+
+        BDDMockito
+                .verify(passwordResetRuleMock, Mockito.never())
+                .purge(ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    @DisplayName("purgeAll keeps running the other rules when a rule fails")
+    void purgeAll_KeepsRunningTheOtherRules_WhenARuleFails() {
+        BDDMockito
+                .when(passwordResetRuleMock.purge(ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.anyInt()))
+                .thenThrow(new IllegalStateException("Banco indisponível"));
+
+        BDDMockito
+                .when(outboxMailRuleMock.purge(ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.anyInt()))
+                .thenReturn(1);
+
+        List<RetentionReport> reports = retentionService.purgeAll();
+
+        assertThat(reports)
+                .extracting(RetentionReport::getRule, RetentionReport::isCompleted)
+                .containsExactly(
+                        tuple("mail-outbox", true),
+                        tuple("password-reset", false)
+                );
+    }
+
+    @Test
+    @DisplayName("purgeAll accumulates the total purged across runs when successful")
+    void purgeAll_AccumulatesTheTotalPurgedAcrossRuns_WhenSuccessful() {
+        BDDMockito
+                .when(passwordResetRuleMock.purge(ArgumentMatchers.any(LocalDateTime.class), ArgumentMatchers.anyInt()))
+                .thenReturn(1);
+
+        retentionService.purgeAll();
+        retentionService.purgeAll();
+
+        assertThat(retentionService.getReports())
+                .filteredOn((report) -> report.getRule().equals("password-reset"))
+                .singleElement()
+                .satisfies((report) -> {
+                    assertThat(report.getPurged()).isEqualTo(1);
+                    assertThat(report.getTotalPurged()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    @DisplayName("scheduledPurge does nothing when retention is disabled")
+    void scheduledPurge_DoesNothing_WhenRetentionIsDisabled() {
+        properties.setEnabled(false);
+
+        retentionService.scheduledPurge();
+
+        assertThat(retentionService.getReports()).isEmpty();
+
+        BDDMockito
+                .verify(retentionRulesMock, Mockito.never())
+                .orderedStream();
+    }
+
+}
@@ -1,11 +1,16 @@
 package com.github.skyg0d.skydrinksapi.service;
 
+import com.github.skyg0d.skydrinksapi.domain.Job;
 import com.github.skyg0d.skydrinksapi.domain.Table;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
 import com.github.skyg0d.skydrinksapi.exception.BadRequestException;
 import com.github.skyg0d.skydrinksapi.parameters.TableParameters;
+import com.github.skyg0d.skydrinksapi.property.JobProperties;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
 import com.github.skyg0d.skydrinksapi.repository.table.TableRepository;
 import com.github.skyg0d.skydrinksapi.util.UUIDUtil;
+import com.github.skyg0d.skydrinksapi.util.job.JobCreator;
 import com.github.skyg0d.skydrinksapi.util.table.TableCreator;
 import com.github.skyg0d.skydrinksapi.util.table.TablePostRequestBodyCreator;
 import com.github.skyg0d.skydrinksapi.util.table.TablePutRequestBodyCreator;
@@ -17,6 +22,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -42,9 +48,18 @@ class TableServiceTest {
     @Mock
     private ClientRequestRepository clientRequestRepository;
 
+    @Mock
+    private ArchivedClientRequestRepository archivedClientRequestRepositoryMock;
+
     @Mock
     private UUIDUtil uuidUtilMock;
 
+    @Mock
+    private JobService jobServiceMock;
+
+    @Mock
+    private JobProperties jobPropertiesMock;
+
     @BeforeEach
     void setUp() {
         Page<Table> tablePage = new PageImpl<>(List.of(TableCreator.createValidTable()));
@@ -219,6 +234,29 @@ class TableServiceTest {
                 .doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("delete removes table from requests with a single update when successful")
+    void delete_RemovesTableFromRequestsWithASingleUpdate_WhenSuccessful() {
+        UUID tableUUID = UUID.randomUUID();
+
+        tableService.delete(tableUUID);
+
+        BDDMockito
+                .verify(clientRequestRepository, Mockito.times(1))
+                .removeTableFromRequests(tableUUID);
+
+        BDDMockito
+                .verify(archivedClientRequestRepositoryMock, Mockito.times(1))
+                .removeTableFromArchive(tableUUID);
+
+        BDDMockito
+                .verify(clientRequestRepository, Mockito.times(1))
+                .countByTableUuid(tableUUID);
+
+        BDDMockito
+                .verifyNoMoreInteractions(clientRequestRepository);
+    }
+
     @Test
     @DisplayName("findByIdOrElseThrowBadRequestException throws BadRequestException when table is not found")
     void findByIdOrElseThrowBadRequestException_ThrowsBadRequestException_WhenTableIsNotFound() {
@@ -248,4 +286,34 @@ class TableServiceTest {
                 .isThrownBy(() -> tableService.save(TablePostRequestBodyCreator.createTablePostRequestBodyToBeSave()));
     }
 
+    @Test
+    @DisplayName("delete schedules job when table is in more requests than the threshold")
+    void delete_SchedulesJob_WhenTableIsInMoreRequestsThanTheThreshold() {
+        UUID targetUUID = UUID.randomUUID();
+
+        Job expectedJob = JobCreator.createValidJob();
+
+        BDDMockito
+                .when(jobPropertiesMock.getAsyncThreshold())
+                .thenReturn(100L);
+
+        BDDMockito
+                .when(clientRequestRepository.countByTableUuid(targetUUID))
+                .thenReturn(101L);
+
+        BDDMockito
+                .when(jobServiceMock.schedule(JobType.DELETE_TABLE, targetUUID, 101L))
+                .thenReturn(expectedJob);
+
+        Optional<Job> jobScheduled = tableService.delete(targetUUID);
+
+        assertThat(jobScheduled)
+                .isPresent()
+                .contains(expectedJob);
+
+        BDDMockito
+                .verify(clientRequestRepository, Mockito.never())
+                .removeTableFromRequests(targetUUID);
+    }
+
 }
@@ -0,0 +1,105 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestDrinkCount;
+import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestEventType;
+import com.github.skyg0d.skydrinksapi.enums.TrendingWindow;
+import com.github.skyg0d.skydrinksapi.property.TrendingProperties;
+import com.github.skyg0d.skydrinksapi.repository.drink.DrinkRepository;
+import com.github.skyg0d.skydrinksapi.socket.broker.MessageBroadcaster;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEvent;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestSummary;
+import com.github.skyg0d.skydrinksapi.socket.domain.TrendingDrinksMessage;
+import com.github.skyg0d.skydrinksapi.util.drink.DrinkCreator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for TrendingDrinksService")
+class TrendingDrinksServiceTest {
+
+    private TrendingDrinksService trendingDrinksService;
+
+    @Mock
+    private MessageBroadcaster messageBroadcasterMock;
+
+    @Mock
+    private DrinkRepository drinkRepositoryMock;
+
+    @BeforeEach
+    void setUp() {
+        trendingDrinksService = new TrendingDrinksService(new TrendingProperties(), messageBroadcasterMock, drinkRepositoryMock);
+
+        BDDMockito
+                .when(drinkRepositoryMock.findAllById(ArgumentMatchers.anyIterable()))
+                .thenReturn(List.of(DrinkCreator.createValidDrink()));
+    }
+
+    @Test
+    @DisplayName("record counts requested drinks of created events when successful")
+    void record_CountsRequestedDrinksOfCreatedEvents_WhenSuccessful() {
+        Drink drink = DrinkCreator.createValidDrink();
+
+        trendingDrinksService.record(createEvent(ClientRequestEventType.CREATED, drink));
+        trendingDrinksService.record(createEvent(ClientRequestEventType.CREATED, drink));
+
+        List<ClientRequestDrinkCount> trendingDrinks = trendingDrinksService.getTrendingDrinks(TrendingWindow.LAST_HOUR, 10);
+
+        assertThat(trendingDrinks)
+                .hasSize(1)
+                .first()
+                .isEqualTo(new ClientRequestDrinkCount(drink.getUuid(), drink.getName(), 2));
+    }
+
+    @Test
+    @DisplayName("record discounts drinks of canceled events when successful")
+    void record_DiscountsDrinksOfCanceledEvents_WhenSuccessful() {
+        Drink drink = DrinkCreator.createValidDrink();
+
+        trendingDrinksService.record(createEvent(ClientRequestEventType.CREATED, drink));
+        trendingDrinksService.record(createEvent(ClientRequestEventType.CREATED, drink));
+        trendingDrinksService.record(createEvent(ClientRequestEventType.CANCELED, drink));
+        trendingDrinksService.record(createEvent(ClientRequestEventType.STARTED, drink));
+
+        assertThat(trendingDrinksService.getTrendingDrinks(TrendingWindow.LAST_HOUR, 10))
+                .extracting(ClientRequestDrinkCount::getTotal)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("sendTrendingDrinks sends trending drinks through broadcaster when successful")
+    void sendTrendingDrinks_SendsTrendingDrinksThroughBroadcaster_WhenSuccessful() {
+        trendingDrinksService.record(createEvent(ClientRequestEventType.CREATED, DrinkCreator.createValidDrink()));
+
+        trendingDrinksService.sendTrendingDrinks();
+
+        Mockito
+                .verify(messageBroadcasterMock)
+                .convertAndSend(ArgumentMatchers.eq("/topic/trending-drinks"), ArgumentMatchers.any(TrendingDrinksMessage.class));
+    }
+
+    private ClientRequestEvent createEvent(ClientRequestEventType type, Drink drink) {
+        return ClientRequestEvent
+                .builder()
+                .type(type)
+                .request(ClientRequestSummary
+                        .builder()
+                        .drinks(List.of(drink.getUuid()))
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .build();
+    }
+
+}
@@ -0,0 +1,224 @@
+package com.github.skyg0d.skydrinksapi.service;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequestDrinkCount;
+import com.github.skyg0d.skydrinksapi.domain.Drink;
+import com.github.skyg0d.skydrinksapi.domain.UserStatistics;
+import com.github.skyg0d.skydrinksapi.domain.UserStatisticsCheck;
+import com.github.skyg0d.skydrinksapi.property.UserStatisticsProperties;
+import com.github.skyg0d.skydrinksapi.repository.archive.ArchivedClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.repository.request.ClientRequestRepository;
+import com.github.skyg0d.skydrinksapi.util.drink.DrinkCreator;
+import com.github.skyg0d.skydrinksapi.util.request.ClientRequestAlcoholicDrinkCountCreator;
+import com.github.skyg0d.skydrinksapi.util.request.ClientRequestDrinkCountCreator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for UserStatisticsService")
+class UserStatisticsServiceTest {
+
+    private UserStatisticsService userStatisticsService;
+
+    @Mock
+    private ClientRequestRepository clientRequestRepositoryMock;
+
+    @Mock
+    private ArchivedClientRequestRepository archivedClientRequestRepositoryMock;
+
+    @BeforeEach
+    void setUp() {
+        UserStatisticsProperties properties = new UserStatisticsProperties();
+        properties.setCacheSize(1);
+
+        userStatisticsService = new UserStatisticsService(clientRequestRepositoryMock, archivedClientRequestRepositoryMock, properties);
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.countTotalDrinksInRequest(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(List.of(ClientRequestDrinkCountCreator.createClientRequestDrinkCount()));
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.countAlcoholicDrinksInRequests(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(List.of(ClientRequestAlcoholicDrinkCountCreator.createClientRequestNotAlcoholicDrinkCount()));
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.sumTotalSpentByUser(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(62.5);
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.countByUserUuid(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(10L);
+    }
+
+    @Test
+    @DisplayName("getStatistics returns statistics of live aggregates when user is not cached")
+    void getStatistics_ReturnsStatisticsOfLiveAggregates_WhenUserIsNotCached() {
+        ClientRequestDrinkCount expectedDrinkCount = ClientRequestDrinkCountCreator.createClientRequestDrinkCount();
+
+        UserStatistics statistics = userStatisticsService.getStatistics(UUID.randomUUID());
+
+        assertThat(statistics.getDrinks()).containsExactly(expectedDrinkCount);
+
+        assertThat(statistics.getTotalSpent()).isEqualTo(62.5);
+
+        assertThat(statistics.getTotalRequests()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("getStatistics does not query the database when user is cached")
+    void getStatistics_DoesNotQueryTheDatabase_WhenUserIsCached() {
+        UUID userUUID = UUID.randomUUID();
+
+        userStatisticsService.getStatistics(userUUID);
+        userStatisticsService.getStatistics(userUUID);
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(1))
+                .countByUserUuid(userUUID);
+    }
+
+    @Test
+    @DisplayName("getStatistics queries the database again when user was evicted by least recently used")
+    void getStatistics_QueriesTheDatabaseAgain_WhenUserWasEvictedByLeastRecentlyUsed() {
+        UUID userUUID = UUID.randomUUID();
+
+        userStatisticsService.getStatistics(userUUID);
+        userStatisticsService.getStatistics(UUID.randomUUID());
+        userStatisticsService.getStatistics(userUUID);
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(2))
+                .countByUserUuid(userUUID);
+    }
+
+    @Test
+    @DisplayName("getStatistics does not cache statistics when a committed request was not applied yet")
+    void getStatistics_DoesNotCacheStatistics_WhenACommittedRequestWasNotAppliedYet() {
+        UUID userUUID = UUID.randomUUID();
+        Drink drink = DrinkCreator.createValidDrink();
+
+        userStatisticsService.requestChanging(userUUID);
+        userStatisticsService.getStatistics(userUUID);
+        userStatisticsService.requestAdded(userUUID, List.of(drink), drink.getPrice());
+
+        UserStatistics statistics = userStatisticsService.getStatistics(userUUID);
+
+        assertThat(statistics.getTotalRequests()).isEqualTo(10);
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(2))
+                .countByUserUuid(userUUID);
+    }
+
+    @Test
+    @DisplayName("evictAfterCommit keeps user cached until the transaction commits when successful")
+    void evictAfterCommit_KeepsUserCachedUntilTheTransactionCommits_WhenSuccessful() {
+        UUID userUUID = UUID.randomUUID();
+
+        userStatisticsService.getStatistics(userUUID);
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            userStatisticsService.evictAfterCommit(userUUID);
+            userStatisticsService.getStatistics(userUUID);
+
+            BDDMockito
+                    .verify(clientRequestRepositoryMock, Mockito.times(1))
+                    .countByUserUuid(userUUID);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        userStatisticsService.getStatistics(userUUID);
+
+        BDDMockito
+                .verify(clientRequestRepositoryMock, Mockito.times(2))
+                .countByUserUuid(userUUID);
+    }
+
+    @Test
+    @DisplayName("requestAdded updates cached statistics incrementally when successful")
+    void requestAdded_UpdatesCachedStatisticsIncrementally_WhenSuccessful() {
+        UUID userUUID = UUID.randomUUID();
+        Drink drink = DrinkCreator.createValidDrink();
+
+        userStatisticsService.getStatistics(userUUID);
+        userStatisticsService.requestAdded(userUUID, List.of(drink, drink), drink.getPrice() * 2);
+
+        UserStatistics statistics = userStatisticsService.getStatistics(userUUID);
+
+        assertThat(statistics.getTotalRequests()).isEqualTo(11);
+
+        assertThat(statistics.getTotalSpent()).isEqualTo(62.5 + drink.getPrice() * 2);
+
+        assertThat(statistics.getDrinks().get(0).getTotal()).isEqualTo(12);
+
+        assertThat(statistics.getAlcoholic().get(0).getTotal()).isEqualTo(17);
+    }
+
+    @Test
+    @DisplayName("requestRemoved removes drink from cached statistics when its total reaches zero")
+    void requestRemoved_RemovesDrinkFromCachedStatistics_WhenItsTotalReachesZero() {
+        UUID userUUID = UUID.randomUUID();
+        Drink drink = DrinkCreator.createValidDrink();
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.countTotalDrinksInRequest(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(List.of(new ClientRequestDrinkCount(drink.getUuid(), drink.getName(), 1)));
+
+        userStatisticsService.getStatistics(userUUID);
+        userStatisticsService.requestRemoved(userUUID, List.of(drink), drink.getPrice());
+
+        assertThat(userStatisticsService.getTopFiveDrinks(userUUID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("checkConsistency returns consistent check when cache matches live aggregates")
+    void checkConsistency_ReturnsConsistentCheck_WhenCacheMatchesLiveAggregates() {
+        UUID userUUID = UUID.randomUUID();
+
+        userStatisticsService.getStatistics(userUUID);
+
+        UserStatisticsCheck check = userStatisticsService.checkConsistency(userUUID);
+
+        assertThat(check.isConsistent()).isTrue();
+
+        assertThat(check.getCached()).isEqualTo(check.getLive());
+    }
+
+    @Test
+    @DisplayName("checkConsistency returns inconsistent check and evicts user when cache diverges from live aggregates")
+    void checkConsistency_ReturnsInconsistentCheckAndEvictsUser_WhenCacheDivergesFromLiveAggregates() {
+        UUID userUUID = UUID.randomUUID();
+
+        userStatisticsService.getStatistics(userUUID);
+
+        BDDMockito
+                .when(clientRequestRepositoryMock.countByUserUuid(ArgumentMatchers.any(UUID.class)))
+                .thenReturn(11L);
+
+        UserStatisticsCheck check = userStatisticsService.checkConsistency(userUUID);
+
+        assertThat(check.isConsistent()).isFalse();
+
+        assertThat(userStatisticsService.getStatistics(userUUID).getTotalRequests()).isEqualTo(11);
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.github.skyg0d.skydrinksapi.socket.broker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.skyg0d.skydrinksapi.domain.BroadcastMessage;
+import com.github.skyg0d.skydrinksapi.property.BrokerProperties;
+import com.github.skyg0d.skydrinksapi.repository.broker.BroadcastMessageRepository;
+import com.github.skyg0d.skydrinksapi.socket.domain.SocketMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for DatabaseMessageBroadcaster")
+class DatabaseMessageBroadcasterTest {
+
+    private DatabaseMessageBroadcaster databaseMessageBroadcaster;
+
+    @Mock
+    private SimpMessagingTemplate templateMock;
+
+    @Mock
+    private BroadcastMessageRepository broadcastMessageRepositoryMock;
+
+    @BeforeEach
+    void setUp() {
+        databaseMessageBroadcaster = new DatabaseMessageBroadcaster(templateMock, broadcastMessageRepositoryMock, new ObjectMapper(), new BrokerProperties());
+
+        BDDMockito
+                .when(broadcastMessageRepositoryMock.findMaxId())
+                .thenReturn(Optional.of(10L));
+    }
+
+    @Test
+    @DisplayName("convertAndSend delivers locally and stores message for other nodes when successful")
+    void convertAndSend_DeliversLocallyAndStoresMessageForOtherNodes_WhenSuccessful() {
+        SocketMessage payload = new SocketMessage("requests-changed");
+
+        databaseMessageBroadcaster.convertAndSend("/topic/staff/request-events", payload);
+
+        Mockito
+                .verify(templateMock)
+                .convertAndSend("/topic/staff/request-events", payload);
+
+        ArgumentCaptor<BroadcastMessage> captor = ArgumentCaptor.forClass(BroadcastMessage.class);
+
+        Mockito
+                .verify(broadcastMessageRepositoryMock)
+                .save(captor.capture());
+
+        assertThat(captor.getValue().getPayload()).isEqualTo("{\"message\":\"requests-changed\"}");
+        assertThat(captor.getValue().getNode()).isEqualTo(databaseMessageBroadcaster.getNode());
+    }
+
+    @Test
+    @DisplayName("poll delivers messages of other nodes only once and pages after the last id when successful")
+    void poll_DeliversMessagesOfOtherNodesOnlyOnceAndPagesAfterTheLastId_WhenSuccessful() {
+        BroadcastMessage otherNode = createBroadcastMessage(11L, "other-node");
+        BroadcastMessage sameNode = createBroadcastMessage(12L, databaseMessageBroadcaster.getNode());
+
+        BDDMockito
+                .when(broadcastMessageRepositoryMock.findAfter(ArgumentMatchers.eq(10L), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(List.of(otherNode, sameNode));
+
+        databaseMessageBroadcaster.poll();
+        databaseMessageBroadcaster.poll();
+
+        Mockito
+                .verify(templateMock, Mockito.times(1))
+                .convertAndSend(ArgumentMatchers.eq("/topic/request-changed/user@mail.com"), ArgumentMatchers.any(JsonNode.class));
+
+        Mockito
+                .verify(broadcastMessageRepositoryMock)
+                .findAfter(ArgumentMatchers.eq(12L), ArgumentMatchers.any(Pageable.class));
+
+        Mockito
+                .verify(broadcastMessageRepositoryMock, Mockito.never())
+                .findByIds(ArgumentMatchers.anyCollection());
+    }
+
+    @Test
+    @DisplayName("poll reads again only the missing ids below the cursor when a lower id is committed later")
+    void poll_ReadsAgainOnlyTheMissingIdsBelowTheCursor_WhenALowerIdIsCommittedLater() {
+        BroadcastMessage committedFirst = createBroadcastMessage(13L, "other-node");
+        BroadcastMessage committedLater = createBroadcastMessage(12L, "other-node");
+
+        BDDMockito
+                .when(broadcastMessageRepositoryMock.findAfter(ArgumentMatchers.eq(10L), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(List.of(committedFirst));
+
+        BDDMockito
+                .when(broadcastMessageRepositoryMock.findByIds(List.of(11L, 12L)))
+                .thenReturn(List.of(committedLater));
+
+        databaseMessageBroadcaster.poll();
+        databaseMessageBroadcaster.poll();
+        databaseMessageBroadcaster.poll();
+
+        Mockito
+                .verify(templateMock, Mockito.times(2))
+                .convertAndSend(ArgumentMatchers.eq("/topic/request-changed/user@mail.com"), ArgumentMatchers.any(JsonNode.class));
+
+        Mockito
+                .verify(broadcastMessageRepositoryMock)
+                .findByIds(List.of(11L));
+    }
+
+    private BroadcastMessage createBroadcastMessage(long id, String node) {
+        return BroadcastMessage
+                .builder()
+                .id(id)
+                .destination("/topic/request-changed/user@mail.com")
+                .payload("{\"message\":\"STARTED\"}")
+                .node(node)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+}
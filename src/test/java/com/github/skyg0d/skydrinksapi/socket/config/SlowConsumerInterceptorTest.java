@@ -0,0 +1,120 @@
+package com.github.skyg0d.skydrinksapi.socket.config;
+
+import com.github.skyg0d.skydrinksapi.property.WebSocketProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for SlowConsumerInterceptor")
+class SlowConsumerInterceptorTest {
+
+    private final MessageChannel channel = Mockito.mock(MessageChannel.class);
+    private final MessageHandler handler = Mockito.mock(MessageHandler.class);
+
+    private SlowConsumerInterceptor slowConsumerInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        WebSocketProperties webSocketProperties = new WebSocketProperties();
+
+        webSocketProperties.setMaxQueuedPerSession(2);
+        webSocketProperties.setConflatedDestinations(List.of("/topic/trending-drinks"));
+
+        slowConsumerInterceptor = new SlowConsumerInterceptor(webSocketProperties);
+
+        connect("session-1");
+        connect("session-2");
+    }
+
+    @Test
+    @DisplayName("preSend drops message when session queue is full")
+    void preSend_DropsMessage_WhenSessionQueueIsFull() {
+        assertThat(slowConsumerInterceptor.preSend(createMessage("session-1", "/topic/request-changed/user@mail.com"), channel)).isNotNull();
+        assertThat(slowConsumerInterceptor.preSend(createMessage("session-1", "/topic/request-changed/user@mail.com"), channel)).isNotNull();
+        assertThat(slowConsumerInterceptor.preSend(createMessage("session-1", "/topic/request-changed/user@mail.com"), channel)).isNull();
+
+        assertThat(slowConsumerInterceptor.preSend(createMessage("session-2", "/topic/request-changed/user@mail.com"), channel)).isNotNull();
+
+        assertThat(slowConsumerInterceptor.getDroppedFrames()).isEqualTo(1);
+        assertThat(slowConsumerInterceptor.getQueuedFrames()).isEqualTo(3);
+        assertThat(slowConsumerInterceptor.getSessions()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("beforeHandle skips older message when a newer one is queued for a conflated destination")
+    void beforeHandle_SkipsOlderMessage_WhenANewerOneIsQueuedForAConflatedDestination() {
+        Message<?> older = slowConsumerInterceptor.preSend(createMessage("session-1", "/topic/trending-drinks"), channel);
+        Message<?> newer = slowConsumerInterceptor.preSend(createMessage("session-1", "/topic/trending-drinks"), channel);
+
+        assertThat(slowConsumerInterceptor.beforeHandle(older, channel, handler)).isNull();
+        assertThat(slowConsumerInterceptor.beforeHandle(newer, channel, handler)).isSameAs(newer);
+
+        slowConsumerInterceptor.afterMessageHandled(newer, channel, handler, null);
+
+        assertThat(slowConsumerInterceptor.getConflatedFrames()).isEqualTo(1);
+        assertThat(slowConsumerInterceptor.getQueuedFrames()).isZero();
+    }
+
+    @Test
+    @DisplayName("beforeHandle sends every message when destination is not conflated")
+    void beforeHandle_SendsEveryMessage_WhenDestinationIsNotConflated() {
+        Message<?> first = slowConsumerInterceptor.preSend(createMessage("session-1", "/topic/staff/request-events"), channel);
+        Message<?> second = slowConsumerInterceptor.preSend(createMessage("session-1", "/topic/staff/request-events"), channel);
+
+        assertThat(slowConsumerInterceptor.beforeHandle(first, channel, handler)).isSameAs(first);
+        assertThat(slowConsumerInterceptor.beforeHandle(second, channel, handler)).isSameAs(second);
+
+        assertThat(slowConsumerInterceptor.getConflatedFrames()).isZero();
+    }
+
+    @Test
+    @DisplayName("afterSendCompletion frees the slot and keeps older messages when the executor rejected the message")
+    void afterSendCompletion_FreesTheSlotAndKeepsOlderMessages_WhenTheExecutorRejectedTheMessage() {
+        Message<?> older = slowConsumerInterceptor.preSend(createMessage("session-1", "/topic/trending-drinks"), channel);
+        Message<?> rejected = slowConsumerInterceptor.preSend(createMessage("session-1", "/topic/trending-drinks"), channel);
+
+        slowConsumerInterceptor.afterSendCompletion(rejected, channel, false, new IllegalStateException("Executor cheio"));
+
+        assertThat(slowConsumerInterceptor.getQueuedFrames()).isEqualTo(1);
+        assertThat(slowConsumerInterceptor.beforeHandle(older, channel, handler)).isSameAs(older);
+
+        slowConsumerInterceptor.afterMessageHandled(older, channel, handler, null);
+
+        assertThat(slowConsumerInterceptor.getQueuedFrames()).isZero();
+    }
+
+    @Test
+    @DisplayName("preSend does not track session when it is not connected")
+    void preSend_DoesNotTrackSession_WhenItIsNotConnected() {
+        assertThat(slowConsumerInterceptor.preSend(createMessage("session-3", "/topic/trending-drinks"), channel)).isNotNull();
+
+        assertThat(slowConsumerInterceptor.getSessions()).isEqualTo(2);
+        assertThat(slowConsumerInterceptor.getQueuedFrames()).isZero();
+    }
+
+    private void connect(String sessionId) {
+        slowConsumerInterceptor.onConnected(new SessionConnectedEvent(this, createMessage(sessionId, "/")));
+    }
+
+    private Message<byte[]> createMessage(String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+}
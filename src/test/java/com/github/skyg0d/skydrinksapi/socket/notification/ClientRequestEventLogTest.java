@@ -0,0 +1,203 @@
+package com.github.skyg0d.skydrinksapi.socket.notification;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestEventType;
+import com.github.skyg0d.skydrinksapi.property.WebSocketProperties;
+import com.github.skyg0d.skydrinksapi.socket.broker.InMemoryClientRequestEventStore;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEvent;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEventsResync;
+import com.github.skyg0d.skydrinksapi.util.request.ClientRequestCreator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for ClientRequestEventLog")
+class ClientRequestEventLogTest {
+
+    private ClientRequestEventLog clientRequestEventLog;
+
+    private InMemoryClientRequestEventStore clientRequestEventStore;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcherMock;
+
+    @Mock
+    private WebSocketProperties webSocketPropertiesMock;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisherMock;
+
+    @BeforeEach
+    void setUp() {
+        BDDMockito
+                .when(webSocketPropertiesMock.getEventLogCapacity())
+                .thenReturn(3);
+
+        BDDMockito
+                .when(webSocketPropertiesMock.getLongPollTimeout())
+                .thenReturn(30000L);
+
+        clientRequestEventStore = new InMemoryClientRequestEventStore(webSocketPropertiesMock);
+        clientRequestEventLog = createNode();
+    }
+
+    @Test
+    @DisplayName("publish sends event with request summary and next sequence when successful")
+    void publish_SendsEventWithRequestSummaryAndNextSequence_WhenSuccessful() {
+        ClientRequest request = ClientRequestCreator.createClientRequestStarted();
+
+        ClientRequestEvent first = clientRequestEventLog.publish(ClientRequestEventType.STARTED, request);
+        ClientRequestEvent second = clientRequestEventLog.publishDeleted(request.getUuid());
+
+        assertThat(first.getSequence()).isEqualTo(1);
+        assertThat(first.getStatus()).isEqualTo(request.getStatus());
+        assertThat(first.getRequest()).isNotNull();
+        assertThat(first.getRequest().getUserUuid()).isEqualTo(request.getUser().getUuid());
+        assertThat(first.getRequest().getTotalPrice()).isEqualTo(request.getTotalPrice());
+
+        assertThat(second.getSequence()).isEqualTo(2);
+        assertThat(second.getType()).isEqualTo(ClientRequestEventType.DELETED);
+        assertThat(second.getRequest()).isNull();
+
+        Mockito
+                .verify(notificationDispatcherMock, Mockito.times(2))
+                .publishStaffEvent(ArgumentMatchers.any(ClientRequestEvent.class));
+    }
+
+    @Test
+    @DisplayName("findAfter returns only missed events when they are still in the log")
+    void findAfter_ReturnsOnlyMissedEvents_WhenTheyAreStillInTheLog() {
+        for (int i = 0; i < 3; i++) {
+            clientRequestEventLog.publishDeleted(UUID.randomUUID());
+        }
+
+        ClientRequestEventsResync resync = clientRequestEventLog.findAfter(1);
+
+        assertThat(resync.isResyncRequired()).isFalse();
+        assertThat(resync.getLatestSequence()).isEqualTo(3);
+        assertThat(resync.getEvents())
+                .extracting(ClientRequestEvent::getSequence)
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("findAfter requires resync when missed events were discarded")
+    void findAfter_RequiresResync_WhenMissedEventsWereDiscarded() {
+        for (int i = 0; i < 5; i++) {
+            clientRequestEventLog.publishDeleted(UUID.randomUUID());
+        }
+
+        ClientRequestEventsResync resync = clientRequestEventLog.findAfter(1);
+
+        assertThat(resync.isResyncRequired()).isTrue();
+        assertThat(resync.getLatestSequence()).isEqualTo(5);
+        assertThat(resync.getEvents()).isEmpty();
+
+        assertThat(clientRequestEventLog.findAfter(2).isResyncRequired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("findAfter requires resync when sequence is ahead of the log")
+    void findAfter_RequiresResync_WhenSequenceIsAheadOfTheLog() {
+        clientRequestEventLog.publishDeleted(UUID.randomUUID());
+
+        ClientRequestEventsResync resync = clientRequestEventLog.findAfter(40);
+
+        assertThat(resync.isResyncRequired()).isTrue();
+        assertThat(resync.getLatestSequence()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("waitAfter returns missed events immediately when there are newer events")
+    void waitAfter_ReturnsMissedEventsImmediately_WhenThereAreNewerEvents() {
+        clientRequestEventLog.publishDeleted(UUID.randomUUID());
+
+        DeferredResult<ClientRequestEventsResync> result = clientRequestEventLog.waitAfter(0);
+
+        assertThat(result.hasResult()).isTrue();
+        assertThat(((ClientRequestEventsResync) result.getResult()).getEvents()).hasSize(1);
+        assertThat(clientRequestEventLog.getWaiters()).isZero();
+    }
+
+    @Test
+    @DisplayName("waitAfter parks request until the next event when there are no newer events")
+    void waitAfter_ParksRequestUntilTheNextEvent_WhenThereAreNoNewerEvents() {
+        clientRequestEventLog.publishDeleted(UUID.randomUUID());
+
+        DeferredResult<ClientRequestEventsResync> result = clientRequestEventLog.waitAfter(1);
+
+        assertThat(result.hasResult()).isFalse();
+        assertThat(clientRequestEventLog.getWaiters()).isEqualTo(1);
+
+        clientRequestEventLog.publishDeleted(UUID.randomUUID());
+
+        assertThat(result.hasResult()).isTrue();
+        assertThat(((ClientRequestEventsResync) result.getResult()).getEvents())
+                .extracting(ClientRequestEvent::getSequence)
+                .containsExactly(2L);
+        assertThat(clientRequestEventLog.getWaiters()).isZero();
+    }
+
+    @Test
+    @DisplayName("findAfter returns events of every node with a single sequence when the store is shared")
+    void findAfter_ReturnsEventsOfEveryNodeWithASingleSequence_WhenTheStoreIsShared() {
+        ClientRequestEventLog otherNode = createNode();
+
+        otherNode.catchUp();
+
+        ClientRequestEvent first = clientRequestEventLog.publishDeleted(UUID.randomUUID());
+        ClientRequestEvent second = otherNode.publishDeleted(UUID.randomUUID());
+
+        assertThat(first.getSequence()).isEqualTo(1);
+        assertThat(second.getSequence()).isEqualTo(2);
+
+        assertThat(clientRequestEventLog.findAfter(0).getEvents())
+                .extracting(ClientRequestEvent::getSequence)
+                .containsExactly(1L, 2L);
+
+        assertThat(otherNode.findAfter(0).getEvents())
+                .extracting(ClientRequestEvent::getSequence)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("catchUp republishes events of other nodes once and releases waiters when successful")
+    void catchUp_RepublishesEventsOfOtherNodesOnceAndReleasesWaiters_WhenSuccessful() {
+        ClientRequestEventLog otherNode = createNode();
+
+        clientRequestEventLog.catchUp();
+        otherNode.catchUp();
+
+        DeferredResult<ClientRequestEventsResync> result = clientRequestEventLog.waitAfter(0);
+
+        ClientRequestEvent event = otherNode.publishDeleted(UUID.randomUUID());
+
+        clientRequestEventLog.catchUp();
+        clientRequestEventLog.catchUp();
+
+        assertThat(result.hasResult()).isTrue();
+
+        Mockito
+                .verify(eventPublisherMock, Mockito.times(2))
+                .publishEvent(event);
+
+        Mockito
+                .verify(notificationDispatcherMock, Mockito.times(1))
+                .publishStaffEvent(event);
+    }
+
+    private ClientRequestEventLog createNode() {
+        return new ClientRequestEventLog(clientRequestEventStore, notificationDispatcherMock, webSocketPropertiesMock, eventPublisherMock);
+    }
+
+}
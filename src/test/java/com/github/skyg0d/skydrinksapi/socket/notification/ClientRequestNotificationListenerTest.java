@@ -0,0 +1,108 @@
+package com.github.skyg0d.skydrinksapi.socket.notification;
+
+import com.github.skyg0d.skydrinksapi.domain.ClientRequest;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestEventType;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestCreatedEvent;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestDeletedEvent;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestDeliveredEvent;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestStatusChangedEvent;
+import com.github.skyg0d.skydrinksapi.event.ClientRequestsRemovedEvent;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestStatusChanged;
+import com.github.skyg0d.skydrinksapi.util.request.ClientRequestCreator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for ClientRequestNotificationListener")
+class ClientRequestNotificationListenerTest {
+
+    @InjectMocks
+    private ClientRequestNotificationListener clientRequestNotificationListener;
+
+    @Mock
+    private ClientRequestEventLog clientRequestEventLogMock;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcherMock;
+
+    @Test
+    @DisplayName("onCreated publishes created event to staff when successful")
+    void onCreated_PublishesCreatedEventToStaff_WhenSuccessful() {
+        ClientRequest request = ClientRequestCreator.createValidClientRequest();
+
+        clientRequestNotificationListener.onCreated(new ClientRequestCreatedEvent(request, request.getDrinks(), 0));
+
+        Mockito
+                .verify(clientRequestEventLogMock)
+                .publish(ClientRequestEventType.CREATED, request);
+
+        Mockito.verifyNoInteractions(notificationDispatcherMock);
+    }
+
+    @Test
+    @DisplayName("onStatusChanged notifies staff and request owner without querying the request again")
+    void onStatusChanged_NotifiesStaffAndRequestOwner_WithoutQueryingTheRequestAgain() {
+        ClientRequest request = ClientRequestCreator.createClientRequestStarted();
+
+        clientRequestNotificationListener.onStatusChanged(new ClientRequestStatusChangedEvent(request, request.getDrinks(), ClientRequestStatus.PROCESSING, 0, 0, request.getCreatedAt()));
+
+        Mockito
+                .verify(clientRequestEventLogMock)
+                .publish(ClientRequestEventType.STARTED, request);
+
+        Mockito
+                .verify(notificationDispatcherMock)
+                .send(ArgumentMatchers.eq("/topic/request-changed/" + request.getUser().getEmail()), ArgumentMatchers.any(ClientRequestStatusChanged.class));
+    }
+
+    @Test
+    @DisplayName("onDelivered notifies request owner with delivered message when successful")
+    void onDelivered_NotifiesRequestOwnerWithDeliveredMessage_WhenSuccessful() {
+        ClientRequest request = ClientRequestCreator.createClientRequestDelivered();
+
+        clientRequestNotificationListener.onDelivered(new ClientRequestDeliveredEvent(request, 0, 0, request.getCreatedAt()));
+
+        Mockito
+                .verify(notificationDispatcherMock)
+                .send(ArgumentMatchers.anyString(), ArgumentMatchers.<ClientRequestStatusChanged>argThat((message) -> message.getMessage().equals("DELIVERED")));
+    }
+
+    @Test
+    @DisplayName("onDeleted publishes deleted event to staff when successful")
+    void onDeleted_PublishesDeletedEventToStaff_WhenSuccessful() {
+        ClientRequest request = ClientRequestCreator.createValidClientRequest();
+
+        clientRequestNotificationListener.onDeleted(new ClientRequestDeletedEvent(request.getUuid(), request.getUser().getUuid(), request.getDrinks(), 0));
+
+        Mockito
+                .verify(clientRequestEventLogMock)
+                .publishDeleted(request.getUuid());
+    }
+
+    @Test
+    @DisplayName("onRemoved publishes deleted event of each removed request to staff when successful")
+    void onRemoved_PublishesDeletedEventOfEachRemovedRequestToStaff_WhenSuccessful() {
+        List<UUID> requests = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        clientRequestNotificationListener.onRemoved(new ClientRequestsRemovedEvent(requests));
+
+        Mockito
+                .verify(clientRequestEventLogMock)
+                .publishDeleted(requests.get(0));
+
+        Mockito
+                .verify(clientRequestEventLogMock)
+                .publishDeleted(requests.get(1));
+    }
+
+}
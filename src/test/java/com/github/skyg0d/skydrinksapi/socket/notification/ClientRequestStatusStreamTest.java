@@ -0,0 +1,194 @@
+package com.github.skyg0d.skydrinksapi.socket.notification;
+
+import com.github.skyg0d.skydrinksapi.domain.ApplicationUser;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestEventType;
+import com.github.skyg0d.skydrinksapi.property.SseProperties;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEvent;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEventsResync;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestSummary;
+import com.github.skyg0d.skydrinksapi.util.user.ApplicationUserCreator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for ClientRequestStatusStream")
+class ClientRequestStatusStreamTest {
+
+    private final ClientRequestEventLog clientRequestEventLogMock = Mockito.mock(ClientRequestEventLog.class);
+    private final SseProperties sseProperties = new SseProperties();
+
+    private final SseEmitter firstEmitter = Mockito.mock(SseEmitter.class);
+    private final SseEmitter secondEmitter = Mockito.mock(SseEmitter.class);
+
+    private ClientRequestStatusStream clientRequestStatusStream;
+
+    @BeforeEach
+    void setUp() {
+        clientRequestStatusStream = Mockito.spy(new ClientRequestStatusStream(clientRequestEventLogMock, sseProperties, new SyncTaskExecutor()));
+
+        BDDMockito
+                .doReturn(firstEmitter, secondEmitter)
+                .when(clientRequestStatusStream)
+                .createEmitter();
+
+        BDDMockito
+                .when(clientRequestEventLogMock.getLatestSequence())
+                .thenReturn(4L);
+    }
+
+    @Test
+    @DisplayName("subscribe sends ready event when there is no last event id")
+    void subscribe_SendsReadyEvent_WhenThereIsNoLastEventId() throws IOException {
+        SseEmitter emitter = clientRequestStatusStream.subscribe(ApplicationUserCreator.createValidApplicationUser(), null);
+
+        assertThat(emitter).isSameAs(firstEmitter);
+
+        assertThat(clientRequestStatusStream.getStreams()).isEqualTo(1);
+
+        Mockito
+                .verify(firstEmitter)
+                .send(ArgumentMatchers.any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("subscribe replays only the status events of the user when last event id is informed")
+    void subscribe_ReplaysOnlyTheStatusEventsOfTheUser_WhenLastEventIdIsInformed() throws IOException {
+        ApplicationUser user = ApplicationUserCreator.createValidApplicationUser();
+
+        ClientRequestEventsResync resync = ClientRequestEventsResync
+                .builder()
+                .latestSequence(7)
+                .resyncRequired(false)
+                .events(List.of(
+                        createEvent(5, ClientRequestEventType.CREATED, user.getUuid()),
+                        createEvent(6, ClientRequestEventType.STARTED, user.getUuid()),
+                        createEvent(7, ClientRequestEventType.STARTED, UUID.randomUUID())
+                ))
+                .build();
+
+        BDDMockito
+                .when(clientRequestEventLogMock.findAfter(4))
+                .thenReturn(resync);
+
+        clientRequestStatusStream.subscribe(user, 4L);
+
+        Mockito
+                .verify(firstEmitter, Mockito.times(1))
+                .send(ArgumentMatchers.any(SseEmitter.SseEventBuilder.class));
+
+        clientRequestStatusStream.publish(createEvent(6, ClientRequestEventType.STARTED, user.getUuid()));
+
+        Mockito
+                .verify(firstEmitter, Mockito.times(1))
+                .send(ArgumentMatchers.any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("publish sends event only to the streams of the request owner")
+    void publish_SendsEventOnlyToTheStreamsOfTheRequestOwner() throws IOException {
+        ApplicationUser user = ApplicationUserCreator.createValidApplicationUser();
+        ApplicationUser otherUser = ApplicationUserCreator.createAdminApplicationUser();
+
+        otherUser.setUuid(UUID.randomUUID());
+
+        clientRequestStatusStream.subscribe(user, null);
+        clientRequestStatusStream.subscribe(otherUser, null);
+
+        clientRequestStatusStream.publish(createEvent(5, ClientRequestEventType.FINISHED, user.getUuid()));
+        clientRequestStatusStream.publish(createEvent(5, ClientRequestEventType.FINISHED, user.getUuid()));
+
+        Mockito
+                .verify(firstEmitter, Mockito.times(2))
+                .send(ArgumentMatchers.any(SseEmitter.SseEventBuilder.class));
+
+        Mockito
+                .verify(secondEmitter, Mockito.times(1))
+                .send(ArgumentMatchers.any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("subscribe closes the oldest stream when the user reached the limit")
+    void subscribe_ClosesTheOldestStream_WhenTheUserReachedTheLimit() {
+        ApplicationUser user = ApplicationUserCreator.createValidApplicationUser();
+
+        sseProperties.setMaxStreamsPerUser(1);
+
+        clientRequestStatusStream.subscribe(user, null);
+        clientRequestStatusStream.subscribe(user, null);
+
+        Mockito
+                .verify(firstEmitter)
+                .complete();
+
+        assertThat(clientRequestStatusStream.getStreams()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("heartbeat removes stream when the client is gone")
+    void heartbeat_RemovesStream_WhenTheClientIsGone() throws IOException {
+        clientRequestStatusStream.subscribe(ApplicationUserCreator.createValidApplicationUser(), null);
+
+        BDDMockito
+                .willThrow(new IOException("Broken pipe"))
+                .given(firstEmitter)
+                .send(ArgumentMatchers.any(SseEmitter.SseEventBuilder.class));
+
+        clientRequestStatusStream.heartbeat();
+
+        assertThat(clientRequestStatusStream.getStreams()).isZero();
+    }
+
+    @Test
+    @DisplayName("publish closes the stream when the client fell behind")
+    void publish_ClosesTheStream_WhenTheClientFellBehind() throws IOException {
+        ApplicationUser user = ApplicationUserCreator.createValidApplicationUser();
+
+        sseProperties.setMaxQueuedEvents(1);
+
+        // Um executor que nunca roda os envios, como um cliente que parou de ler.
+        clientRequestStatusStream = Mockito.spy(new ClientRequestStatusStream(clientRequestEventLogMock, sseProperties, (task) -> {
+        }));
+
+        BDDMockito
+                .doReturn(firstEmitter)
+                .when(clientRequestStatusStream)
+                .createEmitter();
+
+        clientRequestStatusStream.subscribe(user, null);
+        clientRequestStatusStream.publish(createEvent(5, ClientRequestEventType.FINISHED, user.getUuid()));
+
+        Mockito
+                .verify(firstEmitter)
+                .complete();
+
+        Mockito
+                .verify(firstEmitter, Mockito.never())
+                .send(ArgumentMatchers.any(SseEmitter.SseEventBuilder.class));
+
+        assertThat(clientRequestStatusStream.getStreams()).isZero();
+    }
+
+    private ClientRequestEvent createEvent(long sequence, ClientRequestEventType type, UUID userUuid) {
+        UUID uuid = UUID.randomUUID();
+
+        return ClientRequestEvent
+                .builder()
+                .sequence(sequence)
+                .type(type)
+                .uuid(uuid)
+                .request(ClientRequestSummary.builder().uuid(uuid).userUuid(userUuid).build())
+                .build();
+    }
+
+}
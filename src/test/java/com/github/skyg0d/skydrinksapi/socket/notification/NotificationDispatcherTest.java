@@ -0,0 +1,126 @@
+package com.github.skyg0d.skydrinksapi.socket.notification;
+
+import com.github.skyg0d.skydrinksapi.property.WebSocketProperties;
+import com.github.skyg0d.skydrinksapi.socket.broker.MessageBroadcaster;
+import com.github.skyg0d.skydrinksapi.socket.domain.ClientRequestEvent;
+import com.github.skyg0d.skydrinksapi.socket.domain.NotificationStatistics;
+import com.github.skyg0d.skydrinksapi.socket.domain.SocketMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for NotificationDispatcher")
+class NotificationDispatcherTest {
+
+    @InjectMocks
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private MessageBroadcaster messageBroadcasterMock;
+
+    @Mock
+    private WebSocketProperties webSocketPropertiesMock;
+
+    @Mock
+    private StaffDirectory staffDirectoryMock;
+
+    @BeforeEach
+    void setUp() {
+        // Atraso longo para que só os flush chamados pelo teste enviem mensagens.
+        BDDMockito
+                .when(webSocketPropertiesMock.getSendClientRequestUpdateDelay())
+                .thenReturn(60000L);
+
+        BDDMockito
+                .when(webSocketPropertiesMock.isPerUserStaffNotifications())
+                .thenReturn(false);
+
+        BDDMockito
+                .when(staffDirectoryMock.getStaffEmails())
+                .thenReturn(List.of("waiter@mail.com", "barmen@mail.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationDispatcher.destroy();
+    }
+
+    @Test
+    @DisplayName("publishStaffEvent sends every event to the staff topic when successful")
+    void publishStaffEvent_SendsEveryEventToTheStaffTopic_WhenSuccessful() {
+        for (int i = 1; i <= 3; i++) {
+            notificationDispatcher.publishStaffEvent(ClientRequestEvent.builder().sequence(i).build());
+        }
+
+        Mockito
+                .verify(messageBroadcasterMock, Mockito.times(3))
+                .convertAndSend(ArgumentMatchers.eq(NotificationDispatcher.STAFF_REQUEST_EVENTS), ArgumentMatchers.any(ClientRequestEvent.class));
+
+        Mockito.verifyNoInteractions(staffDirectoryMock);
+
+        NotificationStatistics statistics = notificationDispatcher.getStatistics();
+
+        assertThat(statistics.getRequested()).isEqualTo(3);
+        assertThat(statistics.getCoalesced()).isZero();
+        assertThat(statistics.getSent()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("publishStaffEvent sends a single ping to each staff email when per user notifications are enabled")
+    void publishStaffEvent_SendsASinglePingToEachStaffEmail_WhenPerUserNotificationsAreEnabled() {
+        BDDMockito
+                .when(webSocketPropertiesMock.isPerUserStaffNotifications())
+                .thenReturn(true);
+
+        for (int i = 1; i <= 50; i++) {
+            notificationDispatcher.publishStaffEvent(ClientRequestEvent.builder().sequence(i).build());
+        }
+
+        notificationDispatcher.flush(NotificationDispatcher.LEGACY_STAFF_DESTINATION);
+        notificationDispatcher.flush(NotificationDispatcher.LEGACY_STAFF_DESTINATION);
+
+        Mockito
+                .verify(messageBroadcasterMock, Mockito.times(1))
+                .convertAndSend(ArgumentMatchers.eq("/topic/updated/waiter@mail.com"), ArgumentMatchers.any(SocketMessage.class));
+
+        Mockito
+                .verify(messageBroadcasterMock, Mockito.times(1))
+                .convertAndSend(ArgumentMatchers.eq("/topic/updated/barmen@mail.com"), ArgumentMatchers.any(SocketMessage.class));
+
+        Mockito
+                .verify(messageBroadcasterMock, Mockito.never())
+                .convertAndSend(ArgumentMatchers.eq(NotificationDispatcher.LEGACY_STAFF_DESTINATION), ArgumentMatchers.any(Object.class));
+
+        NotificationStatistics statistics = notificationDispatcher.getStatistics();
+
+        assertThat(statistics.getCoalesced()).isEqualTo(49);
+        assertThat(statistics.getSent()).isEqualTo(52);
+    }
+
+    @Test
+    @DisplayName("send counts failure when broker throws exception")
+    void send_CountsFailure_WhenBrokerThrowsException() {
+        BDDMockito
+                .doThrow(new IllegalStateException("broker"))
+                .when(messageBroadcasterMock)
+                .convertAndSend(ArgumentMatchers.anyString(), ArgumentMatchers.any(Object.class));
+
+        notificationDispatcher.send("/topic/request-changed/user@mail.com", new SocketMessage("teste"));
+
+        NotificationStatistics statistics = notificationDispatcher.getStatistics();
+
+        assertThat(statistics.getRequested()).isEqualTo(1);
+        assertThat(statistics.getSent()).isZero();
+        assertThat(statistics.getFailed()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.github.skyg0d.skydrinksapi.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for Time Ordered UUID Strategy")
+class TimeOrderedUuidStrategyTest {
+
+    @Test
+    @DisplayName("generate returns version 7 UUIDs with RFC variant when successful")
+    void generate_ReturnsVersion7UUIDsWithRfcVariant_WhenSuccessful() {
+        UUID uuid = TimeOrderedUuidStrategy.generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+
+        assertThat(uuid.variant()).isEqualTo(2);
+
+        assertThat(TimeOrderedUuidStrategy.INSTANCE.getGeneratedVersion()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("generate returns UUIDs prefixed by the current time when successful")
+    void generate_ReturnsUUIDsPrefixedByTheCurrentTime_WhenSuccessful() {
+        long before = System.currentTimeMillis();
+
+        UUID uuid = TimeOrderedUuidStrategy.generate();
+
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after + 1);
+    }
+
+    @Test
+    @DisplayName("generate returns strictly increasing UUIDs when called sequentially")
+    void generate_ReturnsStrictlyIncreasingUUIDs_WhenCalledSequentially() {
+        UUID previous = TimeOrderedUuidStrategy.generate();
+
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = TimeOrderedUuidStrategy.generate();
+
+            assertThat(current).isGreaterThan(previous);
+
+            assertThat(current.toString()).isGreaterThan(previous.toString());
+
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("generate returns increasing UUIDs when clock goes backwards")
+    void generate_ReturnsIncreasingUUIDs_WhenClockGoesBackwards() {
+        long now = System.currentTimeMillis();
+
+        UUID first = TimeOrderedUuidStrategy.generate(now);
+        UUID second = TimeOrderedUuidStrategy.generate(now - 1000);
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("generate returns unique UUIDs when called concurrently")
+    void generate_ReturnsUniqueUUIDs_WhenCalledConcurrently() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<UUID>>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+
+                    List<UUID> uuids = new ArrayList<>(perThread);
+
+                    for (int j = 0; j < perThread; j++) {
+                        uuids.add(TimeOrderedUuidStrategy.generate());
+                    }
+
+                    return uuids;
+                }));
+            }
+
+            start.countDown();
+
+            Set<UUID> unique = new HashSet<>();
+
+            for (Future<List<UUID>> future : futures) {
+                List<UUID> uuids = future.get(30, TimeUnit.SECONDS);
+
+                for (int i = 1; i < uuids.size(); i++) {
+                    assertThat(uuids.get(i)).isGreaterThan(uuids.get(i - 1));
+                }
+
+                unique.addAll(uuids);
+            }
+
+            assertThat(unique).hasSize(threads * perThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.github.skyg0d.skydrinksapi.util.job;
+
+import com.github.skyg0d.skydrinksapi.domain.Job;
+import com.github.skyg0d.skydrinksapi.enums.JobStatus;
+import com.github.skyg0d.skydrinksapi.enums.JobType;
+import com.github.skyg0d.skydrinksapi.util.drink.DrinkCreator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class JobCreator {
+
+    public static final UUID uuid = UUID.fromString("0190f3c2-8a4b-7c1d-9e2f-3a4b5c6d7e8f");
+
+    public static Job createJobToBeSave() {
+        return Job
+                .builder()
+                .type(JobType.DELETE_DRINK)
+                .status(JobStatus.PENDING)
+                .targetUuid(DrinkCreator.uuid)
+                .totalItems(12000)
+                .build();
+    }
+
+    public static Job createValidJob() {
+        return Job
+                .builder()
+                .uuid(uuid)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .type(JobType.DELETE_DRINK)
+                .status(JobStatus.PENDING)
+                .targetUuid(DrinkCreator.uuid)
+                .totalItems(12000)
+                .build();
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.github.skyg0d.skydrinksapi.util.mail;
+
+import com.github.skyg0d.skydrinksapi.domain.OutboxMail;
+import com.github.skyg0d.skydrinksapi.enums.MailStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class OutboxMailCreator {
+
+    public static final UUID uuid = UUID.fromString("0190f3c2-9b5c-7d2e-8f3a-4b5c6d7e8f90");
+
+    public static OutboxMail createValidOutboxMail() {
+        return OutboxMail
+                .builder()
+                .uuid(uuid)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .recipient("maria@mail.com")
+                .subject("Código para resetar sua senha")
+                .content("<p>Insira esse código para confirmar: <b>qfq71VC13</b></p>")
+                .status(MailStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.github.skyg0d.skydrinksapi.util.password;
 
 import com.github.skyg0d.skydrinksapi.domain.PasswordReset;
+import com.github.skyg0d.skydrinksapi.util.TokenHashUtil;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -8,12 +9,13 @@ import java.util.UUID;
 public class PasswordResetCreator {
 
     public static final UUID uuid = UUID.fromString("2d02afb9-2a7e-4565-9602-495bc5f6fd46");
+    public static final String token = "ABCDEFGHIJ";
 
     public static PasswordReset createPasswordResetToBeSave() {
         return PasswordReset
                 .builder()
                 .uuid(uuid)
-                .token("ABCDEFGHIJ")
+                .tokenHash(TokenHashUtil.hash(token))
                 .expireDate(LocalDateTime.now())
                 .build();
     }
@@ -22,7 +24,7 @@ public class PasswordResetCreator {
         return PasswordReset
                 .builder()
                 .uuid(uuid)
-                .token("ABCDEFGHIJ")
+                .tokenHash(TokenHashUtil.hash(token))
                 .expireDate(LocalDateTime.now())
                 .build();
     }
@@ -31,7 +33,7 @@ public class PasswordResetCreator {
         return PasswordReset
                 .builder()
                 .uuid(uuid)
-                .token("ABCDEFGHIJ")
+                .tokenHash(TokenHashUtil.hash(token))
                 .expireDate(LocalDateTime.now())
                 .resetFinished(true)
                 .build();
@@ -0,0 +1,38 @@
+package com.github.skyg0d.skydrinksapi.util.request;
+
+import com.github.skyg0d.skydrinksapi.domain.ArchivedClientRequest;
+import com.github.skyg0d.skydrinksapi.enums.ClientRequestStatus;
+import com.github.skyg0d.skydrinksapi.util.drink.DrinkCreator;
+import com.github.skyg0d.skydrinksapi.util.table.TableCreator;
+import com.github.skyg0d.skydrinksapi.util.user.ApplicationUserCreator;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class ArchivedClientRequestCreator {
+
+    private static final UUID uuid = UUID.fromString("3f0c8f2e-5d55-4c55-9a3b-1f6f0f7f9a10");
+
+    public static ArchivedClientRequest createValidArchivedClientRequest() {
+        LocalDateTime createdAt = LocalDateTime.now().minusYears(1);
+
+        return ArchivedClientRequest
+                .builder()
+                .uuid(uuid)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .user(ApplicationUserCreator.createValidApplicationUser())
+                .drinks(new ArrayList<>(List.of(DrinkCreator.createValidDrink())))
+                .table(TableCreator.createValidTable())
+                .totalPrice(DrinkCreator.createValidDrink().getPrice())
+                .status(ClientRequestStatus.FINISHED)
+                .delivered(true)
+                .createdDate(createdAt.toLocalDate())
+                .archivedAt(LocalDateTime.now())
+                .build();
+    }
+
+}
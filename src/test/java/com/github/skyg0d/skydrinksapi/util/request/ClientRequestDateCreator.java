@@ -12,6 +12,8 @@ public class ClientRequestDateCreator {
         return ClientRequestDate
                 .builder()
                 .date(drink.getCreatedAt().toLocalDate())
+                .total(1)
+                .revenue(drink.getPrice())
                 .build();
     }
 
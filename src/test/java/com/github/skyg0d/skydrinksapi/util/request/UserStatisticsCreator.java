@@ -0,0 +1,31 @@
+package com.github.skyg0d.skydrinksapi.util.request;
+
+import com.github.skyg0d.skydrinksapi.domain.UserStatistics;
+import com.github.skyg0d.skydrinksapi.domain.UserStatisticsCheck;
+import com.github.skyg0d.skydrinksapi.util.user.ApplicationUserCreator;
+
+import java.util.List;
+
+public class UserStatisticsCreator {
+
+    public static UserStatistics createUserStatistics() {
+        return UserStatistics
+                .builder()
+                .userUUID(ApplicationUserCreator.createValidApplicationUser().getUuid())
+                .drinks(List.of(ClientRequestDrinkCountCreator.createClientRequestDrinkCount()))
+                .alcoholic(List.of(ClientRequestAlcoholicDrinkCountCreator.createClientRequestAlcoholicDrinkCount()))
+                .totalSpent(100)
+                .totalRequests(10)
+                .build();
+    }
+
+    public static UserStatisticsCheck createConsistentUserStatisticsCheck() {
+        return UserStatisticsCheck
+                .builder()
+                .consistent(true)
+                .cached(createUserStatistics())
+                .live(createUserStatistics())
+                .build();
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.github.skyg0d.skydrinksapi.util.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Tests for Space-Saving sketches")
+class SpaceSavingSketchTest {
+
+    private static final int CAPACITY = 16;
+    private static final int DISTINCT_ITEMS = 200;
+    private static final int STREAM_SIZE = 20_000;
+
+    @Test
+    @DisplayName("estimate stays within N divided by capacity of exact counts when successful")
+    void estimate_StaysWithinBoundOfExactCounts_WhenSuccessful() {
+        SpaceSavingSketch<Integer> sketch = new SpaceSavingSketch<>(CAPACITY);
+        Map<Integer, Long> exactCounts = new HashMap<>();
+
+        feedSkewedStream(new Random(42), (item) -> {
+            sketch.offer(item, 1);
+            exactCounts.merge(item, 1L, Long::sum);
+        });
+
+        long bound = sketch.getTotalWeight() / CAPACITY;
+
+        assertThat(sketch.getTotalWeight()).isEqualTo(STREAM_SIZE);
+
+        exactCounts.forEach((item, exact) -> {
+            long estimate = sketch.estimate(item);
+
+            if (exact > bound) {
+                assertThat(estimate).isGreaterThanOrEqualTo(exact);
+            }
+
+            if (estimate > 0) {
+                assertThat(estimate - exact).isBetween(0L, bound);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("top returns every item above N divided by capacity of exact counts when successful")
+    void top_ReturnsEveryItemAboveBoundOfExactCounts_WhenSuccessful() {
+        SpaceSavingSketch<Integer> sketch = new SpaceSavingSketch<>(CAPACITY);
+        Map<Integer, Long> exactCounts = new HashMap<>();
+
+        feedSkewedStream(new Random(7), (item) -> {
+            sketch.offer(item, 1);
+            exactCounts.merge(item, 1L, Long::sum);
+        });
+
+        long bound = sketch.getTotalWeight() / CAPACITY;
+
+        List<SpaceSavingSketch.Estimate<Integer>> top = sketch.top(CAPACITY);
+
+        assertThat(top.get(0).getItem()).isZero();
+
+        exactCounts.forEach((item, exact) -> {
+            if (exact > bound) {
+                assertThat(top)
+                        .extracting(SpaceSavingSketch.Estimate::getItem)
+                        .contains(item);
+            }
+        });
+
+        top.forEach((estimate) -> assertThat(estimate.getError()).isLessThanOrEqualTo(bound));
+    }
+
+    @Test
+    @DisplayName("offer decrements monitored item when weight is negative")
+    void offer_DecrementsMonitoredItem_WhenWeightIsNegative() {
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(CAPACITY);
+
+        sketch.offer("Blood Mary", 3);
+        sketch.offer("Blood Mary", -1);
+        sketch.offer("Caipirinha", -1);
+
+        assertThat(sketch.estimate("Blood Mary")).isEqualTo(2);
+
+        assertThat(sketch.estimate("Caipirinha")).isZero();
+    }
+
+    @Test
+    @DisplayName("new throws IllegalArgumentException when capacity is not positive")
+    void new_ThrowsIllegalArgumentException_WhenCapacityIsNotPositive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new SpaceSavingSketch<>(0));
+    }
+
+    @Test
+    @DisplayName("top returns exact counts of the window when successful")
+    void top_ReturnsExactCountsOfTheWindow_WhenSuccessful() {
+        SlidingWindowSketch<String> sketch = new SlidingWindowSketch<>(CAPACITY, Duration.ofMinutes(1), Duration.ofMinutes(60));
+        Instant now = Instant.parse("2021-11-20T22:30:00Z");
+
+        sketch.offer("Blood Mary", 5, now.minus(Duration.ofMinutes(40)));
+        sketch.offer("Caipirinha", 2, now.minus(Duration.ofMinutes(10)));
+        sketch.offer("Mojito", 1, now);
+
+        List<Map.Entry<String, Long>> lastFifteenMinutes = sketch.top(now.minus(Duration.ofMinutes(15)), now, 10);
+        List<Map.Entry<String, Long>> lastHour = sketch.top(now.minus(Duration.ofHours(1)), now, 10);
+
+        assertThat(lastFifteenMinutes)
+                .extracting(Map.Entry::getKey)
+                .containsExactly("Caipirinha", "Mojito");
+
+        assertThat(lastHour)
+                .extracting(Map.Entry::getKey)
+                .containsExactly("Blood Mary", "Caipirinha", "Mojito");
+
+        assertThat(lastHour.get(0).getValue()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("top ignores buckets when they are older than retention")
+    void top_IgnoresBuckets_WhenTheyAreOlderThanRetention() {
+        SlidingWindowSketch<String> sketch = new SlidingWindowSketch<>(CAPACITY, Duration.ofMinutes(1), Duration.ofMinutes(60));
+        Instant now = Instant.parse("2021-11-20T22:30:00Z");
+
+        sketch.offer("Blood Mary", 5, now.minus(Duration.ofMinutes(90)));
+        sketch.offer("Caipirinha", 1, now);
+
+        assertThat(sketch.top(now.minus(Duration.ofHours(3)), now, 10))
+                .extracting(Map.Entry::getKey)
+                .containsExactly("Caipirinha");
+    }
+
+    private void feedSkewedStream(Random random, IntConsumer consumer) {
+        for (int i = 0; i < STREAM_SIZE; i++) {
+            int item = (int) Math.floor(Math.pow(random.nextDouble(), 3) * DISTINCT_ITEMS);
+            consumer.accept(item);
+        }
+    }
+
+}